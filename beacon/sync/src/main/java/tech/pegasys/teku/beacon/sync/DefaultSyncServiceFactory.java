@@ -146,6 +146,9 @@ public class DefaultSyncServiceFactory implements SyncServiceFactory {
               pendingBlocks,
               p2pNetwork,
               blockImporter,
+              syncConfig.isBatchSignatureVerificationEnabled(),
+              syncConfig.getMaxPendingBatches(),
+              metrics,
               spec);
     } else {
       forwardSync =
@@ -13,24 +13,33 @@
 
 package tech.pegasys.teku.beacon.sync;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 public class SyncConfig {
 
   public static final boolean DEFAULT_MULTI_PEER_SYNC_ENABLED = true;
   public static final boolean DEFAULT_RECONSTRUCT_HISTORIC_STATES_ENABLED = false;
+  public static final boolean DEFAULT_BATCH_SIGNATURE_VERIFICATION_ENABLED = false;
+  public static final int DEFAULT_MAX_PENDING_BATCHES = 5;
 
   private final boolean isEnabled;
   private final boolean isMultiPeerSyncEnabled;
   private final boolean reconstructHistoricStatesEnabled;
+  private final boolean batchSignatureVerificationEnabled;
+  private final int maxPendingBatches;
 
   private SyncConfig(
       final boolean isEnabled,
       final boolean isMultiPeerSyncEnabled,
-      final boolean reconstructHistoricStatesEnabled) {
+      final boolean reconstructHistoricStatesEnabled,
+      final boolean batchSignatureVerificationEnabled,
+      final int maxPendingBatches) {
     this.isEnabled = isEnabled;
     this.isMultiPeerSyncEnabled = isMultiPeerSyncEnabled;
     this.reconstructHistoricStatesEnabled = reconstructHistoricStatesEnabled;
+    this.batchSignatureVerificationEnabled = batchSignatureVerificationEnabled;
+    this.maxPendingBatches = maxPendingBatches;
   }
 
   public static Builder builder() {
@@ -49,16 +58,32 @@ public class SyncConfig {
     return reconstructHistoricStatesEnabled;
   }
 
+  public boolean isBatchSignatureVerificationEnabled() {
+    return batchSignatureVerificationEnabled;
+  }
+
+  public int getMaxPendingBatches() {
+    return maxPendingBatches;
+  }
+
   public static class Builder {
     private Boolean isEnabled;
     private Boolean isMultiPeerSyncEnabled = DEFAULT_MULTI_PEER_SYNC_ENABLED;
     private Boolean reconstructHistoricStatesEnabled = DEFAULT_RECONSTRUCT_HISTORIC_STATES_ENABLED;
+    private Boolean batchSignatureVerificationEnabled =
+        DEFAULT_BATCH_SIGNATURE_VERIFICATION_ENABLED;
+    private Integer maxPendingBatches = DEFAULT_MAX_PENDING_BATCHES;
 
     private Builder() {}
 
     public SyncConfig build() {
       initMissingDefaults();
-      return new SyncConfig(isEnabled, isMultiPeerSyncEnabled, reconstructHistoricStatesEnabled);
+      return new SyncConfig(
+          isEnabled,
+          isMultiPeerSyncEnabled,
+          reconstructHistoricStatesEnabled,
+          batchSignatureVerificationEnabled,
+          maxPendingBatches);
     }
 
     private void initMissingDefaults() {
@@ -92,5 +117,19 @@ public class SyncConfig {
       this.reconstructHistoricStatesEnabled = reconstructHistoricStatesEnabled;
       return this;
     }
+
+    public Builder isBatchSignatureVerificationEnabled(
+        final Boolean batchSignatureVerificationEnabled) {
+      checkNotNull(batchSignatureVerificationEnabled);
+      this.batchSignatureVerificationEnabled = batchSignatureVerificationEnabled;
+      return this;
+    }
+
+    public Builder maxPendingBatches(final Integer maxPendingBatches) {
+      checkNotNull(maxPendingBatches);
+      checkArgument(maxPendingBatches >= 1, "Max pending batches must be at least 1");
+      this.maxPendingBatches = maxPendingBatches;
+      return this;
+    }
   }
 }
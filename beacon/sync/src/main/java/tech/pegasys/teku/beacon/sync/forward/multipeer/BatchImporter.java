@@ -34,10 +34,15 @@ public class BatchImporter {
 
   private final BlockImporter blockImporter;
   private final AsyncRunner asyncRunner;
+  private final boolean batchSignatureVerificationEnabled;
 
-  public BatchImporter(final BlockImporter blockImporter, final AsyncRunner asyncRunner) {
+  public BatchImporter(
+      final BlockImporter blockImporter,
+      final AsyncRunner asyncRunner,
+      final boolean batchSignatureVerificationEnabled) {
     this.blockImporter = blockImporter;
     this.asyncRunner = asyncRunner;
+    this.batchSignatureVerificationEnabled = batchSignatureVerificationEnabled;
   }
 
   /**
@@ -54,6 +59,18 @@ public class BatchImporter {
     final Optional<SyncSource> source = batch.getSource();
 
     checkState(!blocks.isEmpty(), "Batch has no blocks to import");
+    if (batchSignatureVerificationEnabled) {
+      return asyncRunner.runAsync(
+          () ->
+              blockImporter
+                  .importBlocks(blocks)
+                  .thenApply(
+                      results -> {
+                        results.forEach(
+                            result -> checkWeakSubjectivityFailure(result, source.orElseThrow()));
+                        return toBatchImportResult(batch, results.get(results.size() - 1));
+                      }));
+    }
     return asyncRunner.runAsync(
         () -> {
           SafeFuture<BlockImportResult> importResult =
@@ -71,42 +88,48 @@ public class BatchImporter {
                     });
           }
           return importResult.thenApply(
-              lastBlockImportResult -> {
-                if (lastBlockImportResult.isSuccessful()) {
-                  return BatchImportResult.IMPORTED_ALL_BLOCKS;
-                } else if (lastBlockImportResult.hasFailedExecutingExecutionPayload()) {
-                  return BatchImportResult.SERVICE_OFFLINE;
-                }
-                LOG.debug(
-                    "Failed to import batch {}: {}",
-                    batch,
-                    lastBlockImportResult.getFailureReason(),
-                    lastBlockImportResult.getFailureCause().orElse(null));
-                return BatchImportResult.IMPORT_FAILED;
-              });
+              lastBlockImportResult -> toBatchImportResult(batch, lastBlockImportResult));
         });
   }
 
+  private BatchImportResult toBatchImportResult(
+      final Batch batch, final BlockImportResult lastBlockImportResult) {
+    if (lastBlockImportResult.isSuccessful()) {
+      return BatchImportResult.IMPORTED_ALL_BLOCKS;
+    } else if (lastBlockImportResult.hasFailedExecutingExecutionPayload()) {
+      return BatchImportResult.SERVICE_OFFLINE;
+    }
+    LOG.debug(
+        "Failed to import batch {}: {}",
+        batch,
+        lastBlockImportResult.getFailureReason(),
+        lastBlockImportResult.getFailureCause().orElse(null));
+    return BatchImportResult.IMPORT_FAILED;
+  }
+
   private SafeFuture<BlockImportResult> importBlock(
       final SignedBeaconBlock block, final SyncSource source) {
     return blockImporter
         .importBlock(block)
         .thenApply(
             result -> {
-              if (result.getFailureReason()
-                  == BlockImportResult.FailureReason.FAILED_WEAK_SUBJECTIVITY_CHECKS) {
-                LOG.warn(
-                    "Disconnecting source ({}) for sending block that failed weak subjectivity checks: {}",
-                    source,
-                    result);
-                source
-                    .disconnectCleanly(DisconnectReason.REMOTE_FAULT)
-                    .ifExceptionGetsHereRaiseABug();
-              }
+              checkWeakSubjectivityFailure(result, source);
               return result;
             });
   }
 
+  private void checkWeakSubjectivityFailure(
+      final BlockImportResult result, final SyncSource source) {
+    if (result.getFailureReason()
+        == BlockImportResult.FailureReason.FAILED_WEAK_SUBJECTIVITY_CHECKS) {
+      LOG.warn(
+          "Disconnecting source ({}) for sending block that failed weak subjectivity checks: {}",
+          source,
+          result);
+      source.disconnectCleanly(DisconnectReason.REMOTE_FAULT).ifExceptionGetsHereRaiseABug();
+    }
+  }
+
   public enum BatchImportResult {
     IMPORTED_ALL_BLOCKS,
     IMPORT_FAILED,
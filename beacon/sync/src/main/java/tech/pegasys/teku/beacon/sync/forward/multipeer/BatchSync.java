@@ -25,7 +25,9 @@ import java.util.NavigableSet;
 import java.util.Optional;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.beacon.sync.forward.multipeer.BatchImporter.BatchImportResult;
+import tech.pegasys.teku.beacon.sync.forward.multipeer.SyncPipelineMetrics.PipelineState;
 import tech.pegasys.teku.beacon.sync.forward.multipeer.batches.Batch;
 import tech.pegasys.teku.beacon.sync.forward.multipeer.batches.BatchChain;
 import tech.pegasys.teku.beacon.sync.forward.multipeer.batches.BatchFactory;
@@ -42,7 +44,6 @@ import tech.pegasys.teku.storage.client.RecentChainData;
 /** Manages the sync process to reach a finalized chain. */
 public class BatchSync implements Sync {
   private static final Logger LOG = LogManager.getLogger();
-  private static final int MAX_PENDING_BATCHES = 5;
   private static final Duration PAUSE_ON_SERVICE_OFFLINE = Duration.ofSeconds(5);
 
   private final EventThread eventThread;
@@ -52,6 +53,7 @@ public class BatchSync implements Sync {
   private final BatchDataRequester batchDataRequester;
   private final MultipeerCommonAncestorFinder commonAncestorFinder;
   private final TimeProvider timeProvider;
+  private final SyncPipelineMetrics pipelineMetrics;
 
   private final BatchChain activeBatches;
 
@@ -80,7 +82,8 @@ public class BatchSync implements Sync {
       final BatchImporter batchImporter,
       final BatchDataRequester batchDataRequester,
       final MultipeerCommonAncestorFinder commonAncestorFinder,
-      final TimeProvider timeProvider) {
+      final TimeProvider timeProvider,
+      final SyncPipelineMetrics pipelineMetrics) {
     this.eventThread = eventThread;
     this.asyncRunner = asyncRunner;
     this.recentChainData = recentChainData;
@@ -89,6 +92,7 @@ public class BatchSync implements Sync {
     this.batchDataRequester = batchDataRequester;
     this.commonAncestorFinder = commonAncestorFinder;
     this.timeProvider = timeProvider;
+    this.pipelineMetrics = pipelineMetrics;
     this.lastImportTimerStartPointSeconds = timeProvider.getTimeInSeconds();
   }
 
@@ -99,12 +103,14 @@ public class BatchSync implements Sync {
       final BatchImporter batchImporter,
       final BatchFactory batchFactory,
       final UInt64 batchSize,
+      final int maxPendingBatches,
       final MultipeerCommonAncestorFinder commonAncestorFinder,
-      final TimeProvider timeProvider) {
+      final TimeProvider timeProvider,
+      final MetricsSystem metricsSystem) {
     final BatchChain activeBatches = new BatchChain();
     final BatchDataRequester batchDataRequester =
         new BatchDataRequester(
-            eventThread, activeBatches, batchFactory, batchSize, MAX_PENDING_BATCHES);
+            eventThread, activeBatches, batchFactory, batchSize, maxPendingBatches);
     return new BatchSync(
         eventThread,
         asyncRunner,
@@ -113,7 +119,8 @@ public class BatchSync implements Sync {
         batchImporter,
         batchDataRequester,
         commonAncestorFinder,
-        timeProvider);
+        timeProvider,
+        new SyncPipelineMetrics(metricsSystem, timeProvider));
   }
 
   /**
@@ -417,6 +424,7 @@ public class BatchSync implements Sync {
             .ifExceptionGetsHereRaiseABug();
         scheduledProgressSync = true;
       }
+      updatePipelineState();
       return;
     } else {
       // Everything prior to this batch must already exist on our chain so we can drop them all
@@ -427,6 +435,7 @@ public class BatchSync implements Sync {
     if (activeBatches.isEmpty()) {
       LOG.trace("Marking sync to {} as complete", targetChain);
       syncResult.complete(SyncResult.COMPLETE);
+      updatePipelineState();
     }
   }
 
@@ -460,6 +469,7 @@ public class BatchSync implements Sync {
           "Unable to sync to target chain {} because it has no remaining peers",
           () -> targetChain.getChainHead().toLogString());
       syncResult.complete(SyncResult.FAILED);
+      updatePipelineState();
       return;
     }
     if (switchingBranches) {
@@ -467,10 +477,30 @@ public class BatchSync implements Sync {
       checkState(
           importingBatch.isPresent(), "Waiting for import to complete but no import in progress");
       LOG.debug("Not adding new batches on new chain while waiting for import to complete");
+      updatePipelineState();
       return;
     }
     startNextImport();
     fillRetrievingQueue();
+    updatePipelineState();
+  }
+
+  /**
+   * Records whether the importer is waiting for downloads or downloads are waiting for the importer
+   * so that stalls on either side of the pipeline are visible in metrics.
+   */
+  private void updatePipelineState() {
+    final PipelineState state;
+    if (syncResult.isDone() || scheduledProgressSync) {
+      state = PipelineState.IDLE;
+    } else if (importingBatch.isEmpty()) {
+      state = PipelineState.FETCH_STALLED;
+    } else if (activeBatches.stream().noneMatch(Batch::isAwaitingBlocks)) {
+      state = PipelineState.IMPORT_STALLED;
+    } else {
+      state = PipelineState.FLOWING;
+    }
+    pipelineMetrics.onStateUpdated(state);
   }
 
   private void fillRetrievingQueue() {
@@ -506,6 +536,7 @@ public class BatchSync implements Sync {
     commonAncestorSlot = null;
     targetChain = null;
     syncResult.complete(SyncResult.FAILED);
+    updatePipelineState();
   }
 
   private String describeState() {
@@ -15,6 +15,7 @@ package tech.pegasys.teku.beacon.sync.forward.multipeer;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.beacon.sync.events.SyncingStatus;
 import tech.pegasys.teku.beacon.sync.forward.ForwardSyncService;
 import tech.pegasys.teku.beacon.sync.forward.multipeer.batches.BatchFactory;
@@ -69,6 +70,9 @@ public class MultipeerSyncService extends Service implements ForwardSyncService
       final PendingPool<SignedBeaconBlock> pendingBlocks,
       final P2PNetwork<Eth2Peer> p2pNetwork,
       final BlockImporter blockImporter,
+      final boolean batchSignatureVerificationEnabled,
+      final int maxPendingBatches,
+      final MetricsSystem metricsSystem,
       final Spec spec) {
     LOG.info("Using multipeer sync");
     final EventThread eventThread = new AsyncRunnerEventThread("sync", asyncRunnerFactory);
@@ -80,11 +84,14 @@ public class MultipeerSyncService extends Service implements ForwardSyncService
             eventThread,
             asyncRunner,
             recentChainData,
-            new BatchImporter(blockImporter, asyncRunner),
-            new BatchFactory(eventThread, new PeerScoringConflictResolutionStrategy()),
+            new BatchImporter(blockImporter, asyncRunner, batchSignatureVerificationEnabled),
+            new BatchFactory(
+                eventThread, asyncRunner, new PeerScoringConflictResolutionStrategy()),
             Constants.SYNC_BATCH_SIZE,
+            maxPendingBatches,
             MultipeerCommonAncestorFinder.create(recentChainData, eventThread, spec),
-            timeProvider);
+            timeProvider,
+            metricsSystem);
     final SyncController syncController =
         new SyncController(
             eventThread,
@@ -0,0 +1,74 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beacon.sync.forward.multipeer;
+
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/**
+ * Tracks how long the batch sync pipeline spends with one side waiting on the other.
+ *
+ * <p>A fetch stall is time where no batch is being imported because the next batch hasn't been
+ * downloaded yet. An import stall is time where no blocks are being downloaded because every batch
+ * in the pending window is waiting for the current import to complete.
+ */
+class SyncPipelineMetrics {
+
+  enum PipelineState {
+    IDLE,
+    FLOWING,
+    FETCH_STALLED,
+    IMPORT_STALLED
+  }
+
+  private final TimeProvider timeProvider;
+  private final Counter fetchStallMillis;
+  private final Counter importStallMillis;
+
+  private PipelineState state = PipelineState.IDLE;
+  private UInt64 stateStartMillis;
+
+  SyncPipelineMetrics(final MetricsSystem metricsSystem, final TimeProvider timeProvider) {
+    this.timeProvider = timeProvider;
+    final LabelledMetric<Counter> stallCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.BEACON,
+            "sync_pipeline_stall_milliseconds_total",
+            "Total time forward sync spent waiting for block downloads (fetch) or imports (import)",
+            "stage");
+    this.fetchStallMillis = stallCounter.labels("fetch");
+    this.importStallMillis = stallCounter.labels("import");
+    this.stateStartMillis = timeProvider.getTimeInMillis();
+  }
+
+  void onStateUpdated(final PipelineState newState) {
+    final UInt64 now = timeProvider.getTimeInMillis();
+    final long elapsedMillis = now.minusMinZero(stateStartMillis).longValue();
+    if (state == PipelineState.FETCH_STALLED) {
+      fetchStallMillis.inc(elapsedMillis);
+    } else if (state == PipelineState.IMPORT_STALLED) {
+      importStallMillis.inc(elapsedMillis);
+    }
+    state = newState;
+    stateStartMillis = now;
+  }
+
+  PipelineState getState() {
+    return state;
+  }
+}
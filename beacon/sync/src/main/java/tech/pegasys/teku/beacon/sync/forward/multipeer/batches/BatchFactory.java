@@ -14,16 +14,21 @@
 package tech.pegasys.teku.beacon.sync.forward.multipeer.batches;
 
 import tech.pegasys.teku.beacon.sync.forward.multipeer.chains.TargetChain;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.eventthread.EventThread;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 
 public class BatchFactory {
   private final EventThread eventThread;
+  private final AsyncRunner asyncRunner;
   private final ConflictResolutionStrategy conflictResolutionStrategy;
 
   public BatchFactory(
-      final EventThread eventThread, final ConflictResolutionStrategy conflictResolutionStrategy) {
+      final EventThread eventThread,
+      final AsyncRunner asyncRunner,
+      final ConflictResolutionStrategy conflictResolutionStrategy) {
     this.eventThread = eventThread;
+    this.asyncRunner = asyncRunner;
     this.conflictResolutionStrategy = conflictResolutionStrategy;
   }
 
@@ -33,6 +38,12 @@ public class BatchFactory {
     return new EventThreadOnlyBatch(
         eventThread,
         new SyncSourceBatch(
-            eventThread, syncSourceProvider, conflictResolutionStrategy, chain, start, count));
+            eventThread,
+            asyncRunner,
+            syncSourceProvider,
+            conflictResolutionStrategy,
+            chain,
+            start,
+            count));
   }
 }
@@ -24,6 +24,7 @@ import java.util.Optional;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import tech.pegasys.teku.beacon.sync.forward.multipeer.chains.TargetChain;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.async.eventthread.EventThread;
 import tech.pegasys.teku.infrastructure.logging.LogFormatter;
@@ -39,6 +40,7 @@ public class SyncSourceBatch implements Batch {
   private static final Logger LOG = LogManager.getLogger();
 
   private final EventThread eventThread;
+  private final AsyncRunner asyncRunner;
   private final SyncSourceSelector syncSourceProvider;
   private final ConflictResolutionStrategy conflictResolutionStrategy;
   private final TargetChain targetChain;
@@ -55,6 +57,7 @@ public class SyncSourceBatch implements Batch {
 
   SyncSourceBatch(
       final EventThread eventThread,
+      final AsyncRunner asyncRunner,
       final SyncSourceSelector syncSourceProvider,
       final ConflictResolutionStrategy conflictResolutionStrategy,
       final TargetChain targetChain,
@@ -63,6 +66,7 @@ public class SyncSourceBatch implements Batch {
     checkArgument(
         count.isGreaterThanOrEqualTo(UInt64.ONE), "Must include at least one slot in a batch");
     this.eventThread = eventThread;
+    this.asyncRunner = asyncRunner;
     this.syncSourceProvider = syncSourceProvider;
     this.conflictResolutionStrategy = conflictResolutionStrategy;
     this.targetChain = targetChain;
@@ -202,6 +206,9 @@ public class SyncSourceBatch implements Batch {
         "Requesting {} slots starting at {} from peer {}", remainingSlots, startSlot, syncSource);
     syncSource
         .requestBlocksByRange(startSlot, remainingSlots, requestHandler)
+        // Hash the blocks on a worker thread so their roots are already cached when the event
+        // thread checks whether batches form a chain and when the batch is later imported
+        .thenCompose(__ -> asyncRunner.runAsync(requestHandler::prepareBlocks))
         .thenRunAsync(() -> onRequestComplete(requestHandler), eventThread)
         .handleAsync(
             (__, error) -> {
@@ -308,6 +315,10 @@ public class SyncSourceBatch implements Batch {
       return SafeFuture.COMPLETE;
     }
 
+    public void prepareBlocks() {
+      blocks.forEach(SignedBeaconBlock::getRoot);
+    }
+
     public List<SignedBeaconBlock> complete() {
       return blocks;
     }
@@ -48,7 +48,7 @@ class BatchImporterTest {
   private final Batch batch = mock(Batch.class);
   final SyncSource syncSource = mock(SyncSource.class);
 
-  private final BatchImporter importer = new BatchImporter(blockImporter, asyncRunner);
+  private final BatchImporter importer = new BatchImporter(blockImporter, asyncRunner, false);
 
   @BeforeEach
   public void setup() {
@@ -192,6 +192,77 @@ class BatchImporterTest {
     verifyNoMoreInteractions(blockImporter);
   }
 
+  @Test
+  void shouldImportWholeBatchWhenBatchSignatureVerificationEnabled() {
+    final BatchImporter batchVerifyingImporter =
+        new BatchImporter(blockImporter, asyncRunner, true);
+    final SignedBeaconBlock block1 = dataStructureUtil.randomSignedBeaconBlock(1);
+    final SignedBeaconBlock block2 = dataStructureUtil.randomSignedBeaconBlock(2);
+    final SafeFuture<List<BlockImportResult>> importResult = new SafeFuture<>();
+    when(batch.getBlocks()).thenReturn(List.of(block1, block2));
+    when(blockImporter.importBlocks(List.of(block1, block2))).thenReturn(importResult);
+
+    final SafeFuture<BatchImportResult> result = batchVerifyingImporter.importBatch(batch);
+
+    // Should not be started on the calling thread
+    verifyNoInteractions(blockImporter);
+
+    asyncRunner.executeQueuedActions();
+
+    ignoreFuture(verify(blockImporter).importBlocks(List.of(block1, block2)));
+    verifyNoMoreInteractions(blockImporter);
+    assertThat(result).isNotDone();
+
+    importResult.complete(
+        List.of(BlockImportResult.successful(block1), BlockImportResult.successful(block2)));
+    assertThat(result).isCompletedWithValue(BatchImportResult.IMPORTED_ALL_BLOCKS);
+  }
+
+  @Test
+  void shouldDisconnectPeersForWeakSubjectivityViolationInBatch() {
+    when(syncSource.disconnectCleanly(any())).thenReturn(SafeFuture.COMPLETE);
+    final BatchImporter batchVerifyingImporter =
+        new BatchImporter(blockImporter, asyncRunner, true);
+    final SignedBeaconBlock block1 = dataStructureUtil.randomSignedBeaconBlock(1);
+    final SignedBeaconBlock block2 = dataStructureUtil.randomSignedBeaconBlock(2);
+    when(batch.getBlocks()).thenReturn(List.of(block1, block2));
+    when(blockImporter.importBlocks(List.of(block1, block2)))
+        .thenReturn(
+            SafeFuture.completedFuture(
+                List.of(
+                    BlockImportResult.successful(block1),
+                    BlockImportResult.FAILED_WEAK_SUBJECTIVITY_CHECKS)));
+
+    final SafeFuture<BatchImportResult> result = batchVerifyingImporter.importBatch(batch);
+    asyncRunner.executeQueuedActions();
+
+    assertThat(result).isCompletedWithValue(BatchImportResult.IMPORT_FAILED);
+    verify(syncSource).disconnectCleanly(DisconnectReason.REMOTE_FAULT);
+  }
+
+  @Test
+  void shouldDisconnectPeersForWeakSubjectivityViolationOnNonFinalResultInBatch() {
+    when(syncSource.disconnectCleanly(any())).thenReturn(SafeFuture.COMPLETE);
+    final BatchImporter batchVerifyingImporter =
+        new BatchImporter(blockImporter, asyncRunner, true);
+    final SignedBeaconBlock block1 = dataStructureUtil.randomSignedBeaconBlock(1);
+    final SignedBeaconBlock block2 = dataStructureUtil.randomSignedBeaconBlock(2);
+    final SignedBeaconBlock block3 = dataStructureUtil.randomSignedBeaconBlock(3);
+    when(batch.getBlocks()).thenReturn(List.of(block1, block2, block3));
+    when(blockImporter.importBlocks(List.of(block1, block2, block3)))
+        .thenReturn(
+            SafeFuture.completedFuture(
+                List.of(
+                    BlockImportResult.FAILED_WEAK_SUBJECTIVITY_CHECKS,
+                    BlockImportResult.FAILED_INVALID_ANCESTRY)));
+
+    final SafeFuture<BatchImportResult> result = batchVerifyingImporter.importBatch(batch);
+    asyncRunner.executeQueuedActions();
+
+    assertThat(result).isCompletedWithValue(BatchImportResult.IMPORT_FAILED);
+    verify(syncSource).disconnectCleanly(DisconnectReason.REMOTE_FAULT);
+  }
+
   private void blockImportedSuccessfully(
       final SignedBeaconBlock block, final SafeFuture<BlockImportResult> importResult1) {
     ignoreFuture(verify(blockImporter).importBlock(block));
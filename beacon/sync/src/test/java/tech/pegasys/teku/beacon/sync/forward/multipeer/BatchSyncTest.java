@@ -40,6 +40,8 @@ import tech.pegasys.teku.beacon.sync.forward.multipeer.chains.TargetChains;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
 import tech.pegasys.teku.infrastructure.async.eventthread.InlineEventThread;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.peers.SyncSource;
@@ -57,6 +59,7 @@ import tech.pegasys.teku.storage.storageSystem.StorageSystem;
 
 class BatchSyncTest {
   private static final UInt64 BATCH_SIZE = UInt64.valueOf(25);
+  private static final int MAX_PENDING_BATCHES = 5;
   private final Spec spec = TestSpecFactory.createDefault();
   private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
   private final InlineEventThread eventThread = new InlineEventThread();
@@ -67,6 +70,7 @@ class BatchSyncTest {
   private final RecentChainData recentChainData = storageSystem.recentChainData();
   private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInSeconds(1000);
   private final StubAsyncRunner asyncRunner = new StubAsyncRunner(timeProvider);
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
 
   private final SyncSource syncSource = mock(SyncSource.class);
   private final BatchImporter batchImporter = mock(BatchImporter.class);
@@ -87,8 +91,10 @@ class BatchSyncTest {
           batchImporter,
           batches,
           BATCH_SIZE,
+          MAX_PENDING_BATCHES,
           commonAncestor,
-          timeProvider);
+          timeProvider,
+          metricsSystem);
 
   @BeforeEach
   void setUp() {
@@ -123,6 +129,25 @@ class BatchSyncTest {
             assertThatBatch(batch).hasLastSlot(batch.getFirstSlot().plus(BATCH_SIZE).minus(1)));
   }
 
+  @Test
+  void shouldRecordFetchStallWhileWaitingForFirstBatchToDownload() {
+    final SignedBlockAndState block5 = chainBuilder.generateBlockAtSlot(5);
+    final SignedBlockAndState block26 = chainBuilder.generateBlockAtSlot(26);
+    assertThat(sync.syncToChain(targetChain)).isNotDone();
+
+    timeProvider.advanceTimeByMillis(500);
+    batches.receiveBlocks(batches.get(0), block5.getBlock());
+    batches.receiveBlocks(batches.get(1), block26.getBlock());
+    assertBatchImported(batches.get(0));
+
+    // Import is now in progress while later batches are still downloading
+    timeProvider.advanceTimeByMillis(300);
+    batches.receiveBlocks(batches.get(2));
+
+    assertThat(getStallTime("fetch")).isEqualTo(500);
+    assertThat(getStallTime("import")).isZero();
+  }
+
   @Test
   void shouldImportFirstBatchWhenSecondBatchFormsChain() {
     final SignedBlockAndState block5 = chainBuilder.generateBlockAtSlot(5);
@@ -973,6 +998,12 @@ class BatchSyncTest {
             () -> assertThat(sync.isActiveBatch(batches.getEventThreadOnlyBatch(batch))).isTrue());
   }
 
+  private long getStallTime(final String stage) {
+    return metricsSystem
+        .getCounter(TekuMetricCategory.BEACON, "sync_pipeline_stall_milliseconds_total")
+        .getValue(stage);
+  }
+
   private void assertBatchImported(final Batch batch) {
     verify(batchImporter).importBatch(batches.getEventThreadOnlyBatch(batch));
     verifyNoMoreInteractions(batchImporter);
@@ -31,6 +31,7 @@ import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.beacon.sync.forward.multipeer.chains.TargetChain;
+import tech.pegasys.teku.infrastructure.async.SyncAsyncRunner;
 import tech.pegasys.teku.infrastructure.async.eventthread.InlineEventThread;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.peers.StubSyncSource;
@@ -191,6 +192,7 @@ public class SyncSourceBatchTest {
     final SyncSourceBatch batch =
         new SyncSourceBatch(
             eventThread,
+            SyncAsyncRunner.SYNC_RUNNER,
             emptySourceSelector,
             conflictResolutionStrategy,
             targetChain,
@@ -219,6 +221,7 @@ public class SyncSourceBatchTest {
     final SyncSourceBatch batch =
         new SyncSourceBatch(
             eventThread,
+            SyncAsyncRunner.SYNC_RUNNER,
             syncSourceProvider,
             conflictResolutionStrategy,
             targetChain,
@@ -24,6 +24,7 @@ import java.util.Optional;
 import tech.pegasys.teku.beacon.sync.forward.multipeer.BatchImporter.BatchImportResult;
 import tech.pegasys.teku.beacon.sync.forward.multipeer.chains.TargetChain;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.SyncAsyncRunner;
 import tech.pegasys.teku.infrastructure.async.eventthread.EventThread;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.peers.StubSyncSource;
@@ -38,7 +39,7 @@ public class StubBatchFactory extends BatchFactory implements Iterable<Batch> {
   private final boolean enforceEventThread;
 
   public StubBatchFactory(final EventThread eventThread, final boolean enforceEventThread) {
-    super(eventThread, null);
+    super(eventThread, SyncAsyncRunner.SYNC_RUNNER, null);
     this.eventThread = eventThread;
     this.enforceEventThread = enforceEventThread;
   }
@@ -121,7 +122,9 @@ public class StubBatchFactory extends BatchFactory implements Iterable<Batch> {
         final TargetChain chain,
         final UInt64 start,
         final UInt64 count) {
-      batch = new SyncSourceBatch(eventThread, this, this, chain, start, count);
+      batch =
+          new SyncSourceBatch(
+              eventThread, SyncAsyncRunner.SYNC_RUNNER, this, this, chain, start, count);
       eventThreadOnlyBatch = new EventThreadOnlyBatch(eventThread, batch);
     }
 
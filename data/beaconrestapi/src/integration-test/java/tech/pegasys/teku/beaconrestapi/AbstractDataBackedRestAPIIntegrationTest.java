@@ -42,6 +42,7 @@ import tech.pegasys.teku.bls.BLSKeyPair;
 import tech.pegasys.teku.infrastructure.async.SyncAsyncRunner;
 import tech.pegasys.teku.infrastructure.async.eventthread.InlineEventThread;
 import tech.pegasys.teku.infrastructure.events.EventChannels;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
 import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.Eth2P2PNetwork;
@@ -212,6 +213,7 @@ public abstract class AbstractDataBackedRestAPIIntegrationTest {
                 eventChannels,
                 SyncAsyncRunner.SYNC_RUNNER,
                 StubTimeProvider.withTimeInMillis(1000),
+                new StubMetricsSystem(),
                 spec)
             : new ReflectionBasedBeaconRestApi(
                 dataProvider,
@@ -220,6 +222,7 @@ public abstract class AbstractDataBackedRestAPIIntegrationTest {
                 eventChannels,
                 SyncAsyncRunner.SYNC_RUNNER,
                 StubTimeProvider.withTimeInMillis(1000),
+                new StubMetricsSystem(),
                 spec);
     assertThat(beaconRestApi.start()).isCompleted();
     client = new OkHttpClient.Builder().readTimeout(0, TimeUnit.SECONDS).build();
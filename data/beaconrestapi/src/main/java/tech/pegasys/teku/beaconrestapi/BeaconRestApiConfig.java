@@ -17,6 +17,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 import java.util.ArrayList;
 import java.util.List;
+import tech.pegasys.teku.beaconrestapi.handlers.v1.events.EventQueueOverflowPolicy;
 import tech.pegasys.teku.infrastructure.exceptions.InvalidConfigurationException;
 import tech.pegasys.teku.infrastructure.io.PortAvailability;
 import tech.pegasys.teku.spec.datastructures.eth1.Eth1Address;
@@ -24,6 +25,9 @@ import tech.pegasys.teku.spec.datastructures.eth1.Eth1Address;
 public class BeaconRestApiConfig {
   public static final int DEFAULT_REST_API_PORT = 5051;
   public static final int DEFAULT_MAX_EVENT_QUEUE_SIZE = 250;
+  public static final EventQueueOverflowPolicy DEFAULT_EVENT_QUEUE_OVERFLOW_POLICY =
+      EventQueueOverflowPolicy.DISCONNECT;
+  public static final int DEFAULT_SSZ_RESPONSE_CACHE_SIZE_MB = 0;
   public static final int DEFAULT_MAX_URL_LENGTH = 65535;
   public static final String DEFAULT_REST_API_INTERFACE = "127.0.0.1";
   public static final List<String> DEFAULT_REST_API_HOST_ALLOWLIST =
@@ -45,6 +49,8 @@ public class BeaconRestApiConfig {
   private final Eth1Address eth1DepositContractAddress;
   private final int maxUrlLength;
   private final int maxPendingEvents;
+  private final EventQueueOverflowPolicy eventQueueOverflowPolicy;
+  private final int sszResponseCacheSizeMb;
   private final int validatorThreads;
 
   private BeaconRestApiConfig(
@@ -57,6 +63,8 @@ public class BeaconRestApiConfig {
       final Eth1Address eth1DepositContractAddress,
       final int maxUrlLength,
       final int maxPendingEvents,
+      final EventQueueOverflowPolicy eventQueueOverflowPolicy,
+      final int sszResponseCacheSizeMb,
       final int validatorThreads,
       final boolean beaconLivenessTrackingEnabled,
       final boolean enableMigratedRestApi) {
@@ -69,6 +77,8 @@ public class BeaconRestApiConfig {
     this.eth1DepositContractAddress = eth1DepositContractAddress;
     this.maxUrlLength = maxUrlLength;
     this.maxPendingEvents = maxPendingEvents;
+    this.eventQueueOverflowPolicy = eventQueueOverflowPolicy;
+    this.sszResponseCacheSizeMb = sszResponseCacheSizeMb;
     this.validatorThreads = validatorThreads;
     this.beaconLivenessTrackingEnabled = beaconLivenessTrackingEnabled;
     this.enableMigratedRestApi = enableMigratedRestApi;
@@ -114,6 +124,14 @@ public class BeaconRestApiConfig {
     return maxPendingEvents;
   }
 
+  public EventQueueOverflowPolicy getEventQueueOverflowPolicy() {
+    return eventQueueOverflowPolicy;
+  }
+
+  public int getSszResponseCacheSizeMb() {
+    return sszResponseCacheSizeMb;
+  }
+
   public int getMaxUrlLength() {
     return maxUrlLength;
   }
@@ -136,6 +154,9 @@ public class BeaconRestApiConfig {
     private List<String> restApiHostAllowlist = DEFAULT_REST_API_HOST_ALLOWLIST;
     private List<String> restApiCorsAllowedOrigins = DEFAULT_REST_API_CORS_ALLOWED_ORIGINS;
     private int maxPendingEvents = DEFAULT_MAX_EVENT_QUEUE_SIZE;
+    private EventQueueOverflowPolicy eventQueueOverflowPolicy =
+        DEFAULT_EVENT_QUEUE_OVERFLOW_POLICY;
+    private int sszResponseCacheSizeMb = DEFAULT_SSZ_RESPONSE_CACHE_SIZE_MB;
     private int maxUrlLength = DEFAULT_MAX_URL_LENGTH;
     private int validatorThreads = DEFAULT_SUBSCRIBE_THREADS_COUNT;
     private boolean enableMigratedRestApi = DEFAULT_ENABLE_MIGRATED_BEACON_REST_API;
@@ -204,6 +225,22 @@ public class BeaconRestApiConfig {
       return this;
     }
 
+    public BeaconRestApiConfigBuilder eventQueueOverflowPolicy(
+        final EventQueueOverflowPolicy eventQueueOverflowPolicy) {
+      checkNotNull(eventQueueOverflowPolicy);
+      this.eventQueueOverflowPolicy = eventQueueOverflowPolicy;
+      return this;
+    }
+
+    public BeaconRestApiConfigBuilder sszResponseCacheSizeMb(final int sszResponseCacheSizeMb) {
+      if (sszResponseCacheSizeMb < 0) {
+        throw new InvalidConfigurationException(
+            String.format("Invalid sszResponseCacheSizeMb: %d", sszResponseCacheSizeMb));
+      }
+      this.sszResponseCacheSizeMb = sszResponseCacheSizeMb;
+      return this;
+    }
+
     public BeaconRestApiConfigBuilder beaconLivenessTrackingEnabled(
         final boolean beaconLivenessTrackingEnabled) {
       this.beaconLivenessTrackingEnabled = beaconLivenessTrackingEnabled;
@@ -235,6 +272,8 @@ public class BeaconRestApiConfig {
           eth1DepositContractAddress,
           maxUrlLength,
           maxPendingEvents,
+          eventQueueOverflowPolicy,
+          sszResponseCacheSizeMb,
           validatorThreads,
           beaconLivenessTrackingEnabled,
           enableMigratedRestApi);
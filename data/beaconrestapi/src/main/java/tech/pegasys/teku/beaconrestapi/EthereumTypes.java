@@ -13,6 +13,8 @@
 
 package tech.pegasys.teku.beaconrestapi;
 
+import com.google.common.collect.ImmutableMap;
+import io.javalin.core.util.Header;
 import java.util.Locale;
 import java.util.Map;
 import java.util.function.Function;
@@ -24,9 +26,11 @@ import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.infrastructure.http.RestApiConstants;
 import tech.pegasys.teku.infrastructure.json.types.DeserializableTypeDefinition;
 import tech.pegasys.teku.infrastructure.json.types.StringValueTypeDefinition;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.CacheLength;
 import tech.pegasys.teku.infrastructure.restapi.openapi.response.OctetStreamResponseContentTypeDefinition;
 import tech.pegasys.teku.infrastructure.restapi.openapi.response.ResponseContentTypeDefinition;
 import tech.pegasys.teku.infrastructure.ssz.SszData;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.SpecMilestone;
 import tech.pegasys.teku.spec.datastructures.metadata.ObjectAndMetaData;
 
@@ -68,6 +72,20 @@ public class EthereumTypes {
         value -> getSszHeaders(__ -> value.getMilestone(), value.getData()));
   }
 
+  public static <X extends SszData, T extends ObjectAndMetaData<X>>
+      ResponseContentTypeDefinition<T> sszResponseType(
+          final SszResponseCache sszResponseCache, final Function<X, UInt64> slotSelector) {
+    return new OctetStreamResponseContentTypeDefinition<>(
+        (data, out) ->
+            sszResponseCache.serialize(data.getData(), slotSelector.apply(data.getData()), out),
+        value ->
+            ImmutableMap.<String, String>builder()
+                .putAll(getSszHeaders(__ -> value.getMilestone(), value.getData()))
+                .put(RestApiConstants.HEADER_ETAG, SszResponseCache.getETag(value.getData()))
+                .put(Header.CACHE_CONTROL, CacheLength.NO_CACHE.getHttpHeaderValue())
+                .build());
+  }
+
   public static <T extends SszData> ResponseContentTypeDefinition<T> sszResponseType(
       final Function<T, SpecMilestone> milestoneSelector) {
     return new OctetStreamResponseContentTypeDefinition<>(
@@ -18,6 +18,7 @@ import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_UNSUPPORT
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import org.apache.commons.lang3.StringUtils;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.api.DataProvider;
 import tech.pegasys.teku.api.exceptions.BadRequestException;
 import tech.pegasys.teku.api.exceptions.ServiceUnavailableException;
@@ -103,12 +104,15 @@ import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.infrastructure.version.VersionProvider;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.schemas.SchemaDefinitionCache;
+import tech.pegasys.teku.storage.api.ChainHeadChannel;
+import tech.pegasys.teku.storage.api.FinalizedCheckpointChannel;
 import tech.pegasys.teku.storage.client.ChainDataUnavailableException;
 import tech.pegasys.teku.validator.api.NodeSyncingException;
 import tech.pegasys.teku.validator.coordinator.Eth1DataProvider;
 import tech.pegasys.teku.validator.coordinator.MissingDepositsException;
 
 public class JsonTypeDefinitionBeaconRestApi implements BeaconRestApi {
+  private static final long MB = 1024 * 1024;
   private final RestApi restApi;
 
   public JsonTypeDefinitionBeaconRestApi(
@@ -118,10 +122,18 @@ public class JsonTypeDefinitionBeaconRestApi implements BeaconRestApi {
       final EventChannels eventChannels,
       final AsyncRunner asyncRunner,
       final TimeProvider timeProvider,
+      final MetricsSystem metricsSystem,
       final Spec spec) {
     restApi =
         create(
-            config, dataProvider, eth1DataProvider, eventChannels, asyncRunner, timeProvider, spec);
+            config,
+            dataProvider,
+            eth1DataProvider,
+            eventChannels,
+            asyncRunner,
+            timeProvider,
+            metricsSystem,
+            spec);
   }
 
   @Override
@@ -146,8 +158,13 @@ public class JsonTypeDefinitionBeaconRestApi implements BeaconRestApi {
       final EventChannels eventChannels,
       final AsyncRunner asyncRunner,
       final TimeProvider timeProvider,
+      final MetricsSystem metricsSystem,
       final Spec spec) {
     final SchemaDefinitionCache schemaCache = new SchemaDefinitionCache(spec);
+    final SszResponseCache sszResponseCache =
+        new SszResponseCache(spec, config.getSszResponseCacheSizeMb() * MB, metricsSystem);
+    eventChannels.subscribe(ChainHeadChannel.class, sszResponseCache);
+    eventChannels.subscribe(FinalizedCheckpointChannel.class, sszResponseCache);
     return new RestApiBuilder()
         .openApiInfo(
             openApi ->
@@ -203,7 +220,7 @@ public class JsonTypeDefinitionBeaconRestApi implements BeaconRestApi {
         .endpoint(new GetBlock(dataProvider, schemaCache))
         .endpoint(
             new tech.pegasys.teku.beaconrestapi.handlers.v2.beacon.GetBlock(
-                dataProvider, schemaCache))
+                dataProvider, schemaCache, sszResponseCache))
         .endpoint(new GetFinalizedCheckpointState(dataProvider, spec))
         .endpoint(new GetBlockRoot(dataProvider))
         .endpoint(new GetFinalizedBlockRoot(dataProvider))
@@ -225,7 +242,9 @@ public class JsonTypeDefinitionBeaconRestApi implements BeaconRestApi {
                 eventChannels,
                 asyncRunner,
                 timeProvider,
-                config.getMaxPendingEvents()))
+                config.getMaxPendingEvents(),
+                config.getEventQueueOverflowPolicy(),
+                metricsSystem))
         // Node Handlers
         .endpoint(new GetHealth(dataProvider))
         .endpoint(new GetIdentity(dataProvider))
@@ -264,7 +283,7 @@ public class JsonTypeDefinitionBeaconRestApi implements BeaconRestApi {
         .endpoint(
             new tech.pegasys.teku.beaconrestapi.handlers.v1.debug.GetState(
                 dataProvider, spec, schemaCache))
-        .endpoint(new GetState(dataProvider, schemaCache))
+        .endpoint(new GetState(dataProvider, schemaCache, sszResponseCache))
         // Teku Specific Handlers
         .endpoint(new PutLogLevel())
         .endpoint(new GetStateByBlockRoot(dataProvider, spec))
@@ -40,6 +40,7 @@ import org.eclipse.jetty.server.Connector;
 import org.eclipse.jetty.server.HttpConfiguration;
 import org.eclipse.jetty.server.HttpConnectionFactory;
 import org.eclipse.jetty.server.Server;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.api.DataProvider;
 import tech.pegasys.teku.api.exceptions.BadRequestException;
 import tech.pegasys.teku.api.exceptions.ServiceUnavailableException;
@@ -129,6 +130,8 @@ import tech.pegasys.teku.provider.JsonProvider;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.eth1.Eth1Address;
 import tech.pegasys.teku.spec.schemas.SchemaDefinitionCache;
+import tech.pegasys.teku.storage.api.ChainHeadChannel;
+import tech.pegasys.teku.storage.api.FinalizedCheckpointChannel;
 import tech.pegasys.teku.storage.client.ChainDataUnavailableException;
 import tech.pegasys.teku.validator.api.NodeSyncingException;
 import tech.pegasys.teku.validator.coordinator.Eth1DataProvider;
@@ -140,9 +143,11 @@ public class ReflectionBasedBeaconRestApi implements BeaconRestApi {
   private final Javalin app;
   private final JsonProvider jsonProvider = new JsonProvider();
   private static final Logger LOG = LogManager.getLogger();
+  private static final long MB = 1024 * 1024;
   private OpenApiDocBuilder openApiDocBuilder;
   private String migratedOpenApi;
   private SchemaDefinitionCache schemaCache;
+  private SszResponseCache sszResponseCache;
 
   private void initialize(
       final DataProvider dataProvider,
@@ -151,6 +156,7 @@ public class ReflectionBasedBeaconRestApi implements BeaconRestApi {
       final EventChannels eventChannels,
       final AsyncRunner asyncRunner,
       final TimeProvider timeProvider,
+      final MetricsSystem metricsSystem,
       final Spec spec) {
     final Info applicationInfo = createApplicationInfo();
     openApiDocBuilder =
@@ -180,12 +186,16 @@ public class ReflectionBasedBeaconRestApi implements BeaconRestApi {
           });
     }
     schemaCache = new SchemaDefinitionCache(spec);
+    sszResponseCache =
+        new SszResponseCache(spec, configuration.getSszResponseCacheSizeMb() * MB, metricsSystem);
+    eventChannels.subscribe(ChainHeadChannel.class, sszResponseCache);
+    eventChannels.subscribe(FinalizedCheckpointChannel.class, sszResponseCache);
 
     addHostAllowlistHandler(configuration);
 
     addExceptionHandlers();
     addStandardApiHandlers(
-        dataProvider, spec, eventChannels, asyncRunner, timeProvider, configuration);
+        dataProvider, spec, eventChannels, asyncRunner, timeProvider, metricsSystem, configuration);
     addTekuSpecificHandlers(dataProvider, eth1DataProvider, spec);
     migratedOpenApi = openApiDocBuilder.build();
   }
@@ -200,9 +210,11 @@ public class ReflectionBasedBeaconRestApi implements BeaconRestApi {
       final EventChannels eventChannels,
       final AsyncRunner asyncRunner,
       final TimeProvider timeProvider,
+      final MetricsSystem metricsSystem,
       final BeaconRestApiConfig configuration) {
     addBeaconHandlers(dataProvider, spec);
-    addEventHandler(dataProvider, eventChannels, asyncRunner, timeProvider, configuration);
+    addEventHandler(
+        dataProvider, eventChannels, asyncRunner, timeProvider, metricsSystem, configuration);
     addNodeHandlers(dataProvider);
     addValidatorHandlers(dataProvider, spec);
     addConfigHandlers(dataProvider, configuration.getEth1DepositContractAddress());
@@ -222,7 +234,7 @@ public class ReflectionBasedBeaconRestApi implements BeaconRestApi {
     addMigratedEndpoint(
         new tech.pegasys.teku.beaconrestapi.handlers.v1.debug.GetState(
             dataProvider, spec, schemaCache));
-    addMigratedEndpoint(new GetState(dataProvider, schemaCache));
+    addMigratedEndpoint(new GetState(dataProvider, schemaCache, sszResponseCache));
   }
 
   private void addHostAllowlistHandler(final BeaconRestApiConfig configuration) {
@@ -288,6 +300,7 @@ public class ReflectionBasedBeaconRestApi implements BeaconRestApi {
       final EventChannels eventChannels,
       final AsyncRunner asyncRunner,
       final TimeProvider timeProvider,
+      final MetricsSystem metricsSystem,
       final Spec spec) {
     this.app =
         Javalin.create(
@@ -313,6 +326,7 @@ public class ReflectionBasedBeaconRestApi implements BeaconRestApi {
         eventChannels,
         asyncRunner,
         timeProvider,
+        metricsSystem,
         spec);
   }
 
@@ -323,6 +337,7 @@ public class ReflectionBasedBeaconRestApi implements BeaconRestApi {
       final EventChannels eventChannels,
       final AsyncRunner asyncRunner,
       final TimeProvider timeProvider,
+      final MetricsSystem metricsSystem,
       final Javalin app,
       final Spec spec) {
     this.app = app;
@@ -333,6 +348,7 @@ public class ReflectionBasedBeaconRestApi implements BeaconRestApi {
         eventChannels,
         asyncRunner,
         timeProvider,
+        metricsSystem,
         spec);
   }
 
@@ -460,7 +476,8 @@ public class ReflectionBasedBeaconRestApi implements BeaconRestApi {
 
     addMigratedEndpoint(new GetBlock(dataProvider, schemaCache));
     addMigratedEndpoint(
-        new tech.pegasys.teku.beaconrestapi.handlers.v2.beacon.GetBlock(dataProvider, schemaCache));
+        new tech.pegasys.teku.beaconrestapi.handlers.v2.beacon.GetBlock(
+            dataProvider, schemaCache, sszResponseCache));
     addMigratedEndpoint(new GetFinalizedCheckpointState(dataProvider, spec));
 
     addMigratedEndpoint(new GetBlockRoot(dataProvider));
@@ -485,6 +502,7 @@ public class ReflectionBasedBeaconRestApi implements BeaconRestApi {
       final EventChannels eventChannels,
       final AsyncRunner asyncRunner,
       final TimeProvider timeProvider,
+      final MetricsSystem metricsSystem,
       final BeaconRestApiConfig configuration) {
     addMigratedEndpoint(
         new GetEvents(
@@ -492,7 +510,9 @@ public class ReflectionBasedBeaconRestApi implements BeaconRestApi {
             eventChannels,
             asyncRunner,
             timeProvider,
-            configuration.getMaxPendingEvents()));
+            configuration.getMaxPendingEvents(),
+            configuration.getEventQueueOverflowPolicy(),
+            metricsSystem));
   }
 
   @Override
@@ -0,0 +1,224 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beaconrestapi;
+
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_ETAG;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_IF_NONE_MATCH;
+
+import io.javalin.core.util.Header;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiPredicate;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.infrastructure.http.ContentTypes;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.CacheLength;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiRequest;
+import tech.pegasys.teku.infrastructure.ssz.SszData;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+import tech.pegasys.teku.storage.api.ChainHeadChannel;
+import tech.pegasys.teku.storage.api.FinalizedCheckpointChannel;
+import tech.pegasys.teku.storage.api.ReorgContext;
+
+/**
+ * Keeps the SSZ serialization of recently requested states and blocks so that clients repeatedly
+ * polling the same object are served by copying bytes rather than re-serializing it.
+ *
+ * <p>Entries are keyed by hash tree root so they never become stale. Entries from abandoned forks
+ * and from before the finalized checkpoint are evicted as the chain progresses, and the least
+ * recently used entries are evicted when the cache exceeds its size limit.
+ */
+public class SszResponseCache implements ChainHeadChannel, FinalizedCheckpointChannel {
+  public static final String NOT_MODIFIED_DESCRIPTION =
+      "Not modified since the version identified by the If-None-Match header";
+  private final Spec spec;
+  private final long maxSizeInBytes;
+  private final Map<Bytes32, CachedResponse> responses = new LinkedHashMap<>(16, 0.75f, true);
+  private final Counter hitCounter;
+  private final Counter missCounter;
+  private long sizeInBytes = 0;
+
+  public SszResponseCache(
+      final Spec spec, final long maxSizeInBytes, final MetricsSystem metricsSystem) {
+    this.spec = spec;
+    this.maxSizeInBytes = maxSizeInBytes;
+    final LabelledMetric<Counter> requestCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.BEACON,
+            "rest_api_ssz_response_cache_requests_total",
+            "Total number of SSZ responses served from or added to the response cache",
+            "result");
+    hitCounter = requestCounter.labels("hit");
+    missCounter = requestCounter.labels("miss");
+    metricsSystem.createLongGauge(
+        TekuMetricCategory.BEACON,
+        "rest_api_ssz_response_cache_size_bytes",
+        "Total size of the SSZ responses held in the response cache",
+        this::getSizeInBytes);
+  }
+
+  public static String getETag(final SszData data) {
+    return "\"" + data.hashTreeRoot().toHexString() + "\"";
+  }
+
+  /**
+   * Checks whether the client asked for SSZ and already holds this object, as identified by the
+   * ETag it sent in the If-None-Match header. If so, the ETag is added to the response headers.
+   */
+  public static boolean isNotModified(final RestApiRequest request, final SszData data) {
+    if (!ContentTypes.OCTET_STREAM.equals(request.getResponseContentType(SC_OK))) {
+      return false;
+    }
+    final String etag = getETag(data);
+    final boolean notModified =
+        request
+            .getRequestHeader(HEADER_IF_NONE_MATCH)
+            .map(ifNoneMatch -> matchesETag(ifNoneMatch, etag))
+            .orElse(false);
+    if (notModified) {
+      request.header(HEADER_ETAG, etag);
+      request.header(Header.CACHE_CONTROL, CacheLength.NO_CACHE.getHttpHeaderValue());
+    }
+    return notModified;
+  }
+
+  private static boolean matchesETag(final String ifNoneMatch, final String etag) {
+    for (String candidate : ifNoneMatch.split(",", -1)) {
+      candidate = candidate.trim();
+      if (candidate.startsWith("W/")) {
+        candidate = candidate.substring(2);
+      }
+      if (candidate.equals("*") || candidate.equals(etag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public boolean isEnabled() {
+    return maxSizeInBytes > 0;
+  }
+
+  public void serialize(final SszData data, final UInt64 slot, final OutputStream out)
+      throws IOException {
+    if (!isEnabled()) {
+      data.sszSerialize(out);
+      return;
+    }
+    out.write(getSerialized(data, slot));
+  }
+
+  private byte[] getSerialized(final SszData data, final UInt64 slot) {
+    final Bytes32 root = data.hashTreeRoot();
+    final Optional<byte[]> cached = get(root);
+    if (cached.isPresent()) {
+      hitCounter.inc();
+      return cached.get();
+    }
+    missCounter.inc();
+    // Serialize outside the lock as large states can take a while
+    final byte[] serialized = data.sszSerialize().toArrayUnsafe();
+    put(root, new CachedResponse(slot, serialized));
+    return serialized;
+  }
+
+  private synchronized Optional<byte[]> get(final Bytes32 root) {
+    return Optional.ofNullable(responses.get(root)).map(CachedResponse::getSsz);
+  }
+
+  private synchronized void put(final Bytes32 root, final CachedResponse response) {
+    if (response.getSize() > maxSizeInBytes || responses.containsKey(root)) {
+      return;
+    }
+    responses.put(root, response);
+    sizeInBytes += response.getSize();
+    final Iterator<CachedResponse> iterator = responses.values().iterator();
+    while (sizeInBytes > maxSizeInBytes && iterator.hasNext()) {
+      sizeInBytes -= iterator.next().getSize();
+      iterator.remove();
+    }
+  }
+
+  synchronized long getSizeInBytes() {
+    return sizeInBytes;
+  }
+
+  @Override
+  public void chainHeadUpdated(
+      final UInt64 slot,
+      final Bytes32 stateRoot,
+      final Bytes32 bestBlockRoot,
+      final boolean epochTransition,
+      final boolean executionOptimistic,
+      final Bytes32 previousDutyDependentRoot,
+      final Bytes32 currentDutyDependentRoot,
+      final Optional<ReorgContext> optionalReorgContext) {
+    optionalReorgContext.ifPresent(
+        reorgContext ->
+            removeIf(
+                (root, response) ->
+                    response.getSlot().isGreaterThan(reorgContext.getCommonAncestorSlot())
+                        && !root.equals(stateRoot)));
+  }
+
+  @Override
+  public void onNewFinalizedCheckpoint(
+      final Checkpoint checkpoint, final boolean fromOptimisticBlock) {
+    final UInt64 finalizedSlot = checkpoint.getEpochStartSlot(spec);
+    removeIf((root, response) -> response.getSlot().isLessThan(finalizedSlot));
+  }
+
+  private synchronized void removeIf(final BiPredicate<Bytes32, CachedResponse> predicate) {
+    final Iterator<Map.Entry<Bytes32, CachedResponse>> iterator = responses.entrySet().iterator();
+    while (iterator.hasNext()) {
+      final Map.Entry<Bytes32, CachedResponse> entry = iterator.next();
+      if (predicate.test(entry.getKey(), entry.getValue())) {
+        sizeInBytes -= entry.getValue().getSize();
+        iterator.remove();
+      }
+    }
+  }
+
+  private static class CachedResponse {
+    private final UInt64 slot;
+    private final byte[] ssz;
+
+    private CachedResponse(final UInt64 slot, final byte[] ssz) {
+      this.slot = slot;
+      this.ssz = ssz;
+    }
+
+    public UInt64 getSlot() {
+      return slot;
+    }
+
+    public byte[] getSsz() {
+      return ssz;
+    }
+
+    public long getSize() {
+      return ssz.length;
+    }
+  }
+}
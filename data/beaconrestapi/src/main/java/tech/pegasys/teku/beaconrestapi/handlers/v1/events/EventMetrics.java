@@ -0,0 +1,59 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beaconrestapi.handlers.v1.events;
+
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.api.response.v1.EventType;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+
+public class EventMetrics {
+  private final LabelledMetric<Counter> publishedCounter;
+  private final LabelledMetric<Counter> sentCounter;
+  private final LabelledMetric<Counter> droppedCounter;
+
+  public EventMetrics(final MetricsSystem metricsSystem) {
+    publishedCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.BEACON,
+            "rest_api_events_published_total",
+            "Total number of events published to event stream subscribers",
+            "topic");
+    sentCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.BEACON,
+            "rest_api_events_sent_total",
+            "Total number of events written to event stream clients",
+            "topic");
+    droppedCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.BEACON,
+            "rest_api_events_dropped_total",
+            "Total number of events dropped because an event stream client was not keeping up",
+            "topic");
+  }
+
+  public void onEventPublished(final EventType eventType) {
+    publishedCounter.labels(eventType.name()).inc();
+  }
+
+  public void onEventSent(final EventType eventType) {
+    sentCounter.labels(eventType.name()).inc();
+  }
+
+  public void onEventDropped(final EventType eventType) {
+    droppedCounter.labels(eventType.name()).inc();
+  }
+}
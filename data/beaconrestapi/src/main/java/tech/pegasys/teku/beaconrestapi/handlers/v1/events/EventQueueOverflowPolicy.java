@@ -0,0 +1,28 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beaconrestapi.handlers.v1.events;
+
+/** How an event stream client is handled when events are produced faster than it reads them. */
+public enum EventQueueOverflowPolicy {
+  /** Disconnect the client if its queue stays full for too long. */
+  DISCONNECT,
+  /** Discard the oldest queued events to make room for new ones. */
+  DROP_OLDEST,
+  /**
+   * Discard queued head events that have been superseded by a newer head, then the oldest events
+   * if the queue is still full. When no head events are queued, or the only one is the latest
+   * head, this behaves the same as {@link #DROP_OLDEST}, including for non-head events.
+   */
+  COALESCE_HEAD
+}
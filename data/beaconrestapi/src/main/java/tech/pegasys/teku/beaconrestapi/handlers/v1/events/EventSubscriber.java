@@ -13,15 +13,20 @@
 
 package tech.pegasys.teku.beaconrestapi.handlers.v1.events;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import com.fasterxml.jackson.core.JsonProcessingException;
 import io.javalin.http.sse.SseClient;
-import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import tech.pegasys.teku.api.response.v1.EventType;
@@ -33,13 +38,17 @@ public class EventSubscriber {
 
   private static final Logger LOG = LogManager.getLogger();
   static final int EXCESSIVE_QUEUING_TOLERANCE_MS = 1000;
+  private static final byte[] KEEP_ALIVE_COMMENT = ": \n".getBytes(UTF_8);
   private final AtomicBoolean stopped = new AtomicBoolean(false);
   private final List<EventType> eventTypes;
   private final SseClient sseClient;
+  private final ServletOutputStream outputStream;
   private final Queue<QueuedEvent> queuedEvents;
   private final Runnable closeCallback;
   private final TimeProvider timeProvider;
   private final int maxPendingEvents;
+  private final EventQueueOverflowPolicy overflowPolicy;
+  private final EventMetrics eventMetrics;
   private final AtomicBoolean processingQueue;
   private final AsyncRunner asyncRunner;
   private final AtomicLong excessiveQueueingDisconnectionTime = new AtomicLong(Long.MAX_VALUE);
@@ -50,12 +59,18 @@ public class EventSubscriber {
       final Runnable closeCallback,
       final AsyncRunner asyncRunner,
       final TimeProvider timeProvider,
-      final int maxPendingEvents) {
+      final int maxPendingEvents,
+      final EventQueueOverflowPolicy overflowPolicy,
+      final EventMetrics eventMetrics)
+      throws IOException {
     this.eventTypes = EventType.getTopics(eventTypes);
     this.sseClient = sseClient;
+    this.outputStream = sseClient.ctx.req.getAsyncContext().getResponse().getOutputStream();
     this.closeCallback = closeCallback;
     this.timeProvider = timeProvider;
     this.maxPendingEvents = maxPendingEvents;
+    this.overflowPolicy = overflowPolicy;
+    this.eventMetrics = eventMetrics;
     this.queuedEvents = new ConcurrentLinkedQueue<>();
     this.processingQueue = new AtomicBoolean(false);
     this.asyncRunner = asyncRunner;
@@ -64,6 +79,20 @@ public class EventSubscriber {
           stopped.set(true);
           closeCallback.run();
         });
+    // Switch the response to non-blocking mode so a slow client can't tie up a writer thread.
+    this.outputStream.setWriteListener(
+        new WriteListener() {
+          @Override
+          public void onWritePossible() {
+            processEventQueue();
+          }
+
+          @Override
+          public void onError(final Throwable error) {
+            LOG.debug("Event stream write failed for client " + sseClient.hashCode(), error);
+            disconnect();
+          }
+        });
 
     keepAlive();
   }
@@ -73,19 +102,34 @@ public class EventSubscriber {
     if (!eventTypes.contains(eventType)) {
       return;
     }
-    final boolean queueSizeBelowLimit = queuedEvents.size() < maxPendingEvents;
-    final long now = timeProvider.getTimeInMillis().longValue();
-    final long queuingDisconnectTime = excessiveQueueingDisconnectionTime.get();
-    if (queueSizeBelowLimit) {
+    if (queuedEvents.size() < maxPendingEvents) {
       excessiveQueueingDisconnectionTime.set(Long.MAX_VALUE);
       addEventToQueue(eventType, message);
-    } else if (queuingDisconnectTime <= now) {
+      return;
+    }
+    switch (overflowPolicy) {
+      case COALESCE_HEAD:
+        dropSupersededHeadEvents(eventType);
+        dropOldestEvents(maxPendingEvents - 1);
+        addEventToQueue(eventType, message);
+        break;
+      case DROP_OLDEST:
+        dropOldestEvents(maxPendingEvents - 1);
+        addEventToQueue(eventType, message);
+        break;
+      case DISCONNECT:
+        disconnectIfQueuingExcessively(eventType, message);
+    }
+  }
+
+  private void disconnectIfQueuingExcessively(
+      final EventType eventType, final EventSource<?> message) throws JsonProcessingException {
+    final long now = timeProvider.getTimeInMillis().longValue();
+    final long queuingDisconnectTime = excessiveQueueingDisconnectionTime.get();
+    if (queuingDisconnectTime <= now) {
       // Had excessive queuing for too long, disconnect.
-      if (stopped.compareAndSet(false, true)) {
-        LOG.debug("Closing event connection due to exceeding the pending message limit");
-        sseClient.ctx.req.getAsyncContext().complete();
-        closeCallback.run();
-      }
+      LOG.debug("Closing event connection due to exceeding the pending message limit");
+      disconnect();
     } else {
       if (now + EXCESSIVE_QUEUING_TOLERANCE_MS < queuingDisconnectTime) {
         excessiveQueueingDisconnectionTime.set(now + EXCESSIVE_QUEUING_TOLERANCE_MS);
@@ -94,9 +138,35 @@ public class EventSubscriber {
     }
   }
 
+  private void dropSupersededHeadEvents(final EventType newEventType) {
+    final List<QueuedEvent> queuedHeadEvents = new ArrayList<>();
+    for (QueuedEvent queuedEvent : queuedEvents) {
+      if (queuedEvent.getEventType() == EventType.head) {
+        queuedHeadEvents.add(queuedEvent);
+      }
+    }
+    // Only the most recent head is still of interest to the client
+    final int headEventsToKeep = newEventType == EventType.head ? 0 : 1;
+    for (int i = 0; i < queuedHeadEvents.size() - headEventsToKeep; i++) {
+      if (queuedEvents.remove(queuedHeadEvents.get(i))) {
+        eventMetrics.onEventDropped(EventType.head);
+      }
+    }
+  }
+
+  private void dropOldestEvents(final int targetQueueSize) {
+    while (queuedEvents.size() > targetQueueSize) {
+      final QueuedEvent droppedEvent = queuedEvents.poll();
+      if (droppedEvent == null) {
+        return;
+      }
+      eventMetrics.onEventDropped(droppedEvent.getEventType());
+    }
+  }
+
   private void addEventToQueue(final EventType eventType, final EventSource<?> message)
       throws JsonProcessingException {
-    queuedEvents.add(QueuedEvent.of(eventType, message.get()));
+    queuedEvents.add(QueuedEvent.of(eventType, message.getSseFrame()));
     processEventQueue();
   }
 
@@ -104,30 +174,25 @@ public class EventSubscriber {
     return sseClient;
   }
 
+  private void disconnect() {
+    if (stopped.compareAndSet(false, true)) {
+      sseClient.ctx.req.getAsyncContext().complete();
+      closeCallback.run();
+    }
+  }
+
   private void processEventQueue() {
-    if (!stopped.get() && !processingQueue.compareAndSet(false, true)) {
+    if (stopped.get() || !processingQueue.compareAndSet(false, true)) {
       // any queue processing in progress will clear the queue, no need to run another instance
       return;
     }
     asyncRunner
-        .runAsync(
-            () -> {
-              LOG.trace(
-                  "Processing queue with {} elements for event client {}",
-                  queuedEvents.size(),
-                  sseClient.hashCode());
-              QueuedEvent event = queuedEvents.poll();
-              while (event != null && !stopped.get()) {
-                sseClient.sendEvent(
-                    event.getEventType().name(),
-                    new ByteArrayInputStream(event.getMessageData().toArrayUnsafe()));
-                event = queuedEvents.poll();
-              }
-            })
+        .runAsync(this::writeQueuedEvents)
         .alwaysRun(
             () -> {
               processingQueue.set(false);
-              if (queuedEvents.size() > 0) {
+              // If the stream isn't ready, onWritePossible will resume processing later
+              if (!queuedEvents.isEmpty() && outputStream.isReady()) {
                 processEventQueue();
               }
             })
@@ -137,19 +202,54 @@ public class EventSubscriber {
                     "Failed to process event queue for client " + sseClient.hashCode(), error));
   }
 
+  private void writeQueuedEvents() {
+    LOG.trace(
+        "Processing queue with {} elements for event client {}",
+        queuedEvents.size(),
+        sseClient.hashCode());
+    try {
+      while (!stopped.get() && outputStream.isReady()) {
+        final QueuedEvent event = queuedEvents.poll();
+        if (event == null) {
+          outputStream.flush();
+          return;
+        }
+        outputStream.write(event.getMessageData().toArrayUnsafe());
+        eventMetrics.onEventSent(event.getEventType());
+      }
+    } catch (final IOException e) {
+      LOG.debug("Closing event connection after write failure", e);
+      disconnect();
+    }
+  }
+
   private void keepAlive() {
     if (!stopped.get()) {
       asyncRunner
-          .runAfterDelay(
-              () -> {
-                // Don't send a keep alive if we already have messages to send
-                if (!stopped.get() && queuedEvents.isEmpty() && !processingQueue.get()) {
-                  sseClient.sendComment("");
-                }
-              },
-              Duration.ofSeconds(30))
+          .runAfterDelay(this::sendKeepAlive, Duration.ofSeconds(30))
           .alwaysRun(this::keepAlive)
           .ifExceptionGetsHereRaiseABug();
     }
   }
+
+  private void sendKeepAlive() {
+    // Don't send a keep alive if we already have messages to send
+    if (stopped.get() || !queuedEvents.isEmpty() || !processingQueue.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      if (outputStream.isReady()) {
+        outputStream.write(KEEP_ALIVE_COMMENT);
+        outputStream.flush();
+      }
+    } catch (final IOException e) {
+      LOG.debug("Closing event connection after keep alive failure", e);
+      disconnect();
+    } finally {
+      processingQueue.set(false);
+    }
+    if (!queuedEvents.isEmpty()) {
+      processEventQueue();
+    }
+  }
 }
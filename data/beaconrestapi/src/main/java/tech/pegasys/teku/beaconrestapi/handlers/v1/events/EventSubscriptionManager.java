@@ -18,6 +18,7 @@ import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TOPICS;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import io.javalin.http.sse.SseClient;
+import java.io.IOException;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -26,6 +27,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.ConfigProvider;
 import tech.pegasys.teku.api.NodeDataProvider;
@@ -56,6 +58,8 @@ public class EventSubscriptionManager implements ChainHeadChannel, FinalizedChec
   private final AsyncRunner asyncRunner;
   private final TimeProvider timeProvider;
   private final int maxPendingEvents;
+  private final EventQueueOverflowPolicy overflowPolicy;
+  private final EventMetrics eventMetrics;
   // collection of subscribers
   private final Collection<EventSubscriber> eventSubscribers;
 
@@ -67,11 +71,15 @@ public class EventSubscriptionManager implements ChainHeadChannel, FinalizedChec
       final AsyncRunner asyncRunner,
       final EventChannels eventChannels,
       final TimeProvider timeProvider,
-      final int maxPendingEvents) {
+      final int maxPendingEvents,
+      final EventQueueOverflowPolicy overflowPolicy,
+      final MetricsSystem metricsSystem) {
     this.provider = chainDataProvider;
     this.asyncRunner = asyncRunner;
     this.timeProvider = timeProvider;
     this.maxPendingEvents = maxPendingEvents;
+    this.overflowPolicy = overflowPolicy;
+    this.eventMetrics = new EventMetrics(metricsSystem);
     this.eventSubscribers = new ConcurrentLinkedQueue<>();
     this.configProvider = configProvider;
     eventChannels.subscribe(ChainHeadChannel.class, this);
@@ -87,17 +95,26 @@ public class EventSubscriptionManager implements ChainHeadChannel, FinalizedChec
     LOG.trace("connected " + sseClient.hashCode());
     final List<String> allTopicsInContext =
         ListQueryParameterUtils.getParameterAsStringList(sseClient.ctx.queryParamMap(), TOPICS);
-    final EventSubscriber subscriber =
-        new EventSubscriber(
-            allTopicsInContext,
-            sseClient,
-            () -> {
-              eventSubscribers.removeIf(sub -> sub.getSseClient().equals(sseClient));
-              LOG.trace("disconnected " + sseClient.hashCode());
-            },
-            asyncRunner,
-            timeProvider,
-            maxPendingEvents);
+    final EventSubscriber subscriber;
+    try {
+      subscriber =
+          new EventSubscriber(
+              allTopicsInContext,
+              sseClient,
+              () -> {
+                eventSubscribers.removeIf(sub -> sub.getSseClient().equals(sseClient));
+                LOG.trace("disconnected " + sseClient.hashCode());
+              },
+              asyncRunner,
+              timeProvider,
+              maxPendingEvents,
+              overflowPolicy,
+              eventMetrics);
+    } catch (final IOException e) {
+      LOG.debug("Failed to open event stream for client " + sseClient.hashCode(), e);
+      sseClient.close();
+      return;
+    }
     eventSubscribers.add(subscriber);
   }
 
@@ -186,7 +203,9 @@ public class EventSubscriptionManager implements ChainHeadChannel, FinalizedChec
   }
 
   private void notifySubscribersOfEvent(final EventType eventType, final Event<?> event) {
-    final EventSource<?> eventSource = new EventSource<>(event);
+    eventMetrics.onEventPublished(eventType);
+    // Serialized at most once and shared by every subscriber
+    final EventSource<?> eventSource = new EventSource<>(eventType, event);
     try {
       for (EventSubscriber subscriber : eventSubscribers) {
         subscriber.onEvent(eventType, eventSource);
@@ -197,20 +216,28 @@ public class EventSubscriptionManager implements ChainHeadChannel, FinalizedChec
   }
 
   public static class EventSource<T> {
+    private final EventType eventType;
     private final Event<T> event;
-    private Bytes value;
+    private Bytes sseFrame;
 
-    public EventSource(final Event<T> event) {
+    public EventSource(final EventType eventType, final Event<T> event) {
+      this.eventType = eventType;
       this.event = event;
     }
 
-    public Bytes get() throws JsonProcessingException {
-      if (value == null) {
-        value =
+    /** Returns the complete server-sent event frame, ready to be written to any subscriber. */
+    public Bytes getSseFrame() throws JsonProcessingException {
+      if (sseFrame == null) {
+        sseFrame =
             Bytes.wrap(
-                JsonUtil.serialize(event.getData(), event.getJsonTypeDefinition()).getBytes(UTF_8));
+                ("event: "
+                        + eventType.name()
+                        + "\ndata: "
+                        + JsonUtil.serialize(event.getData(), event.getJsonTypeDefinition())
+                        + "\n\n")
+                    .getBytes(UTF_8));
       }
-      return value;
+      return sseFrame;
     }
   }
 }
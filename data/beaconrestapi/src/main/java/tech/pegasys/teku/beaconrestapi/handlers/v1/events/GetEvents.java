@@ -29,6 +29,7 @@ import io.javalin.plugin.openapi.annotations.OpenApi;
 import io.javalin.plugin.openapi.annotations.OpenApiContent;
 import io.javalin.plugin.openapi.annotations.OpenApiParam;
 import io.javalin.plugin.openapi.annotations.OpenApiResponse;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.ConfigProvider;
 import tech.pegasys.teku.api.DataProvider;
@@ -51,7 +52,9 @@ public class GetEvents extends MigratingEndpointAdapter {
       final EventChannels eventChannels,
       final AsyncRunner asyncRunner,
       final TimeProvider timeProvider,
-      final int maxPendingEvents) {
+      final int maxPendingEvents,
+      final EventQueueOverflowPolicy overflowPolicy,
+      final MetricsSystem metricsSystem) {
     this(
         dataProvider.getNodeDataProvider(),
         dataProvider.getChainDataProvider(),
@@ -60,7 +63,9 @@ public class GetEvents extends MigratingEndpointAdapter {
         eventChannels,
         asyncRunner,
         timeProvider,
-        maxPendingEvents);
+        maxPendingEvents,
+        overflowPolicy,
+        metricsSystem);
   }
 
   GetEvents(
@@ -71,7 +76,9 @@ public class GetEvents extends MigratingEndpointAdapter {
       final EventChannels eventChannels,
       final AsyncRunner asyncRunner,
       final TimeProvider timeProvider,
-      final int maxPendingEvents) {
+      final int maxPendingEvents,
+      final EventQueueOverflowPolicy overflowPolicy,
+      final MetricsSystem metricsSystem) {
     super(
         EndpointMetadata.get(ROUTE)
             .operationId("getEvents")
@@ -95,7 +102,9 @@ public class GetEvents extends MigratingEndpointAdapter {
             asyncRunner,
             eventChannels,
             timeProvider,
-            maxPendingEvents);
+            maxPendingEvents,
+            overflowPolicy,
+            metricsSystem);
   }
 
   @OpenApi(
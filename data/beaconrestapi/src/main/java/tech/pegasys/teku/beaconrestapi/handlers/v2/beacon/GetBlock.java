@@ -19,6 +19,7 @@ import static tech.pegasys.teku.beaconrestapi.EthereumTypes.sszResponseType;
 import static tech.pegasys.teku.beaconrestapi.handlers.v1.beacon.MilestoneDependentTypesUtil.getSchemaDefinitionForAllMilestones;
 import static tech.pegasys.teku.infrastructure.http.ContentTypes.JSON;
 import static tech.pegasys.teku.infrastructure.http.ContentTypes.OCTET_STREAM;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_MODIFIED;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.EXECUTION_OPTIMISTIC;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_CONSENSUS_VERSION;
@@ -44,6 +45,7 @@ import tech.pegasys.teku.api.DataProvider;
 import tech.pegasys.teku.api.response.v2.beacon.GetBlockResponseV2;
 import tech.pegasys.teku.api.schema.Version;
 import tech.pegasys.teku.beaconrestapi.MigratingEndpointAdapter;
+import tech.pegasys.teku.beaconrestapi.SszResponseCache;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.json.types.SerializableTypeDefinition;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.AsyncApiResponse;
@@ -59,13 +61,16 @@ public class GetBlock extends MigratingEndpointAdapter {
   private final ChainDataProvider chainDataProvider;
 
   public GetBlock(
-      final DataProvider dataProvider, final SchemaDefinitionCache schemaDefinitionCache) {
-    this(dataProvider.getChainDataProvider(), schemaDefinitionCache);
+      final DataProvider dataProvider,
+      final SchemaDefinitionCache schemaDefinitionCache,
+      final SszResponseCache sszResponseCache) {
+    this(dataProvider.getChainDataProvider(), schemaDefinitionCache, sszResponseCache);
   }
 
   public GetBlock(
       final ChainDataProvider chainDataProvider,
-      final SchemaDefinitionCache schemaDefinitionCache) {
+      final SchemaDefinitionCache schemaDefinitionCache,
+      final SszResponseCache sszResponseCache) {
     super(
         EndpointMetadata.get(ROUTE)
             .operationId("getBlockV2")
@@ -77,7 +82,8 @@ public class GetBlock extends MigratingEndpointAdapter {
                 SC_OK,
                 "Request successful",
                 getResponseType(schemaDefinitionCache),
-                sszResponseType())
+                sszResponseType(sszResponseCache, SignedBeaconBlock::getSlot))
+            .response(SC_NOT_MODIFIED, SszResponseCache.NOT_MODIFIED_DESCRIPTION)
             .withNotFoundResponse()
             .build());
     this.chainDataProvider = chainDataProvider;
@@ -120,6 +126,9 @@ public class GetBlock extends MigratingEndpointAdapter {
                           request.header(
                               HEADER_CONSENSUS_VERSION,
                               Version.fromMilestone(blockAndMetaData.getMilestone()).name());
+                          if (SszResponseCache.isNotModified(request, blockAndMetaData.getData())) {
+                            return AsyncApiResponse.respondWithCode(SC_NOT_MODIFIED);
+                          }
                           return AsyncApiResponse.respondOk(blockAndMetaData);
                         })
                     .orElseGet(AsyncApiResponse::respondNotFound)));
@@ -19,6 +19,7 @@ import static tech.pegasys.teku.beaconrestapi.EthereumTypes.sszResponseType;
 import static tech.pegasys.teku.beaconrestapi.handlers.v1.beacon.MilestoneDependentTypesUtil.getSchemaDefinitionForAllMilestones;
 import static tech.pegasys.teku.infrastructure.http.ContentTypes.JSON;
 import static tech.pegasys.teku.infrastructure.http.ContentTypes.OCTET_STREAM;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_MODIFIED;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.EXECUTION_OPTIMISTIC;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_CONSENSUS_VERSION;
@@ -46,6 +47,7 @@ import tech.pegasys.teku.api.DataProvider;
 import tech.pegasys.teku.api.response.v2.debug.GetStateResponseV2;
 import tech.pegasys.teku.api.schema.Version;
 import tech.pegasys.teku.beaconrestapi.MigratingEndpointAdapter;
+import tech.pegasys.teku.beaconrestapi.SszResponseCache;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.json.types.SerializableTypeDefinition;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.AsyncApiResponse;
@@ -53,6 +55,7 @@ import tech.pegasys.teku.infrastructure.restapi.endpoints.EndpointMetadata;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiRequest;
 import tech.pegasys.teku.spec.datastructures.metadata.ObjectAndMetaData;
 import tech.pegasys.teku.spec.datastructures.metadata.StateAndMetaData;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.schemas.SchemaDefinitionCache;
 import tech.pegasys.teku.spec.schemas.SchemaDefinitions;
 
@@ -61,13 +64,16 @@ public class GetState extends MigratingEndpointAdapter {
   private final ChainDataProvider chainDataProvider;
 
   public GetState(
-      final DataProvider dataProvider, final SchemaDefinitionCache schemaDefinitionCache) {
-    this(dataProvider.getChainDataProvider(), schemaDefinitionCache);
+      final DataProvider dataProvider,
+      final SchemaDefinitionCache schemaDefinitionCache,
+      final SszResponseCache sszResponseCache) {
+    this(dataProvider.getChainDataProvider(), schemaDefinitionCache, sszResponseCache);
   }
 
   public GetState(
       final ChainDataProvider chainDataProvider,
-      final SchemaDefinitionCache schemaDefinitionCache) {
+      final SchemaDefinitionCache schemaDefinitionCache,
+      final SszResponseCache sszResponseCache) {
     super(
         EndpointMetadata.get(ROUTE)
             .operationId("getStateV2")
@@ -81,7 +87,8 @@ public class GetState extends MigratingEndpointAdapter {
                 SC_OK,
                 "Request successful",
                 getResponseType(schemaDefinitionCache),
-                sszResponseType())
+                sszResponseType(sszResponseCache, BeaconState::getSlot))
+            .response(SC_NOT_MODIFIED, SszResponseCache.NOT_MODIFIED_DESCRIPTION)
             .withNotFoundResponse()
             .build());
     this.chainDataProvider = chainDataProvider;
@@ -127,6 +134,9 @@ public class GetState extends MigratingEndpointAdapter {
                           request.header(
                               HEADER_CONSENSUS_VERSION,
                               Version.fromMilestone(stateAndMetaData.getMilestone()).name());
+                          if (SszResponseCache.isNotModified(request, stateAndMetaData.getData())) {
+                            return AsyncApiResponse.respondWithCode(SC_NOT_MODIFIED);
+                          }
                           return AsyncApiResponse.respondOk(stateAndMetaData);
                         })
                     .orElseGet(AsyncApiResponse::respondNotFound)));
@@ -0,0 +1,146 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beaconrestapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.ssz.SszData;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.api.ReorgContext;
+
+class SszResponseCacheTest {
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+
+  // Checkpoints all serialize to the same size which keeps the size accounting predictable
+  private final Checkpoint data1 = dataStructureUtil.randomCheckpoint();
+  private final Checkpoint data2 = dataStructureUtil.randomCheckpoint();
+  private final Checkpoint data3 = dataStructureUtil.randomCheckpoint();
+  private final long size = data1.sszSerialize().size();
+
+  @Test
+  void shouldServeRepeatedRequestsFromCache() throws IOException {
+    final SszResponseCache cache = new SszResponseCache(spec, size * 4, metricsSystem);
+
+    assertThat(serialize(cache, data1, 1)).isEqualTo(data1.sszSerialize());
+    assertThat(serialize(cache, data1, 1)).isEqualTo(data1.sszSerialize());
+
+    assertThat(getRequestCount("hit")).isEqualTo(1);
+    assertThat(getRequestCount("miss")).isEqualTo(1);
+    assertThat(cache.getSizeInBytes()).isEqualTo(size);
+  }
+
+  @Test
+  void shouldNotCacheWhenDisabled() throws IOException {
+    final SszResponseCache cache = new SszResponseCache(spec, 0, metricsSystem);
+
+    assertThat(serialize(cache, data1, 1)).isEqualTo(data1.sszSerialize());
+    assertThat(serialize(cache, data1, 1)).isEqualTo(data1.sszSerialize());
+
+    assertThat(getRequestCount("hit")).isZero();
+    assertThat(getRequestCount("miss")).isZero();
+    assertThat(cache.getSizeInBytes()).isZero();
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedEntriesWhenFull() throws IOException {
+    final SszResponseCache cache = new SszResponseCache(spec, size * 2, metricsSystem);
+
+    serialize(cache, data1, 1);
+    serialize(cache, data2, 10);
+    // Use data1 again so data2 becomes the least recently used
+    serialize(cache, data1, 1);
+    serialize(cache, data3, 20);
+    assertThat(getRequestCount("hit")).isEqualTo(1);
+
+    serialize(cache, data1, 1);
+    assertThat(getRequestCount("hit")).isEqualTo(2);
+    serialize(cache, data2, 10);
+    assertThat(getRequestCount("miss")).isEqualTo(4);
+    assertThat(cache.getSizeInBytes()).isLessThanOrEqualTo(size * 2);
+  }
+
+  @Test
+  void shouldNotCacheResponsesLargerThanLimit() throws IOException {
+    final SszResponseCache cache = new SszResponseCache(spec, size - 1, metricsSystem);
+
+    assertThat(serialize(cache, data1, 1)).isEqualTo(data1.sszSerialize());
+
+    assertThat(cache.getSizeInBytes()).isZero();
+  }
+
+  @Test
+  void shouldEvictEntriesBeforeFinalizedCheckpoint() throws IOException {
+    final SszResponseCache cache = new SszResponseCache(spec, size * 4, metricsSystem);
+    serialize(cache, data1, 1);
+    serialize(cache, data2, 10);
+
+    // Epoch 2 starts at slot 16 with the minimal spec
+    cache.onNewFinalizedCheckpoint(new Checkpoint(UInt64.valueOf(2), data3.getRoot()), false);
+
+    assertThat(cache.getSizeInBytes()).isZero();
+  }
+
+  @Test
+  void shouldEvictEntriesAfterCommonAncestorOnReorg() throws IOException {
+    final SszResponseCache cache = new SszResponseCache(spec, size * 4, metricsSystem);
+    serialize(cache, data1, 1);
+    serialize(cache, data2, 10);
+
+    cache.chainHeadUpdated(
+        UInt64.valueOf(12),
+        dataStructureUtil.randomBytes32(),
+        dataStructureUtil.randomBytes32(),
+        false,
+        false,
+        dataStructureUtil.randomBytes32(),
+        dataStructureUtil.randomBytes32(),
+        Optional.of(
+            new ReorgContext(
+                dataStructureUtil.randomBytes32(),
+                UInt64.valueOf(10),
+                dataStructureUtil.randomBytes32(),
+                UInt64.valueOf(5),
+                dataStructureUtil.randomBytes32())));
+
+    assertThat(cache.getSizeInBytes()).isEqualTo(size);
+    serialize(cache, data1, 1);
+    assertThat(getRequestCount("hit")).isEqualTo(1);
+  }
+
+  private Bytes serialize(final SszResponseCache cache, final SszData data, final long slot)
+      throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    cache.serialize(data, UInt64.valueOf(slot), out);
+    return Bytes.wrap(out.toByteArray());
+  }
+
+  private long getRequestCount(final String result) {
+    return metricsSystem
+        .getCounter(TekuMetricCategory.BEACON, "rest_api_ssz_response_cache_requests_total")
+        .getValue(result);
+  }
+}
@@ -39,6 +39,8 @@ import org.junit.jupiter.params.provider.EnumSource;
 import tech.pegasys.teku.api.response.v1.EventType;
 import tech.pegasys.teku.beaconrestapi.handlers.v1.events.EventSubscriptionManager.EventSource;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
 
 public class EventSubscriberTest {
@@ -50,6 +52,8 @@ public class EventSubscriberTest {
   private final ServletResponse servletResponse = mock(ServletResponse.class);
   private final TestServletOutputStream outputStream = new TestServletOutputStream();
   private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInMillis(1000);
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final EventMetrics eventMetrics = new EventMetrics(metricsSystem);
 
   private final Context context = new Context(req, res, Collections.emptyMap());
   private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
@@ -67,7 +71,7 @@ public class EventSubscriberTest {
   }
 
   @Test
-  void shouldGetSseClient() {
+  void shouldGetSseClient() throws IOException {
     EventSubscriber eventSubscriber = createSubscriber("head");
     assertThat(eventSubscriber.getSseClient()).isEqualTo(sseClient);
   }
@@ -78,11 +82,11 @@ public class EventSubscriberTest {
 
     for (int i = 0; i < MAX_PENDING_EVENTS + 1; i++) {
       verify(onCloseCallback, never()).run();
-      eventSubscriber.onEvent(EventType.head, event("test"));
+      eventSubscriber.onEvent(EventType.head, event(EventType.head, "test"));
     }
     verifyNoInteractions(onCloseCallback);
     timeProvider.advanceTimeByMillis(EventSubscriber.EXCESSIVE_QUEUING_TOLERANCE_MS);
-    eventSubscriber.onEvent(EventType.head, event("foo"));
+    eventSubscriber.onEvent(EventType.head, event(EventType.head, "foo"));
     verify(onCloseCallback).run();
   }
 
@@ -93,7 +97,7 @@ public class EventSubscriberTest {
     // Max size exceeded
     for (int i = 0; i < MAX_PENDING_EVENTS + 1; i++) {
       verify(onCloseCallback, never()).run();
-      eventSubscriber.onEvent(EventType.head, event("test"));
+      eventSubscriber.onEvent(EventType.head, event(EventType.head, "test"));
     }
     verifyNoInteractions(onCloseCallback);
 
@@ -104,7 +108,7 @@ public class EventSubscriberTest {
 
     // And so we shouldn't get disconnected
     timeProvider.advanceTimeByMillis(1);
-    eventSubscriber.onEvent(EventType.head, event("head"));
+    eventSubscriber.onEvent(EventType.head, event(EventType.head, "head"));
     verifyNoInteractions(onCloseCallback);
   }
 
@@ -114,10 +118,10 @@ public class EventSubscriberTest {
 
     for (int i = 0; i < MAX_PENDING_EVENTS + 1; i++) {
       verify(onCloseCallback, never()).run();
-      eventSubscriber.onEvent(EventType.head, event("test"));
+      eventSubscriber.onEvent(EventType.head, event(EventType.head, "test"));
     }
     timeProvider.advanceTimeByMillis(EventSubscriber.EXCESSIVE_QUEUING_TOLERANCE_MS);
-    eventSubscriber.onEvent(EventType.head, event("test"));
+    eventSubscriber.onEvent(EventType.head, event(EventType.head, "test"));
 
     verify(onCloseCallback).run();
     verify(asyncContext).complete();
@@ -131,15 +135,15 @@ public class EventSubscriberTest {
 
     for (int i = 0; i < MAX_PENDING_EVENTS + 1; i++) {
       verify(onCloseCallback, never()).run();
-      eventSubscriber.onEvent(EventType.head, event("test"));
+      eventSubscriber.onEvent(EventType.head, event(EventType.head, "test"));
     }
     timeProvider.advanceTimeByMillis(EventSubscriber.EXCESSIVE_QUEUING_TOLERANCE_MS);
 
     // Multiple events are delivered before the close callback can actually run and unsubscribe
     // but we should only disconnect once
-    eventSubscriber.onEvent(EventType.head, event("test"));
-    eventSubscriber.onEvent(EventType.head, event("test"));
-    eventSubscriber.onEvent(EventType.head, event("test"));
+    eventSubscriber.onEvent(EventType.head, event(EventType.head, "test"));
+    eventSubscriber.onEvent(EventType.head, event(EventType.head, "test"));
+    eventSubscriber.onEvent(EventType.head, event(EventType.head, "test"));
 
     verify(onCloseCallback, atMostOnce()).run();
     verify(asyncContext, atMostOnce()).complete();
@@ -150,7 +154,7 @@ public class EventSubscriberTest {
     EventSubscriber eventSubscriber =
         createSubscriber(allEventTypes.stream().map(EventType::name).toArray(String[]::new));
     for (EventType eventType : allEventTypes) {
-      eventSubscriber.onEvent(eventType, event("test"));
+      eventSubscriber.onEvent(eventType, event(eventType, "test"));
     }
     assertThat(asyncRunner.countDelayedActions()).isEqualTo(2);
     asyncRunner.executeQueuedActions();
@@ -163,25 +167,98 @@ public class EventSubscriberTest {
     EventSubscriber eventSubscriber = createSubscriber("head");
 
     for (int i = 0; i < MAX_PENDING_EVENTS; i++) {
-      eventSubscriber.onEvent(EventType.head, event("test"));
+      eventSubscriber.onEvent(EventType.head, event(EventType.head, "test"));
     }
     asyncRunner.executeQueuedActions();
     assertThat(outputStream.countEvents()).isEqualTo(10);
 
     for (int i = 0; i < MAX_PENDING_EVENTS; i++) {
-      eventSubscriber.onEvent(EventType.head, event("test"));
+      eventSubscriber.onEvent(EventType.head, event(EventType.head, "test"));
     }
 
     verify(onCloseCallback, never()).run();
   }
 
+  @Test
+  void shouldDropOldestEventsWhenQueueOverflows() throws Exception {
+    EventSubscriber eventSubscriber =
+        createSubscriber(EventQueueOverflowPolicy.DROP_OLDEST, "head", "block");
+
+    for (int i = 0; i < MAX_PENDING_EVENTS; i++) {
+      eventSubscriber.onEvent(EventType.block, event(EventType.block, "block" + i));
+    }
+    eventSubscriber.onEvent(EventType.head, event(EventType.head, "head"));
+
+    timeProvider.advanceTimeByMillis(EventSubscriber.EXCESSIVE_QUEUING_TOLERANCE_MS);
+    eventSubscriber.onEvent(EventType.head, event(EventType.head, "head2"));
+    asyncRunner.executeQueuedActions();
+
+    verifyNoInteractions(onCloseCallback);
+    assertThat(outputStream.countEvents()).isEqualTo(MAX_PENDING_EVENTS);
+    assertThat(outputStream.getString()).doesNotContain("block0").doesNotContain("block1");
+    assertThat(outputStream.getString()).contains("block2").contains("head2");
+    assertThat(getDroppedCount(EventType.block)).isEqualTo(2);
+  }
+
+  @Test
+  void shouldCoalesceHeadEventsWhenQueueOverflows() throws Exception {
+    EventSubscriber eventSubscriber =
+        createSubscriber(EventQueueOverflowPolicy.COALESCE_HEAD, "head", "block");
+
+    eventSubscriber.onEvent(EventType.block, event(EventType.block, "block"));
+    for (int i = 0; i < MAX_PENDING_EVENTS; i++) {
+      eventSubscriber.onEvent(EventType.head, event(EventType.head, "head" + i));
+    }
+    asyncRunner.executeQueuedActions();
+
+    verifyNoInteractions(onCloseCallback);
+    assertThat(outputStream.countEvents()).isEqualTo(2);
+    assertThat(outputStream.getString())
+        .contains("block")
+        .contains("head" + (MAX_PENDING_EVENTS - 1));
+    assertThat(getDroppedCount(EventType.head)).isEqualTo(MAX_PENDING_EVENTS - 1);
+    assertThat(getDroppedCount(EventType.block)).isZero();
+  }
+
+  @Test
+  void shouldDropOldestEventsWhenCoalescingHeadAndQueueHasNoHeadEvents() throws Exception {
+    EventSubscriber eventSubscriber =
+        createSubscriber(EventQueueOverflowPolicy.COALESCE_HEAD, "head", "block");
+
+    for (int i = 0; i < MAX_PENDING_EVENTS; i++) {
+      eventSubscriber.onEvent(EventType.block, event(EventType.block, "block" + i));
+    }
+    eventSubscriber.onEvent(EventType.block, event(EventType.block, "latestBlock"));
+    asyncRunner.executeQueuedActions();
+
+    verifyNoInteractions(onCloseCallback);
+    assertThat(outputStream.countEvents()).isEqualTo(MAX_PENDING_EVENTS);
+    assertThat(outputStream.getString()).doesNotContain("block0").contains("latestBlock");
+    assertThat(getDroppedCount(EventType.block)).isEqualTo(1);
+  }
+
+  @Test
+  void shouldRecordSentEvents() throws Exception {
+    EventSubscriber eventSubscriber = createSubscriber("head");
+
+    eventSubscriber.onEvent(EventType.head, event(EventType.head, "test"));
+    eventSubscriber.onEvent(EventType.head, event(EventType.head, "test"));
+    asyncRunner.executeQueuedActions();
+
+    assertThat(
+            metricsSystem
+                .getCounter(TekuMetricCategory.BEACON, "rest_api_events_sent_total")
+                .getValue(EventType.head.name()))
+        .isEqualTo(2);
+  }
+
   @ParameterizedTest
   @EnumSource(EventType.class)
   void shouldNotSendEventsIfNotSubscribed(final EventType eventType) throws Exception {
     EventSubscriber subscriber = createSubscriber(eventType.name());
     for (EventType val : allEventTypes) {
       if (val.compareTo(eventType) != 0) {
-        subscriber.onEvent(val, event("test"));
+        subscriber.onEvent(val, event(val, "test"));
       }
     }
 
@@ -196,7 +273,7 @@ public class EventSubscriberTest {
   void shouldSendEventsIfSubscribed(final EventType eventType) throws IOException {
     EventSubscriber subscriber = createSubscriber(eventType.name());
 
-    subscriber.onEvent(eventType, event("test"));
+    subscriber.onEvent(eventType, event(eventType, "test"));
 
     assertThat(asyncRunner.countDelayedActions()).isEqualTo(2);
     asyncRunner.executeQueuedActions();
@@ -205,7 +282,7 @@ public class EventSubscriberTest {
   }
 
   @Test
-  void shouldSendKeepAlive() {
+  void shouldSendKeepAlive() throws IOException {
     createSubscriber(EventType.voluntary_exit.name());
 
     assertThat(asyncRunner.countDelayedActions()).isEqualTo(1);
@@ -218,7 +295,7 @@ public class EventSubscriberTest {
   }
 
   @Test
-  void shouldStopSendingKeepAliveWhenSseClientCloses() {
+  void shouldStopSendingKeepAliveWhenSseClientCloses() throws IOException {
     createSubscriber(EventType.voluntary_exit.name());
 
     assertThat(asyncRunner.countDelayedActions()).isEqualTo(1);
@@ -229,17 +306,31 @@ public class EventSubscriberTest {
     assertThat(asyncRunner.countDelayedActions()).isZero();
   }
 
-  private EventSource<String> event(final String message) {
-    return new EventSource<>(new TestEvent(message));
+  private long getDroppedCount(final EventType eventType) {
+    return metricsSystem
+        .getCounter(TekuMetricCategory.BEACON, "rest_api_events_dropped_total")
+        .getValue(eventType.name());
+  }
+
+  private EventSource<String> event(final EventType eventType, final String message) {
+    return new EventSource<>(eventType, new TestEvent(message));
+  }
+
+  private EventSubscriber createSubscriber(final String... eventTypes) throws IOException {
+    return createSubscriber(EventQueueOverflowPolicy.DISCONNECT, eventTypes);
   }
 
-  private EventSubscriber createSubscriber(final String... eventTypes) {
+  private EventSubscriber createSubscriber(
+      final EventQueueOverflowPolicy overflowPolicy, final String... eventTypes)
+      throws IOException {
     return new EventSubscriber(
         List.of(eventTypes),
         sseClient,
         onCloseCallback,
         asyncRunner,
         timeProvider,
-        MAX_PENDING_EVENTS);
+        MAX_PENDING_EVENTS,
+        overflowPolicy,
+        eventMetrics);
   }
 }
@@ -18,8 +18,12 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_BAD_REQUEST;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_INTERNAL_SERVER_ERROR;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_FOUND;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_MODIFIED;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_ETAG;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_IF_NONE_MATCH;
 import static tech.pegasys.teku.infrastructure.restapi.MetadataTestUtil.getResponseStringFromMetadata;
+import static tech.pegasys.teku.infrastructure.restapi.MetadataTestUtil.verifyMetadataEmptyResponse;
 import static tech.pegasys.teku.infrastructure.restapi.MetadataTestUtil.verifyMetadataErrorResponse;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -29,6 +33,9 @@ import java.util.concurrent.ExecutionException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.beaconrestapi.AbstractMigratedBeaconHandlerWithChainDataProviderTest;
+import tech.pegasys.teku.beaconrestapi.SszResponseCache;
+import tech.pegasys.teku.infrastructure.http.ContentTypes;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
 import tech.pegasys.teku.spec.SpecMilestone;
 import tech.pegasys.teku.spec.datastructures.metadata.StateAndMetaData;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
@@ -40,7 +47,11 @@ class GetStateTest extends AbstractMigratedBeaconHandlerWithChainDataProviderTes
     initialise(SpecMilestone.ALTAIR);
     genesis();
 
-    setHandler(new GetState(chainDataProvider, schemaDefinitionCache));
+    setHandler(
+        new GetState(
+            chainDataProvider,
+            schemaDefinitionCache,
+            new SszResponseCache(spec, 1024 * 1024, new StubMetricsSystem())));
     request.setPathParameter("state_id", "head");
   }
 
@@ -56,6 +67,40 @@ class GetStateTest extends AbstractMigratedBeaconHandlerWithChainDataProviderTes
     assertThat(request.getResponseBody()).isEqualTo(stateAndMetaData);
   }
 
+  @Test
+  void shouldReturnNotModifiedWhenSszETagMatches()
+      throws JsonProcessingException, ExecutionException, InterruptedException {
+    final StateAndMetaData stateAndMetaData =
+        chainDataProvider.getBeaconStateAndMetadata("head").get().orElseThrow();
+    final String etag = SszResponseCache.getETag(stateAndMetaData.getData());
+    request.setResponseContentType(SC_OK, ContentTypes.OCTET_STREAM);
+    request.setRequestHeader(HEADER_IF_NONE_MATCH, etag);
+
+    handler.handleRequest(request);
+
+    assertThat(request.getResponseCode()).isEqualTo(SC_NOT_MODIFIED);
+    assertThat(request.getHeader(HEADER_ETAG)).isEqualTo(etag);
+  }
+
+  @Test
+  void shouldIgnoreETagForJsonResponse()
+      throws JsonProcessingException, ExecutionException, InterruptedException {
+    final StateAndMetaData stateAndMetaData =
+        chainDataProvider.getBeaconStateAndMetadata("head").get().orElseThrow();
+    request.setRequestHeader(
+        HEADER_IF_NONE_MATCH, SszResponseCache.getETag(stateAndMetaData.getData()));
+
+    handler.handleRequest(request);
+
+    assertThat(request.getResponseCode()).isEqualTo(SC_OK);
+    assertThat(request.getResponseBody()).isEqualTo(stateAndMetaData);
+  }
+
+  @Test
+  void metadata_shouldHandle304() {
+    verifyMetadataEmptyResponse(handler, SC_NOT_MODIFIED);
+  }
+
   @Test
   void metadata_shouldHandle400() throws JsonProcessingException {
     verifyMetadataErrorResponse(handler, SC_BAD_REQUEST);
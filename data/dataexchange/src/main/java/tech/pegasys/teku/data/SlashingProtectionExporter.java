@@ -39,6 +39,7 @@ import tech.pegasys.teku.data.slashinginterchange.SlashingProtectionInterchangeF
 import tech.pegasys.teku.ethereum.signingrecord.ValidatorSigningRecord;
 import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
 import tech.pegasys.teku.provider.JsonProvider;
+import tech.pegasys.teku.spec.signatures.SlashingProtectionJournal;
 
 public class SlashingProtectionExporter {
   private final JsonProvider jsonProvider = new JsonProvider();
@@ -54,9 +55,17 @@ public class SlashingProtectionExporter {
 
   // returns a map of errors and the associated keys.
   public Map<BLSPublicKey, String> initialise(final Consumer<String> infoLogger) {
+    try {
+      SlashingProtectionJournal.replayIfNotInUse(syncDataAccessor, slashProtectionPath);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
     File slashingProtectionRecords = slashProtectionPath.toFile();
     final Map<BLSPublicKey, String> importErrors = new HashMap<>();
     for (File currentFile : slashingProtectionRecords.listFiles()) {
+      if (!currentFile.isFile() || !currentFile.getName().endsWith(".yml")) {
+        continue;
+      }
       final Optional<String> maybeError = readSlashProtectionFile(currentFile, infoLogger);
       maybeError.ifPresent(
           error -> {
@@ -41,6 +41,7 @@ import tech.pegasys.teku.data.slashinginterchange.SlashingProtectionInterchangeF
 import tech.pegasys.teku.ethereum.signingrecord.ValidatorSigningRecord;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.provider.JsonProvider;
+import tech.pegasys.teku.spec.signatures.SlashingProtectionJournal;
 
 public class SlashingProtectionExporterTest {
   private static final Logger LOG = LogManager.getLogger();
@@ -199,6 +200,18 @@ public class SlashingProtectionExporterTest {
     assertThat(signingHistory.signedAttestations).isEmpty();
   }
 
+  @Test
+  void initialiseShouldOnlyExportSigningRecordFiles(@TempDir Path tempDir)
+      throws IOException, URISyntaxException {
+    usingResourceFile("slashProtection.yml", tempDir);
+    Files.createFile(tempDir.resolve(SlashingProtectionJournal.JOURNAL_FILE_NAME));
+    Files.createFile(tempDir.resolve(pubkey + ".yml.tmp"));
+    final SlashingProtectionExporter exporter = new SlashingProtectionExporter(tempDir);
+
+    assertThat(exporter.initialise(log::add)).isEmpty();
+    assertThat(log).containsExactly("Exporting " + pubkey);
+  }
+
   private File usingResourceFile(final String resourceFileName, final Path tempDir)
       throws URISyntaxException, IOException {
     final Path tempFile = tempDir.resolve(pubkey + ".yml").toAbsolutePath();
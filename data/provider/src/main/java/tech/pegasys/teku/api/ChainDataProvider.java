@@ -22,6 +22,7 @@ import static tech.pegasys.teku.spec.config.SpecConfig.FAR_FUTURE_EPOCH;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
+import com.google.common.primitives.Ints;
 import java.io.ByteArrayInputStream;
 import java.util.List;
 import java.util.Map;
@@ -30,7 +31,6 @@ import java.util.Set;
 import java.util.function.Function;
 import java.util.function.IntPredicate;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -66,6 +66,8 @@ import tech.pegasys.teku.spec.datastructures.metadata.StateAndMetaData;
 import tech.pegasys.teku.spec.datastructures.operations.Attestation;
 import tech.pegasys.teku.spec.datastructures.state.CommitteeAssignment;
 import tech.pegasys.teku.spec.datastructures.state.SyncCommittee;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.ValidatorStatusIndex;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatuses;
 import tech.pegasys.teku.storage.client.ChainDataUnavailableException;
 import tech.pegasys.teku.storage.client.CombinedChainDataClient;
@@ -267,10 +269,10 @@ public class ChainDataProvider {
   List<StateValidatorBalanceData> getValidatorBalancesFromState(
       final tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState state,
       final List<String> validators) {
-    return getValidatorSelector(state, validators)
-        .mapToObj(index -> StateValidatorBalanceData.fromState(state, index))
-        .flatMap(Optional::stream)
-        .collect(Collectors.toList());
+    return lazyValidatorList(
+        state,
+        getValidatorSelector(state, validators),
+        index -> StateValidatorBalanceData.fromState(state, index));
   }
 
   public Optional<Bytes32> getStateRootFromBlockRoot(final Bytes32 blockRoot) {
@@ -314,11 +316,24 @@ public class ChainDataProvider {
       final List<String> validators,
       final Set<ValidatorStatus> statusFilter) {
     final UInt64 epoch = spec.getCurrentEpoch(state);
-    return getValidatorSelector(state, validators)
-        .filter(getStatusPredicate(state, statusFilter))
-        .mapToObj(index -> StateValidatorData.fromState(state, index, epoch, FAR_FUTURE_EPOCH))
-        .flatMap(Optional::stream)
-        .collect(toList());
+    return lazyValidatorList(
+        state,
+        getValidatorSelector(state, validators).filter(getStatusPredicate(state, statusFilter)),
+        index -> StateValidatorData.fromState(state, index, epoch, FAR_FUTURE_EPOCH));
+  }
+
+  /**
+   * Full validator set queries return around a million entries, so only the selected indices are
+   * held and each entry is created from the state when it is accessed, typically as the response
+   * is serialized.
+   */
+  private <T> List<T> lazyValidatorList(
+      final tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState state,
+      final IntStream validatorIndices,
+      final Function<Integer, Optional<T>> dataFromState) {
+    final int validatorCount = state.getValidators().size();
+    final int[] indices = validatorIndices.filter(index -> index < validatorCount).toArray();
+    return Lists.transform(Ints.asList(indices), index -> dataFromState.apply(index).orElseThrow());
   }
 
   public Optional<ObjectAndMetaData<StateValidatorData>> getStateValidator(
@@ -406,10 +421,15 @@ public class ChainDataProvider {
   private IntPredicate getStatusPredicate(
       final tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState state,
       final Set<ValidatorStatus> statusFilter) {
+    if (statusFilter.isEmpty()) {
+      return i -> true;
+    }
     final UInt64 epoch = spec.getCurrentEpoch(state);
-    return statusFilter.isEmpty()
-        ? i -> true
-        : i -> statusFilter.contains(getValidatorStatus(state, i, epoch, FAR_FUTURE_EPOCH));
+    final ValidatorStatusIndex statusIndex =
+        BeaconStateCache.getTransitionCaches(state).getValidatorStatusIndex(state.getValidators());
+    return i ->
+        i < statusIndex.getValidatorCount()
+            && statusFilter.contains(getValidatorStatus(epoch, statusIndex, i, FAR_FUTURE_EPOCH));
   }
 
   private IntStream getValidatorSelector(
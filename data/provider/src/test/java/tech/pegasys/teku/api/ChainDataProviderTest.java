@@ -41,6 +41,7 @@ import tech.pegasys.teku.api.exceptions.ServiceUnavailableException;
 import tech.pegasys.teku.api.migrated.BlockHeaderData;
 import tech.pegasys.teku.api.migrated.BlockHeadersResponse;
 import tech.pegasys.teku.api.migrated.StateSyncCommitteesData;
+import tech.pegasys.teku.api.migrated.StateValidatorData;
 import tech.pegasys.teku.api.response.v1.beacon.GenesisData;
 import tech.pegasys.teku.api.response.v1.beacon.ValidatorStatus;
 import tech.pegasys.teku.api.schema.BeaconState;
@@ -263,6 +264,26 @@ public class ChainDataProviderTest {
     assertThat(pubkeys).containsExactly(key);
   }
 
+  @Test
+  public void filteredValidatorsList_shouldOnlyIncludeValidatorsInState() {
+    final tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState internalState =
+        data.randomBeaconState(1024);
+    final ChainDataProvider provider =
+        new ChainDataProvider(spec, recentChainData, combinedChainDataClient);
+
+    final List<StateValidatorData> validators =
+        provider.getFilteredValidatorList(internalState, List.of("1024", "5", "2048"), emptySet());
+    assertThat(validators).hasSize(1);
+    assertThat(validators.get(0).getIndex()).isEqualTo(UInt64.valueOf(5));
+
+    final List<StateValidatorData> allValidators =
+        provider.getFilteredValidatorList(internalState, emptyList(), emptySet());
+    assertThat(allValidators).hasSize(1024);
+    assertThat(allValidators.get(500).getIndex()).isEqualTo(UInt64.valueOf(500));
+    assertThat(allValidators.get(500).getValidator())
+        .isEqualTo(internalState.getValidators().get(500));
+  }
+
   @Test
   public void filteredValidatorsList_shouldFilterByValidatorStatus() {
     final tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState internalState =
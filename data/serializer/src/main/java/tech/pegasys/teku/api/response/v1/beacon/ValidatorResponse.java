@@ -26,6 +26,7 @@ import tech.pegasys.teku.api.schema.Validator;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.ValidatorStatusIndex;
 
 public class ValidatorResponse {
 
@@ -91,34 +92,64 @@ public class ValidatorResponse {
       final UInt64 epoch,
       final tech.pegasys.teku.spec.datastructures.state.Validator validator,
       final UInt64 farFutureEpoch) {
+    return getValidatorStatus(
+        epoch,
+        validator.getActivationEligibilityEpoch(),
+        validator.getActivationEpoch(),
+        validator.getExitEpoch(),
+        validator.getWithdrawableEpoch(),
+        validator.isSlashed(),
+        validator.getEffectiveBalance(),
+        farFutureEpoch);
+  }
+
+  public static ValidatorStatus getValidatorStatus(
+      final UInt64 epoch,
+      final ValidatorStatusIndex statusIndex,
+      final int validatorIndex,
+      final UInt64 farFutureEpoch) {
+    return getValidatorStatus(
+        epoch,
+        statusIndex.getActivationEligibilityEpoch(validatorIndex),
+        statusIndex.getActivationEpoch(validatorIndex),
+        statusIndex.getExitEpoch(validatorIndex),
+        statusIndex.getWithdrawableEpoch(validatorIndex),
+        statusIndex.isSlashed(validatorIndex),
+        statusIndex.getEffectiveBalance(validatorIndex),
+        farFutureEpoch);
+  }
+
+  private static ValidatorStatus getValidatorStatus(
+      final UInt64 epoch,
+      final UInt64 activationEligibilityEpoch,
+      final UInt64 activationEpoch,
+      final UInt64 exitEpoch,
+      final UInt64 withdrawableEpoch,
+      final boolean slashed,
+      final UInt64 effectiveBalance,
+      final UInt64 farFutureEpoch) {
     // pending
-    if (validator.getActivationEpoch().isGreaterThan(epoch)) {
-      return validator.getActivationEligibilityEpoch().equals(farFutureEpoch)
+    if (activationEpoch.isGreaterThan(epoch)) {
+      return activationEligibilityEpoch.equals(farFutureEpoch)
           ? ValidatorStatus.pending_initialized
           : ValidatorStatus.pending_queued;
     }
     // active
-    if (validator.getActivationEpoch().isLessThanOrEqualTo(epoch)
-        && epoch.isLessThan(validator.getExitEpoch())) {
-      if (validator.getExitEpoch().equals(farFutureEpoch)) {
+    if (activationEpoch.isLessThanOrEqualTo(epoch) && epoch.isLessThan(exitEpoch)) {
+      if (exitEpoch.equals(farFutureEpoch)) {
         return ValidatorStatus.active_ongoing;
       }
-      return validator.isSlashed()
-          ? ValidatorStatus.active_slashed
-          : ValidatorStatus.active_exiting;
+      return slashed ? ValidatorStatus.active_slashed : ValidatorStatus.active_exiting;
     }
 
     // exited
-    if (validator.getExitEpoch().isLessThanOrEqualTo(epoch)
-        && epoch.isLessThan(validator.getWithdrawableEpoch())) {
-      return validator.isSlashed()
-          ? ValidatorStatus.exited_slashed
-          : ValidatorStatus.exited_unslashed;
+    if (exitEpoch.isLessThanOrEqualTo(epoch) && epoch.isLessThan(withdrawableEpoch)) {
+      return slashed ? ValidatorStatus.exited_slashed : ValidatorStatus.exited_unslashed;
     }
 
     // withdrawal
-    if (validator.getWithdrawableEpoch().isLessThanOrEqualTo(epoch)) {
-      return validator.getEffectiveBalance().isGreaterThan(UInt64.ZERO)
+    if (withdrawableEpoch.isLessThanOrEqualTo(epoch)) {
+      return effectiveBalance.isGreaterThan(UInt64.ZERO)
           ? ValidatorStatus.withdrawal_possible
           : ValidatorStatus.withdrawal_done;
     }
@@ -0,0 +1,133 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks;
+
+import static tech.pegasys.teku.statetransition.attestation.AggregatingAttestationPool.DEFAULT_MAXIMUM_ATTESTATION_COUNT;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.infrastructure.time.SystemTimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.attestation.ValidateableAttestation;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation.AttestationSchema;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.statetransition.attestation.AggregatingAttestationPool;
+
+/**
+ * Simulates the attestation pool load on a MainNet node: several gossip threads adding unaggregated
+ * attestations for 64 committees per slot while aggregates are created for publishing and the
+ * whole pool is aggregated for block production.
+ */
+@Fork(1)
+@State(Scope.Group)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class AggregatingAttestationPoolBenchmark {
+  private static final int SLOTS = 4;
+  private static final int COMMITTEES_PER_SLOT = 64;
+  private static final int COMMITTEE_SIZE = 128;
+
+  private final Spec spec = TestSpecFactory.createMainnetPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final List<ValidateableAttestation> gossipAttestations = new ArrayList<>();
+  private final List<Bytes32> attestationDataRoots = new ArrayList<>();
+  private final AtomicInteger nextAttestation = new AtomicInteger();
+  private final AtomicInteger nextAggregate = new AtomicInteger();
+
+  private AggregatingAttestationPool pool;
+
+  @Setup(Level.Trial)
+  public void init() {
+    final AttestationSchema attestationSchema =
+        spec.getGenesisSchemaDefinitions().getAttestationSchema();
+    final BLSSignature signature = dataStructureUtil.randomSignature();
+    final Random random = new Random(1);
+    for (int slot = 0; slot < SLOTS; slot++) {
+      // Gossip for a slot arrives interleaved across committees
+      final List<ValidateableAttestation> slotAttestations = new ArrayList<>();
+      for (int committee = 0; committee < COMMITTEES_PER_SLOT; committee++) {
+        final AttestationData data = dataStructureUtil.randomAttestationData(UInt64.valueOf(slot));
+        attestationDataRoots.add(data.hashTreeRoot());
+        for (int validator = 0; validator < COMMITTEE_SIZE; validator++) {
+          final Attestation attestation =
+              attestationSchema.create(
+                  attestationSchema.getAggregationBitsSchema().ofBits(COMMITTEE_SIZE, validator),
+                  data,
+                  signature);
+          slotAttestations.add(ValidateableAttestation.from(spec, attestation));
+        }
+      }
+      Collections.shuffle(slotAttestations, random);
+      gossipAttestations.addAll(slotAttestations);
+    }
+  }
+
+  @Setup(Level.Iteration)
+  public void createPool() {
+    pool =
+        new AggregatingAttestationPool(
+            spec,
+            new SystemTimeProvider(),
+            new NoOpMetricsSystem(),
+            DEFAULT_MAXIMUM_ATTESTATION_COUNT,
+            Duration.ofMillis(50));
+    nextAttestation.set(0);
+  }
+
+  @Benchmark
+  @Group("gossip")
+  @GroupThreads(4)
+  public void addGossipAttestation() {
+    final int index = Math.floorMod(nextAttestation.getAndIncrement(), gossipAttestations.size());
+    pool.add(gossipAttestations.get(index));
+  }
+
+  @Benchmark
+  @Group("gossip")
+  @GroupThreads(1)
+  public Optional<ValidateableAttestation> createAggregate() {
+    final int index = Math.floorMod(nextAggregate.getAndIncrement(), attestationDataRoots.size());
+    return pool.createAggregateFor(attestationDataRoots.get(index));
+  }
+
+  @Benchmark
+  @Group("gossip")
+  @GroupThreads(1)
+  public List<Attestation> produceBlock() {
+    return pool.getAttestations(Optional.empty(), Optional.empty());
+  }
+}
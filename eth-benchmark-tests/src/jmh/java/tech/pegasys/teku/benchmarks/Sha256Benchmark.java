@@ -18,12 +18,22 @@ import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.apache.tuweni.bytes.MutableBytes;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.bls.BLSTestUtil;
 import tech.pegasys.teku.infrastructure.crypto.Hash;
+import tech.pegasys.teku.infrastructure.crypto.Sha256PairHasher;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeUtil;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
 
 @State(Scope.Thread)
 public class Sha256Benchmark {
@@ -51,4 +61,44 @@ public class Sha256Benchmark {
     byte[] hash = Hash.sha256(dataArray).toArrayUnsafe();
     bh.consume(hash);
   }
+
+  @Benchmark
+  @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  public void rehashBeaconState(UnhashedBeaconState state, Blackhole bh) {
+    bh.consume(state.tree.hashTreeRoot());
+  }
+
+  @Benchmark
+  @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  public void rehashBeaconStateByLayer(UnhashedBeaconState state, Blackhole bh) {
+    bh.consume(TreeUtil.hashTreeRootByLayer(state.tree, Sha256PairHasher.getDefault()));
+  }
+
+  @Benchmark
+  @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  public void rehashBeaconStateParallel(UnhashedBeaconState state, Blackhole bh) {
+    bh.consume(TreeUtil.hashTreeRootParallel(state.tree));
+  }
+
+  /** Provides a freshly deserialized state tree without any cached hashes for every invocation */
+  @State(Scope.Thread)
+  public static class UnhashedBeaconState {
+    private static final int VALIDATOR_COUNT = 100_000;
+    private static final BLSPublicKey PUBLIC_KEY = BLSTestUtil.randomPublicKey(1);
+    private static final BeaconState STATE =
+        new DataStructureUtil(TestSpecFactory.createMainnetAltair())
+            .withPubKeyGenerator(() -> PUBLIC_KEY)
+            .randomBeaconState(VALIDATOR_COUNT);
+    private static final Bytes STATE_SSZ = STATE.sszSerialize();
+
+    private TreeNode tree;
+
+    @Setup(Level.Invocation)
+    public void deserializeState() {
+      tree = STATE.getBeaconStateSchema().sszDeserialize(STATE_SSZ).getBackingNode();
+    }
+  }
 }
@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.dataproviders.generators;
 
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
@@ -27,11 +28,16 @@ import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.StateTrans
 public class StreamingStateRegenerator {
 
   private final Spec spec;
+  private final Consumer<BeaconState> onBlockProcessed;
   private BeaconState state;
 
-  private StreamingStateRegenerator(final Spec spec, final BeaconState preState) {
+  private StreamingStateRegenerator(
+      final Spec spec,
+      final BeaconState preState,
+      final Consumer<BeaconState> onBlockProcessed) {
     this.spec = spec;
     this.state = preState;
+    this.onBlockProcessed = onBlockProcessed;
   }
 
   private void processBlock(final SignedBeaconBlock block) {
@@ -40,11 +46,25 @@ public class StreamingStateRegenerator {
     } catch (StateTransitionException e) {
       throw new IllegalStateException("Regenerating state failed", e);
     }
+    onBlockProcessed.accept(state);
   }
 
   public static BeaconState regenerate(
       final Spec spec, final BeaconState initialState, final Stream<SignedBeaconBlock> blocks) {
-    final StreamingStateRegenerator regenerator = new StreamingStateRegenerator(spec, initialState);
+    return regenerate(spec, initialState, blocks, __ -> {});
+  }
+
+  /**
+   * Regenerates a state, calling {@code onBlockProcessed} with each intermediate post-block state
+   * so callers can retain some of them.
+   */
+  public static BeaconState regenerate(
+      final Spec spec,
+      final BeaconState initialState,
+      final Stream<SignedBeaconBlock> blocks,
+      final Consumer<BeaconState> onBlockProcessed) {
+    final StreamingStateRegenerator regenerator =
+        new StreamingStateRegenerator(spec, initialState, onBlockProcessed);
     blocks.forEach(regenerator::processBlock);
     return regenerator.state;
   }
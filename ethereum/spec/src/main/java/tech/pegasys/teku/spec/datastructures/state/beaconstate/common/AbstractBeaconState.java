@@ -14,6 +14,7 @@
 package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
 
 import com.google.common.base.MoreObjects.ToStringHelper;
+import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.ssz.SszContainer;
 import tech.pegasys.teku.infrastructure.ssz.SszData;
 import tech.pegasys.teku.infrastructure.ssz.cache.IntCache;
@@ -22,6 +23,7 @@ import tech.pegasys.teku.infrastructure.ssz.impl.SszContainerImpl;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszCompositeSchema;
 import tech.pegasys.teku.infrastructure.ssz.schema.impl.AbstractSszContainerSchema;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeUtil;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateSchema;
@@ -65,6 +67,15 @@ public abstract class AbstractBeaconState<TMutable extends MutableBeaconState>
     return writableCopy.commitChanges();
   }
 
+  /**
+   * States are large enough that rehashing after loading or an epoch transition is dominated by
+   * the validators and balances lists, so independent subtrees are hashed in parallel.
+   */
+  @Override
+  public Bytes32 hashTreeRoot() {
+    return TreeUtil.hashTreeRootParallel(getBackingNode());
+  }
+
   @Override
   public int hashCode() {
     return BeaconStateInvariants.hashCode(this);
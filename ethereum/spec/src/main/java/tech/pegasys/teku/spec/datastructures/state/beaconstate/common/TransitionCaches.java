@@ -23,7 +23,9 @@ import tech.pegasys.teku.infrastructure.collections.TekuPair;
 import tech.pegasys.teku.infrastructure.collections.cache.Cache;
 import tech.pegasys.teku.infrastructure.collections.cache.LRUCache;
 import tech.pegasys.teku.infrastructure.collections.cache.NoOpCache;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
 import tech.pegasys.teku.spec.datastructures.util.SyncSubcommitteeAssignments;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ProgressiveTotalBalancesUpdates;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.TotalBalances;
@@ -53,12 +55,19 @@ public class TransitionCaches {
           NoOpCache.getNoOpCache(),
           NoOpCache.getNoOpCache(),
           NoOpCache.getNoOpCache(),
-          ProgressiveTotalBalancesUpdates.NOOP) {
+          ProgressiveTotalBalancesUpdates.NOOP,
+          Optional.empty()) {
 
         @Override
         public TransitionCaches copy() {
           return this;
         }
+
+        @Override
+        public ValidatorStatusIndex getValidatorStatusIndex(
+            final SszList<Validator> validators) {
+          return ValidatorStatusIndex.create(validators);
+        }
       };
 
   /** Creates new instance with clean caches */
@@ -86,6 +95,7 @@ public class TransitionCaches {
 
   private volatile Optional<TotalBalances> latestTotalBalances = Optional.empty();
   private volatile ProgressiveTotalBalancesUpdates progressiveTotalBalances;
+  private volatile Optional<ValidatorStatusIndex> validatorStatusIndex = Optional.empty();
 
   private TransitionCaches() {
     activeValidators = LRUCache.create(MAX_ACTIVE_VALIDATORS_CACHE);
@@ -114,7 +124,8 @@ public class TransitionCaches {
       Cache<UInt64, List<UInt64>> effectiveBalances,
       Cache<UInt64, Map<UInt64, SyncSubcommitteeAssignments>> syncCommitteeCache,
       Cache<UInt64, UInt64> baseRewardPerIncrement,
-      ProgressiveTotalBalancesUpdates progressiveTotalBalances) {
+      ProgressiveTotalBalancesUpdates progressiveTotalBalances,
+      Optional<ValidatorStatusIndex> validatorStatusIndex) {
     this.activeValidators = activeValidators;
     this.beaconProposerIndex = beaconProposerIndex;
     this.beaconCommittee = beaconCommittee;
@@ -127,6 +138,7 @@ public class TransitionCaches {
     this.syncCommitteeCache = syncCommitteeCache;
     this.baseRewardPerIncrement = baseRewardPerIncrement;
     this.progressiveTotalBalances = progressiveTotalBalances;
+    this.validatorStatusIndex = validatorStatusIndex;
   }
 
   public void setLatestTotalBalances(TotalBalances totalBalances) {
@@ -211,6 +223,23 @@ public class TransitionCaches {
     return baseRewardPerIncrement;
   }
 
+  /**
+   * Returns the status index for the given validators, which must belong to the state these caches
+   * are attached to. The index is built on first use and, where these caches were copied from an
+   * ancestor state which already has an index, only validators changed since then are read.
+   */
+  public synchronized ValidatorStatusIndex getValidatorStatusIndex(
+      final SszList<Validator> validators) {
+    final Optional<ValidatorStatusIndex> currentIndex = validatorStatusIndex;
+    if (currentIndex.isPresent() && currentIndex.get().isIndexOf(validators)) {
+      return currentIndex.get();
+    }
+    final ValidatorStatusIndex updatedIndex =
+        ValidatorStatusIndex.create(validators, currentIndex);
+    validatorStatusIndex = Optional.of(updatedIndex);
+    return updatedIndex;
+  }
+
   /**
    * Makes an independent copy which contains all the data in this instance Modifications to
    * returned caches shouldn't affect caches from this instance
@@ -228,6 +257,7 @@ public class TransitionCaches {
         effectiveBalances.copy(),
         syncCommitteeCache.copy(),
         baseRewardPerIncrement.copy(),
-        progressiveTotalBalances.copy());
+        progressiveTotalBalances.copy(),
+        validatorStatusIndex);
   }
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.apache.tuweni.bytes.Bytes48;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+
+/**
+ * Process wide (validator index) -> (validator pub key) store shared by every state, regardless of
+ * which {@link TransitionCaches} the state was created with. Keeping the same {@link BLSPublicKey}
+ * instance for a validator means its public key is only decompressed once, even for states that
+ * are loaded from disk or regenerated.
+ *
+ * <p>The same validator index may refer to a different key on another fork, so cached keys are
+ * only returned when they match the compressed key bytes in the supplied validator record.
+ */
+public class ValidatorPublicKeyCache {
+  private static final ValidatorPublicKeyCache INSTANCE = new ValidatorPublicKeyCache();
+  private static final int INITIAL_CAPACITY = 1024;
+
+  private volatile AtomicReferenceArray<BLSPublicKey> publicKeys;
+
+  @VisibleForTesting
+  ValidatorPublicKeyCache() {
+    this.publicKeys = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+  }
+
+  public static ValidatorPublicKeyCache getInstance() {
+    return INSTANCE;
+  }
+
+  public BLSPublicKey getPublicKey(final int validatorIndex, final Validator validator) {
+    final Bytes48 publicKeyBytes = validator.getPubkeyBytes();
+    final AtomicReferenceArray<BLSPublicKey> currentKeys = publicKeys;
+    if (validatorIndex < currentKeys.length()) {
+      final BLSPublicKey cachedKey = currentKeys.get(validatorIndex);
+      if (cachedKey != null && cachedKey.toBytesCompressed().equals(publicKeyBytes)) {
+        return cachedKey;
+      }
+    }
+
+    final BLSPublicKey publicKey = validator.getPublicKey();
+    ensureCapacity(validatorIndex + 1).set(validatorIndex, publicKey);
+    return publicKey;
+  }
+
+  private AtomicReferenceArray<BLSPublicKey> ensureCapacity(final int requiredCapacity) {
+    final AtomicReferenceArray<BLSPublicKey> currentKeys = publicKeys;
+    if (requiredCapacity <= currentKeys.length()) {
+      return currentKeys;
+    }
+    synchronized (this) {
+      final AtomicReferenceArray<BLSPublicKey> latestKeys = publicKeys;
+      if (requiredCapacity <= latestKeys.length()) {
+        return latestKeys;
+      }
+      // Keys stored into the old array while copying are dropped which only costs a reload
+      final int newCapacity = Math.max(requiredCapacity, latestKeys.length() * 2);
+      final AtomicReferenceArray<BLSPublicKey> newKeys = new AtomicReferenceArray<>(newCapacity);
+      for (int i = 0; i < latestKeys.length(); i++) {
+        newKeys.set(i, latestKeys.get(i));
+      }
+      publicKeys = newKeys;
+      return newKeys;
+    }
+  }
+
+  @VisibleForTesting
+  int getCapacity() {
+    return publicKeys.length();
+  }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Optional;
+import java.util.function.IntConsumer;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.ssz.tree.BranchNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.GIndexUtil;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+
+/**
+ * Columnar copy of the validator fields which determine a validator's status, so that queries
+ * across the whole validator set don't need to read each {@link Validator} from the state tree.
+ *
+ * <p>An index can be derived from the index of an ancestor state. Subtrees of the validator list
+ * which are shared between the two states are skipped, so only validators that were added or
+ * modified are read from the state.
+ */
+public class ValidatorStatusIndex {
+  private final TreeNode validatorsTree;
+  private final int validatorCount;
+  private final long[] activationEligibilityEpochs;
+  private final long[] activationEpochs;
+  private final long[] exitEpochs;
+  private final long[] withdrawableEpochs;
+  private final long[] effectiveBalances;
+  private final BitSet slashed;
+
+  private ValidatorStatusIndex(
+      final TreeNode validatorsTree,
+      final int validatorCount,
+      final long[] activationEligibilityEpochs,
+      final long[] activationEpochs,
+      final long[] exitEpochs,
+      final long[] withdrawableEpochs,
+      final long[] effectiveBalances,
+      final BitSet slashed) {
+    this.validatorsTree = validatorsTree;
+    this.validatorCount = validatorCount;
+    this.activationEligibilityEpochs = activationEligibilityEpochs;
+    this.activationEpochs = activationEpochs;
+    this.exitEpochs = exitEpochs;
+    this.withdrawableEpochs = withdrawableEpochs;
+    this.effectiveBalances = effectiveBalances;
+    this.slashed = slashed;
+  }
+
+  public static ValidatorStatusIndex create(final SszList<Validator> validators) {
+    return create(validators, Optional.empty());
+  }
+
+  public static ValidatorStatusIndex create(
+      final SszList<Validator> validators, final Optional<ValidatorStatusIndex> ancestor) {
+    final TreeNode validatorsTree = getValidatorsTree(validators);
+    final int validatorCount = validators.size();
+    final ValidatorStatusIndex index =
+        ancestor
+            .map(previous -> previous.copy(validatorsTree, validatorCount))
+            .orElseGet(() -> createEmpty(validatorsTree, validatorCount));
+    final IntConsumer updateValidator = i -> index.set(i, validators.get(i));
+    if (ancestor.isPresent()) {
+      forEachChangedIndex(
+          ancestor.get().validatorsTree,
+          validatorsTree,
+          validators.getSchema().treeDepth(),
+          0,
+          validatorCount,
+          updateValidator);
+    } else {
+      for (int i = 0; i < validatorCount; i++) {
+        updateValidator.accept(i);
+      }
+    }
+    return index;
+  }
+
+  /** Returns true if this index was created from exactly the given validator list. */
+  public boolean isIndexOf(final SszList<Validator> validators) {
+    return validatorsTree == getValidatorsTree(validators);
+  }
+
+  public int getValidatorCount() {
+    return validatorCount;
+  }
+
+  public UInt64 getActivationEligibilityEpoch(final int validatorIndex) {
+    return UInt64.fromLongBits(activationEligibilityEpochs[validatorIndex]);
+  }
+
+  public UInt64 getActivationEpoch(final int validatorIndex) {
+    return UInt64.fromLongBits(activationEpochs[validatorIndex]);
+  }
+
+  public UInt64 getExitEpoch(final int validatorIndex) {
+    return UInt64.fromLongBits(exitEpochs[validatorIndex]);
+  }
+
+  public UInt64 getWithdrawableEpoch(final int validatorIndex) {
+    return UInt64.fromLongBits(withdrawableEpochs[validatorIndex]);
+  }
+
+  public UInt64 getEffectiveBalance(final int validatorIndex) {
+    return UInt64.fromLongBits(effectiveBalances[validatorIndex]);
+  }
+
+  public boolean isSlashed(final int validatorIndex) {
+    return slashed.get(validatorIndex);
+  }
+
+  private static TreeNode getValidatorsTree(final SszList<Validator> validators) {
+    return validators.getBackingNode().get(GIndexUtil.LEFT_CHILD_G_INDEX);
+  }
+
+  private static ValidatorStatusIndex createEmpty(
+      final TreeNode validatorsTree, final int validatorCount) {
+    return new ValidatorStatusIndex(
+        validatorsTree,
+        validatorCount,
+        new long[validatorCount],
+        new long[validatorCount],
+        new long[validatorCount],
+        new long[validatorCount],
+        new long[validatorCount],
+        new BitSet(validatorCount));
+  }
+
+  private ValidatorStatusIndex copy(final TreeNode validatorsTree, final int validatorCount) {
+    final BitSet slashedCopy = (BitSet) slashed.clone();
+    if (validatorCount < this.validatorCount) {
+      slashedCopy.clear(validatorCount, this.validatorCount);
+    }
+    return new ValidatorStatusIndex(
+        validatorsTree,
+        validatorCount,
+        Arrays.copyOf(activationEligibilityEpochs, validatorCount),
+        Arrays.copyOf(activationEpochs, validatorCount),
+        Arrays.copyOf(exitEpochs, validatorCount),
+        Arrays.copyOf(withdrawableEpochs, validatorCount),
+        Arrays.copyOf(effectiveBalances, validatorCount),
+        slashedCopy);
+  }
+
+  private void set(final int validatorIndex, final Validator validator) {
+    activationEligibilityEpochs[validatorIndex] =
+        validator.getActivationEligibilityEpoch().longValue();
+    activationEpochs[validatorIndex] = validator.getActivationEpoch().longValue();
+    exitEpochs[validatorIndex] = validator.getExitEpoch().longValue();
+    withdrawableEpochs[validatorIndex] = validator.getWithdrawableEpoch().longValue();
+    effectiveBalances[validatorIndex] = validator.getEffectiveBalance().longValue();
+    slashed.set(validatorIndex, validator.isSlashed());
+  }
+
+  /**
+   * Walks the two trees together, skipping any subtree which is the same node in both, and
+   * reports the indices below validatorCount of the leaves which may differ.
+   */
+  private static void forEachChangedIndex(
+      final TreeNode previous,
+      final TreeNode current,
+      final int depth,
+      final long firstIndex,
+      final int validatorCount,
+      final IntConsumer action) {
+    if (previous == current || firstIndex >= validatorCount) {
+      return;
+    }
+    if (depth == 0) {
+      action.accept((int) firstIndex);
+    } else if (previous instanceof BranchNode && current instanceof BranchNode) {
+      final BranchNode previousBranch = (BranchNode) previous;
+      final BranchNode currentBranch = (BranchNode) current;
+      forEachChangedIndex(
+          previousBranch.left(),
+          currentBranch.left(),
+          depth - 1,
+          firstIndex,
+          validatorCount,
+          action);
+      forEachChangedIndex(
+          previousBranch.right(),
+          currentBranch.right(),
+          depth - 1,
+          firstIndex + (1L << (depth - 1)),
+          validatorCount,
+          action);
+    } else {
+      final long lastIndex = Math.min(firstIndex + (1L << depth), validatorCount);
+      for (long i = firstIndex; i < lastIndex; i++) {
+        action.accept((int) i);
+      }
+    }
+  }
+}
@@ -36,6 +36,7 @@ import tech.pegasys.teku.spec.datastructures.state.ForkInfo;
 import tech.pegasys.teku.spec.datastructures.state.Validator;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.ValidatorPublicKeyCache;
 
 public abstract class BeaconStateAccessors {
   protected final SpecConfig config;
@@ -80,7 +81,9 @@ public abstract class BeaconStateAccessors {
             .get(
                 validatorIndex,
                 i -> {
-                  BLSPublicKey pubKey = state.getValidators().get(i.intValue()).getPublicKey();
+                  BLSPublicKey pubKey =
+                      ValidatorPublicKeyCache.getInstance()
+                          .getPublicKey(i.intValue(), state.getValidators().get(i.intValue()));
 
                   // eagerly pre-cache pubKey => validatorIndex mapping
                   BeaconStateCache.getTransitionCaches(state)
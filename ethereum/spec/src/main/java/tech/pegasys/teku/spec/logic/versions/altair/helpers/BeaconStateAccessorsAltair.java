@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.spec.logic.versions.altair.helpers;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.stream.Collectors.toList;
 import static tech.pegasys.teku.spec.logic.common.helpers.MathHelpers.integerSquareRoot;
 import static tech.pegasys.teku.spec.logic.common.helpers.MathHelpers.uint64ToBytes;
@@ -53,6 +54,15 @@ public class BeaconStateAccessorsAltair extends BeaconStateAccessors {
     this.altairConfig = config;
   }
 
+  public static BeaconStateAccessorsAltair required(
+      final BeaconStateAccessors beaconStateAccessors) {
+    checkArgument(
+        beaconStateAccessors instanceof BeaconStateAccessorsAltair,
+        "Expected altair beacon state accessors but got %s",
+        beaconStateAccessors.getClass().getSimpleName());
+    return (BeaconStateAccessorsAltair) beaconStateAccessors;
+  }
+
   public UInt64 getBaseRewardPerIncrement(final BeaconState state) {
     return BeaconStateCache.getTransitionCaches(state)
         .getBaseRewardPerIncrement()
@@ -13,12 +13,22 @@
 
 package tech.pegasys.teku.spec.signatures;
 
+import static tech.pegasys.teku.spec.signatures.LocalSigningEngine.DutyType.AGGREGATE_AND_PROOF;
+import static tech.pegasys.teku.spec.signatures.LocalSigningEngine.DutyType.AGGREGATION_SLOT;
+import static tech.pegasys.teku.spec.signatures.LocalSigningEngine.DutyType.ATTESTATION;
+import static tech.pegasys.teku.spec.signatures.LocalSigningEngine.DutyType.BLOCK;
+import static tech.pegasys.teku.spec.signatures.LocalSigningEngine.DutyType.RANDAO_REVEAL;
+import static tech.pegasys.teku.spec.signatures.LocalSigningEngine.DutyType.SYNC_COMMITTEE_CONTRIBUTION_AND_PROOF;
+import static tech.pegasys.teku.spec.signatures.LocalSigningEngine.DutyType.SYNC_COMMITTEE_MESSAGE;
+import static tech.pegasys.teku.spec.signatures.LocalSigningEngine.DutyType.SYNC_COMMITTEE_SELECTION_PROOF;
+import static tech.pegasys.teku.spec.signatures.LocalSigningEngine.DutyType.VALIDATOR_REGISTRATION;
+import static tech.pegasys.teku.spec.signatures.LocalSigningEngine.DutyType.VOLUNTARY_EXIT;
+
 import java.net.URL;
 import java.util.Optional;
 import java.util.function.Function;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
-import tech.pegasys.teku.bls.BLS;
 import tech.pegasys.teku.bls.BLSKeyPair;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
@@ -34,18 +44,24 @@ import tech.pegasys.teku.spec.datastructures.operations.versions.altair.Contribu
 import tech.pegasys.teku.spec.datastructures.operations.versions.altair.SyncAggregatorSelectionData;
 import tech.pegasys.teku.spec.datastructures.state.ForkInfo;
 import tech.pegasys.teku.spec.logic.common.util.SyncCommitteeUtil;
+import tech.pegasys.teku.spec.signatures.LocalSigningEngine.DutyType;
 
 public class LocalSigner implements Signer {
 
   private final Spec spec;
   private final BLSKeyPair keypair;
-  private final AsyncRunner asyncRunner;
+  private final LocalSigningEngine signingEngine;
   private final SigningRootUtil signingRootUtil;
 
   public LocalSigner(final Spec spec, final BLSKeyPair keypair, final AsyncRunner asyncRunner) {
+    this(spec, keypair, LocalSigningEngine.create(asyncRunner));
+  }
+
+  public LocalSigner(
+      final Spec spec, final BLSKeyPair keypair, final LocalSigningEngine signingEngine) {
     this.spec = spec;
     this.keypair = keypair;
-    this.asyncRunner = asyncRunner;
+    this.signingEngine = signingEngine;
     this.signingRootUtil = new SigningRootUtil(spec);
   }
 
@@ -56,35 +72,41 @@ public class LocalSigner implements Signer {
 
   @Override
   public SafeFuture<BLSSignature> createRandaoReveal(final UInt64 epoch, final ForkInfo forkInfo) {
-    return sign(signingRootUtil.signingRootForRandaoReveal(epoch, forkInfo));
+    return sign(signingRootUtil.signingRootForRandaoReveal(epoch, forkInfo), RANDAO_REVEAL);
   }
 
   @Override
   public SafeFuture<BLSSignature> signBlock(final BeaconBlock block, final ForkInfo forkInfo) {
-    return sign(signingRootUtil.signingRootForSignBlock(block, forkInfo));
+    return sign(signingRootUtil.signingRootForSignBlock(block, forkInfo), BLOCK);
   }
 
   @Override
   public SafeFuture<BLSSignature> signAttestationData(
       final AttestationData attestationData, final ForkInfo forkInfo) {
-    return sign(signingRootUtil.signingRootForSignAttestationData(attestationData, forkInfo));
+    return sign(
+        signingRootUtil.signingRootForSignAttestationData(attestationData, forkInfo),
+        ATTESTATION);
   }
 
   @Override
   public SafeFuture<BLSSignature> signAggregationSlot(final UInt64 slot, final ForkInfo forkInfo) {
-    return sign(signingRootUtil.signingRootForSignAggregationSlot(slot, forkInfo));
+    return sign(
+        signingRootUtil.signingRootForSignAggregationSlot(slot, forkInfo), AGGREGATION_SLOT);
   }
 
   @Override
   public SafeFuture<BLSSignature> signAggregateAndProof(
       final AggregateAndProof aggregateAndProof, final ForkInfo forkInfo) {
-    return sign(signingRootUtil.signingRootForSignAggregateAndProof(aggregateAndProof, forkInfo));
+    return sign(
+        signingRootUtil.signingRootForSignAggregateAndProof(aggregateAndProof, forkInfo),
+        AGGREGATE_AND_PROOF);
   }
 
   @Override
   public SafeFuture<BLSSignature> signVoluntaryExit(
       final VoluntaryExit voluntaryExit, final ForkInfo forkInfo) {
-    return sign(signingRootUtil.signingRootForSignVoluntaryExit(voluntaryExit, forkInfo));
+    return sign(
+        signingRootUtil.signingRootForSignVoluntaryExit(voluntaryExit, forkInfo), VOLUNTARY_EXIT);
   }
 
   @Override
@@ -95,7 +117,7 @@ public class LocalSigner implements Signer {
             utils ->
                 utils.getSyncCommitteeMessageSigningRoot(
                     beaconBlockRoot, spec.computeEpochAtSlot(slot), forkInfo))
-        .thenCompose(this::sign);
+        .thenCompose(signingRoot -> sign(signingRoot, SYNC_COMMITTEE_MESSAGE));
   }
 
   @Override
@@ -104,7 +126,7 @@ public class LocalSigner implements Signer {
     return signingRootFromSyncCommitteeUtils(
             selectionData.getSlot(),
             utils -> utils.getSyncAggregatorSelectionDataSigningRoot(selectionData, forkInfo))
-        .thenCompose(this::sign);
+        .thenCompose(signingRoot -> sign(signingRoot, SYNC_COMMITTEE_SELECTION_PROOF));
   }
 
   @Override
@@ -113,13 +135,15 @@ public class LocalSigner implements Signer {
     return signingRootFromSyncCommitteeUtils(
             contributionAndProof.getContribution().getSlot(),
             utils -> utils.getContributionAndProofSigningRoot(contributionAndProof, forkInfo))
-        .thenCompose(this::sign);
+        .thenCompose(signingRoot -> sign(signingRoot, SYNC_COMMITTEE_CONTRIBUTION_AND_PROOF));
   }
 
   @Override
   public SafeFuture<BLSSignature> signValidatorRegistration(
       final ValidatorRegistration validatorRegistration) {
-    return sign(signingRootUtil.signingRootForValidatorRegistration(validatorRegistration));
+    return sign(
+        signingRootUtil.signingRootForValidatorRegistration(validatorRegistration),
+        VALIDATOR_REGISTRATION);
   }
 
   private SafeFuture<Bytes> signingRootFromSyncCommitteeUtils(
@@ -132,8 +156,7 @@ public class LocalSigner implements Signer {
     return Optional.empty();
   }
 
-  private SafeFuture<BLSSignature> sign(final Bytes signingRoot) {
-    return asyncRunner.runAsync(
-        () -> SafeFuture.completedFuture(BLS.sign(keypair.getSecretKey(), signingRoot)));
+  private SafeFuture<BLSSignature> sign(final Bytes signingRoot, final DutyType dutyType) {
+    return signingEngine.sign(keypair.getSecretKey(), signingRoot, dutyType);
   }
 }
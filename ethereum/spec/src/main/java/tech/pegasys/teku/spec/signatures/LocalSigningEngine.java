@@ -0,0 +1,46 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.signatures;
+
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.bls.BLS;
+import tech.pegasys.teku.bls.BLSSecretKey;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+
+/** Produces signatures for the signing roots requested by {@link LocalSigner} instances. */
+public interface LocalSigningEngine {
+
+  /** Creates an engine which signs each request individually on the supplied runner. */
+  static LocalSigningEngine create(final AsyncRunner asyncRunner) {
+    return (secretKey, signingRoot, dutyType) ->
+        asyncRunner.runAsync(() -> SafeFuture.completedFuture(BLS.sign(secretKey, signingRoot)));
+  }
+
+  SafeFuture<BLSSignature> sign(BLSSecretKey secretKey, Bytes signingRoot, DutyType dutyType);
+
+  enum DutyType {
+    BLOCK,
+    ATTESTATION,
+    RANDAO_REVEAL,
+    AGGREGATION_SLOT,
+    AGGREGATE_AND_PROOF,
+    VOLUNTARY_EXIT,
+    SYNC_COMMITTEE_MESSAGE,
+    SYNC_COMMITTEE_SELECTION_PROOF,
+    SYNC_COMMITTEE_CONTRIBUTION_AND_PROOF,
+    VALIDATOR_REGISTRATION
+  }
+}
@@ -15,9 +15,11 @@ package tech.pegasys.teku.spec.signatures;
 
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.ethereum.signingrecord.ValidatorSigningRecord;
@@ -25,56 +27,87 @@ import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 
+/**
+ * Slashing protection backed by one YAML file per validator.
+ *
+ * <p>Checks for different validators run concurrently, serialised only by a striped lock on the
+ * validator public key. When a {@link SlashingProtectionJournal} is supplied, updated records are
+ * appended to it and the returned future completes once the journal has been flushed, so
+ * concurrent signing requests share one fsync instead of each syncing its own YAML file.
+ */
 public class LocalSlashingProtector implements SlashingProtector {
 
-  private final Map<BLSPublicKey, ValidatorSigningRecord> signingRecords = new HashMap<>();
+  private static final int LOCK_STRIPES = 256;
+
+  private final Map<BLSPublicKey, ValidatorSigningRecord> signingRecords =
+      new ConcurrentHashMap<>();
+  private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
 
   private final SyncDataAccessor dataAccessor;
   private final Path slashingProtectionBaseDir;
+  private final Optional<SlashingProtectionJournal> journal;
 
   public LocalSlashingProtector(
       final SyncDataAccessor dataAccessor, final Path slashingProtectionBaseDir) {
+    this(dataAccessor, slashingProtectionBaseDir, Optional.empty());
+  }
+
+  public LocalSlashingProtector(
+      final SyncDataAccessor dataAccessor,
+      final Path slashingProtectionBaseDir,
+      final Optional<SlashingProtectionJournal> journal) {
     this.dataAccessor = dataAccessor;
     this.slashingProtectionBaseDir = slashingProtectionBaseDir;
+    this.journal = journal;
+    for (int i = 0; i < LOCK_STRIPES; i++) {
+      locks[i] = new ReentrantLock();
+    }
   }
 
   @Override
-  public synchronized SafeFuture<Boolean> maySignBlock(
+  public SafeFuture<Boolean> maySignBlock(
       final BLSPublicKey validator, final Bytes32 genesisValidatorsRoot, final UInt64 slot) {
-    return SafeFuture.of(
-        () -> {
-          final ValidatorSigningRecord signingRecord =
-              loadOrCreateSigningRecord(validator, genesisValidatorsRoot);
-          return handleResult(validator, signingRecord.maySignBlock(genesisValidatorsRoot, slot));
-        });
+    return checkAndRecord(
+        validator,
+        genesisValidatorsRoot,
+        signingRecord -> signingRecord.maySignBlock(genesisValidatorsRoot, slot));
   }
 
   @Override
-  public synchronized SafeFuture<Boolean> maySignAttestation(
+  public SafeFuture<Boolean> maySignAttestation(
       final BLSPublicKey validator,
       final Bytes32 genesisValidatorsRoot,
       final UInt64 sourceEpoch,
       final UInt64 targetEpoch) {
+    return checkAndRecord(
+        validator,
+        genesisValidatorsRoot,
+        signingRecord ->
+            signingRecord.maySignAttestation(genesisValidatorsRoot, sourceEpoch, targetEpoch));
+  }
+
+  private SafeFuture<Boolean> checkAndRecord(
+      final BLSPublicKey validator,
+      final Bytes32 genesisValidatorsRoot,
+      final Function<ValidatorSigningRecord, Optional<ValidatorSigningRecord>> check) {
     return SafeFuture.of(
         () -> {
-          final ValidatorSigningRecord signingRecord =
-              loadOrCreateSigningRecord(validator, genesisValidatorsRoot);
-          return handleResult(
-              validator,
-              signingRecord.maySignAttestation(genesisValidatorsRoot, sourceEpoch, targetEpoch));
+          final ReentrantLock lock = lockFor(validator);
+          lock.lock();
+          try {
+            final ValidatorSigningRecord signingRecord =
+                loadOrCreateSigningRecord(validator, genesisValidatorsRoot);
+            final Optional<ValidatorSigningRecord> newRecord = check.apply(signingRecord);
+            if (newRecord.isEmpty()) {
+              return SafeFuture.completedFuture(false);
+            }
+            return writeSigningRecord(validator, newRecord.get()).thenApply(__ -> true);
+          } finally {
+            lock.unlock();
+          }
         });
   }
 
-  private Boolean handleResult(
-      final BLSPublicKey validator, final Optional<ValidatorSigningRecord> newRecord)
-      throws IOException {
-    if (newRecord.isEmpty()) {
-      return false;
-    }
-    writeSigningRecord(validator, newRecord.get());
-    return true;
-  }
-
   @Override
   public Optional<ValidatorSigningRecord> getSigningRecord(final BLSPublicKey validator)
       throws IOException {
@@ -84,7 +117,7 @@ public class LocalSlashingProtector implements SlashingProtector {
     }
     Optional<ValidatorSigningRecord> loaded =
         dataAccessor.read(validatorRecordPath(validator)).map(ValidatorSigningRecord::fromBytes);
-    loaded.ifPresent(signingRecord -> signingRecords.put(validator, signingRecord));
+    loaded.ifPresent(signingRecord -> signingRecords.putIfAbsent(validator, signingRecord));
     return loaded;
   }
 
@@ -99,14 +132,24 @@ public class LocalSlashingProtector implements SlashingProtector {
         });
   }
 
-  private void writeSigningRecord(final BLSPublicKey validator, final ValidatorSigningRecord record)
-      throws IOException {
+  private SafeFuture<Void> writeSigningRecord(
+      final BLSPublicKey validator, final ValidatorSigningRecord record) throws IOException {
+    if (journal.isPresent()) {
+      // Later checks must see the new record straight away. If the journal write fails nothing is
+      // signed, so the cached record is only ever more restrictive than the one on disk.
+      signingRecords.put(validator, record);
+      return journal.get().append(validator, record);
+    }
     dataAccessor.syncedWrite(validatorRecordPath(validator), record.toBytes());
     signingRecords.put(validator, record);
+    return SafeFuture.COMPLETE;
+  }
+
+  private ReentrantLock lockFor(final BLSPublicKey validator) {
+    return locks[Math.floorMod(validator.hashCode(), LOCK_STRIPES)];
   }
 
   private Path validatorRecordPath(final BLSPublicKey validator) {
-    return slashingProtectionBaseDir.resolve(
-        validator.toBytesCompressed().toUnprefixedHexString() + ".yml");
+    return SlashingProtectionJournal.signingRecordPath(slashingProtectionBaseDir, validator);
   }
 }
@@ -0,0 +1,507 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.signatures;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.zip.CRC32;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes48;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.ethereum.signingrecord.ValidatorSigningRecord;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/**
+ * An append-only journal of validator signing records which allows concurrent signing requests to
+ * share a single fsync.
+ *
+ * <p>Records are queued by {@link #append(BLSPublicKey, ValidatorSigningRecord)} and written by a
+ * dedicated thread. Each time it wakes, the thread writes every queued record, forces the journal
+ * to disk once and only then completes the returned futures, so the records for all validators
+ * attesting in a slot are typically made durable together.
+ *
+ * <p>The per-validator YAML files remain the canonical format used by the importer, exporter and
+ * interchange tooling. After each group commit they are rewritten without syncing so in-process
+ * readers see current data. When the journal grows beyond a threshold, and whenever it is opened,
+ * the YAML files are synced and the journal truncated. Replay merges the journal with the YAML
+ * files by keeping the highest signed slot and epochs, so it never moves protection backwards.
+ *
+ * <p>Each entry is stored as {@code [record length][public key][record][crc32]}. A torn or corrupt
+ * entry at the end of the journal was never acknowledged and is discarded during replay.
+ */
+public class SlashingProtectionJournal implements AutoCloseable {
+  private static final Logger LOG = LogManager.getLogger();
+
+  public static final String JOURNAL_FILE_NAME = "signing-records.journal";
+  public static final long DEFAULT_CHECKPOINT_THRESHOLD_BYTES = 64 * 1024 * 1024;
+
+  private static final int ENTRY_OVERHEAD = Integer.BYTES + Bytes48.SIZE + Integer.BYTES;
+
+  private final SyncDataAccessor dataAccessor;
+  private final Path slashingProtectionBaseDir;
+  private final FileChannel channel;
+  private final FileLock fileLock;
+  private final long checkpointThresholdBytes;
+  private final ExecutorService flushExecutor;
+
+  // Only accessed from the flush thread
+  private final Map<BLSPublicKey, ValidatorSigningRecord> recordsSinceCheckpoint = new HashMap<>();
+
+  private List<PendingRecord> pendingRecords = new ArrayList<>();
+  private boolean flushScheduled = false;
+  private boolean closed = false;
+  private IOException failure;
+
+  private SlashingProtectionJournal(
+      final SyncDataAccessor dataAccessor,
+      final Path slashingProtectionBaseDir,
+      final FileChannel channel,
+      final FileLock fileLock,
+      final long checkpointThresholdBytes) {
+    this.dataAccessor = dataAccessor;
+    this.slashingProtectionBaseDir = slashingProtectionBaseDir;
+    this.channel = channel;
+    this.fileLock = fileLock;
+    this.checkpointThresholdBytes = checkpointThresholdBytes;
+    this.flushExecutor =
+        Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder()
+                .setNameFormat("slashing-protection-journal")
+                .setDaemon(true)
+                .build());
+  }
+
+  public static SlashingProtectionJournal open(
+      final SyncDataAccessor dataAccessor, final Path slashingProtectionBaseDir)
+      throws IOException {
+    return open(dataAccessor, slashingProtectionBaseDir, DEFAULT_CHECKPOINT_THRESHOLD_BYTES);
+  }
+
+  /**
+   * Opens the journal in the slashing protection directory, replaying any records left by a
+   * previous run into the YAML files.
+   *
+   * @throws IOException if the journal is in use by another process or cannot be replayed
+   */
+  public static SlashingProtectionJournal open(
+      final SyncDataAccessor dataAccessor,
+      final Path slashingProtectionBaseDir,
+      final long checkpointThresholdBytes)
+      throws IOException {
+    final Path journalPath = slashingProtectionBaseDir.resolve(JOURNAL_FILE_NAME);
+    final FileChannel channel =
+        FileChannel.open(
+            journalPath,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+    try {
+      final FileLock fileLock = tryLock(channel, journalPath);
+      replay(channel, journalPath, dataAccessor, slashingProtectionBaseDir);
+      return new SlashingProtectionJournal(
+          dataAccessor, slashingProtectionBaseDir, channel, fileLock, checkpointThresholdBytes);
+    } catch (final IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Replays a journal left by a previous run into the YAML files so offline tools see every signed
+   * record. Does nothing if there is no journal or it is in use, in which case the process holding
+   * it keeps the YAML files current.
+   */
+  public static void replayIfNotInUse(
+      final SyncDataAccessor dataAccessor, final Path slashingProtectionBaseDir)
+      throws IOException {
+    final Path journalPath = slashingProtectionBaseDir.resolve(JOURNAL_FILE_NAME);
+    if (!Files.exists(journalPath)) {
+      return;
+    }
+    try (FileChannel channel =
+        FileChannel.open(journalPath, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      final FileLock fileLock;
+      try {
+        fileLock = channel.tryLock();
+      } catch (final OverlappingFileLockException e) {
+        return;
+      }
+      if (fileLock == null) {
+        return;
+      }
+      replay(channel, journalPath, dataAccessor, slashingProtectionBaseDir);
+      fileLock.release();
+    }
+  }
+
+  static Path signingRecordPath(
+      final Path slashingProtectionBaseDir, final BLSPublicKey validator) {
+    return slashingProtectionBaseDir.resolve(
+        validator.toBytesCompressed().toUnprefixedHexString() + ".yml");
+  }
+
+  /**
+   * Queues a signing record to be written to the journal.
+   *
+   * @return a future which completes once the record is durable, or completes exceptionally if it
+   *     could not be written
+   */
+  public SafeFuture<Void> append(
+      final BLSPublicKey validator, final ValidatorSigningRecord signingRecord) {
+    final PendingRecord pendingRecord = new PendingRecord(validator, signingRecord);
+    synchronized (this) {
+      if (failure != null) {
+        return SafeFuture.failedFuture(failure);
+      }
+      if (closed) {
+        return SafeFuture.failedFuture(
+            new IOException("Slashing protection journal has been closed"));
+      }
+      pendingRecords.add(pendingRecord);
+      if (!flushScheduled) {
+        flushScheduled = true;
+        flushExecutor.execute(this::flushPendingRecords);
+      }
+    }
+    return pendingRecord.result;
+  }
+
+  @Override
+  public void close() throws IOException {
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+    }
+    // Checkpoint on the flush thread so it only runs once every queued record has been written
+    final Future<Void> finalCheckpoint =
+        flushExecutor.submit(
+            () -> {
+              if (!hasFailed()) {
+                checkpoint();
+              }
+              return null;
+            });
+    flushExecutor.shutdown();
+    try {
+      finalCheckpoint.get(30, TimeUnit.SECONDS);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (final TimeoutException e) {
+      LOG.warn(
+          "Timed out waiting for slashing protection journal to flush, "
+              + "records will be replayed on next start");
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw new IOException("Failed to checkpoint slashing protection journal", e.getCause());
+    } finally {
+      fileLock.release();
+      channel.close();
+    }
+  }
+
+  private synchronized boolean hasFailed() {
+    return failure != null;
+  }
+
+  private void flushPendingRecords() {
+    while (true) {
+      final List<PendingRecord> batch;
+      synchronized (this) {
+        if (pendingRecords.isEmpty()) {
+          flushScheduled = false;
+          return;
+        }
+        batch = pendingRecords;
+        pendingRecords = new ArrayList<>();
+      }
+      writeBatch(batch);
+    }
+  }
+
+  private void writeBatch(final List<PendingRecord> batch) {
+    final Map<BLSPublicKey, ValidatorSigningRecord> latestRecords = new LinkedHashMap<>();
+    long startPosition = -1;
+    try {
+      startPosition = channel.position();
+      final ByteBuffer[] entries = new ByteBuffer[batch.size()];
+      for (int i = 0; i < batch.size(); i++) {
+        final PendingRecord pendingRecord = batch.get(i);
+        entries[i] = encodeEntry(pendingRecord.validator, pendingRecord.signingRecord);
+        latestRecords.put(pendingRecord.validator, pendingRecord.signingRecord);
+      }
+      while (entries[entries.length - 1].hasRemaining()) {
+        channel.write(entries);
+      }
+      channel.force(false);
+    } catch (final IOException e) {
+      handleWriteFailure(startPosition, e);
+      batch.forEach(pendingRecord -> pendingRecord.result.completeExceptionally(e));
+      return;
+    }
+
+    // Keep the YAML files current for in-process readers before releasing the signatures
+    latestRecords.forEach(this::writeSigningRecordFile);
+    recordsSinceCheckpoint.putAll(latestRecords);
+    batch.forEach(pendingRecord -> pendingRecord.result.complete(null));
+
+    try {
+      if (channel.position() >= checkpointThresholdBytes) {
+        checkpoint();
+      }
+    } catch (final IOException e) {
+      LOG.warn("Failed to checkpoint slashing protection journal, will retry later", e);
+    }
+  }
+
+  private void handleWriteFailure(final long startPosition, final IOException error) {
+    LOG.error("Failed to write to slashing protection journal", error);
+    try {
+      if (startPosition >= 0) {
+        channel.truncate(startPosition);
+        channel.position(startPosition);
+      }
+    } catch (final IOException e) {
+      // The journal may now contain a partial entry followed by later ones, so stop accepting
+      // records rather than risk them being dropped on replay
+      error.addSuppressed(e);
+      synchronized (this) {
+        failure = error;
+      }
+    }
+  }
+
+  private void writeSigningRecordFile(
+      final BLSPublicKey validator, final ValidatorSigningRecord signingRecord) {
+    try {
+      dataAccessor.unsyncedWrite(
+          signingRecordPath(slashingProtectionBaseDir, validator), signingRecord.toBytes());
+    } catch (final IOException e) {
+      LOG.warn("Failed to update slashing protection record for " + validator, e);
+    }
+  }
+
+  private void checkpoint() throws IOException {
+    for (Map.Entry<BLSPublicKey, ValidatorSigningRecord> entry :
+        recordsSinceCheckpoint.entrySet()) {
+      dataAccessor.syncedWrite(
+          signingRecordPath(slashingProtectionBaseDir, entry.getKey()),
+          entry.getValue().toBytes());
+    }
+    recordsSinceCheckpoint.clear();
+    channel.truncate(0);
+    channel.position(0);
+    channel.force(true);
+  }
+
+  private static FileLock tryLock(final FileChannel channel, final Path journalPath)
+      throws IOException {
+    try {
+      final FileLock fileLock = channel.tryLock();
+      if (fileLock != null) {
+        return fileLock;
+      }
+    } catch (final OverlappingFileLockException e) {
+      // Held elsewhere in this process
+    }
+    throw new IOException(
+        "Slashing protection journal " + journalPath + " is in use by another process");
+  }
+
+  private static void replay(
+      final FileChannel channel,
+      final Path journalPath,
+      final SyncDataAccessor dataAccessor,
+      final Path slashingProtectionBaseDir)
+      throws IOException {
+    final long size = channel.size();
+    if (size == 0) {
+      return;
+    }
+    final ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(size));
+    channel.position(0);
+    while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+      // Keep reading until the buffer is full
+    }
+    buffer.flip();
+
+    final Map<BLSPublicKey, ValidatorSigningRecord> journalRecords = readEntries(buffer);
+    if (buffer.hasRemaining()) {
+      LOG.warn(
+          "Discarding {} bytes of incomplete entries at the end of {}",
+          buffer.remaining(),
+          journalPath);
+    }
+    for (Map.Entry<BLSPublicKey, ValidatorSigningRecord> entry : journalRecords.entrySet()) {
+      final Path recordPath = signingRecordPath(slashingProtectionBaseDir, entry.getKey());
+      final Optional<ValidatorSigningRecord> existingRecord =
+          readSigningRecordFile(dataAccessor, recordPath);
+      final ValidatorSigningRecord mergedRecord = merge(existingRecord, entry.getValue());
+      if (existingRecord.isEmpty() || !existingRecord.get().equals(mergedRecord)) {
+        dataAccessor.syncedWrite(recordPath, mergedRecord.toBytes());
+      }
+    }
+    LOG.info(
+        "Replayed slashing protection journal records for {} validators", journalRecords.size());
+    channel.truncate(0);
+    channel.position(0);
+    channel.force(true);
+  }
+
+  /**
+   * Reads the YAML record being replayed over. An empty or unparseable file can be left by an
+   * unsynced write interrupted by a crash, and since the journal holds a record for the same
+   * validator it is treated as absent and rewritten from the journal entry.
+   */
+  private static Optional<ValidatorSigningRecord> readSigningRecordFile(
+      final SyncDataAccessor dataAccessor, final Path recordPath) throws IOException {
+    final Optional<Bytes> data = dataAccessor.read(recordPath);
+    if (data.isEmpty() || data.get().isEmpty()) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.ofNullable(ValidatorSigningRecord.fromBytes(data.get()));
+    } catch (final RuntimeException e) {
+      LOG.warn(
+          "Replacing unreadable slashing protection record {} with journal entry", recordPath, e);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Reads entries from the buffer until it is exhausted or a torn or corrupt entry is found, which
+   * is left as the buffer's remaining content.
+   */
+  @VisibleForTesting
+  static Map<BLSPublicKey, ValidatorSigningRecord> readEntries(final ByteBuffer buffer) {
+    final Map<BLSPublicKey, ValidatorSigningRecord> records = new LinkedHashMap<>();
+    while (buffer.remaining() >= ENTRY_OVERHEAD) {
+      final int start = buffer.position();
+      final int recordLength = buffer.getInt(start);
+      if (recordLength < 0 || recordLength > buffer.remaining() - ENTRY_OVERHEAD) {
+        break;
+      }
+      final int checksumOffset = start + Integer.BYTES + Bytes48.SIZE + recordLength;
+      final CRC32 crc = new CRC32();
+      crc.update(buffer.array(), buffer.arrayOffset() + start, checksumOffset - start);
+      if ((int) crc.getValue() != buffer.getInt(checksumOffset)) {
+        break;
+      }
+      final ValidatorSigningRecord signingRecord;
+      final BLSPublicKey validator;
+      try {
+        validator =
+            BLSPublicKey.fromBytesCompressed(
+                Bytes48.wrap(buffer.array(), buffer.arrayOffset() + start + Integer.BYTES));
+        signingRecord =
+            ValidatorSigningRecord.fromBytes(
+                Bytes.wrap(
+                    buffer.array(),
+                    buffer.arrayOffset() + start + Integer.BYTES + Bytes48.SIZE,
+                    recordLength));
+      } catch (final RuntimeException e) {
+        LOG.warn("Unable to parse slashing protection journal entry", e);
+        break;
+      }
+      records.merge(
+          validator,
+          signingRecord,
+          (existing, update) -> merge(Optional.of(existing), update));
+      buffer.position(checksumOffset + Integer.BYTES);
+    }
+    return records;
+  }
+
+  @VisibleForTesting
+  static ByteBuffer encodeEntry(
+      final BLSPublicKey validator, final ValidatorSigningRecord signingRecord) {
+    final byte[] recordBytes = signingRecord.toBytes().toArrayUnsafe();
+    final ByteBuffer buffer = ByteBuffer.allocate(ENTRY_OVERHEAD + recordBytes.length);
+    buffer.putInt(recordBytes.length);
+    buffer.put(validator.toBytesCompressed().toArrayUnsafe());
+    buffer.put(recordBytes);
+    final CRC32 crc = new CRC32();
+    crc.update(buffer.array(), 0, buffer.position());
+    buffer.putInt((int) crc.getValue());
+    return buffer.flip();
+  }
+
+  /**
+   * Combines two records for the same validator into one that is at least as restrictive as both.
+   */
+  @VisibleForTesting
+  static ValidatorSigningRecord merge(
+      final Optional<ValidatorSigningRecord> maybeExisting, final ValidatorSigningRecord update) {
+    if (maybeExisting.isEmpty()) {
+      return update;
+    }
+    final ValidatorSigningRecord existing = maybeExisting.get();
+    return new ValidatorSigningRecord(
+        existing.getGenesisValidatorsRoot() != null
+            ? existing.getGenesisValidatorsRoot()
+            : update.getGenesisValidatorsRoot(),
+        max(existing.getBlockSlot(), update.getBlockSlot()),
+        max(existing.getAttestationSourceEpoch(), update.getAttestationSourceEpoch()),
+        max(existing.getAttestationTargetEpoch(), update.getAttestationTargetEpoch()));
+  }
+
+  private static UInt64 max(final UInt64 a, final UInt64 b) {
+    if (ValidatorSigningRecord.isNeverSigned(a)) {
+      return b;
+    }
+    if (ValidatorSigningRecord.isNeverSigned(b)) {
+      return a;
+    }
+    return a.max(b);
+  }
+
+  private static class PendingRecord {
+    private final BLSPublicKey validator;
+    private final ValidatorSigningRecord signingRecord;
+    private final SafeFuture<Void> result = new SafeFuture<>();
+
+    private PendingRecord(
+        final BLSPublicKey validator, final ValidatorSigningRecord signingRecord) {
+      this.validator = validator;
+      this.signingRecord = signingRecord;
+    }
+  }
+}
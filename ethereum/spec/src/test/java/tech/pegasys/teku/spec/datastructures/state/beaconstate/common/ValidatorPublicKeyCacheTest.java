@@ -0,0 +1,63 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+public class ValidatorPublicKeyCacheTest {
+  private final DataStructureUtil dataStructureUtil =
+      new DataStructureUtil(TestSpecFactory.createDefault());
+  private final ValidatorPublicKeyCache cache = new ValidatorPublicKeyCache();
+
+  @Test
+  public void shouldReuseKeyForSameValidatorFromDifferentState() {
+    final Validator validator = dataStructureUtil.randomValidator();
+    final Validator sameValidatorCopy =
+        Validator.SSZ_SCHEMA.createFromBackingNode(validator.getBackingNode());
+
+    final BLSPublicKey publicKey = cache.getPublicKey(5, validator);
+    assertThat(publicKey.toBytesCompressed()).isEqualTo(validator.getPubkeyBytes());
+    assertThat(cache.getPublicKey(5, sameValidatorCopy)).isSameAs(publicKey);
+  }
+
+  @Test
+  public void shouldReplaceKeyWhenIndexHasDifferentValidator() {
+    final Validator validator = dataStructureUtil.randomValidator();
+    final Validator otherValidator = dataStructureUtil.randomValidator();
+
+    final BLSPublicKey publicKey = cache.getPublicKey(3, validator);
+    final BLSPublicKey otherPublicKey = cache.getPublicKey(3, otherValidator);
+
+    assertThat(otherPublicKey).isNotEqualTo(publicKey);
+    assertThat(otherPublicKey.toBytesCompressed()).isEqualTo(otherValidator.getPubkeyBytes());
+    assertThat(cache.getPublicKey(3, otherValidator)).isSameAs(otherPublicKey);
+  }
+
+  @Test
+  public void shouldGrowToFitLargeValidatorIndices() {
+    final Validator validator = dataStructureUtil.randomValidator();
+    final int validatorIndex = cache.getCapacity() * 3;
+
+    final BLSPublicKey publicKey = cache.getPublicKey(validatorIndex, validator);
+
+    assertThat(cache.getCapacity()).isGreaterThan(validatorIndex);
+    assertThat(cache.getPublicKey(validatorIndex, validator)).isSameAs(publicKey);
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+public class ValidatorStatusIndexTest {
+  private final DataStructureUtil dataStructureUtil =
+      new DataStructureUtil(TestSpecFactory.createDefault());
+  private final BeaconState state = dataStructureUtil.randomBeaconState(64);
+
+  @Test
+  public void create_shouldIndexAllValidators() {
+    final ValidatorStatusIndex index = ValidatorStatusIndex.create(state.getValidators());
+
+    assertMatchesValidators(index, state.getValidators());
+    assertThat(index.isIndexOf(state.getValidators())).isTrue();
+  }
+
+  @Test
+  public void create_shouldUpdateChangedAndAddedValidatorsFromAncestor() {
+    final ValidatorStatusIndex ancestorIndex = ValidatorStatusIndex.create(state.getValidators());
+    final Validator newValidator = dataStructureUtil.randomValidator();
+    final BeaconState updatedState =
+        state.updated(
+            mutableState -> {
+              final Validator validator = mutableState.getValidators().get(3);
+              mutableState
+                  .getValidators()
+                  .set(
+                      3,
+                      validator
+                          .withSlashed(!validator.isSlashed())
+                          .withExitEpoch(UInt64.valueOf(7))
+                          .withEffectiveBalance(UInt64.ZERO));
+              mutableState.getValidators().append(newValidator);
+            });
+
+    final ValidatorStatusIndex index =
+        ValidatorStatusIndex.create(updatedState.getValidators(), Optional.of(ancestorIndex));
+
+    assertThat(index.getValidatorCount()).isEqualTo(65);
+    assertThat(index.getExitEpoch(3)).isEqualTo(UInt64.valueOf(7));
+    assertMatchesValidators(index, updatedState.getValidators());
+    assertMatchesValidators(ancestorIndex, state.getValidators());
+  }
+
+  @Test
+  public void create_shouldHandleAncestorWithMoreValidators() {
+    final BeaconState laterState =
+        state.updated(
+            mutableState ->
+                mutableState.getValidators().append(dataStructureUtil.randomValidator()));
+    final ValidatorStatusIndex laterIndex = ValidatorStatusIndex.create(laterState.getValidators());
+
+    final ValidatorStatusIndex index =
+        ValidatorStatusIndex.create(state.getValidators(), Optional.of(laterIndex));
+
+    assertThat(index.getValidatorCount()).isEqualTo(64);
+    assertMatchesValidators(index, state.getValidators());
+  }
+
+  @Test
+  public void transitionCaches_shouldReuseIndexForSameValidators() {
+    final TransitionCaches caches = TransitionCaches.createNewEmpty();
+    final ValidatorStatusIndex index = caches.getValidatorStatusIndex(state.getValidators());
+
+    assertThat(caches.getValidatorStatusIndex(state.getValidators())).isSameAs(index);
+  }
+
+  @Test
+  public void transitionCaches_shouldUpdateCopiedIndexForNewValidators() {
+    final TransitionCaches caches = TransitionCaches.createNewEmpty();
+    final ValidatorStatusIndex index = caches.getValidatorStatusIndex(state.getValidators());
+    final BeaconState updatedState =
+        state.updated(
+            mutableState ->
+                mutableState.getValidators().append(dataStructureUtil.randomValidator()));
+
+    final TransitionCaches copiedCaches = caches.copy();
+    final ValidatorStatusIndex updatedIndex =
+        copiedCaches.getValidatorStatusIndex(updatedState.getValidators());
+
+    assertThat(updatedIndex).isNotSameAs(index);
+    assertMatchesValidators(updatedIndex, updatedState.getValidators());
+    assertThat(caches.getValidatorStatusIndex(state.getValidators())).isSameAs(index);
+  }
+
+  private void assertMatchesValidators(
+      final ValidatorStatusIndex index, final SszList<Validator> validators) {
+    assertThat(index.getValidatorCount()).isEqualTo(validators.size());
+    for (int i = 0; i < validators.size(); i++) {
+      final Validator validator = validators.get(i);
+      assertThat(index.getActivationEligibilityEpoch(i))
+          .isEqualTo(validator.getActivationEligibilityEpoch());
+      assertThat(index.getActivationEpoch(i)).isEqualTo(validator.getActivationEpoch());
+      assertThat(index.getExitEpoch(i)).isEqualTo(validator.getExitEpoch());
+      assertThat(index.getWithdrawableEpoch(i)).isEqualTo(validator.getWithdrawableEpoch());
+      assertThat(index.getEffectiveBalance(i)).isEqualTo(validator.getEffectiveBalance());
+      assertThat(index.isSlashed(i)).isEqualTo(validator.isSlashed());
+    }
+  }
+}
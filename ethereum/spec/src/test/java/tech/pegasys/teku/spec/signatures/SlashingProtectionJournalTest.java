@@ -0,0 +1,271 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.signatures;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.ethereum.signingrecord.ValidatorSigningRecord;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class SlashingProtectionJournalTest {
+  private static final Bytes32 GENESIS_VALIDATORS_ROOT = Bytes32.fromHexString("0x561234");
+  private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+  private final DataStructureUtil dataStructureUtil =
+      new DataStructureUtil(TestSpecFactory.createDefault());
+  private final BLSPublicKey validator = dataStructureUtil.randomPublicKey();
+
+  @TempDir Path tempDir;
+
+  private SlashingProtectionJournal journal;
+
+  @AfterEach
+  void tearDown() throws IOException {
+    if (journal != null) {
+      journal.close();
+    }
+  }
+
+  @Test
+  void shouldUpdateSigningRecordFileOnceRecordIsDurable() throws Exception {
+    journal = openJournal(Long.MAX_VALUE);
+    final ValidatorSigningRecord signingRecord = record(5, 1, 2);
+
+    assertThat(journal.append(validator, signingRecord)).succeedsWithin(TIMEOUT);
+
+    assertThat(readSigningRecord(validator)).contains(signingRecord);
+    assertThat(Files.size(journalPath())).isGreaterThan(0);
+  }
+
+  @Test
+  void shouldCompleteAllConcurrentAppends() throws Exception {
+    journal = openJournal(Long.MAX_VALUE);
+    final List<BLSPublicKey> validators = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      validators.add(dataStructureUtil.randomPublicKey());
+    }
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      final List<Future<SafeFuture<Void>>> results = new ArrayList<>();
+      for (BLSPublicKey key : validators) {
+        for (int epoch = 1; epoch <= 5; epoch++) {
+          final ValidatorSigningRecord signingRecord = record(0, epoch - 1, epoch);
+          results.add(executor.submit(() -> journal.append(key, signingRecord)));
+        }
+      }
+      for (Future<SafeFuture<Void>> result : results) {
+        assertThat(result.get()).succeedsWithin(TIMEOUT);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    for (BLSPublicKey key : validators) {
+      assertThat(readSigningRecord(key))
+          .hasValueSatisfying(
+              signingRecord ->
+                  assertThat(signingRecord.getAttestationTargetEpoch())
+                      .isGreaterThan(UInt64.ZERO));
+    }
+  }
+
+  @Test
+  void shouldCheckpointWhenThresholdIsExceeded() throws Exception {
+    journal = openJournal(1);
+
+    assertThat(journal.append(validator, record(5, 1, 2))).succeedsWithin(TIMEOUT);
+
+    assertThat(readSigningRecord(validator)).contains(record(5, 1, 2));
+    assertThat(Files.size(journalPath())).isZero();
+  }
+
+  @Test
+  void shouldReplayJournalIntoSigningRecordFilesOnOpen() throws Exception {
+    writeJournal(
+        SlashingProtectionJournal.encodeEntry(validator, record(3, 1, 2)),
+        SlashingProtectionJournal.encodeEntry(validator, record(4, 2, 3)));
+
+    journal = openJournal(Long.MAX_VALUE);
+
+    assertThat(readSigningRecord(validator)).contains(record(4, 2, 3));
+    assertThat(Files.size(journalPath())).isZero();
+  }
+
+  @Test
+  void shouldNotMoveExistingSigningRecordBackwardsDuringReplay() throws Exception {
+    Files.write(
+        SlashingProtectionJournal.signingRecordPath(tempDir, validator),
+        record(2, 7, 10).toBytes().toArrayUnsafe());
+    writeJournal(SlashingProtectionJournal.encodeEntry(validator, record(5, 6, 8)));
+
+    journal = openJournal(Long.MAX_VALUE);
+
+    assertThat(readSigningRecord(validator)).contains(record(5, 7, 10));
+  }
+
+  @Test
+  void shouldReplaceEmptySigningRecordFileDuringReplay() throws Exception {
+    Files.write(SlashingProtectionJournal.signingRecordPath(tempDir, validator), new byte[0]);
+    writeJournal(SlashingProtectionJournal.encodeEntry(validator, record(5, 6, 8)));
+
+    journal = openJournal(Long.MAX_VALUE);
+
+    assertThat(readSigningRecord(validator)).contains(record(5, 6, 8));
+    assertThat(Files.size(journalPath())).isZero();
+  }
+
+  @Test
+  void shouldReplaceUnparseableSigningRecordFileDuringReplay() throws Exception {
+    Files.writeString(
+        SlashingProtectionJournal.signingRecordPath(tempDir, validator),
+        "lastSignedBlockSlot: [");
+    writeJournal(SlashingProtectionJournal.encodeEntry(validator, record(5, 6, 8)));
+
+    journal = openJournal(Long.MAX_VALUE);
+
+    assertThat(readSigningRecord(validator)).contains(record(5, 6, 8));
+  }
+
+  @Test
+  void shouldDiscardTornEntryAtEndOfJournal() throws Exception {
+    final ByteBuffer tornEntry = SlashingProtectionJournal.encodeEntry(validator, record(9, 8, 9));
+    tornEntry.limit(tornEntry.limit() - 3);
+    writeJournal(SlashingProtectionJournal.encodeEntry(validator, record(3, 1, 2)), tornEntry);
+
+    journal = openJournal(Long.MAX_VALUE);
+
+    assertThat(readSigningRecord(validator)).contains(record(3, 1, 2));
+  }
+
+  @Test
+  void shouldDiscardEntryWithInvalidChecksum() throws Exception {
+    final ByteBuffer corruptEntry =
+        SlashingProtectionJournal.encodeEntry(validator, record(9, 8, 9));
+    final int checksumIndex = corruptEntry.limit() - 1;
+    corruptEntry.put(checksumIndex, (byte) (corruptEntry.get(checksumIndex) + 1));
+    writeJournal(SlashingProtectionJournal.encodeEntry(validator, record(3, 1, 2)), corruptEntry);
+
+    journal = openJournal(Long.MAX_VALUE);
+
+    assertThat(readSigningRecord(validator)).contains(record(3, 1, 2));
+  }
+
+  @Test
+  void shouldMergeNeverSignedValues() {
+    final ValidatorSigningRecord blockOnly =
+        new ValidatorSigningRecord(
+            null,
+            UInt64.valueOf(4),
+            ValidatorSigningRecord.NEVER_SIGNED,
+            ValidatorSigningRecord.NEVER_SIGNED);
+
+    assertThat(SlashingProtectionJournal.merge(Optional.of(blockOnly), record(1, 2, 3)))
+        .isEqualTo(record(4, 2, 3));
+  }
+
+  @Test
+  void shouldNotOpenJournalAlreadyInUse() throws Exception {
+    journal = openJournal(Long.MAX_VALUE);
+
+    assertThatThrownBy(() -> openJournal(Long.MAX_VALUE))
+        .isInstanceOf(IOException.class)
+        .hasMessageContaining("in use");
+  }
+
+  @Test
+  void shouldCheckpointOnClose() throws Exception {
+    final SlashingProtectionJournal closedJournal = openJournal(Long.MAX_VALUE);
+    final SafeFuture<Void> result = closedJournal.append(validator, record(5, 1, 2));
+
+    closedJournal.close();
+
+    assertThat(result).isCompleted();
+    assertThat(readSigningRecord(validator)).contains(record(5, 1, 2));
+    assertThat(Files.size(journalPath())).isZero();
+  }
+
+  @Test
+  void shouldIgnoreRepeatedClose() throws Exception {
+    final SlashingProtectionJournal closedJournal = openJournal(Long.MAX_VALUE);
+    closedJournal.close();
+
+    assertThatCode(closedJournal::close).doesNotThrowAnyException();
+  }
+
+  @Test
+  void shouldRejectAppendsAfterClose() throws Exception {
+    final SlashingProtectionJournal closedJournal = openJournal(Long.MAX_VALUE);
+    closedJournal.close();
+
+    assertThat(closedJournal.append(validator, record(1, 1, 2))).isCompletedExceptionally();
+  }
+
+  private SlashingProtectionJournal openJournal(final long checkpointThresholdBytes)
+      throws IOException {
+    return SlashingProtectionJournal.open(
+        SyncDataAccessor.create(tempDir), tempDir, checkpointThresholdBytes);
+  }
+
+  private void writeJournal(final ByteBuffer... entries) throws IOException {
+    final ByteBuffer journalContent =
+        ByteBuffer.allocate(Arrays.stream(entries).mapToInt(ByteBuffer::remaining).sum());
+    for (ByteBuffer entry : entries) {
+      journalContent.put(entry);
+    }
+    Files.write(journalPath(), journalContent.array());
+  }
+
+  private Optional<ValidatorSigningRecord> readSigningRecord(final BLSPublicKey key)
+      throws IOException {
+    return SyncDataAccessor.create(tempDir)
+        .read(SlashingProtectionJournal.signingRecordPath(tempDir, key))
+        .map(ValidatorSigningRecord::fromBytes);
+  }
+
+  private Path journalPath() {
+    return tempDir.resolve(SlashingProtectionJournal.JOURNAL_FILE_NAME);
+  }
+
+  private static ValidatorSigningRecord record(
+      final int blockSlot, final int sourceEpoch, final int targetEpoch) {
+    return new ValidatorSigningRecord(
+        GENESIS_VALIDATORS_ROOT,
+        UInt64.valueOf(blockSlot),
+        UInt64.valueOf(sourceEpoch),
+        UInt64.valueOf(targetEpoch));
+  }
+}
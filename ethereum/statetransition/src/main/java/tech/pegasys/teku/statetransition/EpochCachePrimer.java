@@ -13,12 +13,22 @@
 
 package tech.pegasys.teku.statetransition;
 
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.blocks.MinimalBeaconBlockSummary;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
+import tech.pegasys.teku.spec.datastructures.forkchoice.ProtoNodeData;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.logic.common.util.BeaconStateUtil;
@@ -29,13 +39,42 @@ public class EpochCachePrimer {
 
   private final Spec spec;
   private final RecentChainData recentChainData;
+  private final int forkHeadCount;
+  private final Optional<UInt64> leadTimeMillis;
+  private final LabelledMetric<Counter> precomputedCheckpointCounter;
 
-  public EpochCachePrimer(final Spec spec, final RecentChainData recentChainData) {
+  // Only accessed from primeCacheForEpoch which is called from a single thread
+  private Optional<UInt64> precomputedEpoch = Optional.empty();
+  private final Set<Bytes32> precomputedBlockRoots = new HashSet<>();
+
+  public EpochCachePrimer(
+      final Spec spec,
+      final RecentChainData recentChainData,
+      final MetricsSystem metricsSystem,
+      final int forkHeadCount,
+      final Optional<UInt64> leadTimeMillis) {
     this.spec = spec;
     this.recentChainData = recentChainData;
+    this.forkHeadCount = forkHeadCount;
+    this.leadTimeMillis = leadTimeMillis;
+    this.precomputedCheckpointCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.BEACON,
+            "epoch_checkpoint_state_precompute_total",
+            "Whether the canonical target checkpoint state for each epoch was precomputed",
+            "result");
+  }
+
+  /**
+   * How long before the epoch boundary the caches should be primed. When empty, priming starts a
+   * third of a slot before the boundary.
+   */
+  public Optional<UInt64> getLeadTimeMillis() {
+    return leadTimeMillis;
   }
 
   public void primeCacheForEpoch(final UInt64 epoch) {
+    recordPrecomputeResult();
     final UInt64 firstSlot = spec.computeStartSlotAtEpoch(epoch);
     recentChainData
         .getHeadBlock()
@@ -45,12 +84,71 @@ public class EpochCachePrimer {
                 isWithinOneEpochOfHeadBlock(firstSlot, headBlock)
                     && isAfterHeadBlockEpoch(epoch, headBlock))
         .ifPresent(
-            headBlock ->
-                recentChainData
-                    .retrieveStateAtSlot(new SlotAndBlockRoot(firstSlot, headBlock.getRoot()))
-                    .finish(
-                        maybeState -> maybeState.ifPresent(this::primeEpochStateCaches),
-                        error -> LOG.warn("Failed to precompute epoch transition", error)));
+            headBlock -> {
+              precomputedEpoch = Optional.of(epoch);
+              precomputedBlockRoots.clear();
+              precomputedBlockRoots.add(headBlock.getRoot());
+              recentChainData
+                  .retrieveStateAtSlot(new SlotAndBlockRoot(firstSlot, headBlock.getRoot()))
+                  .finish(
+                      maybeState -> maybeState.ifPresent(this::primeEpochStateCaches),
+                      error -> LOG.warn("Failed to precompute epoch transition", error));
+              primeForkHeads(firstSlot, headBlock.getRoot());
+            });
+  }
+
+  /**
+   * Computes the epoch boundary state for the most recent competing chain heads so attestations
+   * targeting them after a late re-org don't have to wait for the epoch transition either. Only the
+   * checkpoint state is computed, the other caches are primed for the canonical head alone.
+   */
+  private void primeForkHeads(final UInt64 firstSlot, final Bytes32 canonicalHeadRoot) {
+    if (forkHeadCount == 0) {
+      return;
+    }
+    recentChainData.getChainHeads().stream()
+        .filter(head -> !head.getRoot().equals(canonicalHeadRoot))
+        .filter(head -> head.getSlot().isLessThan(firstSlot))
+        .sorted(Comparator.comparing(ProtoNodeData::getSlot).reversed())
+        .limit(forkHeadCount)
+        .forEach(
+            head -> {
+              precomputedBlockRoots.add(head.getRoot());
+              recentChainData
+                  .retrieveStateAtSlot(new SlotAndBlockRoot(firstSlot, head.getRoot()))
+                  .finish(
+                      error ->
+                          LOG.debug(
+                              "Failed to precompute epoch transition for fork head {}",
+                              head.getRoot(),
+                              error));
+            });
+  }
+
+  /**
+   * Checks whether the target checkpoint the canonical chain settled on for the previously
+   * precomputed epoch was one of the states we precomputed. Targets whose block is in the first
+   * slot of the epoch are skipped as their checkpoint state is the block's own post state.
+   */
+  private void recordPrecomputeResult() {
+    precomputedEpoch.ifPresent(
+        epoch -> {
+          final UInt64 epochStartSlot = spec.computeStartSlotAtEpoch(epoch);
+          recentChainData
+              .getBlockRootBySlot(epochStartSlot)
+              .filter(
+                  targetRoot ->
+                      recentChainData
+                          .getSlotForBlockRoot(targetRoot)
+                          .map(slot -> slot.isLessThan(epochStartSlot))
+                          .orElse(false))
+              .ifPresent(
+                  targetRoot ->
+                      precomputedCheckpointCounter
+                          .labels(precomputedBlockRoots.contains(targetRoot) ? "hit" : "miss")
+                          .inc());
+        });
+    precomputedEpoch = Optional.empty();
   }
 
   private boolean isWithinOneEpochOfHeadBlock(
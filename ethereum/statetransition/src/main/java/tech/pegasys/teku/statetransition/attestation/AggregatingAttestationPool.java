@@ -13,19 +13,22 @@
 
 package tech.pegasys.teku.statetransition.attestation;
 
+import java.time.Duration;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
@@ -34,6 +37,7 @@ import tech.pegasys.teku.infrastructure.metrics.SettableGauge;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszListSchema;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.attestation.ValidateableAttestation;
@@ -47,6 +51,11 @@ import tech.pegasys.teku.spec.logic.common.statetransition.attestation.Attestati
  * or as an aggregate to publish as part of the naive attestation aggregation algorithm. In both
  * cases the returned attestations are aggregated to maximise the number of validators that can be
  * included.
+ *
+ * <p>Attestations arrive from gossip on many threads at once while blocks are produced, so the pool
+ * avoids a single monitor. Each {@link MatchingDataAttestationGroup} synchronizes its own updates,
+ * adding attestations only takes the shared side of a read-write lock and pruning takes the
+ * exclusive side. Reads don't lock the pool at all and aggregate from snapshots of each group.
  */
 public class AggregatingAttestationPool implements SlotEventsChannel {
   /**
@@ -72,16 +81,27 @@ public class AggregatingAttestationPool implements SlotEventsChannel {
   public static final int DEFAULT_MAXIMUM_ATTESTATION_COUNT = 40_000;
 
   private final Map<Bytes, MatchingDataAttestationGroup> attestationGroupByDataHash =
-      new HashMap<>();
-  private final NavigableMap<UInt64, Set<Bytes>> dataHashBySlot = new TreeMap<>();
+      new ConcurrentHashMap<>();
+  private final NavigableMap<UInt64, Set<Bytes>> dataHashBySlot = new ConcurrentSkipListMap<>();
+
+  /**
+   * Held in read mode while adding to existing or new groups and in write mode while removing
+   * groups, so a group can't be pruned while an attestation is being added to it.
+   */
+  private final ReadWriteLock pruningLock = new ReentrantReadWriteLock();
 
   private final Spec spec;
   private final AtomicInteger size = new AtomicInteger(0);
   private final SettableGauge sizeGauge;
   private final int maximumAttestationCount;
+  private final AttestationPacker attestationPacker;
 
   public AggregatingAttestationPool(
-      final Spec spec, final MetricsSystem metricsSystem, final int maximumAttestationCount) {
+      final Spec spec,
+      final TimeProvider timeProvider,
+      final MetricsSystem metricsSystem,
+      final int maximumAttestationCount,
+      final Duration attestationPackingTimeBudget) {
     this.spec = spec;
     this.sizeGauge =
         SettableGauge.create(
@@ -90,38 +110,61 @@ public class AggregatingAttestationPool implements SlotEventsChannel {
             "attestation_pool_size",
             "The number of attestations available to be included in proposed blocks");
     this.maximumAttestationCount = maximumAttestationCount;
+    this.attestationPacker =
+        new AttestationPacker(spec, timeProvider, attestationPackingTimeBudget);
   }
 
-  public synchronized void add(final ValidateableAttestation attestation) {
+  public void add(final ValidateableAttestation attestation) {
     final AttestationData attestationData = attestation.getAttestation().getData();
-    final boolean add = getOrCreateAttestationGroup(attestationData).add(attestation);
-    if (add) {
-      updateSize(1);
+    pruningLock.readLock().lock();
+    try {
+      final boolean add = getOrCreateAttestationGroup(attestationData).add(attestation);
+      if (add) {
+        updateSize(1);
+      }
+    } finally {
+      pruningLock.readLock().unlock();
     }
-    // Always keep the latest slot attestations so we don't discard everything
-    while (dataHashBySlot.size() > 1 && size.get() > maximumAttestationCount) {
-      final UInt64 firstSlotToKeep = dataHashBySlot.firstKey().plus(1);
-      removeAttestationsPriorToSlot(firstSlotToKeep);
+    if (size.get() > maximumAttestationCount) {
+      pruneToMaximumAttestationCount();
+    }
+  }
+
+  private void pruneToMaximumAttestationCount() {
+    pruningLock.writeLock().lock();
+    try {
+      // Always keep the latest slot attestations so we don't discard everything
+      while (dataHashBySlot.size() > 1 && size.get() > maximumAttestationCount) {
+        final UInt64 firstSlotToKeep = dataHashBySlot.firstKey().plus(1);
+        removeAttestationsPriorToSlot(firstSlotToKeep);
+      }
+    } finally {
+      pruningLock.writeLock().unlock();
     }
   }
 
   private MatchingDataAttestationGroup getOrCreateAttestationGroup(
       final AttestationData attestationData) {
+    final Bytes32 dataHash = attestationData.hashTreeRoot();
     dataHashBySlot
-        .computeIfAbsent(attestationData.getSlot(), slot -> new HashSet<>())
-        .add(attestationData.hashTreeRoot());
+        .computeIfAbsent(attestationData.getSlot(), slot -> ConcurrentHashMap.newKeySet())
+        .add(dataHash);
     return attestationGroupByDataHash.computeIfAbsent(
-        attestationData.hashTreeRoot(),
-        key -> new MatchingDataAttestationGroup(spec, attestationData));
+        dataHash, key -> new MatchingDataAttestationGroup(spec, attestationData));
   }
 
   @Override
-  public synchronized void onSlot(final UInt64 slot) {
+  public void onSlot(final UInt64 slot) {
     if (slot.compareTo(ATTESTATION_RETENTION_SLOTS) <= 0) {
       return;
     }
     final UInt64 firstValidAttestationSlot = slot.minus(ATTESTATION_RETENTION_SLOTS);
-    removeAttestationsPriorToSlot(firstValidAttestationSlot);
+    pruningLock.writeLock().lock();
+    try {
+      removeAttestationsPriorToSlot(firstValidAttestationSlot);
+    } finally {
+      pruningLock.writeLock().unlock();
+    }
   }
 
   private void removeAttestationsPriorToSlot(final UInt64 firstValidAttestationSlot) {
@@ -138,9 +181,14 @@ public class AggregatingAttestationPool implements SlotEventsChannel {
     dataHashesToRemove.clear();
   }
 
-  public synchronized void onAttestationsIncludedInBlock(
+  public void onAttestationsIncludedInBlock(
       final UInt64 slot, final Iterable<Attestation> attestations) {
-    attestations.forEach(attestation -> onAttestationIncludedInBlock(slot, attestation));
+    pruningLock.readLock().lock();
+    try {
+      attestations.forEach(attestation -> onAttestationIncludedInBlock(slot, attestation));
+    } finally {
+      pruningLock.readLock().unlock();
+    }
   }
 
   private void onAttestationIncludedInBlock(final UInt64 slot, final Attestation attestation) {
@@ -155,15 +203,14 @@ public class AggregatingAttestationPool implements SlotEventsChannel {
     sizeGauge.set(currentSize);
   }
 
-  public synchronized int getSize() {
+  public int getSize() {
     return size.get();
   }
 
-  public synchronized SszList<Attestation> getAttestationsForBlock(
+  public SszList<Attestation> getAttestationsForBlock(
       final BeaconState stateAtBlockSlot,
       final AttestationForkChecker forkChecker,
       final AttestationWorthinessChecker worthinessChecker) {
-    final UInt64 currentEpoch = spec.getCurrentEpoch(stateAtBlockSlot);
     final int previousEpochLimit = spec.getPreviousEpochAttestationCapacity(stateAtBlockSlot);
 
     final SszListSchema<Attestation, ?> attestationsSchema =
@@ -172,34 +219,31 @@ public class AggregatingAttestationPool implements SlotEventsChannel {
             .getBeaconBlockBodySchema()
             .getAttestationsSchema();
 
-    final AtomicInteger prevEpochCount = new AtomicInteger(0);
-    return dataHashBySlot
-        // We can immediately skip any attestations from the block slot or later
-        .headMap(stateAtBlockSlot.getSlot(), false)
-        .descendingMap()
-        .values()
+    final Stream<ValidateableAttestation> candidates =
+        dataHashBySlot
+            // We can immediately skip any attestations from the block slot or later
+            .headMap(stateAtBlockSlot.getSlot(), false)
+            .descendingMap()
+            .values()
+            .stream()
+            .flatMap(Collection::stream)
+            .map(attestationGroupByDataHash::get)
+            .filter(Objects::nonNull)
+            .filter(group -> isValid(stateAtBlockSlot, group.getAttestationData()))
+            .filter(forkChecker::areAttestationsFromCorrectFork)
+            .filter(group -> worthinessChecker.areAttestationsWorthy(group.getAttestationData()))
+            .flatMap(MatchingDataAttestationGroup::stream);
+    return attestationPacker
+        .pack(
+            stateAtBlockSlot,
+            candidates,
+            Math.toIntExact(attestationsSchema.getMaxLength()),
+            previousEpochLimit)
         .stream()
-        .flatMap(Collection::stream)
-        .map(attestationGroupByDataHash::get)
-        .filter(Objects::nonNull)
-        .filter(group -> isValid(stateAtBlockSlot, group.getAttestationData()))
-        .filter(forkChecker::areAttestationsFromCorrectFork)
-        .filter(group -> worthinessChecker.areAttestationsWorthy(group.getAttestationData()))
-        .flatMap(MatchingDataAttestationGroup::stream)
-        .limit(attestationsSchema.getMaxLength())
-        .map(ValidateableAttestation::getAttestation)
-        .filter(
-            att -> {
-              if (spec.computeEpochAtSlot(att.getData().getSlot()).isLessThan(currentEpoch)) {
-                final int currentCount = prevEpochCount.getAndIncrement();
-                return currentCount < previousEpochLimit;
-              }
-              return true;
-            })
         .collect(attestationsSchema.collector());
   }
 
-  public synchronized List<Attestation> getAttestations(
+  public List<Attestation> getAttestations(
       final Optional<UInt64> maybeSlot, final Optional<UInt64> maybeCommitteeIndex) {
     final Predicate<Map.Entry<UInt64, Set<Bytes>>> filterForSlot =
         (entry) -> maybeSlot.map(slot -> entry.getKey().equals(slot)).orElse(true);
@@ -227,13 +271,18 @@ public class AggregatingAttestationPool implements SlotEventsChannel {
     return spec.validateAttestation(stateAtBlockSlot, attestationData).isEmpty();
   }
 
-  public synchronized Optional<ValidateableAttestation> createAggregateFor(
+  public Optional<ValidateableAttestation> createAggregateFor(
       final Bytes32 attestationHashTreeRoot) {
     return Optional.ofNullable(attestationGroupByDataHash.get(attestationHashTreeRoot))
         .flatMap(attestations -> attestations.stream().findFirst());
   }
 
-  public synchronized void onReorg(final UInt64 commonAncestorSlot) {
-    attestationGroupByDataHash.values().forEach(group -> group.onReorg(commonAncestorSlot));
+  public void onReorg(final UInt64 commonAncestorSlot) {
+    pruningLock.readLock().lock();
+    try {
+      attestationGroupByDataHash.values().forEach(group -> group.onReorg(commonAncestorSlot));
+    } finally {
+      pruningLock.readLock().unlock();
+    }
   }
 }
@@ -0,0 +1,239 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.attestation;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszBitlist;
+import tech.pegasys.teku.infrastructure.ssz.primitive.SszByte;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.constants.ParticipationFlags;
+import tech.pegasys.teku.spec.datastructures.attestation.ValidateableAttestation;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.BeaconStateAltair;
+import tech.pegasys.teku.spec.logic.versions.altair.helpers.BeaconStateAccessorsAltair;
+
+/**
+ * Selects the attestations to include in a block, treating it as a max-coverage problem: each
+ * candidate aggregate is scored by the number of validators it adds that aren't already covered,
+ * either by the pre-state's epoch participation or by aggregates already selected for the block.
+ * Coverage is tracked per attestation data, since aggregates of different data for the same
+ * committee earn rewards independently.
+ *
+ * <p>Selection is greedy with lazy re-evaluation of scores, which is within a constant factor of
+ * optimal for max-coverage. Both gathering candidates and selection are bounded by a time budget.
+ * Once it's exhausted the remaining slots are filled using the last computed scores so block
+ * production isn't delayed.
+ */
+class AttestationPacker {
+
+  private final Spec spec;
+  private final TimeProvider timeProvider;
+  private final Duration timeBudget;
+
+  AttestationPacker(final Spec spec, final TimeProvider timeProvider, final Duration timeBudget) {
+    checkArgument(
+        !timeBudget.isNegative() && !timeBudget.isZero(),
+        "Attestation packing time budget must be positive but was %s",
+        timeBudget);
+    this.spec = spec;
+    this.timeProvider = timeProvider;
+    this.timeBudget = timeBudget;
+  }
+
+  /**
+   * Selects attestations from the candidates to maximise the number of newly covered validators.
+   *
+   * @param stateAtBlockSlot the state the block is being produced on
+   * @param candidates candidate aggregates, in order of preference when scores are equal
+   * @param maxAttestations the maximum number of attestations to select
+   * @param previousEpochLimit the maximum number of previous epoch attestations to select
+   * @return the selected attestations, best first
+   */
+  public List<Attestation> pack(
+      final BeaconState stateAtBlockSlot,
+      final Stream<ValidateableAttestation> candidates,
+      final int maxAttestations,
+      final int previousEpochLimit) {
+    final UInt64 deadline = timeProvider.getTimeInMillis().plus(timeBudget.toMillis());
+    final UInt64 currentEpoch = spec.getCurrentEpoch(stateAtBlockSlot);
+    final Coverage coverage = new Coverage(stateAtBlockSlot, currentEpoch);
+    final PriorityQueue<Candidate> queue =
+        new PriorityQueue<>(
+            Comparator.<Candidate>comparingInt(candidate -> candidate.gain)
+                .reversed()
+                .thenComparingInt(candidate -> candidate.order));
+
+    final Iterator<ValidateableAttestation> iterator = candidates.iterator();
+    int order = 0;
+    // Always gather enough candidates to fill the block so we're never worse than taking them in
+    // order, then keep going until the budget is exhausted.
+    while (iterator.hasNext() && (order < maxAttestations || !isPast(deadline))) {
+      final Attestation attestation = iterator.next().getAttestation();
+      final boolean isPreviousEpoch =
+          spec.computeEpochAtSlot(attestation.getData().getSlot()).isLessThan(currentEpoch);
+      final Candidate candidate = new Candidate(attestation, isPreviousEpoch, order);
+      order++;
+      candidate.gain = coverage.calculateGain(candidate);
+      if (candidate.gain > 0) {
+        queue.add(candidate);
+      }
+    }
+
+    final List<Attestation> selected = new ArrayList<>();
+    int previousEpochCount = 0;
+    while (!queue.isEmpty() && selected.size() < maxAttestations) {
+      final Candidate candidate = queue.poll();
+      if (candidate.isPreviousEpoch && previousEpochCount >= previousEpochLimit) {
+        continue;
+      }
+      if (!isPast(deadline)) {
+        // Scores can only go down as more validators are covered, so if the score is unchanged
+        // it's still the best candidate. Otherwise requeue it with the updated score.
+        final int gain = coverage.calculateGain(candidate);
+        if (gain == 0) {
+          continue;
+        }
+        if (gain < candidate.gain) {
+          candidate.gain = gain;
+          queue.add(candidate);
+          continue;
+        }
+      }
+      coverage.add(candidate);
+      selected.add(candidate.attestation);
+      if (candidate.isPreviousEpoch) {
+        previousEpochCount++;
+      }
+    }
+    return selected;
+  }
+
+  private boolean isPast(final UInt64 deadline) {
+    return timeProvider.getTimeInMillis().isGreaterThanOrEqualTo(deadline);
+  }
+
+  private static class Candidate {
+    private final Attestation attestation;
+    private final Bytes32 dataRoot;
+    private final boolean isPreviousEpoch;
+    private final int order;
+    private int gain;
+
+    private Candidate(
+        final Attestation attestation, final boolean isPreviousEpoch, final int order) {
+      this.attestation = attestation;
+      this.dataRoot = attestation.getData().hashTreeRoot();
+      this.isPreviousEpoch = isPreviousEpoch;
+      this.order = order;
+    }
+  }
+
+  /** Tracks which committee members are already covered for each attestation data. */
+  private class Coverage {
+    private final Map<Bytes32, SszBitlist> coveredByDataRoot = new HashMap<>();
+    private final BeaconState state;
+    private final UInt64 currentEpoch;
+
+    private Coverage(final BeaconState state, final UInt64 currentEpoch) {
+      this.state = state;
+      this.currentEpoch = currentEpoch;
+    }
+
+    public int calculateGain(final Candidate candidate) {
+      final SszBitlist aggregationBits = candidate.attestation.getAggregationBits();
+      final SszBitlist covered = getCovered(candidate);
+      if (covered.size() != aggregationBits.size()) {
+        return aggregationBits.getBitCount();
+      }
+      return covered.or(aggregationBits).getBitCount() - covered.getBitCount();
+    }
+
+    public void add(final Candidate candidate) {
+      final SszBitlist aggregationBits = candidate.attestation.getAggregationBits();
+      coveredByDataRoot.compute(
+          candidate.dataRoot,
+          (key, covered) ->
+              covered == null || covered.size() != aggregationBits.size()
+                  ? aggregationBits
+                  : covered.or(aggregationBits));
+    }
+
+    private SszBitlist getCovered(final Candidate candidate) {
+      return coveredByDataRoot.computeIfAbsent(
+          candidate.dataRoot, key -> getParticipationBits(candidate.attestation));
+    }
+
+    /**
+     * Creates aggregation bits for the committee members that already have every participation flag
+     * this attestation would set, as including them again earns no reward. Prior to Altair there's
+     * no record of participation so nothing is covered.
+     */
+    private SszBitlist getParticipationBits(final Attestation attestation) {
+      final SszBitlist aggregationBits = attestation.getAggregationBits();
+      final Optional<BeaconStateAltair> maybeAltairState = state.toVersionAltair();
+      if (maybeAltairState.isEmpty()) {
+        return aggregationBits.getSchema().ofBits(aggregationBits.size());
+      }
+      final AttestationData data = attestation.getData();
+      final int attestationFlags = getAttestationFlags(data);
+      final SszList<SszByte> participation =
+          data.getTarget().getEpoch().equals(currentEpoch)
+              ? maybeAltairState.get().getCurrentEpochParticipation()
+              : maybeAltairState.get().getPreviousEpochParticipation();
+      final IntList committee = spec.getBeaconCommittee(state, data.getSlot(), data.getIndex());
+      final IntList participatingPositions = new IntArrayList();
+      for (int i = 0; i < Math.min(committee.size(), aggregationBits.size()); i++) {
+        final int validatorFlags = participation.get(committee.getInt(i)).get();
+        if ((validatorFlags & attestationFlags) == attestationFlags) {
+          participatingPositions.add(i);
+        }
+      }
+      return aggregationBits
+          .getSchema()
+          .ofBits(aggregationBits.size(), participatingPositions.toIntArray());
+    }
+
+    /** Returns the participation flags that would be set by including the attestation now. */
+    private int getAttestationFlags(final AttestationData data) {
+      final List<Integer> flagIndices =
+          BeaconStateAccessorsAltair.required(spec.atSlot(state.getSlot()).beaconStateAccessors())
+              .getAttestationParticipationFlagIndices(
+                  state, data, state.getSlot().minusMinZero(data.getSlot()));
+      int flags = 0;
+      for (int flagIndex : flagIndices) {
+        flags |= ParticipationFlags.indexToFlag(flagIndex);
+      }
+      return flags;
+    }
+  }
+}
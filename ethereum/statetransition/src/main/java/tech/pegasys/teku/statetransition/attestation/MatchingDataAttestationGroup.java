@@ -17,10 +17,12 @@ import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import org.apache.tuweni.bytes.Bytes32;
@@ -42,6 +44,10 @@ import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
  *
  * <p>Note that the resulting aggregate will be invalid if attestations with different
  * AttestationData are added.
+ *
+ * <p>Mutations are synchronized on the group so that different groups can be updated concurrently.
+ * Iteration works from a snapshot taken when the iterator is created so aggregating attestations
+ * for a block doesn't block gossip from adding new attestations to the group.
  */
 class MatchingDataAttestationGroup implements Iterable<ValidateableAttestation> {
 
@@ -93,7 +99,7 @@ class MatchingDataAttestationGroup implements Iterable<ValidateableAttestation>
    * @param attestation the attestation to add
    * @return True if the attestation was added, false otherwise
    */
-  public boolean add(final ValidateableAttestation attestation) {
+  public synchronized boolean add(final ValidateableAttestation attestation) {
     if (includedValidators.isSuperSetOf(attestation.getAttestation().getAggregationBits())) {
       // All attestation bits have already been included on chain
       return false;
@@ -116,11 +122,17 @@ class MatchingDataAttestationGroup implements Iterable<ValidateableAttestation>
    * an aggregate produced by this iterator, there is no guarantee that the added attestation
    * instances themselves will be included.
    *
+   * <p>Attestations added to the group after the iterator is created are not included.
+   *
    * @return an iterator including attestations for every validator included in this group.
    */
   @Override
-  public Iterator<ValidateableAttestation> iterator() {
-    return new AggregatingIterator();
+  public synchronized Iterator<ValidateableAttestation> iterator() {
+    final List<ValidateableAttestation> attestations =
+        attestationsByValidatorCount.values().stream()
+            .flatMap(Set::stream)
+            .collect(Collectors.toList());
+    return new AggregatingIterator(attestations, includedValidators);
   }
 
   public Stream<ValidateableAttestation> stream() {
@@ -132,11 +144,11 @@ class MatchingDataAttestationGroup implements Iterable<ValidateableAttestation>
    *
    * @return true if this group is empty.
    */
-  public boolean isEmpty() {
+  public synchronized boolean isEmpty() {
     return attestationsByValidatorCount.isEmpty();
   }
 
-  public int size() {
+  public synchronized int size() {
     return attestationsByValidatorCount.values().stream().map(Set::size).reduce(0, Integer::sum);
   }
 
@@ -148,7 +160,8 @@ class MatchingDataAttestationGroup implements Iterable<ValidateableAttestation>
    *
    * @param attestation the attestation to logically remove from the pool.
    */
-  public int onAttestationIncludedInBlock(final UInt64 slot, final Attestation attestation) {
+  public synchronized int onAttestationIncludedInBlock(
+      final UInt64 slot, final Attestation attestation) {
     // Record validators in attestation as seen in this slot
     // Important to do even if the attestation is redundant so we handle re-orgs correctly
     includedValidatorsBySlot.merge(slot, attestation.getAggregationBits(), SszBitlist::or);
@@ -179,7 +192,7 @@ class MatchingDataAttestationGroup implements Iterable<ValidateableAttestation>
     return numRemoved;
   }
 
-  public void onReorg(final UInt64 commonAncestorSlot) {
+  public synchronized void onReorg(final UInt64 commonAncestorSlot) {
     final NavigableMap<UInt64, SszBitlist> removedSlots =
         includedValidatorsBySlot.tailMap(commonAncestorSlot, false);
     if (removedSlots.isEmpty()) {
@@ -194,12 +207,19 @@ class MatchingDataAttestationGroup implements Iterable<ValidateableAttestation>
             .reduce(createEmptyAggregationBits(), SszBitlist::or);
   }
 
-  public boolean matchesCommitteeShufflingSeed(final Set<Bytes32> validSeeds) {
+  public synchronized boolean matchesCommitteeShufflingSeed(final Set<Bytes32> validSeeds) {
     return committeeShufflingSeed.map(validSeeds::contains).orElse(false);
   }
 
   private class AggregatingIterator implements Iterator<ValidateableAttestation> {
-    private SszBitlist includedValidators = MatchingDataAttestationGroup.this.includedValidators;
+    private final List<ValidateableAttestation> attestations;
+    private SszBitlist includedValidators;
+
+    private AggregatingIterator(
+        final List<ValidateableAttestation> attestations, final SszBitlist includedValidators) {
+      this.attestations = attestations;
+      this.includedValidators = includedValidators;
+    }
 
     @Override
     public boolean hasNext() {
@@ -224,8 +244,7 @@ class MatchingDataAttestationGroup implements Iterable<ValidateableAttestation>
     }
 
     public Stream<ValidateableAttestation> streamRemainingAttestations() {
-      return attestationsByValidatorCount.values().stream()
-          .flatMap(Set::stream)
+      return attestations.stream()
           .filter(
               candidate ->
                   !includedValidators.isSuperSetOf(
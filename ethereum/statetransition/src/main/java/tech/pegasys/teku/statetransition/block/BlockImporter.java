@@ -14,6 +14,8 @@
 package tech.pegasys.teku.statetransition.block;
 
 import com.google.common.annotations.VisibleForTesting;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
@@ -99,27 +101,7 @@ public class BlockImporter {
 
     return validateWeakSubjectivityPeriod()
         .thenCompose(__ -> forkChoice.onBlock(block, blockImportPerformance, executionLayer))
-        .thenApply(
-            result -> {
-              if (!result.isSuccessful()) {
-                LOG.trace(
-                    "Failed to import block for reason {}: {}",
-                    result::getFailureReason,
-                    () -> block.toLogString());
-                return result;
-              }
-              LOG.trace("Successfully imported block {}", () -> block.toLogString());
-
-              blockImportNotifications.onBlockImported(block);
-
-              // Notify operation pools to remove operations only
-              // if the block is on our canonical chain
-              if (result.isBlockOnCanonicalChain()) {
-                notifyBlockOperationSubscribers(block);
-              }
-
-              return result;
-            })
+        .thenApply(result -> onImportResult(block, result))
         .exceptionally(
             (e) -> {
               final String internalErrorMessage =
@@ -131,6 +113,83 @@ public class BlockImporter {
             });
   }
 
+  /**
+   * Import a chain of blocks, verifying the signatures of all blocks in a single batch before any
+   * of them is applied. Results are returned in order up to and including the first block that
+   * fails to import.
+   */
+  @CheckReturnValue
+  public SafeFuture<List<BlockImportResult>> importBlocks(final List<SignedBeaconBlock> blocks) {
+    final List<BlockImportResult> results = new ArrayList<>();
+    final List<SignedBeaconBlock> blocksToImport = new ArrayList<>();
+    Optional<BlockImportResult> weakSubjectivityFailure = Optional.empty();
+    for (SignedBeaconBlock block : blocks) {
+      final Optional<Boolean> knownOptimistic = recentChainData.isBlockOptimistic(block.getRoot());
+      if (knownOptimistic.isPresent() && blocksToImport.isEmpty()) {
+        results.add(BlockImportResult.knownBlock(block, knownOptimistic.get()));
+        continue;
+      }
+      if (!weakSubjectivityValidator.isBlockValid(block, getForkChoiceStrategy())) {
+        EventLogger.EVENT_LOG.weakSubjectivityFailedEvent(block.getRoot(), block.getSlot());
+        weakSubjectivityFailure = Optional.of(BlockImportResult.FAILED_WEAK_SUBJECTIVITY_CHECKS);
+        break;
+      }
+      blocksToImport.add(block);
+    }
+
+    final Optional<BlockImportResult> finalWeakSubjectivityFailure = weakSubjectivityFailure;
+    if (blocksToImport.isEmpty()) {
+      finalWeakSubjectivityFailure.ifPresent(results::add);
+      return SafeFuture.completedFuture(results);
+    }
+
+    return validateWeakSubjectivityPeriod()
+        .thenCompose(__ -> forkChoice.onBlocks(blocksToImport, executionLayer))
+        .thenApply(
+            importResults -> {
+              for (int i = 0; i < importResults.size(); i++) {
+                results.add(onImportResult(blocksToImport.get(i), importResults.get(i)));
+              }
+              if (results.stream().allMatch(BlockImportResult::isSuccessful)) {
+                finalWeakSubjectivityFailure.ifPresent(results::add);
+              }
+              return results;
+            })
+        .exceptionally(
+            (e) -> {
+              LOG.error(
+                  String.format(
+                      "Internal error while importing blocks from slot %s to %s",
+                      blocksToImport.get(0).getSlot(),
+                      blocksToImport.get(blocksToImport.size() - 1).getSlot()),
+                  e);
+              results.add(BlockImportResult.internalError(e));
+              return results;
+            });
+  }
+
+  private BlockImportResult onImportResult(
+      final SignedBeaconBlock block, final BlockImportResult result) {
+    if (!result.isSuccessful()) {
+      LOG.trace(
+          "Failed to import block for reason {}: {}",
+          result::getFailureReason,
+          () -> block.toLogString());
+      return result;
+    }
+    LOG.trace("Successfully imported block {}", () -> block.toLogString());
+
+    blockImportNotifications.onBlockImported(block);
+
+    // Notify operation pools to remove operations only
+    // if the block is on our canonical chain
+    if (result.isBlockOnCanonicalChain()) {
+      notifyBlockOperationSubscribers(block);
+    }
+
+    return result;
+  }
+
   private SafeFuture<?> validateWeakSubjectivityPeriod() {
     return getLatestCheckpointState()
         .thenCombine(
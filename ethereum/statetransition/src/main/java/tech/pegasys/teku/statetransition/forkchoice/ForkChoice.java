@@ -20,9 +20,11 @@ import static tech.pegasys.teku.spec.constants.NetworkConstants.INTERVALS_PER_SL
 import static tech.pegasys.teku.statetransition.forkchoice.StateRootCollector.addParentStateRoots;
 
 import com.google.common.base.Throwables;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
@@ -40,9 +42,10 @@ import tech.pegasys.teku.spec.cache.IndexedAttestationCache;
 import tech.pegasys.teku.spec.datastructures.attestation.ValidateableAttestation;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
+import tech.pegasys.teku.spec.datastructures.execution.ExecutionPayload;
+import tech.pegasys.teku.spec.datastructures.execution.ExecutionPayloadHeader;
 import tech.pegasys.teku.spec.datastructures.forkchoice.InvalidCheckpointException;
 import tech.pegasys.teku.spec.datastructures.forkchoice.ReadOnlyForkChoiceStrategy;
-import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteUpdater;
 import tech.pegasys.teku.spec.datastructures.operations.AttesterSlashing;
 import tech.pegasys.teku.spec.datastructures.operations.IndexedAttestation;
@@ -53,10 +56,14 @@ import tech.pegasys.teku.spec.datastructures.util.AttestationProcessingResult.St
 import tech.pegasys.teku.spec.executionlayer.ExecutionLayerChannel;
 import tech.pegasys.teku.spec.executionlayer.ForkChoiceState;
 import tech.pegasys.teku.spec.executionlayer.PayloadStatus;
+import tech.pegasys.teku.spec.logic.common.statetransition.blockvalidator.BatchSignatureVerifier;
+import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.EpochProcessingException;
+import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.SlotProcessingException;
 import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.StateTransitionException;
 import tech.pegasys.teku.spec.logic.common.statetransition.results.BlockImportResult;
 import tech.pegasys.teku.spec.logic.common.statetransition.results.BlockImportResult.FailureReason;
 import tech.pegasys.teku.spec.logic.common.util.ForkChoiceUtil;
+import tech.pegasys.teku.spec.logic.versions.bellatrix.block.OptimisticExecutionPayloadExecutor;
 import tech.pegasys.teku.statetransition.attestation.DeferredAttestations;
 import tech.pegasys.teku.statetransition.block.BlockImportPerformance;
 import tech.pegasys.teku.statetransition.validation.AttestationStateSelector;
@@ -290,13 +297,193 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
     }
     blockImportPerformance.ifPresent(BlockImportPerformance::postStateCreated);
 
+    return importProcessedBlock(
+        block,
+        blockSlotState.get(),
+        blockImportPerformance,
+        forkChoiceUtil,
+        indexedAttestationCache,
+        postState,
+        payloadExecutor);
+  }
+
+  /**
+   * Import a chain of blocks, deferring signature verification so that the signatures from every
+   * block are verified in a single batch before any of the blocks are applied to the store.
+   * Execution payloads are only sent to the execution layer once the batch has verified and the
+   * block's parent has been imported.
+   *
+   * <p>Each block must be the child of the block before it. Results are returned in order up to and
+   * including the first block that fails to import.
+   */
+  public SafeFuture<List<BlockImportResult>> onBlocks(
+      final List<SignedBeaconBlock> blocks, final ExecutionLayerChannel executionLayer) {
+    checkArgument(!blocks.isEmpty(), "No blocks to import");
+    final SignedBeaconBlock firstBlock = blocks.get(0);
+    return recentChainData
+        .retrieveStateAtSlot(new SlotAndBlockRoot(firstBlock.getSlot(), firstBlock.getParentRoot()))
+        .thenCompose(
+            maybeBlockSlotState -> {
+              if (maybeBlockSlotState.isEmpty()) {
+                return SafeFuture.completedFuture(List.of(BlockImportResult.FAILED_UNKNOWN_PARENT));
+              }
+              return onBlocks(blocks, maybeBlockSlotState.get(), executionLayer);
+            });
+  }
+
+  private SafeFuture<List<BlockImportResult>> onBlocks(
+      final List<SignedBeaconBlock> blocks,
+      final BeaconState firstBlockSlotState,
+      final ExecutionLayerChannel executionLayer) {
+    final BatchSignatureVerifier signatureVerifier = new BatchSignatureVerifier();
+    final List<ProcessedBlock> processedBlocks = new ArrayList<>();
+    Optional<BlockImportResult> processingFailure = Optional.empty();
+    BeaconState blockSlotState = firstBlockSlotState;
+    for (SignedBeaconBlock block : blocks) {
+      final DeferredPayloadExecutor payloadExecutor = new DeferredPayloadExecutor();
+      final CapturingIndexedAttestationCache indexedAttestationCache =
+          IndexedAttestationCache.capturing();
+      try {
+        if (!processedBlocks.isEmpty()) {
+          final BeaconState parentState = processedBlocks.get(processedBlocks.size() - 1).postState;
+          blockSlotState = spec.processSlots(parentState, block.getSlot());
+        }
+        final BeaconState postState =
+            spec.getBlockProcessor(block.getSlot())
+                .processAndValidateBlock(
+                    block,
+                    blockSlotState,
+                    indexedAttestationCache,
+                    signatureVerifier,
+                    Optional.of(payloadExecutor));
+        processedBlocks.add(
+            new ProcessedBlock(
+                block, blockSlotState, indexedAttestationCache, postState, payloadExecutor));
+      } catch (final StateTransitionException
+          | SlotProcessingException
+          | EpochProcessingException e) {
+        final BlockImportResult result = BlockImportResult.failedStateTransition(e);
+        reportInvalidBlock(block, result);
+        processingFailure = Optional.of(result);
+        break;
+      }
+    }
+
+    if (!signatureVerifier.batchVerify()) {
+      LOG.debug(
+          "Batch signature verification failed for blocks from slot {} to {}",
+          blocks.get(0).getSlot(),
+          blocks.get(blocks.size() - 1).getSlot());
+      // Find the block responsible so the blocks before it can still be imported. If every
+      // processed block verifies on its own, the failing signatures came from the block that
+      // failed processing, which is already reported.
+      final OptionalInt invalidBlockIndex = findFirstBlockWithInvalidSignatures(processedBlocks);
+      if (invalidBlockIndex.isPresent()) {
+        final SignedBeaconBlock invalidBlock =
+            processedBlocks.get(invalidBlockIndex.getAsInt()).block;
+        final BlockImportResult result =
+            BlockImportResult.failedStateTransition(
+                new IllegalStateException(
+                    "Signature verification failed for block "
+                        + invalidBlock.getRoot()
+                        + " at slot "
+                        + invalidBlock.getSlot()));
+        reportInvalidBlock(invalidBlock, result);
+        processingFailure = Optional.of(result);
+        processedBlocks.subList(invalidBlockIndex.getAsInt(), processedBlocks.size()).clear();
+      }
+    }
+
+    SafeFuture<List<BlockImportResult>> results = SafeFuture.completedFuture(new ArrayList<>());
+    for (ProcessedBlock processedBlock : processedBlocks) {
+      results =
+          results.thenCompose(
+              importedResults -> {
+                if (!importedResults.isEmpty()
+                    && !importedResults.get(importedResults.size() - 1).isSuccessful()) {
+                  return SafeFuture.completedFuture(importedResults);
+                }
+                return importProcessedBlock(processedBlock, executionLayer)
+                    .thenApply(
+                        result -> {
+                          importedResults.add(result);
+                          return importedResults;
+                        });
+              });
+    }
+    final Optional<BlockImportResult> finalProcessingFailure = processingFailure;
+    return results.thenApply(
+        importedResults -> {
+          if (importedResults.stream().allMatch(BlockImportResult::isSuccessful)) {
+            finalProcessingFailure.ifPresent(importedResults::add);
+          }
+          return importedResults;
+        });
+  }
+
+  private OptionalInt findFirstBlockWithInvalidSignatures(
+      final List<ProcessedBlock> processedBlocks) {
+    for (int i = 0; i < processedBlocks.size(); i++) {
+      final ProcessedBlock processedBlock = processedBlocks.get(i);
+      final BatchSignatureVerifier blockSignatureVerifier = new BatchSignatureVerifier();
+      try {
+        spec.getBlockProcessor(processedBlock.block.getSlot())
+            .processAndValidateBlock(
+                processedBlock.block,
+                processedBlock.blockSlotState,
+                IndexedAttestationCache.NOOP,
+                blockSignatureVerifier,
+                Optional.empty());
+      } catch (final StateTransitionException e) {
+        return OptionalInt.of(i);
+      }
+      if (!blockSignatureVerifier.batchVerify()) {
+        return OptionalInt.of(i);
+      }
+    }
+    return OptionalInt.empty();
+  }
+
+  private SafeFuture<BlockImportResult> importProcessedBlock(
+      final ProcessedBlock processedBlock, final ExecutionLayerChannel executionLayer) {
+    final SignedBeaconBlock block = processedBlock.block;
+    final ForkChoiceUtil forkChoiceUtil = spec.atSlot(block.getSlot()).getForkChoiceUtil();
+    // The parent is only in the store once the previous block in the batch has been imported
+    final BlockImportResult preconditionCheckResult =
+        forkChoiceUtil.checkOnBlockConditions(
+            block, processedBlock.blockSlotState, recentChainData.getStore());
+    if (!preconditionCheckResult.isSuccessful()) {
+      reportInvalidBlock(block, preconditionCheckResult);
+      return SafeFuture.completedFuture(preconditionCheckResult);
+    }
+    final ForkChoicePayloadExecutor payloadExecutor =
+        ForkChoicePayloadExecutor.create(spec, recentChainData, block, executionLayer);
+    processedBlock.payloadExecutor.executeWith(payloadExecutor);
+    return importProcessedBlock(
+        block,
+        processedBlock.blockSlotState,
+        Optional.empty(),
+        forkChoiceUtil,
+        processedBlock.indexedAttestationCache,
+        processedBlock.postState,
+        payloadExecutor);
+  }
+
+  private SafeFuture<BlockImportResult> importProcessedBlock(
+      final SignedBeaconBlock block,
+      final BeaconState blockSlotState,
+      final Optional<BlockImportPerformance> blockImportPerformance,
+      final ForkChoiceUtil forkChoiceUtil,
+      final CapturingIndexedAttestationCache indexedAttestationCache,
+      final BeaconState postState,
+      final ForkChoicePayloadExecutor payloadExecutor) {
     return payloadExecutor
         .getExecutionResult()
         .thenApplyAsync(
             payloadResult ->
                 importBlockAndState(
                     block,
-                    blockSlotState.get(),
+                    blockSlotState,
                     blockImportPerformance,
                     forkChoiceUtil,
                     indexedAttestationCache,
@@ -306,7 +493,7 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
         .thenPeek(
             result -> {
               if (result.isSuccessful()) {
-                blockSlotState.ifPresent(state -> pandaPrinter.onBlockImported(state, block));
+                pandaPrinter.onBlockImported(blockSlotState, block);
               }
             });
   }
@@ -378,6 +565,7 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
     // Note: not using thenRun here because we want to ensure each step is on the event thread
     transaction.commit().join();
     blockImportPerformance.ifPresent(BlockImportPerformance::transactionCommitted);
+    recentChainData.getAttesterShufflingCache().onStateAvailable(postState);
     forkChoiceStrategy.onExecutionPayloadResult(block.getRoot(), payloadResult, true);
 
     final UInt64 currentEpoch = spec.computeEpochAtSlot(spec.getCurrentSlot(transaction));
@@ -405,6 +593,52 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
     return result;
   }
 
+  private static class ProcessedBlock {
+    private final SignedBeaconBlock block;
+    private final BeaconState blockSlotState;
+    private final CapturingIndexedAttestationCache indexedAttestationCache;
+    private final BeaconState postState;
+    private final DeferredPayloadExecutor payloadExecutor;
+
+    private ProcessedBlock(
+        final SignedBeaconBlock block,
+        final BeaconState blockSlotState,
+        final CapturingIndexedAttestationCache indexedAttestationCache,
+        final BeaconState postState,
+        final DeferredPayloadExecutor payloadExecutor) {
+      this.block = block;
+      this.blockSlotState = blockSlotState;
+      this.indexedAttestationCache = indexedAttestationCache;
+      this.postState = postState;
+      this.payloadExecutor = payloadExecutor;
+    }
+  }
+
+  /**
+   * Captures the payload passed to it during block processing so that it can be sent to the
+   * execution layer later, once the block's signatures have been verified and its parent imported.
+   */
+  private static class DeferredPayloadExecutor implements OptimisticExecutionPayloadExecutor {
+    private Optional<ExecutionPayloadHeader> latestExecutionPayloadHeader = Optional.empty();
+    private Optional<ExecutionPayload> executionPayload = Optional.empty();
+
+    @Override
+    public boolean optimisticallyExecute(
+        final ExecutionPayloadHeader latestExecutionPayloadHeader,
+        final ExecutionPayload executionPayload) {
+      this.latestExecutionPayloadHeader = Optional.of(latestExecutionPayloadHeader);
+      this.executionPayload = Optional.of(executionPayload);
+      return true;
+    }
+
+    public void executeWith(final OptimisticExecutionPayloadExecutor payloadExecutor) {
+      executionPayload.ifPresent(
+          payload ->
+              payloadExecutor.optimisticallyExecute(
+                  latestExecutionPayloadHeader.orElseThrow(), payload));
+    }
+  }
+
   private UInt64 getMillisIntoSlot(StoreTransaction transaction, UInt64 millisPerSlot) {
     return transaction
         .getTimeMillis()
@@ -639,13 +873,12 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
 
   private void storeEquivocatingIndices(
       final AttesterSlashing attesterSlashing, final VoteUpdater transaction) {
+    final ForkChoiceStrategy forkChoiceStrategy = getForkChoiceStrategy();
     attesterSlashing
         .getIntersectingValidatorIndices()
         .forEach(
-            validatorIndex -> {
-              final VoteTracker voteTracker = transaction.getVote(validatorIndex);
-              transaction.putVote(validatorIndex, voteTracker.createNextEquivocating());
-            });
+            validatorIndex ->
+                forkChoiceStrategy.onEquivocatingValidator(transaction, validatorIndex));
   }
 
   public void onTick(
@@ -74,6 +74,18 @@ public class AttestationStateSelector {
       return completedFuture(Optional.of(finalizedState));
     }
 
+    // If we already have a state with the same committee shuffling, use it rather than
+    // regenerating a state for the fork the attestation votes for
+    final ReadOnlyForkChoiceStrategy forkChoiceStrategy =
+        recentChainData.getForkChoiceStrategy().orElseThrow();
+    final Optional<BeaconState> shufflingState =
+        recentChainData
+            .getAttesterShufflingCache()
+            .getStateForShuffling(forkChoiceStrategy, targetBlockRoot, attestationEpoch);
+    if (shufflingState.isPresent()) {
+      return completedFuture(shufflingState);
+    }
+
     // Otherwise, use the state from the earliest allowed slot.
     // This maximises the chance that the state we get will be on the canonical fork and so useful
     // for other requests, and means all attestations for that epoch refer to the same slot,
@@ -88,8 +100,6 @@ public class AttestationStateSelector {
       // Target block is from before the earliest slot so just roll it forward.
       requiredCheckpoint = new Checkpoint(spec.computeEpochAtSlot(earliestSlot), targetBlockRoot);
     } else {
-      final ReadOnlyForkChoiceStrategy forkChoiceStrategy =
-          recentChainData.getForkChoiceStrategy().orElseThrow();
       final Optional<Bytes32> maybeAncestorRoot =
           forkChoiceStrategy.getAncestor(targetBlockRoot, earliestSlot);
       if (maybeAncestorRoot.isEmpty()) {
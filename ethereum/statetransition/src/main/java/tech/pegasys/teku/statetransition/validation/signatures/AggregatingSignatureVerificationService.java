@@ -18,10 +18,14 @@ import static java.util.Collections.singletonList;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
-import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
@@ -37,22 +41,34 @@ import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.service.serviceutils.ServiceCapacityExceededException;
+import tech.pegasys.teku.spec.logic.common.util.AsyncBLSSignatureVerifier;
 
 public class AggregatingSignatureVerificationService extends SignatureVerificationService {
   private static final Logger LOG = LogManager.getLogger();
 
   static final int DEFAULT_MIN_BATCH_SIZE_TO_SPLIT = 25;
+  static final long TARGET_BATCH_DURATION_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+  private static final Comparator<WorkItem> WORK_ITEM_ORDER =
+      Comparator.<WorkItem, Lane>comparing(WorkItem::getLane)
+          .thenComparingLong(WorkItem::getSequence);
 
   private final AsyncRunner completionRunner;
   private final int numThreads;
+  private final int queueCapacity;
   private final int maxBatchSize;
   private final int minBatchSizeToSplit;
   private final boolean strictThreadLimitEnabled;
+  private final AsyncBLSSignatureVerifier highPriorityVerifier = new HighPriorityVerifier();
 
-  @VisibleForTesting final BlockingQueue<SignatureTask> batchSignatureTasks;
+  @VisibleForTesting final BlockingQueue<WorkItem> batchSignatureTasks;
+  private final AtomicInteger queuedTaskCount = new AtomicInteger();
+  private final AtomicLong nextSequence = new AtomicLong();
+  private final AtomicInteger adaptiveMaxBatchSize;
   private final AsyncRunner asyncRunner;
   private final Counter batchCounter;
   private final Counter taskCounter;
+  private final Counter splitBatchCounter;
   private final MetricsHistogram batchSizeHistogram;
 
   @VisibleForTesting
@@ -68,9 +84,11 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
     this.numThreads = Math.min(numThreads, Runtime.getRuntime().availableProcessors());
     this.asyncRunner = asyncRunnerFactory.create(this.getClass().getSimpleName(), this.numThreads);
     this.completionRunner = completionRunner;
+    this.queueCapacity = queueCapacity;
     this.maxBatchSize = maxBatchSize;
+    this.adaptiveMaxBatchSize = new AtomicInteger(maxBatchSize);
 
-    this.batchSignatureTasks = new ArrayBlockingQueue<>(queueCapacity);
+    this.batchSignatureTasks = new PriorityBlockingQueue<>(queueCapacity, WORK_ITEM_ORDER);
     this.minBatchSizeToSplit = minBatchSizeToSplit;
     this.strictThreadLimitEnabled = strictThreadLimitEnabled;
     metricsSystem.createGauge(
@@ -78,6 +96,11 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
         "signature_verifications_queue_size",
         "Tracks number of signatures waiting to be batch verified",
         this::getQueueSize);
+    metricsSystem.createGauge(
+        TekuMetricCategory.EXECUTOR,
+        "signature_verifications_max_batch_size",
+        "Current adaptive limit on the number of signatures verified in one batch",
+        adaptiveMaxBatchSize::get);
     batchCounter =
         metricsSystem.createCounter(
             TekuMetricCategory.EXECUTOR,
@@ -88,6 +111,11 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
             TekuMetricCategory.EXECUTOR,
             "signature_verifications_task_count",
             "Reports the number of individual verification tasks processed");
+    splitBatchCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.EXECUTOR,
+            "signature_verifications_split_batch_count",
+            "Reports the number of failed batches split for verification on another thread");
     batchSizeHistogram =
         MetricsHistogram.create(
             TekuMetricCategory.EXECUTOR,
@@ -136,6 +164,11 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
     return SafeFuture.COMPLETE;
   }
 
+  @Override
+  public AsyncBLSSignatureVerifier highPriority() {
+    return highPriorityVerifier;
+  }
+
   @Override
   public SafeFuture<Boolean> verify(
       final List<BLSPublicKey> publicKeys, final Bytes message, final BLSSignature signature) {
@@ -147,43 +180,101 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
       final List<List<BLSPublicKey>> publicKeys,
       final List<Bytes> messages,
       final List<BLSSignature> signatures) {
+    return enqueue(Lane.NORMAL, publicKeys, messages, signatures);
+  }
+
+  private SafeFuture<Boolean> enqueue(
+      final Lane lane,
+      final List<List<BLSPublicKey>> publicKeys,
+      final List<Bytes> messages,
+      final List<BLSSignature> signatures) {
     assertIsRunning("verify");
     final SignatureTask task =
-        new SignatureTask(completionRunner, publicKeys, messages, signatures);
-    if (!batchSignatureTasks.offer(task)) {
+        new SignatureTask(
+            completionRunner,
+            lane,
+            nextSequence.getAndIncrement(),
+            publicKeys,
+            messages,
+            signatures);
+    if (queuedTaskCount.incrementAndGet() > queueCapacity) {
       // Queue is full
+      queuedTaskCount.decrementAndGet();
       final Throwable error =
           new ServiceCapacityExceededException("Failed to process signature, queue is full.");
       task.result.completeExceptionally(error);
+    } else {
+      batchSignatureTasks.add(task);
     }
     return task.result;
   }
 
   private void run() {
     while (isRunning()) {
-      final List<SignatureTask> tasks = waitForBatch();
-      if (!tasks.isEmpty()) {
-        batchVerifySignatures(tasks);
+      try {
+        final WorkItem item = batchSignatureTasks.poll(30, TimeUnit.SECONDS);
+        if (item instanceof SplitBatch) {
+          final SplitBatch splitBatch = (SplitBatch) item;
+          if (splitBatch.claim()) {
+            batchVerifySignatures(splitBatch.tasks);
+          }
+        } else if (item != null) {
+          batchVerifySignatures(collectBatch((SignatureTask) item));
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
       }
     }
   }
 
-  private List<SignatureTask> waitForBatch() {
+  private List<SignatureTask> collectBatch(final SignatureTask firstTask) {
+    final int batchSize = getTargetBatchSize(queuedTaskCount.getAndDecrement());
     final List<SignatureTask> tasks = new ArrayList<>();
-    try {
-      int batchSize = maxBatchSize;
-      final SignatureTask firstTask = batchSignatureTasks.poll(30, TimeUnit.SECONDS);
-      if (firstTask != null) {
-        tasks.add(firstTask);
-        batchSize -= 1;
+    tasks.add(firstTask);
+    while (tasks.size() < batchSize) {
+      final WorkItem item = batchSignatureTasks.poll();
+      if (item == null) {
+        break;
+      }
+      if (item instanceof SplitBatch) {
+        // Split batches are always ordered first so leave it for the next available thread
+        batchSignatureTasks.add(item);
+        break;
       }
-      batchSignatureTasks.drainTo(tasks, batchSize);
-    } catch (InterruptedException e) {
-      Thread.currentThread().interrupt();
+      queuedTaskCount.decrementAndGet();
+      tasks.add((SignatureTask) item);
     }
     return tasks;
   }
 
+  /**
+   * Shares the queued signatures between the verification threads instead of letting a single
+   * thread take everything, bounded by the adaptive maximum batch size.
+   */
+  @VisibleForTesting
+  int getTargetBatchSize(final int queuedTasks) {
+    final int fairShare = (queuedTasks + numThreads - 1) / numThreads;
+    return Math.max(1, Math.min(adaptiveMaxBatchSize.get(), fairShare));
+  }
+
+  /**
+   * Shrinks the maximum batch size when verifying a full batch takes longer than the target and
+   * grows it back while batches complete well within the target.
+   */
+  @VisibleForTesting
+  void updateAdaptiveBatchSize(final int batchSize, final long durationNanos) {
+    final int currentMax = adaptiveMaxBatchSize.get();
+    if (durationNanos > TARGET_BATCH_DURATION_NANOS) {
+      final int reducedMax = Math.max(minBatchSizeToSplit, batchSize * 3 / 4);
+      if (reducedMax < currentMax) {
+        adaptiveMaxBatchSize.compareAndSet(currentMax, reducedMax);
+      }
+    } else if (batchSize >= currentMax && durationNanos < TARGET_BATCH_DURATION_NANOS / 2) {
+      final int increasedMax = Math.min(maxBatchSize, currentMax + Math.max(1, currentMax / 8));
+      adaptiveMaxBatchSize.compareAndSet(currentMax, increasedMax);
+    }
+  }
+
   @VisibleForTesting
   void batchVerifySignatures(final List<SignatureTask> tasks) {
     batchCounter.inc();
@@ -199,11 +290,13 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
       allSignatures.addAll(task.signatures);
     }
 
+    final long startNanos = System.nanoTime();
     final boolean batchIsValid =
         strictThreadLimitEnabled
             ? BLS.batchVerify(allKeys, allMessages, allSignatures, allKeys.size() > 1, false)
             : BLS.batchVerify(allKeys, allMessages, allSignatures);
     if (batchIsValid) {
+      updateAdaptiveBatchSize(tasks.size(), System.nanoTime() - startNanos);
       for (SignatureTask task : tasks) {
         task.completeAsync(true);
       }
@@ -211,10 +304,22 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
       // We only had 1 signature, so it must be invalid
       tasks.get(0).completeAsync(false);
     } else if (tasks.size() >= minBatchSizeToSplit) {
-      // Split up tasks and try to verify in smaller batches
+      // Split up tasks and try to verify in smaller batches. All but the first part are made
+      // available to other verification threads, any that are still unclaimed once the first part
+      // is done are verified on this thread.
       final List<List<SignatureTask>> splitTasks = splitTasks(tasks);
-      for (List<SignatureTask> splitTask : splitTasks) {
-        batchVerifySignatures(splitTask);
+      final List<SplitBatch> offeredBatches = new ArrayList<>();
+      for (List<SignatureTask> splitTask : splitTasks.subList(1, splitTasks.size())) {
+        final SplitBatch splitBatch = new SplitBatch(nextSequence.getAndIncrement(), splitTask);
+        offeredBatches.add(splitBatch);
+        batchSignatureTasks.add(splitBatch);
+      }
+      splitBatchCounter.inc(offeredBatches.size());
+      batchVerifySignatures(splitTasks.get(0));
+      for (SplitBatch splitBatch : offeredBatches) {
+        if (splitBatch.claim()) {
+          batchVerifySignatures(splitBatch.tasks);
+        }
       }
     } else {
       // Validate each signature individually
@@ -233,30 +338,104 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
   }
 
   private double getQueueSize() {
-    return batchSignatureTasks.size();
+    return queuedTaskCount.get();
+  }
+
+  /**
+   * Work is taken from the queue in lane order so that split batches are picked up first and high
+   * priority signatures never wait behind gossip attestations.
+   */
+  enum Lane {
+    SPLIT,
+    HIGH_PRIORITY,
+    NORMAL
+  }
+
+  interface WorkItem {
+    Lane getLane();
+
+    long getSequence();
+  }
+
+  private static class SplitBatch implements WorkItem {
+    private final long sequence;
+    private final List<SignatureTask> tasks;
+    private final AtomicBoolean claimed = new AtomicBoolean(false);
+
+    private SplitBatch(final long sequence, final List<SignatureTask> tasks) {
+      this.sequence = sequence;
+      this.tasks = tasks;
+    }
+
+    @Override
+    public Lane getLane() {
+      return Lane.SPLIT;
+    }
+
+    @Override
+    public long getSequence() {
+      return sequence;
+    }
+
+    public boolean claim() {
+      return claimed.compareAndSet(false, true);
+    }
   }
 
   @VisibleForTesting
-  static class SignatureTask {
+  static class SignatureTask implements WorkItem {
     final SafeFuture<Boolean> result = new SafeFuture<>();
     private final AsyncRunner asyncRunner;
+    private final Lane lane;
+    private final long sequence;
     final List<List<BLSPublicKey>> publicKeys;
     final List<Bytes> messages;
     final List<BLSSignature> signatures;
 
     private SignatureTask(
         final AsyncRunner asyncRunner,
+        final Lane lane,
+        final long sequence,
         final List<List<BLSPublicKey>> publicKeys,
         final List<Bytes> messages,
         final List<BLSSignature> signatures) {
       this.asyncRunner = asyncRunner;
+      this.lane = lane;
+      this.sequence = sequence;
       this.publicKeys = publicKeys;
       this.messages = messages;
       this.signatures = signatures;
     }
 
+    @Override
+    public Lane getLane() {
+      return lane;
+    }
+
+    @Override
+    public long getSequence() {
+      return sequence;
+    }
+
     public void completeAsync(final boolean isValid) {
       asyncRunner.runAsync(() -> result.complete(isValid)).finish(result::completeExceptionally);
     }
   }
+
+  private class HighPriorityVerifier implements AsyncBLSSignatureVerifier {
+
+    @Override
+    public SafeFuture<Boolean> verify(
+        final List<BLSPublicKey> publicKeys, final Bytes message, final BLSSignature signature) {
+      return verify(singletonList(publicKeys), singletonList(message), singletonList(signature));
+    }
+
+    @Override
+    public SafeFuture<Boolean> verify(
+        final List<List<BLSPublicKey>> publicKeys,
+        final List<Bytes> messages,
+        final List<BLSSignature> signatures) {
+      return enqueue(Lane.HIGH_PRIORITY, publicKeys, messages, signatures);
+    }
+  }
 }
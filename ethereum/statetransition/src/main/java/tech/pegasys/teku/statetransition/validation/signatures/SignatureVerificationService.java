@@ -22,4 +22,12 @@ public abstract class SignatureVerificationService extends Service
   public static SignatureVerificationService createSimple() {
     return new SimpleSignatureVerificationService();
   }
+
+  /**
+   * Returns a verifier for signatures that should not wait behind large volumes of gossip
+   * attestations, such as aggregates and sync committee contributions.
+   */
+  public AsyncBLSSignatureVerifier highPriority() {
+    return this;
+  }
 }
@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.statetransition;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
@@ -28,12 +29,15 @@ import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.generator.ChainBuilder;
 import tech.pegasys.teku.spec.logic.common.util.BeaconStateUtil;
 import tech.pegasys.teku.storage.client.RecentChainData;
 import tech.pegasys.teku.storage.storageSystem.InMemoryStorageSystemBuilder;
@@ -46,8 +50,10 @@ class EpochCachePrimerTest {
   private final Spec mockSpec = mock(Spec.class);
   private final BeaconStateUtil beaconStateUtil = mock(BeaconStateUtil.class);
   private final RecentChainData recentChainData = storageSystem.recentChainData();
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
 
-  private final EpochCachePrimer primer = new EpochCachePrimer(mockSpec, recentChainData);
+  private final EpochCachePrimer primer =
+      new EpochCachePrimer(mockSpec, recentChainData, metricsSystem, 0, Optional.empty());
 
   @BeforeEach
   void setUp() {
@@ -153,6 +159,62 @@ class EpochCachePrimerTest {
     verify(beaconStateUtil).getEffectiveBalances(justifiedState);
   }
 
+  @Test
+  void shouldRecordHitWhenPrecomputedStateBecomesTarget() {
+    primer.primeCacheForEpoch(UInt64.ONE);
+
+    // First slot of the epoch is empty so the head block is the target
+    storageSystem.chainUpdater().updateBestBlock(storageSystem.chainUpdater().advanceChain(9));
+    primer.primeCacheForEpoch(UInt64.valueOf(2));
+
+    assertPrecomputeResults(1, 0);
+  }
+
+  @Test
+  void shouldRecordMissWhenForkBecomesTarget() {
+    final ChainBuilder fork = storageSystem.chainBuilder().fork();
+    final SignedBlockAndState forkHead = fork.generateBlockAtSlot(6);
+    storageSystem.chainUpdater().saveBlock(forkHead);
+    storageSystem.chainUpdater().updateBestBlock(storageSystem.chainUpdater().advanceChain(7));
+
+    primer.primeCacheForEpoch(UInt64.ONE);
+
+    storageSystem.chainUpdater().updateBestBlock(forkHead);
+    primer.primeCacheForEpoch(UInt64.valueOf(2));
+
+    assertPrecomputeResults(0, 1);
+  }
+
+  @Test
+  void shouldPrecomputeForkHeadsWhenEnabled() {
+    final EpochCachePrimer forkPrimer =
+        new EpochCachePrimer(mockSpec, recentChainData, metricsSystem, 1, Optional.empty());
+    final ChainBuilder fork = storageSystem.chainBuilder().fork();
+    final SignedBlockAndState forkHead = fork.generateBlockAtSlot(6);
+    storageSystem.chainUpdater().saveBlock(forkHead);
+    storageSystem.chainUpdater().updateBestBlock(storageSystem.chainUpdater().advanceChain(7));
+
+    forkPrimer.primeCacheForEpoch(UInt64.ONE);
+
+    storageSystem.chainUpdater().updateBestBlock(forkHead);
+    forkPrimer.primeCacheForEpoch(UInt64.valueOf(2));
+
+    assertPrecomputeResults(1, 0);
+  }
+
+  private void assertPrecomputeResults(final long hits, final long misses) {
+    assertThat(
+            metricsSystem
+                .getCounter(TekuMetricCategory.BEACON, "epoch_checkpoint_state_precompute_total")
+                .getValue("hit"))
+        .isEqualTo(hits);
+    assertThat(
+            metricsSystem
+                .getCounter(TekuMetricCategory.BEACON, "epoch_checkpoint_state_precompute_total")
+                .getValue("miss"))
+        .isEqualTo(misses);
+  }
+
   private void forEachSlotInEpoch(final UInt64 epoch, final Consumer<UInt64> action) {
     UInt64.range(
             realSpec.computeStartSlotAtEpoch(epoch),
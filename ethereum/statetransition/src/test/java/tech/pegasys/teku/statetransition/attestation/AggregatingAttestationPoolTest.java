@@ -23,6 +23,7 @@ import static tech.pegasys.teku.statetransition.attestation.AggregatingAttestati
 import static tech.pegasys.teku.statetransition.attestation.AggregatingAttestationPool.DEFAULT_MAXIMUM_ATTESTATION_COUNT;
 import static tech.pegasys.teku.statetransition.attestation.AggregatorUtil.aggregateAttestations;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -32,6 +33,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszBitlist;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
@@ -56,7 +58,11 @@ class AggregatingAttestationPoolTest {
 
   private AggregatingAttestationPool aggregatingPool =
       new AggregatingAttestationPool(
-          mockSpec, new NoOpMetricsSystem(), DEFAULT_MAXIMUM_ATTESTATION_COUNT);
+          mockSpec,
+          StubTimeProvider.withTimeInMillis(0),
+          new NoOpMetricsSystem(),
+          DEFAULT_MAXIMUM_ATTESTATION_COUNT,
+          Duration.ofMillis(50));
 
   private final AttestationForkChecker forkChecker = mock(AttestationForkChecker.class);
   private final AttestationWorthinessChecker worthinessChecker =
@@ -228,6 +234,35 @@ class AggregatingAttestationPoolTest {
         .containsExactly(attestation3, attestation2, attestation1);
   }
 
+  @Test
+  void getAttestationsForBlock_shouldIncludeAttestationsWithMostNewValidatorsFirst() {
+    final Attestation attestation1 =
+        addAttestationFromValidators(dataStructureUtil.randomAttestationData(ONE), 1);
+    final Attestation attestation2 =
+        addAttestationFromValidators(dataStructureUtil.randomAttestationData(ZERO), 1, 2, 3);
+
+    final BeaconState stateAtBlockSlot = dataStructureUtil.randomBeaconState(UInt64.valueOf(2));
+
+    assertThat(
+            aggregatingPool.getAttestationsForBlock(
+                stateAtBlockSlot, forkChecker, worthinessChecker))
+        .containsExactly(attestation2, attestation1);
+  }
+
+  @Test
+  void getAttestationsForBlock_shouldNotIncludeAttestationsWithNoNewValidatorsForData() {
+    final AttestationData attestationData = dataStructureUtil.randomAttestationData(ZERO);
+    final Attestation attestation1 = addAttestationFromValidators(attestationData, 1, 2, 3);
+    addAttestationFromValidators(attestationData, 1, 2);
+
+    final BeaconState stateAtBlockSlot = dataStructureUtil.randomBeaconState(ONE);
+
+    assertThat(
+            aggregatingPool.getAttestationsForBlock(
+                stateAtBlockSlot, forkChecker, worthinessChecker))
+        .containsExactly(attestation1);
+  }
+
   @Test
   public void getAttestationsForBlock_shouldNotAddMoreAttestationsThanAllowedInBlock() {
     final BeaconState state = dataStructureUtil.randomBeaconState(ONE);
@@ -0,0 +1,190 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.attestation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ONE;
+import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ZERO;
+
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszBitlist;
+import tech.pegasys.teku.infrastructure.ssz.primitive.SszByte;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.constants.ParticipationFlags;
+import tech.pegasys.teku.spec.datastructures.attestation.ValidateableAttestation;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation.AttestationSchema;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.MutableBeaconStateAltair;
+import tech.pegasys.teku.spec.generator.ChainBuilder;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class AttestationPackerTest {
+  private static final Duration TIME_BUDGET = Duration.ofMillis(50);
+  private static final int MAX_ATTESTATIONS = 128;
+
+  private final Spec spec = TestSpecFactory.createMinimalAltair();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final AttestationSchema attestationSchema =
+      spec.getGenesisSchemaDefinitions().getAttestationSchema();
+  private final ChainBuilder chainBuilder = ChainBuilder.create(spec);
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInMillis(1000);
+
+  private final AttestationPacker packer = new AttestationPacker(spec, timeProvider, TIME_BUDGET);
+
+  private AttestationData attestationData;
+  private IntList committee;
+  private BeaconState stateAtBlockSlot;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    chainBuilder.generateGenesis();
+    final SignedBlockAndState block = chainBuilder.generateBlockAtSlot(ONE);
+    attestationData = spec.getGenericAttestationData(ONE, block.getState(), block, ZERO);
+    committee = spec.getBeaconCommittee(block.getState(), ONE, ZERO);
+    stateAtBlockSlot = spec.processSlots(block.getState(), UInt64.valueOf(2));
+  }
+
+  @Test
+  void shouldRejectNonPositiveTimeBudget() {
+    assertThatThrownBy(() -> new AttestationPacker(spec, timeProvider, Duration.ZERO))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new AttestationPacker(spec, timeProvider, Duration.ofMillis(-1)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldSelectCandidateWithMostNewValidatorsWithinTimeBudget() {
+    final Attestation attestation1 = createAttestation(attestationData, 0);
+    final Attestation attestation2 = createAttestation(attestationData, 0, 1);
+    final Attestation attestation3 = createAttestation(attestationData, 0, 1, 2, 3);
+
+    final List<Attestation> result =
+        packer.pack(stateAtBlockSlot, candidates(attestation1, attestation2, attestation3), 1, 1);
+
+    assertThat(result).containsExactly(attestation3);
+  }
+
+  @Test
+  void shouldStopGatheringCandidatesWhenTimeBudgetExhausted() {
+    final Attestation attestation1 = createAttestation(attestationData, 0);
+    final Attestation attestation2 = createAttestation(attestationData, 0, 1);
+    final Attestation attestation3 = createAttestation(attestationData, 0, 1, 2, 3);
+
+    // Each candidate takes 20ms to produce so the budget runs out before the third is considered
+    final Stream<ValidateableAttestation> candidates =
+        candidates(attestation1, attestation2, attestation3)
+            .peek(__ -> timeProvider.advanceTimeByMillis(20));
+    final List<Attestation> result = packer.pack(stateAtBlockSlot, candidates, 1, 1);
+
+    assertThat(result).containsExactly(attestation2);
+  }
+
+  @Test
+  void shouldAlwaysGatherEnoughCandidatesToFillBlockWhenTimeBudgetExhausted() {
+    final Attestation attestation1 = createAttestation(attestationData, 0);
+    final Attestation attestation2 = createAttestation(attestationData, 1);
+    final Attestation attestation3 = createAttestation(attestationData, 2);
+
+    final Stream<ValidateableAttestation> candidates =
+        candidates(attestation1, attestation2, attestation3)
+            .peek(__ -> timeProvider.advanceTimeBy(TIME_BUDGET));
+    final List<Attestation> result = packer.pack(stateAtBlockSlot, candidates, 2, 2);
+
+    assertThat(result).containsExactly(attestation1, attestation2);
+  }
+
+  @Test
+  void shouldIncludeAttestationsForDifferentDataFromSameCommittee() {
+    final AttestationData otherData =
+        new AttestationData(
+            attestationData.getSlot(),
+            attestationData.getIndex(),
+            dataStructureUtil.randomBytes32(),
+            attestationData.getSource(),
+            attestationData.getTarget());
+    final Attestation attestation1 = createAttestation(attestationData, 0);
+    final Attestation attestation2 = createAttestation(otherData, 0);
+
+    final List<Attestation> result =
+        packer.pack(
+            stateAtBlockSlot, candidates(attestation1, attestation2), MAX_ATTESTATIONS, 0);
+
+    assertThat(result).containsExactlyInAnyOrder(attestation1, attestation2);
+  }
+
+  @Test
+  void shouldNotIncludeValidatorsThatAlreadyHaveAllFlagsInState() {
+    final int allFlags =
+        ParticipationFlags.TIMELY_SOURCE_FLAG
+            | ParticipationFlags.TIMELY_TARGET_FLAG
+            | ParticipationFlags.TIMELY_HEAD_FLAG;
+    withParticipation(committee.getInt(0), allFlags);
+    withParticipation(committee.getInt(1), allFlags);
+    final Attestation alreadyIncluded = createAttestation(attestationData, 0, 1);
+    final Attestation newValidator = createAttestation(attestationData, 2);
+
+    final List<Attestation> result =
+        packer.pack(
+            stateAtBlockSlot, candidates(alreadyIncluded, newValidator), MAX_ATTESTATIONS, 0);
+
+    assertThat(result).containsExactly(newValidator);
+  }
+
+  @Test
+  void shouldIncludeValidatorsThatAreMissingFlagsTheAttestationWouldSet() {
+    // Validators included late only earned the source flag so a timely attestation still adds
+    // the target and head flags
+    withParticipation(committee.getInt(0), ParticipationFlags.TIMELY_SOURCE_FLAG);
+    withParticipation(committee.getInt(1), ParticipationFlags.TIMELY_SOURCE_FLAG);
+    final Attestation attestation = createAttestation(attestationData, 0, 1);
+
+    final List<Attestation> result =
+        packer.pack(stateAtBlockSlot, candidates(attestation), MAX_ATTESTATIONS, 0);
+
+    assertThat(result).containsExactly(attestation);
+  }
+
+  private void withParticipation(final int validatorIndex, final int flags) {
+    stateAtBlockSlot =
+        stateAtBlockSlot.updated(
+            state ->
+                MutableBeaconStateAltair.required(state)
+                    .getCurrentEpochParticipation()
+                    .set(validatorIndex, SszByte.of(flags)));
+  }
+
+  private Stream<ValidateableAttestation> candidates(final Attestation... attestations) {
+    return Stream.of(attestations)
+        .map(attestation -> ValidateableAttestation.from(spec, attestation));
+  }
+
+  private Attestation createAttestation(
+      final AttestationData data, final int... committeePositions) {
+    final SszBitlist bitlist =
+        attestationSchema.getAggregationBitsSchema().ofBits(committee.size(), committeePositions);
+    return attestationSchema.create(bitlist, data, dataStructureUtil.randomSignature());
+  }
+}
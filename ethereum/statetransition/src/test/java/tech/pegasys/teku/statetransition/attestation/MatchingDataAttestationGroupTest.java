@@ -16,6 +16,7 @@ package tech.pegasys.teku.statetransition.attestation;
 import static org.assertj.core.api.Assertions.assertThat;
 import static tech.pegasys.teku.statetransition.attestation.AggregatorUtil.aggregateAttestations;
 
+import java.util.Iterator;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszBitlist;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -162,6 +163,15 @@ class MatchingDataAttestationGroupTest {
     assertThat(group).containsExactlyInAnyOrder(attestation1, attestation2);
   }
 
+  @Test
+  public void iterator_shouldNotIncludeAttestationsAddedAfterIteratorCreated() {
+    final ValidateableAttestation attestation1 = addAttestation(1, 2, 5);
+    final Iterator<ValidateableAttestation> iterator = group.iterator();
+    addAttestation(3);
+
+    assertThat(iterator).toIterable().containsExactly(attestation1);
+  }
+
   @Test
   public void iterator_shouldOmitAttestationsThatAreAlreadyIncludedInTheAggregate() {
     final ValidateableAttestation aggregate = addAttestation(1, 2, 3);
@@ -16,6 +16,7 @@ package tech.pegasys.teku.statetransition.block;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -296,6 +297,55 @@ public class BlockImporterTest {
         .isEqualTo(BlockImportResult.FAILED_INVALID_ANCESTRY.getFailureReason());
   }
 
+  @Test
+  public void importBlocks_success() throws Exception {
+    final SignedBeaconBlock block1 = otherChain.createAndImportBlockAtSlot(1);
+    final SignedBeaconBlock block2 = otherChain.createAndImportBlockAtSlot(2);
+    localChain.setSlot(block2.getSlot());
+
+    final List<BlockImportResult> results =
+        blockImporter.importBlocks(List.of(block1, block2)).get();
+    assertThat(results).hasSize(2);
+    results.forEach(this::assertSuccessfulResult);
+    assertThat(recentChainData.containsBlock(block2.getRoot())).isTrue();
+  }
+
+  @Test
+  public void importBlocks_invalidSignatureInMiddleOfBatch() throws Exception {
+    final SignedBeaconBlock block1 = otherChain.createAndImportBlockAtSlot(1);
+    final SignedBeaconBlock block2 = otherChain.createAndImportBlockAtSlot(2);
+    final SignedBeaconBlock block3 = otherChain.createAndImportBlockAtSlot(3);
+    final SignedBeaconBlock invalidBlock2 =
+        SignedBeaconBlock.create(spec, block2.getMessage(), BLSTestUtil.randomSignature(2));
+    localChain.setSlot(block3.getSlot());
+
+    final List<BlockImportResult> results =
+        blockImporter.importBlocks(List.of(block1, invalidBlock2, block3)).get();
+    assertThat(results).hasSize(2);
+    assertSuccessfulResult(results.get(0));
+    assertImportFailed(results.get(1), FailureReason.FAILED_STATE_TRANSITION);
+    assertThat(recentChainData.containsBlock(block1.getRoot())).isTrue();
+    assertThat(recentChainData.containsBlock(block2.getRoot())).isFalse();
+    assertThat(recentChainData.containsBlock(block3.getRoot())).isFalse();
+  }
+
+  @Test
+  public void importBlocks_weakSubjectivityFailureOnNonFinalBlock() throws Exception {
+    final SignedBeaconBlock block1 = otherChain.createAndImportBlockAtSlot(1);
+    final SignedBeaconBlock block2 = otherChain.createAndImportBlockAtSlot(2);
+    final SignedBeaconBlock block3 = otherChain.createAndImportBlockAtSlot(3);
+    localChain.setSlot(block3.getSlot());
+    when(weakSubjectivityValidator.isBlockValid(eq(block2), any())).thenReturn(false);
+
+    final List<BlockImportResult> results =
+        blockImporter.importBlocks(List.of(block1, block2, block3)).get();
+    assertThat(results).hasSize(2);
+    assertSuccessfulResult(results.get(0));
+    assertImportFailed(results.get(1), FailureReason.FAILED_WEAK_SUBJECTIVITY_CHECKS);
+    assertThat(recentChainData.containsBlock(block1.getRoot())).isTrue();
+    assertThat(recentChainData.containsBlock(block3.getRoot())).isFalse();
+  }
+
   private void assertSuccessfulResult(final BlockImportResult result) {
     assertThat(result.isSuccessful()).isTrue();
     assertThat(result.getFailureReason()).isNull();
@@ -19,7 +19,9 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -57,6 +59,7 @@ import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.datastructures.attestation.ValidateableAttestation;
 import tech.pegasys.teku.spec.datastructures.blocks.Eth1Data;
 import tech.pegasys.teku.spec.datastructures.blocks.MinimalBeaconBlockSummary;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
 import tech.pegasys.teku.spec.datastructures.execution.ExecutionPayload;
 import tech.pegasys.teku.spec.datastructures.execution.PowBlock;
@@ -532,6 +535,76 @@ class ForkChoiceTest {
     importBlockWithError(chainBuilder.generateNextBlock(), FailureReason.FAILED_STATE_TRANSITION);
   }
 
+  @Test
+  void onBlocks_shouldImportAllBlocksWhenBatchIsValid() {
+    doMerge();
+    final SignedBlockAndState block1 = chainBuilder.generateNextBlock();
+    final SignedBlockAndState block2 = chainBuilder.generateNextBlock();
+    storageSystem.chainUpdater().advanceCurrentSlotToAtLeast(block2.getSlot());
+    final ExecutionLayerChannelStub executionLayer = spy(this.executionLayer);
+
+    final SafeFuture<List<BlockImportResult>> result =
+        forkChoice.onBlocks(List.of(block1.getBlock(), block2.getBlock()), executionLayer);
+
+    assertThat(result).isCompleted();
+    assertThat(result.join()).hasSize(2).allMatch(BlockImportResult::isSuccessful);
+    assertThat(recentChainData.getBestBlockRoot()).contains(block2.getRoot());
+    verify(executionLayer).engineNewPayload(getExecutionPayload(block1));
+    verify(executionLayer).engineNewPayload(getExecutionPayload(block2));
+  }
+
+  @Test
+  void onBlocks_shouldImportBlocksBeforeBlockWithInvalidSignature() {
+    doMerge();
+    final SignedBlockAndState block1 = chainBuilder.generateNextBlock();
+    final SignedBlockAndState block2 = chainBuilder.generateNextBlock();
+    final SignedBlockAndState block3 = chainBuilder.generateNextBlock();
+    final SignedBeaconBlock invalidBlock2 =
+        SignedBeaconBlock.create(
+            spec, block2.getBlock().getMessage(), dataStructureUtil.randomSignature());
+    storageSystem.chainUpdater().advanceCurrentSlotToAtLeast(block3.getSlot());
+    final ExecutionLayerChannelStub executionLayer = spy(this.executionLayer);
+
+    final SafeFuture<List<BlockImportResult>> result =
+        forkChoice.onBlocks(
+            List.of(block1.getBlock(), invalidBlock2, block3.getBlock()), executionLayer);
+
+    assertThat(result).isCompleted();
+    final List<BlockImportResult> results = result.join();
+    assertThat(results).hasSize(2);
+    assertThat(results.get(0).isSuccessful()).isTrue();
+    assertThat(results.get(1).getFailureReason()).isEqualTo(FailureReason.FAILED_STATE_TRANSITION);
+    assertThat(recentChainData.containsBlock(block1.getRoot())).isTrue();
+    assertThat(recentChainData.containsBlock(block2.getRoot())).isFalse();
+    assertThat(recentChainData.containsBlock(block3.getRoot())).isFalse();
+
+    // Only the payload of the verified block is sent to the execution layer
+    verify(executionLayer).engineNewPayload(getExecutionPayload(block1));
+    verify(executionLayer, never()).engineNewPayload(getExecutionPayload(block2));
+    verify(executionLayer, never()).engineNewPayload(getExecutionPayload(block3));
+  }
+
+  @Test
+  void onBlocks_shouldNotExecutePayloadsWhenFirstBlockHasInvalidSignature() {
+    doMerge();
+    final SignedBlockAndState block1 = chainBuilder.generateNextBlock();
+    final SignedBlockAndState block2 = chainBuilder.generateNextBlock();
+    final SignedBeaconBlock invalidBlock1 =
+        SignedBeaconBlock.create(
+            spec, block1.getBlock().getMessage(), dataStructureUtil.randomSignature());
+    storageSystem.chainUpdater().advanceCurrentSlotToAtLeast(block2.getSlot());
+    final ExecutionLayerChannelStub executionLayer = spy(this.executionLayer);
+
+    final SafeFuture<List<BlockImportResult>> result =
+        forkChoice.onBlocks(List.of(invalidBlock1, block2.getBlock()), executionLayer);
+
+    assertThat(result).isCompleted();
+    final List<BlockImportResult> results = result.join();
+    assertThat(results).hasSize(1);
+    assertThat(results.get(0).getFailureReason()).isEqualTo(FailureReason.FAILED_STATE_TRANSITION);
+    verify(executionLayer, never()).engineNewPayload(any());
+  }
+
   @Test
   void onBlock_shouldChangeForkChoiceForLatestValidHashOnInvalidExecutionPayload() {
     doMerge();
@@ -1038,6 +1111,15 @@ class ForkChoiceTest {
     return updatedAttestationSlot;
   }
 
+  private ExecutionPayload getExecutionPayload(final SignedBlockAndState blockAndState) {
+    return blockAndState
+        .getBlock()
+        .getMessage()
+        .getBody()
+        .getOptionalExecutionPayload()
+        .orElseThrow();
+  }
+
   private void assertBlockImportedSuccessfully(
       final SafeFuture<BlockImportResult> importResult, final boolean optimistically) {
     assertThat(importResult).isCompleted();
@@ -151,6 +151,23 @@ class AttestationStateSelectorTest {
     assertThatSafeFuture(result).isCompletedWithOptionalContaining(expected.getState());
   }
 
+  @Test
+  void shouldUseStateWithSameShufflingWhenBlockIsAFork() {
+    chainUpdater.updateBestBlock(chainUpdater.advanceChainUntil(17));
+    final ChainBuilder forkBuilder = chainBuilder.fork();
+    final BeaconState canonicalState = chainBuilder.getLatestBlockAndState().getState();
+    recentChainData.getAttesterShufflingCache().onStateAvailable(canonicalState);
+    chainUpdater.updateBestBlock(chainUpdater.advanceChainUntil(25));
+
+    // Fork diverges after the shuffling decision block so committees are the same
+    final SignedBlockAndState forkBlock = forkBuilder.generateBlockAtSlot(20);
+    chainUpdater.saveBlock(forkBlock);
+
+    final SafeFuture<Optional<BeaconState>> result =
+        selector.getStateToValidate(attestationFor(UInt64.valueOf(21), forkBlock.getRoot()));
+    assertThatSafeFuture(result).isCompletedWithOptionalContaining(canonicalState);
+  }
+
   private SafeFuture<Optional<BeaconState>> selectStateFor(
       final UInt64 attestationSlot, final Bytes32 blockRoot) {
     final AttestationData attestationData = attestationFor(attestationSlot, blockRoot);
@@ -42,6 +42,7 @@ import tech.pegasys.teku.infrastructure.async.Waiter;
 import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
 import tech.pegasys.teku.service.serviceutils.ServiceCapacityExceededException;
 import tech.pegasys.teku.statetransition.validation.signatures.AggregatingSignatureVerificationService.SignatureTask;
+import tech.pegasys.teku.statetransition.validation.signatures.AggregatingSignatureVerificationService.WorkItem;
 
 public class AggregatingSignatureVerificationServiceTest {
   private static List<BLSKeyPair> keys = BLSKeyGenerator.generateKeyPairs(50);
@@ -278,6 +279,90 @@ public class AggregatingSignatureVerificationServiceTest {
     }
   }
 
+  @Test
+  public void verify_highPriorityTasksShouldBeOrderedFirst() {
+    startService();
+    final SafeFuture<Boolean> normal1 = executeValidVerify(0, 0);
+    final SafeFuture<Boolean> normal2 = executeValidVerify(1, 1);
+    final BLSKeyPair keypair = keys.get(2);
+    final Bytes message = Bytes.of(2);
+    final SafeFuture<Boolean> highPriority =
+        service
+            .highPriority()
+            .verify(keypair.getPublicKey(), message, BLS.sign(keypair.getSecretKey(), message));
+
+    final List<SignatureTask> tasks = getPendingTasks();
+    assertThat(tasks).hasSize(3);
+    assertThat(tasks.get(0).result).isSameAs(highPriority);
+    assertThat(tasks.get(1).result).isSameAs(normal1);
+    assertThat(tasks.get(2).result).isSameAs(normal2);
+
+    service.batchVerifySignatures(tasks);
+    completionRunner.executeQueuedActions();
+    assertThat(highPriority).isCompletedWithValue(true);
+    assertThat(normal1).isCompletedWithValue(true);
+    assertThat(normal2).isCompletedWithValue(true);
+  }
+
+  @Test
+  public void verify_highPriorityTasksShouldShareQueueCapacity() {
+    startService();
+    fillQueue();
+
+    final BLSKeyPair keypair = keys.get(0);
+    final SafeFuture<Boolean> future =
+        service.highPriority().verify(keypair.getPublicKey(), Bytes.of(0), BLSSignature.empty());
+
+    assertThat(future).isCompletedExceptionally();
+    assertThatThrownBy(future::get).hasCauseInstanceOf(ServiceCapacityExceededException.class);
+  }
+
+  @Test
+  public void verify_mixedSignatures_shouldVerifyAllSplitBatches() {
+    verifyMixedSignatures(queueCapacity);
+
+    // Any halves offered to other threads were reclaimed by the verifying thread
+    assertThat(getPendingTasks()).isEmpty();
+  }
+
+  @Test
+  public void getTargetBatchSize_shouldShareQueuedTasksBetweenThreads() {
+    assertThat(service.getTargetBatchSize(0)).isEqualTo(1);
+    assertThat(service.getTargetBatchSize(1)).isEqualTo(1);
+    assertThat(service.getTargetBatchSize(9)).isBetween(5, 9);
+    assertThat(service.getTargetBatchSize(1000)).isEqualTo(batchSize);
+  }
+
+  @Test
+  public void updateAdaptiveBatchSize_shouldShrinkWhenBatchesAreSlow() {
+    final long slowBatchNanos =
+        AggregatingSignatureVerificationService.TARGET_BATCH_DURATION_NANOS * 2;
+    service.updateAdaptiveBatchSize(batchSize, slowBatchNanos);
+    assertThat(service.getTargetBatchSize(1000)).isEqualTo(batchSize * 3 / 4);
+
+    for (int i = 0; i < 20; i++) {
+      service.updateAdaptiveBatchSize(service.getTargetBatchSize(1000), slowBatchNanos);
+    }
+    assertThat(service.getTargetBatchSize(1000)).isEqualTo(minBatchSizeToSplit);
+  }
+
+  @Test
+  public void updateAdaptiveBatchSize_shouldGrowBackWhenFullBatchesAreFast() {
+    service.updateAdaptiveBatchSize(
+        batchSize, AggregatingSignatureVerificationService.TARGET_BATCH_DURATION_NANOS * 2);
+    final int reducedSize = service.getTargetBatchSize(1000);
+    assertThat(reducedSize).isLessThan(batchSize);
+
+    // Fast but partial batches don't prove the larger size is affordable
+    service.updateAdaptiveBatchSize(reducedSize - 1, 0);
+    assertThat(service.getTargetBatchSize(1000)).isEqualTo(reducedSize);
+
+    for (int i = 0; i < 20; i++) {
+      service.updateAdaptiveBatchSize(service.getTargetBatchSize(1000), 0);
+    }
+    assertThat(service.getTargetBatchSize(1000)).isEqualTo(batchSize);
+  }
+
   @SuppressWarnings("FutureReturnValueIgnored")
   @Test
   public void splitTasks_evenNumber() {
@@ -397,8 +482,14 @@ public class AggregatingSignatureVerificationServiceTest {
   }
 
   private List<SignatureTask> getPendingTasks() {
+    final List<WorkItem> pendingItems = new ArrayList<>();
+    service.batchSignatureTasks.drainTo(pendingItems);
     final List<SignatureTask> pendingTasks = new ArrayList<>();
-    service.batchSignatureTasks.drainTo(pendingTasks);
+    for (WorkItem item : pendingItems) {
+      if (item instanceof SignatureTask) {
+        pendingTasks.add((SignatureTask) item);
+      }
+    }
     return pendingTasks;
   }
 
@@ -406,6 +406,30 @@ public class BLS {
     return getBlsImpl().completeBatchVerify(preparedSignatures);
   }
 
+  /**
+   * Hashes a message to the curve so that it can be signed by many secret keys with {@link
+   * #sign(BLSSecretKey, HashedMessage)}, producing the same signatures as {@link
+   * #sign(BLSSecretKey, Bytes)} while only hashing the message once.
+   *
+   * @param message The message to hash, not null
+   * @return An opaque instance which may be signed any number of times
+   */
+  public static HashedMessage hashMessage(Bytes message) {
+    return getBlsImpl().hashMessage(message);
+  }
+
+  /**
+   * Generates a BLSSignature from a private key and a message hashed by {@link
+   * #hashMessage(Bytes)}.
+   *
+   * @param secretKey The secret key, not null
+   * @param message The hashed message, not null
+   * @return The Signature, not null
+   */
+  public static BLSSignature sign(BLSSecretKey secretKey, HashedMessage message) {
+    return new BLSSignature(getBlsImpl().sign(secretKey.getSecretKey(), message));
+  }
+
   /*
    * The following methods implement BLS sign and verify with arbitrary domain separation tag (DST).
    */
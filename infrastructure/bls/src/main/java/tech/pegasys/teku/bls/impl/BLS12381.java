@@ -21,6 +21,7 @@ import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.apache.tuweni.bytes.Bytes48;
 import tech.pegasys.teku.bls.BatchSemiAggregate;
+import tech.pegasys.teku.bls.HashedMessage;
 
 /**
  * This Boneh-Lynn-Shacham (BLS) signature implementation is constructed from a pairing friendly
@@ -149,6 +150,24 @@ public interface BLS12381 {
    */
   boolean completeBatchVerify(List<? extends BatchSemiAggregate> preparedList);
 
+  /**
+   * Hashes a message to the G2 curve using the Eth2 domain separation tag
+   *
+   * @param message The message to hash, not null
+   * @return the hashed point in an opaque instance which may be passed to {@link
+   *     #sign(SecretKey, HashedMessage)} any number of times
+   */
+  HashedMessage hashMessage(Bytes message);
+
+  /**
+   * Generates a Signature from a private key and a message returned by {@link #hashMessage(Bytes)}
+   *
+   * @param secretKey The secret key, not null
+   * @param message The hashed message, not null
+   * @return The Signature, not null
+   */
+  Signature sign(SecretKey secretKey, HashedMessage message);
+
   default Signature randomSignature(int seed) {
     KeyPair keyPair = generateKeyPair(seed);
     byte[] message = "Hello, world!".getBytes(UTF_8);
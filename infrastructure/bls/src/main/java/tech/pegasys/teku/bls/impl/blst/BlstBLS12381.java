@@ -28,10 +28,12 @@ import supranational.blst.P2;
 import supranational.blst.P2_Affine;
 import supranational.blst.Pairing;
 import tech.pegasys.teku.bls.BatchSemiAggregate;
+import tech.pegasys.teku.bls.HashedMessage;
 import tech.pegasys.teku.bls.impl.BLS12381;
 import tech.pegasys.teku.bls.impl.BlsException;
 import tech.pegasys.teku.bls.impl.KeyPair;
 import tech.pegasys.teku.bls.impl.PublicKey;
+import tech.pegasys.teku.bls.impl.SecretKey;
 import tech.pegasys.teku.bls.impl.Signature;
 import tech.pegasys.teku.infrastructure.crypto.SecureRandomProvider;
 
@@ -62,6 +64,21 @@ public class BlstBLS12381 implements BLS12381 {
     return new BlstSignature(p2Affine);
   }
 
+  @Override
+  public HashedMessage hashMessage(final Bytes message) {
+    return new BlstHashedMessage(HashToCurve.hashToG2(message));
+  }
+
+  @Override
+  public Signature sign(final SecretKey secretKey, final HashedMessage message) {
+    final BlstSecretKey blstSecretKey = (BlstSecretKey) secretKey;
+    if (blstSecretKey.isZero()) {
+      throw new IllegalArgumentException("Signing with zero private key is prohibited");
+    }
+    final P2 p2 = ((BlstHashedMessage) message).copyPoint().sign_with(blstSecretKey.getKey());
+    return new BlstSignature(p2.to_affine());
+  }
+
   public static boolean verify(BlstPublicKey publicKey, Bytes message, BlstSignature signature) {
     return verify(publicKey, message, signature, HashToCurve.ETH2_DST);
   }
@@ -0,0 +1,31 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.bls.impl.blst;
+
+import supranational.blst.P2;
+import tech.pegasys.teku.bls.HashedMessage;
+
+final class BlstHashedMessage implements HashedMessage {
+
+  private final P2 point;
+
+  BlstHashedMessage(final P2 point) {
+    this.point = point;
+  }
+
+  /** Returns a copy of the hashed point, as signing multiplies the point in place. */
+  P2 copyPoint() {
+    return point.dup();
+  }
+}
@@ -235,6 +235,24 @@ public abstract class BLSTest {
     assertThrows(IllegalArgumentException.class, () -> BLS.sign(zeroSK(), message));
   }
 
+  @Test
+  void succeedsWhenSigningHashedMessageGivesSameSignatures() {
+    Bytes message = Bytes.wrap("Hello, world!".getBytes(UTF_8));
+    HashedMessage hashedMessage = BLS.hashMessage(message);
+    for (int seed = 1; seed <= 3; seed++) {
+      BLSKeyPair keyPair = BLSTestUtil.randomKeyPair(seed);
+      assertEquals(
+          BLS.sign(keyPair.getSecretKey(), message),
+          BLS.sign(keyPair.getSecretKey(), hashedMessage));
+    }
+  }
+
+  @Test
+  void succeedsWhenSigningHashedMessageWithZeroPKeyThrows() {
+    HashedMessage hashedMessage = BLS.hashMessage(Bytes.wrap("Hello, world!".getBytes(UTF_8)));
+    assertThrows(IllegalArgumentException.class, () -> BLS.sign(zeroSK(), hashedMessage));
+  }
+
   @Test
   void aggregateInfinitePublicKeyAndSignature() {
     BLSKeyPair keyPair1 = BLSTestUtil.randomKeyPair(1);
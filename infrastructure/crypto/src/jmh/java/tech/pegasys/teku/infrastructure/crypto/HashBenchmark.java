@@ -24,8 +24,13 @@ import org.openjdk.jmh.infra.Blackhole;
 @State(Scope.Benchmark)
 public class HashBenchmark {
 
+  private static final int PAIR_COUNT = 1024;
+
   private final Bytes data1 = Bytes32.random();
   private final Bytes data2 = Bytes32.random();
+  private final Bytes pairs = Bytes.random(PAIR_COUNT * Sha256PairHasher.INPUT_SIZE);
+  private final byte[] pairsArray = pairs.toArray();
+  private final byte[] pairsOutput = new byte[PAIR_COUNT * Sha256PairHasher.OUTPUT_SIZE];
 
   @Benchmark
   @Fork(2)
@@ -38,4 +43,20 @@ public class HashBenchmark {
   public void measureSha256_multiarg(Blackhole blackhole) {
     blackhole.consume(Hash.sha256(data1, data2));
   }
+
+  @Benchmark
+  @Fork(2)
+  public void measureSha256_1024Pairs_multiarg(Blackhole blackhole) {
+    for (int i = 0; i < PAIR_COUNT; i++) {
+      final int offset = i * Sha256PairHasher.INPUT_SIZE;
+      blackhole.consume(Hash.sha256(pairs.slice(offset, 32), pairs.slice(offset + 32, 32)));
+    }
+  }
+
+  @Benchmark
+  @Fork(2)
+  public void measureSha256_1024Pairs_pairHasher(Blackhole blackhole) {
+    Sha256PairHasher.getDefault().hashPairs(pairsArray, 0, pairsOutput, 0, PAIR_COUNT);
+    blackhole.consume(pairsOutput);
+  }
 }
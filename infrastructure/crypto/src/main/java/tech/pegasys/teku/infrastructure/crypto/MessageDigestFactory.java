@@ -28,6 +28,8 @@ public class MessageDigestFactory {
   public static final String KECCAK_256 = "KECCAK-256";
   private static final Provider BOUNCY_CASTLE_PROVIDER = new BouncyCastleProvider();
   private static final Provider SHA_256_SECURITY_PROVIDER = selectSha256SecurityProvider();
+  private static final ThreadLocal<MessageDigest> THREAD_LOCAL_SHA_256 =
+      ThreadLocal.withInitial(MessageDigestFactory::createSha256);
 
   @SuppressWarnings("DoNotInvokeMessageDigestDirectly")
   public static MessageDigest createSha256() {
@@ -38,6 +40,15 @@ public class MessageDigestFactory {
     }
   }
 
+  /**
+   * Returns a SHA-256 digest owned by the calling thread, avoiding the provider lookup performed by
+   * {@link #createSha256()}. Callers must complete the digest before any other code on the same
+   * thread can use it and must not hold on to the instance.
+   */
+  static MessageDigest getThreadLocalSha256() {
+    return THREAD_LOCAL_SHA_256.get();
+  }
+
   @SuppressWarnings("DoNotInvokeMessageDigestDirectly")
   public static MessageDigest createKeccak256() {
     try {
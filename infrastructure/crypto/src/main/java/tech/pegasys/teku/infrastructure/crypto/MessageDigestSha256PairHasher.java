@@ -0,0 +1,48 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.crypto;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+
+/**
+ * Hashes pairs with a {@link MessageDigest} reused per thread, writing digests directly into the
+ * output buffer. The JDK implementation uses the CPU's SHA extensions where available, so this is
+ * the fastest option without native code.
+ */
+class MessageDigestSha256PairHasher implements Sha256PairHasher {
+
+  static final MessageDigestSha256PairHasher INSTANCE = new MessageDigestSha256PairHasher();
+
+  private MessageDigestSha256PairHasher() {}
+
+  @Override
+  public void hashPairs(
+      final byte[] input,
+      final int inputOffset,
+      final byte[] output,
+      final int outputOffset,
+      final int count) {
+    final MessageDigest digest = MessageDigestFactory.getThreadLocalSha256();
+    try {
+      for (int i = 0; i < count; i++) {
+        digest.update(input, inputOffset + i * INPUT_SIZE, INPUT_SIZE);
+        digest.digest(output, outputOffset + i * OUTPUT_SIZE, OUTPUT_SIZE);
+      }
+    } catch (final DigestException e) {
+      digest.reset();
+      throw new IllegalArgumentException("Output buffer too small", e);
+    }
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.crypto;
+
+/**
+ * Computes SHA-256 digests of 64-byte inputs, the operation used to combine two child roots when
+ * merkleizing SSZ trees. Implementations accept many inputs per call so that they can hash
+ * several independent messages at once.
+ */
+public interface Sha256PairHasher {
+
+  int INPUT_SIZE = 64;
+  int OUTPUT_SIZE = 32;
+
+  /** Returns the default implementation which is safe to use from multiple threads */
+  static Sha256PairHasher getDefault() {
+    return MessageDigestSha256PairHasher.INSTANCE;
+  }
+
+  /**
+   * Hashes {@code count} consecutive 64-byte inputs starting at {@code inputOffset}, writing each
+   * 32-byte digest consecutively into {@code output} starting at {@code outputOffset}.
+   *
+   * @param input the buffer containing the concatenated inputs
+   * @param inputOffset the offset of the first input
+   * @param output the buffer to write the concatenated digests to
+   * @param outputOffset the offset to write the first digest to
+   * @param count the number of 64-byte inputs to hash
+   */
+  void hashPairs(byte[] input, int inputOffset, byte[] output, int outputOffset, int count);
+}
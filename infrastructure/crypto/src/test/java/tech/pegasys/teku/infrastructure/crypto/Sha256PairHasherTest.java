@@ -0,0 +1,53 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.crypto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+
+class Sha256PairHasherTest {
+
+  private final Sha256PairHasher hasher = Sha256PairHasher.getDefault();
+
+  @Test
+  void shouldHashZeroPair() {
+    final byte[] output = new byte[Sha256PairHasher.OUTPUT_SIZE];
+    hasher.hashPairs(new byte[Sha256PairHasher.INPUT_SIZE], 0, output, 0, 1);
+
+    assertThat(Bytes32.wrap(output))
+        .isEqualTo(
+            Bytes32.fromHexString(
+                "0xf5a5fd42d16a20302798ef6ed309979b43003d2320d9f0e8ea9831a92759fb4b"));
+  }
+
+  @Test
+  void shouldMatchSingleHashesAtOffsets() {
+    final int count = 17;
+    final byte[] input = new byte[3 + count * Sha256PairHasher.INPUT_SIZE];
+    new Random(42).nextBytes(input);
+    final byte[] output = new byte[5 + count * Sha256PairHasher.OUTPUT_SIZE];
+
+    hasher.hashPairs(input, 3, output, 5, count);
+
+    for (int i = 0; i < count; i++) {
+      final Bytes pair = Bytes.wrap(input, 3 + i * Sha256PairHasher.INPUT_SIZE, 64);
+      assertThat(Bytes.wrap(output, 5 + i * Sha256PairHasher.OUTPUT_SIZE, 32))
+          .isEqualTo(Hash.sha256(pair.slice(0, 32), pair.slice(32, 32)));
+    }
+  }
+}
@@ -128,6 +128,8 @@ public class RestApiConstants {
 
   public static final String HEADER_CONSENSUS_VERSION = "Eth-Consensus-Version";
   public static final String HEADER_CONTENT_DISPOSITION = "Content-Disposition";
+  public static final String HEADER_ETAG = "ETag";
+  public static final String HEADER_IF_NONE_MATCH = "If-None-Match";
 
   public static final String CACHE_NONE = "max-age=0";
 
@@ -105,14 +105,33 @@ public class SyncDataAccessor {
     }
   }
 
+  /**
+   * Writes data to the specified path without waiting for it to be flushed to hardware storage. If
+   * the filesystem supports atomic operations readers never observe a partially written file, but
+   * the content may be lost if the machine crashes before the operating system flushes it, so the
+   * caller is responsible for making the data durable by other means.
+   *
+   * @param path the path to write to
+   * @param data the data to write
+   * @exception IOException if an IO error occurs while writing
+   */
+  public void unsyncedWrite(final Path path, final Bytes data) throws IOException {
+    if (atomicFileMoveSupport) {
+      final Path tmpFile = Paths.get(path + ".tmp");
+      nonAtomicUnsyncedWrite(tmpFile, data);
+      Files.move(
+          tmpFile,
+          path.toAbsolutePath(),
+          StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+    } else {
+      nonAtomicUnsyncedWrite(path, data);
+    }
+  }
+
   private static void nonAtomicSyncedWrite(final Path path, final Bytes data) throws IOException {
     final Path absolutePath = path.toAbsolutePath();
-    if (absolutePath.getParent() != null) {
-      final File parentDirectory = absolutePath.getParent().toFile();
-      if (!parentDirectory.mkdirs() && !parentDirectory.isDirectory()) {
-        throw new IOException("Unable to create directory " + parentDirectory);
-      }
-    }
+    createParentDirectory(absolutePath);
     Files.write(
         absolutePath,
         data.toArrayUnsafe(),
@@ -121,6 +140,26 @@ public class SyncDataAccessor {
         StandardOpenOption.TRUNCATE_EXISTING);
   }
 
+  private static void nonAtomicUnsyncedWrite(final Path path, final Bytes data)
+      throws IOException {
+    final Path absolutePath = path.toAbsolutePath();
+    createParentDirectory(absolutePath);
+    Files.write(
+        absolutePath,
+        data.toArrayUnsafe(),
+        StandardOpenOption.CREATE,
+        StandardOpenOption.TRUNCATE_EXISTING);
+  }
+
+  private static void createParentDirectory(final Path absolutePath) throws IOException {
+    if (absolutePath.getParent() != null) {
+      final File parentDirectory = absolutePath.getParent().toFile();
+      if (!parentDirectory.mkdirs() && !parentDirectory.isDirectory()) {
+        throw new IOException("Unable to create directory " + parentDirectory);
+      }
+    }
+  }
+
   private static void atomicSyncedWrite(final Path path, final Bytes data) throws IOException {
     final Path absolutePath = path.toAbsolutePath();
     final Path tmpFile = Paths.get(path + ".tmp");
@@ -61,4 +61,18 @@ public class SyncDataAccessorTest {
     content = Files.readString(filePath);
     assertThat(content).isEqualTo("B");
   }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  public void shouldWriteAndOverwriteFileContentWithoutSync(
+      final boolean useAtomicMove, @TempDir Path tempDir) throws IOException {
+    final Path filePath = tempDir.resolve("nested").resolve("myfile.yml");
+    final SyncDataAccessor syncDataAccessor = new SyncDataAccessor(useAtomicMove);
+    syncDataAccessor.unsyncedWrite(filePath, Bytes.fromHexString("0x41"));
+    assertThat(Files.readString(filePath)).isEqualTo("A");
+
+    syncDataAccessor.unsyncedWrite(filePath, Bytes.fromHexString("0x42"));
+    assertThat(Files.readString(filePath)).isEqualTo("B");
+    assertThat(tempDir.resolve("nested").toFile().list()).containsExactly("myfile.yml");
+  }
 }
@@ -199,6 +199,11 @@ public class JavalinRestApiRequest implements RestApiRequest {
         .collect(Collectors.toList());
   }
 
+  @Override
+  public Optional<String> getRequestHeader(final String name) {
+    return Optional.ofNullable(context.header(name));
+  }
+
   @Override
   public void header(String name, String value) {
     context.header(name, value);
@@ -52,6 +52,8 @@ public interface RestApiRequest {
 
   <T> List<T> getQueryParameterList(final ParameterMetadata<T> parameterMetadata);
 
+  Optional<String> getRequestHeader(final String name);
+
   void header(final String name, final String value);
 
   void startEventStream(final Consumer<SseClient> clientConsumer);
@@ -58,6 +58,7 @@ public class StubRestApiRequest implements RestApiRequest {
   private final Map<String, List<String>> listQueryParameters = new HashMap<>();
   private final Map<Integer, String> contentTypeMap = new HashMap<>();
   private final Map<String, String> headers = new HashMap<>();
+  private final Map<String, String> requestHeaders = new HashMap<>();
 
   private final EndpointMetadata metadata;
 
@@ -230,6 +231,15 @@ public class StubRestApiRequest implements RestApiRequest {
         .collect(Collectors.toList());
   }
 
+  public void setRequestHeader(final String name, final String value) {
+    requestHeaders.put(name, value);
+  }
+
+  @Override
+  public Optional<String> getRequestHeader(final String name) {
+    return Optional.ofNullable(requestHeaders.get(name));
+  }
+
   @Override
   public void header(final String name, final String value) {
     headers.put(name, value);
@@ -48,6 +48,11 @@ public interface SszData extends Merkleizable, SimpleOffsetSerializable {
   /** Returns Backing Tree this structure is backed by */
   TreeNode getBackingNode();
 
+  /** Returns the size of this structure's SSZ serialization without serializing it */
+  default int getSszSize() {
+    return getSchema().getSszSize(getBackingNode());
+  }
+
   @Override
   default Bytes32 hashTreeRoot() {
     return getBackingNode().hashTreeRoot();
@@ -76,6 +76,14 @@ class SimpleBranchNode implements BranchNode, TreeNode {
     return cachedHash;
   }
 
+  boolean isHashCached() {
+    return cachedHash != null;
+  }
+
+  void setCachedHash(final Bytes32 hash) {
+    this.cachedHash = hash;
+  }
+
   @Override
   public String toString() {
     return left == right ? ("(2x " + left + ")") : ("(" + left + ", " + right + ')');
@@ -18,10 +18,18 @@ import static com.google.common.base.Preconditions.checkArgument;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
 import java.util.function.Consumer;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.bytes.MutableBytes;
+import tech.pegasys.teku.infrastructure.crypto.Sha256PairHasher;
 
 /** Misc Backing binary tree utils */
 public class TreeUtil {
@@ -51,6 +59,12 @@ public class TreeUtil {
     }
   }
 
+  /**
+   * Minimum number of unhashed branch nodes before hashing is spread over the hashing pool. Smaller
+   * updates, such as those from processing a single block, are hashed on the calling thread.
+   */
+  private static final int DEFAULT_PARALLEL_HASHING_THRESHOLD = 8192;
+
   @VisibleForTesting public static final TreeNode[] ZERO_TREES;
 
   public static final ImmutableMap<Bytes32, TreeNode> ZERO_TREES_BY_ROOT;
@@ -199,4 +213,173 @@ public class TreeUtil {
         tree, GIndexUtil.LEFTMOST_G_INDEX, GIndexUtil.RIGHTMOST_G_INDEX, leavesData::add);
     return Bytes.wrap(leavesData.toArray(new Bytes[0]));
   }
+
+  /**
+   * Calculates the hash tree root of {@code root}, hashing all branch nodes without a cached root
+   * one layer at a time from the bottom up. Each layer is passed to the {@code hasher} in a single
+   * call so implementations can hash many pairs at once. The calculated roots are cached in the
+   * nodes as if {@link TreeNode#hashTreeRoot()} had been called.
+   */
+  public static Bytes32 hashTreeRootByLayer(final TreeNode root, final Sha256PairHasher hasher) {
+    final List<List<SimpleBranchNode>> layers = new ArrayList<>();
+    collectUnhashedBranches(root, layers, new IdentityHashMap<>());
+    for (List<SimpleBranchNode> layer : layers) {
+      final int count = layer.size();
+      final byte[] input = new byte[count * Sha256PairHasher.INPUT_SIZE];
+      final MutableBytes inputBytes = MutableBytes.wrap(input);
+      for (int i = 0; i < count; i++) {
+        final SimpleBranchNode branch = layer.get(i);
+        final int offset = i * Sha256PairHasher.INPUT_SIZE;
+        branch.left().hashTreeRoot().copyTo(inputBytes, offset);
+        branch.right().hashTreeRoot().copyTo(inputBytes, offset + Bytes32.SIZE);
+      }
+      final byte[] output = new byte[count * Sha256PairHasher.OUTPUT_SIZE];
+      hasher.hashPairs(input, 0, output, 0, count);
+      for (int i = 0; i < count; i++) {
+        final int from = i * Sha256PairHasher.OUTPUT_SIZE;
+        final Bytes32 root = Bytes32.wrap(Arrays.copyOfRange(output, from, from + Bytes32.SIZE));
+        layer.get(i).setCachedHash(root);
+      }
+    }
+    return root.hashTreeRoot();
+  }
+
+  /**
+   * Adds every {@link SimpleBranchNode} under {@code node} without a cached root to the layer
+   * matching its height above the nearest hashed nodes.
+   *
+   * @return the layer of {@code node} or -1 if it doesn't need hashing in a layer
+   */
+  private static int collectUnhashedBranches(
+      final TreeNode node,
+      final List<List<SimpleBranchNode>> layers,
+      final Map<SimpleBranchNode, Integer> collectedLayers) {
+    if (!(node instanceof SimpleBranchNode)) {
+      return -1;
+    }
+    final SimpleBranchNode branch = (SimpleBranchNode) node;
+    if (branch.isHashCached()) {
+      return -1;
+    }
+    final Integer collectedLayer = collectedLayers.get(branch);
+    if (collectedLayer != null) {
+      return collectedLayer;
+    }
+    final int leftLayer = collectUnhashedBranches(branch.left(), layers, collectedLayers);
+    final int rightLayer = collectUnhashedBranches(branch.right(), layers, collectedLayers);
+    final int layer = Math.max(leftLayer, rightLayer) + 1;
+    if (layers.size() == layer) {
+      layers.add(new ArrayList<>());
+    }
+    layers.get(layer).add(branch);
+    collectedLayers.put(branch, layer);
+    return layer;
+  }
+
+  /**
+   * Calculates the hash tree root of {@code root}, hashing independent subtrees which don't have a
+   * cached root in parallel on a dedicated pool when at least {@link
+   * #DEFAULT_PARALLEL_HASHING_THRESHOLD} branch nodes need hashing. The calculated roots are cached
+   * in the nodes as if {@link TreeNode#hashTreeRoot()} had been called.
+   */
+  public static Bytes32 hashTreeRootParallel(final TreeNode root) {
+    return hashTreeRootParallel(
+        root, HashingPool.MAX_PARALLEL_SPLITS, DEFAULT_PARALLEL_HASHING_THRESHOLD);
+  }
+
+  @VisibleForTesting
+  static Bytes32 hashTreeRootParallel(
+      final TreeNode root, final int maxSplits, final int parallelHashingThreshold) {
+    if (maxSplits > 0
+        && requiresHashing(root)
+        && countUnhashedBranches(root, parallelHashingThreshold) >= parallelHashingThreshold) {
+      HashingPool.POOL.invoke(new ParallelHashAction(root, maxSplits));
+    }
+    return root.hashTreeRoot();
+  }
+
+  /**
+   * Counts the branch nodes under {@code node} without a cached root, stopping once {@code limit}
+   * is reached so large dirty trees aren't walked twice.
+   */
+  private static int countUnhashedBranches(final TreeNode node, final int limit) {
+    if (limit <= 0 || !requiresHashing(node)) {
+      return 0;
+    }
+    final BranchNode branch = (BranchNode) node;
+    final int leftCount = countUnhashedBranches(branch.left(), limit - 1);
+    return 1 + leftCount + countUnhashedBranches(branch.right(), limit - 1 - leftCount);
+  }
+
+  /**
+   * Pool dedicated to tree hashing so large rehashes don't compete with other users of the common
+   * {@link ForkJoinPool}. Created on first use, with one thread less than the available processors
+   * to leave a core for the thread waiting on the result.
+   */
+  private static class HashingPool {
+    private static final int PARALLELISM =
+        Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+
+    /**
+     * Maximum number of times the work is split on any path from the root, giving several tasks
+     * per thread so work stealing can balance uneven subtrees. No splits are made if there is only
+     * a single hashing thread.
+     */
+    private static final int MAX_PARALLEL_SPLITS =
+        PARALLELISM > 1 ? 32 - Integer.numberOfLeadingZeros(PARALLELISM) + 3 : 0;
+
+    private static final ForkJoinPool POOL =
+        new ForkJoinPool(
+            PARALLELISM,
+            pool -> {
+              final ForkJoinWorkerThread thread =
+                  ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+              thread.setName("tree-hasher-" + thread.getPoolIndex());
+              return thread;
+            },
+            null,
+            false);
+  }
+
+  private static boolean requiresHashing(final TreeNode node) {
+    return node instanceof SimpleBranchNode && !((SimpleBranchNode) node).isHashCached();
+  }
+
+  /**
+   * Splits the work at every branch where both children are unhashed branches until {@code
+   * remainingSplits} is used up, after which the subtree is hashed sequentially. Branches with a
+   * single unhashed child, such as the spine of a sparsely populated list, don't use up a split.
+   */
+  private static class ParallelHashAction extends RecursiveAction {
+    private final TreeNode node;
+    private final int remainingSplits;
+
+    private ParallelHashAction(final TreeNode node, final int remainingSplits) {
+      this.node = node;
+      this.remainingSplits = remainingSplits;
+    }
+
+    @Override
+    protected void compute() {
+      TreeNode current = node;
+      while (remainingSplits > 0 && requiresHashing(current)) {
+        final BranchNode branch = (BranchNode) current;
+        final boolean hashLeft = requiresHashing(branch.left());
+        final boolean hashRight = requiresHashing(branch.right());
+        if (hashLeft && hashRight) {
+          invokeAll(
+              new ParallelHashAction(branch.left(), remainingSplits - 1),
+              new ParallelHashAction(branch.right(), remainingSplits - 1));
+          break;
+        } else if (hashLeft) {
+          current = branch.left();
+        } else if (hashRight) {
+          current = branch.right();
+        } else {
+          break;
+        }
+      }
+      node.hashTreeRoot();
+    }
+  }
 }
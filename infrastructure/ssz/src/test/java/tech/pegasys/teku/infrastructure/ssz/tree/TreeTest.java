@@ -28,6 +28,7 @@ import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.crypto.Sha256PairHasher;
 import tech.pegasys.teku.infrastructure.ssz.TestUtil;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeUpdates.Update;
 
@@ -126,6 +127,53 @@ public class TreeTest {
     assertThat(zeroTree.hashTreeRoot()).isEqualTo(zeroTreeB.hashTreeRoot());
   }
 
+  @Test
+  public void testHashTreeRootByLayer() {
+    final List<TreeNode> leaves =
+        IntStream.range(0, 37).mapToObj(TreeTest::newTestLeaf).collect(Collectors.toList());
+    final TreeNode expectedTree = TreeUtil.createTree(leaves, 8);
+    final TreeNode tree = TreeUtil.createTree(leaves, 8);
+
+    assertThat(TreeUtil.hashTreeRootByLayer(tree, Sha256PairHasher.getDefault()))
+        .isEqualTo(expectedTree.hashTreeRoot());
+
+    // Only the updated path requires hashing after an update
+    final TreeNode updatedTree = tree.updated(256 + 5, newTestLeaf(555));
+    final TreeNode expectedUpdatedTree = expectedTree.updated(256 + 5, newTestLeaf(555));
+    assertThat(TreeUtil.hashTreeRootByLayer(updatedTree, Sha256PairHasher.getDefault()))
+        .isEqualTo(expectedUpdatedTree.hashTreeRoot());
+    assertThat(updatedTree.get(0b10).hashTreeRoot())
+        .isEqualTo(expectedUpdatedTree.get(0b10).hashTreeRoot());
+  }
+
+  @Test
+  public void testHashTreeRootParallel() {
+    final List<TreeNode> leaves =
+        IntStream.range(0, 1000).mapToObj(TreeTest::newTestLeaf).collect(Collectors.toList());
+    final Bytes32 expectedRoot = TreeUtil.createTree(leaves, 12).hashTreeRoot();
+
+    for (int maxSplits = 0; maxSplits < 14; maxSplits++) {
+      final TreeNode tree = TreeUtil.createTree(leaves, 12);
+      assertThat(TreeUtil.hashTreeRootParallel(tree, maxSplits, 0)).isEqualTo(expectedRoot);
+
+      final TreeNode updatedTree = tree.updated(4096 + 999, newTestLeaf(1));
+      final TreeNode expectedUpdatedTree =
+          TreeUtil.createTree(leaves, 12).updated(4096 + 999, newTestLeaf(1));
+      assertThat(TreeUtil.hashTreeRootParallel(updatedTree, maxSplits, 0))
+          .isEqualTo(expectedUpdatedTree.hashTreeRoot());
+    }
+  }
+
+  @Test
+  public void testHashTreeRootParallelBelowThreshold() {
+    final List<TreeNode> leaves =
+        IntStream.range(0, 1000).mapToObj(TreeTest::newTestLeaf).collect(Collectors.toList());
+    final Bytes32 expectedRoot = TreeUtil.createTree(leaves, 12).hashTreeRoot();
+
+    final TreeNode tree = TreeUtil.createTree(leaves, 12);
+    assertThat(TreeUtil.hashTreeRootParallel(tree, 8, Integer.MAX_VALUE)).isEqualTo(expectedRoot);
+  }
+
   @Test
   // The threading test is probabilistic and may have false positives
   // (i.e. pass on incorrect implementation)
@@ -26,6 +26,7 @@ import java.util.Optional;
 import java.util.TreeMap;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
@@ -215,19 +216,11 @@ public class BeaconBlocksByRangeMessageHandler
         complete -> complete ? completedFuture(requestState) : sendNextBlock(requestState));
   }
 
+  /** Sends the next block, if any, and returns true if the request is now complete. */
   private SafeFuture<Boolean> processNextBlock(final RequestState requestState) {
     // Ensure blocks are loaded off of the event thread
     return requestState
-        .loadNextBlock()
-        .thenCompose(block -> handleLoadedBlock(requestState, block));
-  }
-
-  /** Sends the block and returns true if the request is now complete. */
-  private SafeFuture<Boolean> handleLoadedBlock(
-      final RequestState requestState, final Optional<SignedBeaconBlock> block) {
-    return block
-        .map(requestState::sendBlock)
-        .orElse(SafeFuture.COMPLETE)
+        .loadAndSendNextBlock()
         .thenApply(
             __ -> {
               if (requestState.isComplete()) {
@@ -276,13 +269,28 @@ public class BeaconBlocksByRangeMessageHandler
       return !needsMoreBlocks() || hasReachedHeadSlot();
     }
 
-    SafeFuture<Void> sendBlock(final SignedBeaconBlock block) {
+    private void onBlockSent() {
       // request step is deprecated, if a step greater than 1 is requested, only return the first
       // block
       if (step.isGreaterThan(1L)) {
         remainingBlocks = ZERO;
       }
-      return callback.respond(block);
+    }
+
+    private SafeFuture<Void> sendBlock(final Optional<SignedBeaconBlock> maybeBlock) {
+      if (maybeBlock.isEmpty()) {
+        return SafeFuture.COMPLETE;
+      }
+      onBlockSent();
+      return callback.respond(maybeBlock.get());
+    }
+
+    private SafeFuture<Void> sendBlockSsz(final UInt64 slot, final Optional<Bytes> maybeBlockSsz) {
+      if (maybeBlockSsz.isEmpty()) {
+        return SafeFuture.COMPLETE;
+      }
+      onBlockSent();
+      return callback.respondWithSsz(slot, maybeBlockSsz.get());
     }
 
     void incrementCurrentSlot() {
@@ -290,22 +298,26 @@ public class BeaconBlocksByRangeMessageHandler
       currentSlot = currentSlot.plus(step);
     }
 
-    SafeFuture<Optional<SignedBeaconBlock>> loadNextBlock() {
+    SafeFuture<Void> loadAndSendNextBlock() {
       final UInt64 slot = this.currentSlot;
       final Bytes32 knownBlockRoot = knownBlockRoots.get(slot);
       if (knownBlockRoot != null) {
         // Known root so lookup by root
         return combinedChainDataClient
             .getBlockByBlockRoot(knownBlockRoot)
-            .thenApply(maybeBlock -> maybeBlock.filter(block -> block.getSlot().equals(slot)));
+            .thenApply(maybeBlock -> maybeBlock.filter(block -> block.getSlot().equals(slot)))
+            .thenCompose(this::sendBlock);
       } else if ((!knownBlockRoots.isEmpty() && slot.compareTo(knownBlockRoots.firstKey()) >= 0)
           || slot.compareTo(headSlot) > 0) {
         // Unknown root but not finalized means this is an empty slot
         // Could also be because the first block requested is above our head slot
-        return SafeFuture.completedFuture(Optional.empty());
+        return SafeFuture.COMPLETE;
       } else {
-        // Must be a finalized block so lookup by slot
-        return combinedChainDataClient.getBlockAtSlotExact(slot);
+        // Must be a finalized block so lookup by slot, sending the stored SSZ as is rather than
+        // deserializing the block only to serialize it again
+        return combinedChainDataClient
+            .getBlockAtSlotExactAsSsz(slot)
+            .thenCompose(maybeBlockSsz -> sendBlockSsz(slot, maybeBlockSsz));
       }
     }
   }
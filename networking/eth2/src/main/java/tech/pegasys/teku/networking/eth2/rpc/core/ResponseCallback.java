@@ -13,11 +13,21 @@
 
 package tech.pegasys.teku.networking.eth2.rpc.core;
 
+import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 
 public interface ResponseCallback<T> {
   SafeFuture<Void> respond(T data);
 
+  /**
+   * Responds with a payload that is already SSZ serialized, such as a block read from storage.
+   *
+   * @param slot the slot the payload applies to, used to determine the response context
+   * @param sszData the SSZ serialization of the response payload
+   */
+  SafeFuture<Void> respondWithSsz(UInt64 slot, Bytes sszData);
+
   void respondAndCompleteSuccessfully(T data);
 
   void completeSuccessfully();
@@ -69,7 +69,11 @@ public class LengthPrefixedEncoding implements RpcEncoding {
     }
     final RpcPayloadEncoder<T> payloadEncoder =
         payloadEncoders.getEncoder((SszSchema<T>) message.getSchema());
-    final Bytes payload = payloadEncoder.encode(message);
+    return encodeSerializedPayload(payloadEncoder.encode(message));
+  }
+
+  @Override
+  public Bytes encodeSerializedPayload(final Bytes payload) {
     if (payload.isEmpty()) {
       return payload;
     }
@@ -18,6 +18,7 @@ import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.ssz.SszData;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.RpcByteBufDecoder;
 
@@ -39,6 +40,11 @@ class NoopRpcContextCodec<TPayload extends SszData> implements RpcContextCodec<B
     return Bytes.EMPTY;
   }
 
+  @Override
+  public Bytes encodeContextForSlot(final UInt64 slot) {
+    return Bytes.EMPTY;
+  }
+
   @Override
   public Optional<SszSchema<TPayload>> getSchemaFromContext(final Bytes bytes) {
     return Optional.of(schema);
@@ -16,6 +16,7 @@ package tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods;
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.ignoreStubs;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -28,6 +29,7 @@ import static tech.pegasys.teku.networking.eth2.rpc.core.RpcResponseStatus.INVAL
 import static tech.pegasys.teku.spec.config.Constants.MAX_CHUNK_SIZE;
 import static tech.pegasys.teku.spec.config.Constants.MAX_REQUEST_BLOCKS;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.NavigableMap;
 import java.util.Optional;
@@ -39,8 +41,6 @@ import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InOrder;
-import org.mockito.Mockito;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
@@ -88,6 +88,8 @@ class BeaconBlocksByRangeMessageHandlerTest {
   private final CombinedChainDataClient combinedChainDataClient =
       mock(CombinedChainDataClient.class);
 
+  private final List<SignedBeaconBlock> sentBlocks = new ArrayList<>();
+
   private final MetricsSystem metricsSystem = new NoOpMetricsSystem();
   private final String protocolId = BeaconChainMethodIds.getBlocksByRangeMethodId(1, RPC_ENCODING);
   private final BeaconBlocksByRangeMessageHandler handler =
@@ -100,6 +102,21 @@ class BeaconBlocksByRangeMessageHandlerTest {
     when(peer.wantToReceiveObjects(any(), anyLong())).thenReturn(true);
     when(combinedChainDataClient.getEarliestAvailableBlockSlot())
         .thenReturn(completedFuture(Optional.of(ZERO)));
+    when(listener.respond(any()))
+        .thenAnswer(
+            invocation -> {
+              sentBlocks.add(invocation.getArgument(0));
+              return SafeFuture.COMPLETE;
+            });
+    when(listener.respondWithSsz(any(), any()))
+        .thenAnswer(
+            invocation -> {
+              final SignedBeaconBlock block =
+                  spec.deserializeSignedBeaconBlock(invocation.getArgument(1));
+              assertThat(block.getSlot()).isEqualTo(invocation.getArgument(0));
+              sentBlocks.add(block);
+              return SafeFuture.COMPLETE;
+            });
   }
 
   @Test
@@ -217,7 +234,7 @@ class BeaconBlocksByRangeMessageHandlerTest {
     withCanonicalHeadBlock(blocksWStates.get(1));
     withAncestorRoots(startBlock, count, skip, hotBlocks());
 
-    when(combinedChainDataClient.getBlockAtSlotExact(any()))
+    when(combinedChainDataClient.getBlockAtSlotExactAsSsz(any()))
         .thenReturn(completedFuture(Optional.empty()));
 
     requestBlocks(startBlock, count, skip);
@@ -439,12 +456,11 @@ class BeaconBlocksByRangeMessageHandlerTest {
   }
 
   private void verifyBlocksReturned(final int... slots) {
-    final InOrder inOrder = Mockito.inOrder(listener);
-    for (int slot : slots) {
-      inOrder.verify(listener).respond(blocks.get(slot));
-    }
-    inOrder.verify(listener).completeSuccessfully();
-    verifyNoMoreInteractions(listener);
+    assertThat(sentBlocks)
+        .containsExactlyElementsOf(
+            IntStream.of(slots).mapToObj(blocks::get).collect(Collectors.toList()));
+    verify(listener).completeSuccessfully();
+    verifyNoMoreInteractions(ignoreStubs(listener));
   }
 
   private void withAncestorRoots(
@@ -482,7 +498,8 @@ class BeaconBlocksByRangeMessageHandlerTest {
               final SafeFuture<Optional<SignedBeaconBlock>> result =
                   completedFuture(Optional.of(block));
               when(combinedChainDataClient.getBlockByBlockRoot(block.getRoot())).thenReturn(result);
-              when(combinedChainDataClient.getBlockAtSlotExact(block.getSlot())).thenReturn(result);
+              when(combinedChainDataClient.getBlockAtSlotExactAsSsz(block.getSlot()))
+                  .thenReturn(completedFuture(Optional.of(block.sszSerialize())));
               when(combinedChainDataClient.isFinalized(block.getSlot())).thenReturn(true);
             });
   }
@@ -687,7 +687,8 @@ public class BeaconChainController extends Service implements BeaconChainControl
     AttestationValidator attestationValidator =
         new AttestationValidator(spec, recentChainData, signatureVerificationService);
     AggregateAttestationValidator aggregateValidator =
-        new AggregateAttestationValidator(spec, attestationValidator, signatureVerificationService);
+        new AggregateAttestationValidator(
+            spec, attestationValidator, signatureVerificationService.highPriority());
     blockImporter.subscribeToVerifiedBlockAttestations(
         (slot, attestations) ->
             attestations.forEach(
@@ -722,7 +723,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
                 recentChainData,
                 syncCommitteeStateUtils,
                 timeProvider,
-                signatureVerificationService));
+                signatureVerificationService.highPriority()));
 
     syncCommitteeMessagePool =
         new SyncCommitteeMessagePool(
@@ -805,13 +806,26 @@ public class BeaconChainController extends Service implements BeaconChainControl
             forkChoiceNotifier,
             p2pNetwork,
             slotEventsChannelPublisher,
-            new EpochCachePrimer(spec, recentChainData));
+            new EpochCachePrimer(
+                spec,
+                recentChainData,
+                metricsSystem,
+                beaconConfig.storeConfig().getEpochPrecomputeForkHeadCount(),
+                beaconConfig
+                    .storeConfig()
+                    .getEpochPrecomputeLeadTimeMillis()
+                    .map(UInt64::valueOf)));
   }
 
   public void initAttestationPool() {
     LOG.debug("BeaconChainController.initAttestationPool()");
     attestationPool =
-        new AggregatingAttestationPool(spec, metricsSystem, DEFAULT_MAXIMUM_ATTESTATION_COUNT);
+        new AggregatingAttestationPool(
+            spec,
+            timeProvider,
+            metricsSystem,
+            DEFAULT_MAXIMUM_ATTESTATION_COUNT,
+            beaconConfig.validatorConfig().getAttestationPackingTimeBudget());
     eventChannels.subscribe(SlotEventsChannel.class, attestationPool);
     blockImporter.subscribeToVerifiedBlockAttestations(
         attestationPool::onAttestationsIncludedInBlock);
@@ -857,6 +871,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
                 eventChannels,
                 eventAsyncRunner,
                 timeProvider,
+                metricsSystem,
                 spec)
             : new ReflectionBasedBeaconRestApi(
                 dataProvider,
@@ -865,6 +880,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
                 eventChannels,
                 eventAsyncRunner,
                 timeProvider,
+                metricsSystem,
                 spec);
     beaconRestAPI = Optional.of(api);
 
@@ -192,7 +192,8 @@ public class SlotProcessor {
     return processingDueForSlot && isTimeReached(currentTimeMillis, earliestTimeInMillis);
   }
 
-  // Precalculate epoch transition 2/3 of the way through the last slot of the epoch
+  // Precalculate epoch transition 2/3 of the way through the last slot of the epoch unless a
+  // different lead time is configured
   boolean isEpochPrecalculationDue(
       final UInt64 epoch, final UInt64 currentTimeMillis, final UInt64 genesisTimeMillis) {
     final UInt64 firstSlotOfNextEpoch = spec.computeStartSlotAtEpoch(epoch);
@@ -203,8 +204,11 @@ public class SlotProcessor {
     }
     final UInt64 nextEpochStartTimeMillis =
         spec.getSlotStartTimeMillis(firstSlotOfNextEpoch, genesisTimeMillis);
-    final UInt64 earliestTimeInMillis =
-        nextEpochStartTimeMillis.minusMinZero(oneThirdSlotMillis(firstSlotOfNextEpoch));
+    final UInt64 leadTimeMillis =
+        epochCachePrimer
+            .getLeadTimeMillis()
+            .orElseGet(() -> oneThirdSlotMillis(firstSlotOfNextEpoch));
+    final UInt64 earliestTimeInMillis = nextEpochStartTimeMillis.minusMinZero(leadTimeMillis);
     final boolean processingDueForSlot =
         isProcessingDueForSlot(firstSlotOfNextEpoch, onTickEpochPrecompute);
     final boolean timeReached = isTimeReached(currentTimeMillis, earliestTimeInMillis);
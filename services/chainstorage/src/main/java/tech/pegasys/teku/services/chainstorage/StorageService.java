@@ -70,7 +70,7 @@ public class StorageService extends Service implements StorageServiceFacade {
                       serviceConfig
                           .getEventChannels()
                           .getPublisher(ExecutionLayerChannel.class, storageAsyncRunner)),
-                  config.getSpec());
+                  config);
           final DepositStorage depositStorage =
               DepositStorage.create(
                   serviceConfig.getEventChannels().getPublisher(Eth1EventsChannel.class), database);
@@ -0,0 +1,155 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.protoarray;
+
+import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ZERO;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.apache.tuweni.bytes.Bytes32;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.forkchoice.StubVoteUpdater;
+import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
+
+/**
+ * Compares computing fork choice deltas via {@link ProtoArrayScoreCalculator} against the
+ * primitive {@link ColumnarVoteStore}. Each invocation simulates one slot worth of new votes
+ * followed by a delta computation.
+ */
+@Fork(1)
+@State(Scope.Thread)
+public class ColumnarVoteStoreBenchmark {
+  private static final int NODE_COUNT = 256;
+  private static final UInt64 BALANCE = UInt64.valueOf(32_000_000_000L);
+
+  @Param({"100000", "1000000"})
+  int validatorCount;
+
+  private final Random random = new Random(42);
+  private final Object2IntMap<Bytes32> indices = new Object2IntOpenHashMap<>();
+  private final StubVoteUpdater serialVotes = new StubVoteUpdater();
+  private final StubVoteUpdater columnarVotes = new StubVoteUpdater();
+  private final ColumnarVoteStore voteStore = new ColumnarVoteStore(Integer.MAX_VALUE);
+  private final StubVoteUpdater parallelVotes = new StubVoteUpdater();
+  private final ColumnarVoteStore parallelVoteStore = new ColumnarVoteStore(0);
+  private List<UInt64> balances;
+  private UInt64 epoch = ZERO;
+
+  @Setup
+  public void setup() {
+    for (int i = 0; i < NODE_COUNT; i++) {
+      indices.put(ProtoArrayTestUtil.getHash(i), i);
+    }
+    balances = new ArrayList<>(validatorCount);
+    for (int i = 0; i < validatorCount; i++) {
+      balances.add(BALANCE);
+      final UInt64 validatorIndex = UInt64.valueOf(i);
+      final Bytes32 root = ProtoArrayTestUtil.getHash(i % NODE_COUNT);
+      serialVotes.putVote(validatorIndex, new VoteTracker(Bytes32.ZERO, root, ZERO));
+      columnarVotes.putVote(validatorIndex, new VoteTracker(Bytes32.ZERO, root, ZERO));
+      parallelVotes.putVote(validatorIndex, new VoteTracker(Bytes32.ZERO, root, ZERO));
+      voteStore.markVoteUpdated(validatorIndex);
+      parallelVoteStore.markVoteUpdated(validatorIndex);
+    }
+    computeSerialDeltas();
+    computeColumnarDeltas(voteStore, columnarVotes);
+    computeColumnarDeltas(parallelVoteStore, parallelVotes);
+  }
+
+  @Benchmark
+  @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  public void computeDeltasSerial(final Blackhole bh) {
+    applySlotOfVotes(serialVotes, Optional.empty());
+    bh.consume(computeSerialDeltas());
+  }
+
+  @Benchmark
+  @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  public void computeDeltasColumnar(final Blackhole bh) {
+    applySlotOfVotes(columnarVotes, Optional.of(voteStore));
+    bh.consume(computeColumnarDeltas(voteStore, columnarVotes));
+  }
+
+  @Benchmark
+  @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  public void computeDeltasColumnarParallel(final Blackhole bh) {
+    applySlotOfVotes(parallelVotes, Optional.of(parallelVoteStore));
+    bh.consume(computeColumnarDeltas(parallelVoteStore, parallelVotes));
+  }
+
+  private void applySlotOfVotes(
+      final StubVoteUpdater votes, final Optional<ColumnarVoteStore> columnarStore) {
+    // Roughly one committee's worth of validators attest each slot
+    epoch = epoch.plus(1);
+    final int votesPerSlot = validatorCount / 32;
+    for (int i = 0; i < votesPerSlot; i++) {
+      final UInt64 validatorIndex = UInt64.valueOf(random.nextInt(validatorCount));
+      final VoteTracker vote = votes.getVote(validatorIndex);
+      votes.putVote(
+          validatorIndex,
+          new VoteTracker(
+              vote.getCurrentRoot(),
+              ProtoArrayTestUtil.getHash(random.nextInt(NODE_COUNT)),
+              epoch));
+      columnarStore.ifPresent(store -> store.markVoteUpdated(validatorIndex));
+    }
+  }
+
+  private Object computeSerialDeltas() {
+    return ProtoArrayScoreCalculator.computeDeltas(
+        serialVotes,
+        NODE_COUNT,
+        this::getIndex,
+        balances,
+        balances,
+        Optional.empty(),
+        Optional.empty(),
+        ZERO,
+        ZERO);
+  }
+
+  private Object computeColumnarDeltas(final ColumnarVoteStore store, final StubVoteUpdater votes) {
+    return store.computeDeltas(
+        votes,
+        NODE_COUNT,
+        this::getIndex,
+        nodeIndex -> true,
+        balances,
+        Optional.empty(),
+        Optional.empty(),
+        ZERO,
+        ZERO);
+  }
+
+  private Optional<Integer> getIndex(final Bytes32 root) {
+    return indices.containsKey(root) ? Optional.of(indices.getInt(root)) : Optional.empty();
+  }
+}
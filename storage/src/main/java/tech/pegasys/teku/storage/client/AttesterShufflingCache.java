@@ -0,0 +1,104 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.client;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.collections.LimitedMap;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.forkchoice.ReadOnlyForkChoiceStrategy;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+
+/**
+ * Tracks states which can be used to calculate attester committees, keyed by the epoch and the
+ * shuffling decision root (the block root at the last slot of the epoch before the previous epoch).
+ *
+ * <p>Committees for an epoch are identical in every state that shares the same decision root, so
+ * an attestation which votes for a block on a different fork can be validated using any state
+ * with a matching key, avoiding regenerating a state for that fork. States are registered as
+ * blocks are imported and as epoch transition checkpoint states are calculated. Reusing the same
+ * state instance also means its committee caches are shared between all such attestations.
+ */
+public class AttesterShufflingCache {
+  static final int MAX_CACHED_SHUFFLINGS = 16;
+
+  private final Spec spec;
+  private final Map<ShufflingKey, BeaconState> statesByShuffling =
+      LimitedMap.createSoft(MAX_CACHED_SHUFFLINGS);
+
+  public AttesterShufflingCache(final Spec spec) {
+    this.spec = spec;
+  }
+
+  /**
+   * Register a state as able to provide committees for its current epoch and, if it doesn't cross
+   * a fork boundary, the next epoch.
+   */
+  public void onStateAvailable(final BeaconState state) {
+    final UInt64 currentEpoch = spec.getCurrentEpoch(state);
+    statesByShuffling.putIfAbsent(
+        new ShufflingKey(currentEpoch, spec.getPreviousDutyDependentRoot(state)), state);
+
+    final UInt64 nextEpoch = currentEpoch.plus(1);
+    if (spec.atEpoch(nextEpoch).getMilestone() == spec.atEpoch(currentEpoch).getMilestone()) {
+      statesByShuffling.putIfAbsent(
+          new ShufflingKey(nextEpoch, spec.getCurrentDutyDependentRoot(state)), state);
+    }
+  }
+
+  /**
+   * Find a cached state that can provide committees for attestations in {@code epoch} which vote
+   * for {@code blockRoot}.
+   */
+  public Optional<BeaconState> getStateForShuffling(
+      final ReadOnlyForkChoiceStrategy forkChoiceStrategy,
+      final Bytes32 blockRoot,
+      final UInt64 epoch) {
+    final UInt64 decisionSlot =
+        spec.computeStartSlotAtEpoch(epoch.minusMinZero(1)).minusMinZero(1);
+    return forkChoiceStrategy
+        .getAncestor(blockRoot, decisionSlot)
+        .map(decisionRoot -> statesByShuffling.get(new ShufflingKey(epoch, decisionRoot)));
+  }
+
+  private static class ShufflingKey {
+    private final UInt64 epoch;
+    private final Bytes32 decisionRoot;
+
+    private ShufflingKey(final UInt64 epoch, final Bytes32 decisionRoot) {
+      this.epoch = epoch;
+      this.decisionRoot = decisionRoot;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      final ShufflingKey that = (ShufflingKey) o;
+      return Objects.equals(epoch, that.epoch) && Objects.equals(decisionRoot, that.decisionRoot);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(epoch, decisionRoot);
+    }
+  }
+}
@@ -26,6 +26,7 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -84,6 +85,31 @@ public class CombinedChainDataClient {
         .thenApply(maybeBlock -> maybeBlock.filter(block -> block.getSlot().equals(slot)));
   }
 
+  /**
+   * Returns the SSZ encoding of the block proposed at the requested slot. Finalized blocks are read
+   * from storage without being deserialized. If the slot is empty, nothing is returned.
+   *
+   * @param slot the slot to get the block for
+   * @return the SSZ bytes of the block at the requested slot or empty if the slot was empty
+   */
+  public SafeFuture<Optional<Bytes>> getBlockAtSlotExactAsSsz(final UInt64 slot) {
+    if (!isChainDataFullyAvailable()) {
+      return completedFuture(Optional.empty());
+    }
+
+    final Optional<Bytes32> recentRoot = recentChainData.getBlockRootBySlot(slot);
+    if (recentRoot.isPresent()) {
+      return getBlockByBlockRoot(recentRoot.get())
+          .thenApply(
+              maybeBlock ->
+                  maybeBlock
+                      .filter(block -> block.getSlot().equals(slot))
+                      .map(SignedBeaconBlock::sszSerialize));
+    }
+
+    return historicalChainData.getFinalizedBlockAtSlotAsSsz(slot);
+  }
+
   /**
    * Returns the block proposed for the requested slot on the chain identified by <code>
    * headBlockRoot</code>. If the slot was empty, no block is returned.
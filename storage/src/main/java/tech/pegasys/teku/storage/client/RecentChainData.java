@@ -81,6 +81,7 @@ public abstract class RecentChainData implements StoreUpdateHandler {
   protected final MetricsSystem metricsSystem;
   private final ChainHeadChannel chainHeadChannel;
   private final StoreConfig storeConfig;
+  private final AttesterShufflingCache attesterShufflingCache;
   protected final Spec spec;
 
   private final AtomicBoolean storeInitialized = new AtomicBoolean(false);
@@ -121,6 +122,7 @@ public abstract class RecentChainData implements StoreUpdateHandler {
             "reorgs_total",
             "Total occurrences of reorganizations of the chain");
     this.spec = spec;
+    this.attesterShufflingCache = new AttesterShufflingCache(spec);
   }
 
   public void subscribeStoreInitialized(Runnable runnable) {
@@ -570,7 +572,13 @@ public abstract class RecentChainData implements StoreUpdateHandler {
       return EmptyStoreResults.EMPTY_STATE_FUTURE;
     }
 
-    return store.retrieveCheckpointState(checkpoint);
+    return store
+        .retrieveCheckpointState(checkpoint)
+        .thenPeek(maybeState -> maybeState.ifPresent(attesterShufflingCache::onStateAvailable));
+  }
+
+  public AttesterShufflingCache getAttesterShufflingCache() {
+    return attesterShufflingCache;
   }
 
   public List<ProtoNodeData> getChainHeads() {
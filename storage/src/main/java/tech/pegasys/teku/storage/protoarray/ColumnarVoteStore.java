@@ -0,0 +1,356 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.protoarray;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static java.lang.Math.addExact;
+import static java.lang.Math.subtractExact;
+import static java.lang.Math.toIntExact;
+
+import com.google.common.annotations.VisibleForTesting;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
+import tech.pegasys.teku.spec.datastructures.forkchoice.VoteUpdater;
+
+/**
+ * Struct-of-arrays view of the votes currently applied to the {@link ProtoArray} weights.
+ *
+ * <p>For every validator this tracks the node index its balance is currently attributed to, the
+ * balance that was used and whether its weight has been removed due to equivocation. Validators
+ * whose {@link VoteTracker} may have changed since the last delta computation are marked dirty and
+ * are the only ones that need to be loaded from the {@link VoteUpdater}. All other validators only
+ * contribute a delta when their balance changes, which can be computed from the primitive columns.
+ *
+ * <p>The resulting deltas are identical to those produced by {@link
+ * ProtoArrayScoreCalculator#computeDeltas}.
+ *
+ * <p>When at least {@code parallelDeltaThreshold} validators have voted, the balance changes are
+ * computed in chunks of validators on the common fork-join pool and summed before the updated votes
+ * are applied on the calling thread. The result is identical to the serial computation.
+ *
+ * <p>This class is not thread safe. Callers are expected to hold the votes lock.
+ */
+class ColumnarVoteStore {
+  static final int NO_NODE = -1;
+  static final int DEFAULT_CHUNK_SIZE = 16_384;
+
+  private final int parallelDeltaThreshold;
+  private final int chunkSize;
+
+  private int[] nodeIndices = new int[0];
+  private long[] balances = new long[0];
+  private final BitSet votedValidators = new BitSet();
+  private final BitSet equivocatingValidators = new BitSet();
+  private final BitSet dirtyValidators = new BitSet();
+  private int trackedValidatorCount = 0;
+
+  ColumnarVoteStore(final int parallelDeltaThreshold) {
+    this(parallelDeltaThreshold, DEFAULT_CHUNK_SIZE);
+  }
+
+  @VisibleForTesting
+  ColumnarVoteStore(final int parallelDeltaThreshold, final int chunkSize) {
+    checkArgument(chunkSize > 0, "Chunk size must be positive");
+    this.parallelDeltaThreshold = parallelDeltaThreshold;
+    this.chunkSize = chunkSize;
+  }
+
+  /** Records that the vote for {@code validatorIndex} has been updated in the vote store. */
+  void markVoteUpdated(final UInt64 validatorIndex) {
+    dirtyValidators.set(toIntExact(validatorIndex.longValue()));
+  }
+
+  /**
+   * Adjusts the stored node indices after the first {@code prunedNodeCount} nodes were removed from
+   * the proto array. Validators that were attributed to a pruned node are reloaded from their vote
+   * on the next delta computation.
+   */
+  void onNodesPruned(final int prunedNodeCount) {
+    for (int validatorIndex = 0; validatorIndex < trackedValidatorCount; validatorIndex++) {
+      final int nodeIndex = nodeIndices[validatorIndex];
+      if (nodeIndex == NO_NODE) {
+        continue;
+      }
+      if (nodeIndex < prunedNodeCount) {
+        nodeIndices[validatorIndex] = NO_NODE;
+        dirtyValidators.set(validatorIndex);
+      } else {
+        nodeIndices[validatorIndex] = nodeIndex - prunedNodeCount;
+      }
+    }
+  }
+
+  /**
+   * Returns a list of `deltas`, where there is one delta for each of the indices in
+   * `0..protoArraySize`.
+   *
+   * @param voteUpdater the vote store to load updated votes from and write applied votes to
+   * @param protoArraySize the number of nodes in the proto array
+   * @param getIndexByRoot resolves a block root to its current node index
+   * @param isNodeIndexed returns false for nodes whose root is no longer resolvable
+   * @param newBalances the effective balances to apply
+   */
+  LongList computeDeltas(
+      final VoteUpdater voteUpdater,
+      final int protoArraySize,
+      final Function<Bytes32, Optional<Integer>> getIndexByRoot,
+      final IntPredicate isNodeIndexed,
+      final List<UInt64> newBalances,
+      final Optional<Bytes32> previousProposerBoostRoot,
+      final Optional<Bytes32> newProposerBoostRoot,
+      final UInt64 previousBoostAmount,
+      final UInt64 newBoostAmount) {
+    final long[] newBalanceValues = toLongArray(newBalances);
+    final BitSet unindexedNodes = findUnindexedNodes(protoArraySize, isNodeIndexed);
+
+    final int validatorCount =
+        toIntExact(voteUpdater.getHighestVotedValidatorIndex().longValue()) + 1;
+    ensureCapacity(validatorCount);
+
+    final DeltaChunk result;
+    if (validatorCount >= parallelDeltaThreshold) {
+      result =
+          computeChunksInParallel(validatorCount, protoArraySize, newBalanceValues, unindexedNodes);
+    } else {
+      result = computeChunk(0, validatorCount, protoArraySize, newBalanceValues, unindexedNodes);
+    }
+
+    final long[] deltas = result.deltas;
+    for (int i = 0; i < result.validatorsToReload.size(); i++) {
+      applyUpdatedVote(
+          voteUpdater, getIndexByRoot, newBalanceValues, deltas, result.validatorsToReload.getInt(i));
+    }
+
+    balances = newBalanceValues;
+
+    previousProposerBoostRoot.ifPresent(
+        root ->
+            getIndexByRoot
+                .apply(root)
+                .ifPresent(
+                    index -> subtractBalance(deltas, index, previousBoostAmount.longValue())));
+    newProposerBoostRoot.ifPresent(
+        root ->
+            getIndexByRoot
+                .apply(root)
+                .ifPresent(index -> addBalance(deltas, index, newBoostAmount.longValue())));
+    return LongArrayList.wrap(deltas);
+  }
+
+  private DeltaChunk computeChunksInParallel(
+      final int validatorCount,
+      final int protoArraySize,
+      final long[] newBalanceValues,
+      final BitSet unindexedNodes) {
+    final int chunkCount = (validatorCount + chunkSize - 1) / chunkSize;
+    final List<DeltaChunk> chunks =
+        IntStream.range(0, chunkCount)
+            .parallel()
+            .mapToObj(
+                chunk ->
+                    computeChunk(
+                        chunk * chunkSize,
+                        Math.min(validatorCount, (chunk + 1) * chunkSize),
+                        protoArraySize,
+                        newBalanceValues,
+                        unindexedNodes))
+            .collect(Collectors.toList());
+
+    final DeltaChunk merged = new DeltaChunk(protoArraySize);
+    for (DeltaChunk chunk : chunks) {
+      for (int nodeIndex = 0; nodeIndex < protoArraySize; nodeIndex++) {
+        merged.deltas[nodeIndex] = addExact(merged.deltas[nodeIndex], chunk.deltas[nodeIndex]);
+      }
+      merged.validatorsToReload.addAll(chunk.validatorsToReload);
+    }
+    return merged;
+  }
+
+  /**
+   * Computes the deltas caused by balance changes for validators in {@code [fromIndex, toIndex)}
+   * and collects the validators that need to be reloaded from their vote. Only reads the columns so
+   * may be called concurrently for distinct ranges.
+   */
+  private DeltaChunk computeChunk(
+      final int fromIndex,
+      final int toIndex,
+      final int protoArraySize,
+      final long[] newBalanceValues,
+      final BitSet unindexedNodes) {
+    final DeltaChunk chunk = new DeltaChunk(protoArraySize);
+    for (int validatorIndex = fromIndex; validatorIndex < toIndex; validatorIndex++) {
+      final int nodeIndex = nodeIndices[validatorIndex];
+      if (dirtyValidators.get(validatorIndex)
+          || (nodeIndex != NO_NODE && unindexedNodes.get(nodeIndex))) {
+        chunk.validatorsToReload.add(validatorIndex);
+      } else if (votedValidators.get(validatorIndex)
+          && !equivocatingValidators.get(validatorIndex)) {
+        applyBalanceChange(newBalanceValues, chunk.deltas, validatorIndex, nodeIndex);
+      }
+    }
+    return chunk;
+  }
+
+  private void applyBalanceChange(
+      final long[] newBalanceValues,
+      final long[] deltas,
+      final int validatorIndex,
+      final int nodeIndex) {
+    if (nodeIndex == NO_NODE) {
+      return;
+    }
+    final long oldBalance = getBalance(balances, validatorIndex);
+    final long newBalance = getBalance(newBalanceValues, validatorIndex);
+    if (oldBalance != newBalance) {
+      // The vote itself hasn't changed so the balance moves between the same node
+      subtractBalance(deltas, nodeIndex, oldBalance);
+      addBalance(deltas, nodeIndex, newBalance);
+    }
+  }
+
+  private void applyUpdatedVote(
+      final VoteUpdater voteUpdater,
+      final Function<Bytes32, Optional<Integer>> getIndexByRoot,
+      final long[] newBalanceValues,
+      final long[] deltas,
+      final int validatorIndex) {
+    final UInt64 boxedValidatorIndex = UInt64.valueOf(validatorIndex);
+    VoteTracker vote = voteUpdater.getVote(boxedValidatorIndex);
+    dirtyValidators.clear(validatorIndex);
+    nodeIndices[validatorIndex] = NO_NODE;
+
+    // There is no need to create a score change if the validator has never voted
+    // or both their votes are for the zero hash (alias to the genesis block).
+    if (vote.getCurrentRoot().equals(Bytes32.ZERO) && vote.getNextRoot().equals(Bytes32.ZERO)) {
+      votedValidators.clear(validatorIndex);
+      return;
+    }
+    votedValidators.set(validatorIndex);
+    // If vote is already count as equivocated, we don't need to do anything more
+    if (vote.isCurrentEquivocating()) {
+      equivocatingValidators.set(validatorIndex);
+      return;
+    }
+    equivocatingValidators.clear(validatorIndex);
+
+    final long oldBalance = getBalance(balances, validatorIndex);
+    final long newBalance =
+        vote.isNextEquivocating() ? 0L : getBalance(newBalanceValues, validatorIndex);
+
+    if (!vote.getCurrentRoot().equals(vote.getNextRoot()) || oldBalance != newBalance) {
+      getIndexByRoot
+          .apply(vote.getCurrentRoot())
+          .ifPresent(index -> subtractBalance(deltas, index, oldBalance));
+      getIndexByRoot
+          .apply(vote.getNextRoot())
+          .ifPresent(index -> addBalance(deltas, index, newBalance));
+      vote =
+          new VoteTracker(
+              vote.getNextRoot(),
+              vote.getNextRoot(),
+              vote.getNextEpoch(),
+              vote.isNextEquivocating(),
+              vote.isNextEquivocating());
+      voteUpdater.putVote(boxedValidatorIndex, vote);
+    }
+
+    if (vote.isCurrentEquivocating()) {
+      equivocatingValidators.set(validatorIndex);
+    } else if (vote.isNextEquivocating() || !vote.getCurrentRoot().equals(vote.getNextRoot())) {
+      // Pending equivocation still has to be applied, keep loading the vote
+      dirtyValidators.set(validatorIndex);
+    } else {
+      final Optional<Integer> nodeIndex = getIndexByRoot.apply(vote.getNextRoot());
+      if (nodeIndex.isPresent()) {
+        nodeIndices[validatorIndex] = nodeIndex.get();
+      } else {
+        // Root is outside our tree, keep resolving it by root in case that changes
+        dirtyValidators.set(validatorIndex);
+      }
+    }
+  }
+
+  private void ensureCapacity(final int validatorCount) {
+    if (validatorCount <= trackedValidatorCount) {
+      return;
+    }
+    if (validatorCount > nodeIndices.length) {
+      final int previousLength = nodeIndices.length;
+      nodeIndices = Arrays.copyOf(nodeIndices, Math.max(validatorCount, previousLength * 2));
+      Arrays.fill(nodeIndices, previousLength, nodeIndices.length, NO_NODE);
+    }
+    // Validators not seen before have to be loaded from their vote tracker
+    dirtyValidators.set(trackedValidatorCount, validatorCount);
+    trackedValidatorCount = validatorCount;
+  }
+
+  private static class DeltaChunk {
+    private final long[] deltas;
+    private final IntList validatorsToReload = new IntArrayList();
+
+    private DeltaChunk(final int protoArraySize) {
+      this.deltas = new long[protoArraySize];
+    }
+  }
+
+  private static BitSet findUnindexedNodes(
+      final int protoArraySize, final IntPredicate isNodeIndexed) {
+    final BitSet unindexedNodes = new BitSet(protoArraySize);
+    for (int nodeIndex = 0; nodeIndex < protoArraySize; nodeIndex++) {
+      if (!isNodeIndexed.test(nodeIndex)) {
+        unindexedNodes.set(nodeIndex);
+      }
+    }
+    return unindexedNodes;
+  }
+
+  private static long[] toLongArray(final List<UInt64> values) {
+    final long[] result = new long[values.size()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = values.get(i).longValue();
+    }
+    return result;
+  }
+
+  private static long getBalance(final long[] balances, final int validatorIndex) {
+    // If the validator is not included in the balances (i.e. it did not exist yet)
+    // then say its balance was zero.
+    return balances.length > validatorIndex ? balances[validatorIndex] : 0L;
+  }
+
+  private static void addBalance(final long[] deltas, final int nodeIndex, final long balance) {
+    checkState(nodeIndex < deltas.length, "ProtoArrayForkChoice: Invalid node delta index");
+    deltas[nodeIndex] = addExact(deltas[nodeIndex], balance);
+  }
+
+  private static void subtractBalance(
+      final long[] deltas, final int nodeIndex, final long balance) {
+    checkState(nodeIndex < deltas.length, "ProtoArrayForkChoice: Invalid node delta index");
+    deltas[nodeIndex] = subtractExact(deltas[nodeIndex], balance);
+  }
+}
@@ -16,7 +16,6 @@ package tech.pegasys.teku.storage.protoarray;
 import com.google.common.annotations.VisibleForTesting;
 import it.unimi.dsi.fastutil.longs.LongList;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
@@ -45,25 +44,37 @@ import tech.pegasys.teku.spec.executionlayer.ForkChoiceState;
 import tech.pegasys.teku.spec.executionlayer.PayloadStatus;
 
 public class ForkChoiceStrategy implements BlockMetadataStore, ReadOnlyForkChoiceStrategy {
+  public static final int DEFAULT_PARALLEL_DELTA_THRESHOLD = 250_000;
   private static final Logger LOG = LogManager.getLogger();
   private final ReadWriteLock protoArrayLock = new ReentrantReadWriteLock();
   private final ReadWriteLock votesLock = new ReentrantReadWriteLock();
   private final ReadWriteLock balancesLock = new ReentrantReadWriteLock();
   private final Spec spec;
   private final ProtoArray protoArray;
+  private final ColumnarVoteStore voteStore;
 
-  private List<UInt64> balances;
   private Optional<Bytes32> proposerBoostRoot = Optional.empty();
   private UInt64 proposerBoostAmount = UInt64.ZERO;
 
-  private ForkChoiceStrategy(Spec spec, ProtoArray protoArray, List<UInt64> balances) {
+  private ForkChoiceStrategy(Spec spec, ProtoArray protoArray, int parallelDeltaThreshold) {
     this.spec = spec;
     this.protoArray = protoArray;
-    this.balances = balances;
+    this.voteStore = new ColumnarVoteStore(parallelDeltaThreshold);
   }
 
   public static ForkChoiceStrategy initialize(final Spec spec, final ProtoArray protoArray) {
-    return new ForkChoiceStrategy(spec, protoArray, new ArrayList<>());
+    return initialize(spec, protoArray, DEFAULT_PARALLEL_DELTA_THRESHOLD);
+  }
+
+  /**
+   * Creates a new fork choice strategy.
+   *
+   * @param parallelDeltaThreshold the number of voting validators at or above which weight deltas
+   *     are computed on multiple threads
+   */
+  public static ForkChoiceStrategy initialize(
+      final Spec spec, final ProtoArray protoArray, final int parallelDeltaThreshold) {
+    return new ForkChoiceStrategy(spec, protoArray, parallelDeltaThreshold);
   }
 
   public SlotAndBlockRoot findHead(
@@ -113,11 +124,11 @@ public class ForkChoiceStrategy implements BlockMetadataStore, ReadOnlyForkChoic
     balancesLock.writeLock().lock();
     try {
       LongList deltas =
-          ProtoArrayScoreCalculator.computeDeltas(
+          voteStore.computeDeltas(
               voteUpdater,
               getTotalTrackedNodeCount(),
               protoArray::getIndexByRoot,
-              balances,
+              protoArray::isNodeIndexed,
               justifiedStateEffectiveBalances,
               this.proposerBoostRoot,
               proposerBoostRoot,
@@ -125,7 +136,6 @@ public class ForkChoiceStrategy implements BlockMetadataStore, ReadOnlyForkChoic
               proposerBoostAmount);
 
       protoArray.applyScoreChanges(deltas, currentEpoch, justifiedCheckpoint, finalizedCheckpoint);
-      balances = justifiedStateEffectiveBalances;
       this.proposerBoostRoot = proposerBoostRoot;
       this.proposerBoostAmount = proposerBoostAmount;
 
@@ -167,6 +177,17 @@ public class ForkChoiceStrategy implements BlockMetadataStore, ReadOnlyForkChoic
     }
   }
 
+  public void onEquivocatingValidator(final VoteUpdater voteUpdater, final UInt64 validatorIndex) {
+    votesLock.writeLock().lock();
+    try {
+      final VoteTracker vote = voteUpdater.getVote(validatorIndex);
+      voteUpdater.putVote(validatorIndex, vote.createNextEquivocating());
+      voteStore.markVoteUpdated(validatorIndex);
+    } finally {
+      votesLock.writeLock().unlock();
+    }
+  }
+
   @Override
   public List<ProtoNodeData> getChainHeads(final boolean includeNonViableHeads) {
     protoArrayLock.readLock().lock();
@@ -237,6 +258,7 @@ public class ForkChoiceStrategy implements BlockMetadataStore, ReadOnlyForkChoic
     if (targetEpoch.isGreaterThan(vote.getNextEpoch()) || vote.equals(VoteTracker.DEFAULT)) {
       VoteTracker newVote = new VoteTracker(vote.getCurrentRoot(), blockRoot, targetEpoch);
       voteUpdater.putVote(validatorIndex, newVote);
+      voteStore.markVoteUpdated(validatorIndex);
     }
   }
 
@@ -471,7 +493,17 @@ public class ForkChoiceStrategy implements BlockMetadataStore, ReadOnlyForkChoic
                       block.getExecutionBlockHash().orElse(Bytes32.ZERO)));
       removedBlockRoots.forEach(protoArray::removeBlockRoot);
       pulledUpBlocks.forEach(protoArray::pullUpBlockCheckpoints);
+      final int nodeCountBeforePrune = protoArray.getTotalTrackedNodeCount();
       protoArray.maybePrune(finalizedCheckpoint.getRoot());
+      final int prunedNodeCount = nodeCountBeforePrune - protoArray.getTotalTrackedNodeCount();
+      if (prunedNodeCount > 0) {
+        votesLock.writeLock().lock();
+        try {
+          voteStore.onNodesPruned(prunedNodeCount);
+        } finally {
+          votesLock.writeLock().unlock();
+        }
+      }
     } finally {
       protoArrayLock.writeLock().unlock();
     }
@@ -670,6 +670,17 @@ public class ProtoArray {
     indices.remove(blockRoot);
   }
 
+  /**
+   * Returns true if the block root of the node at {@code nodeIndex} still resolves to that node.
+   * Nodes for removed roots remain in the array until they are pruned.
+   */
+  boolean isNodeIndexed(final int nodeIndex) {
+    return indices
+        .get(getNodeByIndex(nodeIndex).getBlockRoot())
+        .map(index -> index == nodeIndex)
+        .orElse(false);
+  }
+
   public void pullUpBlockCheckpoints(final Bytes32 blockRoot) {
     getProtoNode(blockRoot).ifPresent(ProtoNode::pullUpCheckpoints);
   }
@@ -18,6 +18,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.exception.StorageException;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
@@ -48,9 +49,13 @@ import tech.pegasys.teku.storage.api.VoteUpdateChannel;
 import tech.pegasys.teku.storage.api.WeakSubjectivityState;
 import tech.pegasys.teku.storage.api.WeakSubjectivityUpdate;
 import tech.pegasys.teku.storage.server.state.FinalizedStateCache;
+import tech.pegasys.teku.storage.server.state.FinalizedStateCache.CacheLimit;
 
 public class ChainStorage
     implements StorageUpdateChannel, StorageQueryChannel, VoteUpdateChannel, ChainStorageFacade {
+  private static final int FINALIZED_STATE_CACHE_EPOCHS = 3;
+  private static final int FINALIZED_STATE_ANCHOR_CACHE_MAX_STATES = 16;
+  private static final long BYTES_PER_MB = 1024L * 1024;
 
   private final Database database;
   private final FinalizedStateCache finalizedStateCache;
@@ -77,14 +82,58 @@ public class ChainStorage
       final Database database,
       final Optional<ExecutionLayerChannel> executionLayerChannel,
       final Spec spec) {
-    final int finalizedStateCacheSize = spec.getSlotsPerEpoch(SpecConfig.GENESIS_EPOCH) * 3;
+    return create(
+        database,
+        executionLayerChannel,
+        spec,
+        StorageConfiguration.DEFAULT_FINALIZED_STATE_CACHE_SIZE_MB,
+        StorageConfiguration.DEFAULT_FINALIZED_STATE_ANCHOR_CACHE_SIZE_MB,
+        StorageConfiguration.DEFAULT_FINALIZED_STATE_ANCHOR_INTERVAL_EPOCHS);
+  }
+
+  public static ChainStorage create(
+      final Database database,
+      final Optional<ExecutionLayerChannel> executionLayerChannel,
+      final StorageConfiguration config) {
+    return create(
+        database,
+        executionLayerChannel,
+        config.getSpec(),
+        config.getFinalizedStateCacheSizeMb(),
+        config.getFinalizedStateAnchorCacheSizeMb(),
+        config.getFinalizedStateAnchorIntervalEpochs());
+  }
+
+  private static ChainStorage create(
+      final Database database,
+      final Optional<ExecutionLayerChannel> executionLayerChannel,
+      final Spec spec,
+      final int finalizedStateCacheSizeMb,
+      final int finalizedStateAnchorCacheSizeMb,
+      final int finalizedStateAnchorIntervalEpochs) {
+    final int slotsPerEpoch = spec.getSlotsPerEpoch(SpecConfig.GENESIS_EPOCH);
     return new ChainStorage(
         database,
-        new FinalizedStateCache(spec, database, finalizedStateCacheSize, true),
+        new FinalizedStateCache(
+            spec,
+            database,
+            getFinalizedStateCacheLimit(
+                finalizedStateCacheSizeMb, slotsPerEpoch * FINALIZED_STATE_CACHE_EPOCHS),
+            slotsPerEpoch * finalizedStateAnchorIntervalEpochs,
+            getFinalizedStateCacheLimit(
+                finalizedStateAnchorCacheSizeMb, FINALIZED_STATE_ANCHOR_CACHE_MAX_STATES),
+            true),
         executionLayerChannel,
         spec);
   }
 
+  private static CacheLimit getFinalizedStateCacheLimit(
+      final int sizeMb, final int defaultMaximumStates) {
+    return sizeMb > 0
+        ? CacheLimit.maximumBytes(sizeMb * BYTES_PER_MB)
+        : CacheLimit.maximumStates(defaultMaximumStates);
+  }
+
   private synchronized Optional<OnDiskStoreData> getStore() {
     if (cachedStoreData.isEmpty()) {
       // Create store from database
@@ -159,6 +208,16 @@ public class ChainStorage
         .thenCompose(this::unblindBlock);
   }
 
+  @Override
+  public SafeFuture<Optional<Bytes>> getFinalizedBlockAtSlotAsSsz(final UInt64 slot) {
+    if (database.isFinalizedBlockSszAvailable()) {
+      return SafeFuture.of(() -> database.getFinalizedBlockAtSlotAsSsz(slot));
+    }
+    // Blocks are stored blinded so have to be loaded and unblinded before being serialized
+    return getFinalizedBlockAtSlot(slot)
+        .thenApply(maybeBlock -> maybeBlock.map(SignedBeaconBlock::sszSerialize));
+  }
+
   private SafeFuture<Optional<SignedBeaconBlock>> unblindBlock(
       final Optional<SignedBeaconBlock> maybeBlock) {
     if (maybeBlock.isEmpty()) {
@@ -69,6 +69,22 @@ public interface Database extends AutoCloseable {
    */
   Optional<SignedBeaconBlock> getFinalizedBlockAtSlot(UInt64 slot);
 
+  /**
+   * Return the SSZ encoding of the finalized block at this slot as stored, without deserializing
+   * it.
+   *
+   * @param slot The slot to query
+   * @return Returns the SSZ bytes of the finalized block proposed at this slot, or empty if there
+   *     is no such block or blocks are not stored in their full, unblinded form
+   */
+  Optional<Bytes> getFinalizedBlockAtSlotAsSsz(UInt64 slot);
+
+  /**
+   * @return true if finalized blocks are stored in their full, unblinded form so {@link
+   *     #getFinalizedBlockAtSlotAsSsz(UInt64)} can return them
+   */
+  boolean isFinalizedBlockSszAvailable();
+
   /** @return The earliest available finalized block's slot */
   Optional<UInt64> getEarliestAvailableBlockSlot();
 
@@ -27,6 +27,10 @@ public class StorageConfiguration {
   public static final int DEFAULT_MAX_KNOWN_NODE_CACHE_SIZE = 100_000;
   public static final int DEFAULT_BLOCK_MIGRATION_BATCH_SIZE = 25;
   public static final int DEFAULT_BLOCK_MIGRATION_BATCH_DELAY_MS = 100;
+  // 0 bounds the finalized state caches by a number of states rather than by their size
+  public static final int DEFAULT_FINALIZED_STATE_CACHE_SIZE_MB = 0;
+  public static final int DEFAULT_FINALIZED_STATE_ANCHOR_CACHE_SIZE_MB = 0;
+  public static final int DEFAULT_FINALIZED_STATE_ANCHOR_INTERVAL_EPOCHS = 8;
 
   private final Eth1Address eth1DepositContract;
 
@@ -40,6 +44,9 @@ public class StorageConfiguration {
   private final boolean storeNonCanonicalBlocks;
   private final int maxKnownNodeCacheSize;
   private final boolean storeVotesEquivocation;
+  private final int finalizedStateCacheSizeMb;
+  private final int finalizedStateAnchorCacheSizeMb;
+  private final int finalizedStateAnchorIntervalEpochs;
 
   private StorageConfiguration(
       final Eth1Address eth1DepositContract,
@@ -52,6 +59,9 @@ public class StorageConfiguration {
       final boolean storeBlockExecutionPayloadSeparately,
       final int blockMigrationBatchSize,
       final int blockMigrationBatchDelay,
+      final int finalizedStateCacheSizeMb,
+      final int finalizedStateAnchorCacheSizeMb,
+      final int finalizedStateAnchorIntervalEpochs,
       final Spec spec) {
     this.eth1DepositContract = eth1DepositContract;
     this.dataStorageMode = dataStorageMode;
@@ -63,6 +73,9 @@ public class StorageConfiguration {
     this.storeBlockExecutionPayloadSeparately = storeBlockExecutionPayloadSeparately;
     this.blockMigrationBatchSize = blockMigrationBatchSize;
     this.blockMigrationBatchDelay = blockMigrationBatchDelay;
+    this.finalizedStateCacheSizeMb = finalizedStateCacheSizeMb;
+    this.finalizedStateAnchorCacheSizeMb = finalizedStateAnchorCacheSizeMb;
+    this.finalizedStateAnchorIntervalEpochs = finalizedStateAnchorIntervalEpochs;
     this.spec = spec;
   }
 
@@ -110,6 +123,18 @@ public class StorageConfiguration {
     return blockMigrationBatchDelay;
   }
 
+  public int getFinalizedStateCacheSizeMb() {
+    return finalizedStateCacheSizeMb;
+  }
+
+  public int getFinalizedStateAnchorCacheSizeMb() {
+    return finalizedStateAnchorCacheSizeMb;
+  }
+
+  public int getFinalizedStateAnchorIntervalEpochs() {
+    return finalizedStateAnchorIntervalEpochs;
+  }
+
   public Spec getSpec() {
     return spec;
   }
@@ -128,6 +153,9 @@ public class StorageConfiguration {
     private boolean storeBlockExecutionPayloadSeparately = DEFAULT_STORE_BLOCK_PAYLOAD_SEPARATELY;
     private int blockMigrationBatchSize = DEFAULT_BLOCK_MIGRATION_BATCH_SIZE;
     private int blockMigrationBatchDelay = DEFAULT_BLOCK_MIGRATION_BATCH_DELAY_MS;
+    private int finalizedStateCacheSizeMb = DEFAULT_FINALIZED_STATE_CACHE_SIZE_MB;
+    private int finalizedStateAnchorCacheSizeMb = DEFAULT_FINALIZED_STATE_ANCHOR_CACHE_SIZE_MB;
+    private int finalizedStateAnchorIntervalEpochs = DEFAULT_FINALIZED_STATE_ANCHOR_INTERVAL_EPOCHS;
 
     private Builder() {}
 
@@ -198,6 +226,9 @@ public class StorageConfiguration {
           storeBlockExecutionPayloadSeparately,
           blockMigrationBatchSize,
           blockMigrationBatchDelay,
+          finalizedStateCacheSizeMb,
+          finalizedStateAnchorCacheSizeMb,
+          finalizedStateAnchorIntervalEpochs,
           spec);
     }
 
@@ -216,5 +247,36 @@ public class StorageConfiguration {
       this.blockMigrationBatchDelay = blockMigrationBatchDelay;
       return this;
     }
+
+    public Builder finalizedStateCacheSizeMb(final int finalizedStateCacheSizeMb) {
+      if (finalizedStateCacheSizeMb < 0) {
+        throw new InvalidConfigurationException(
+            String.format("Invalid finalizedStateCacheSizeMb: %d", finalizedStateCacheSizeMb));
+      }
+      this.finalizedStateCacheSizeMb = finalizedStateCacheSizeMb;
+      return this;
+    }
+
+    public Builder finalizedStateAnchorCacheSizeMb(final int finalizedStateAnchorCacheSizeMb) {
+      if (finalizedStateAnchorCacheSizeMb < 0) {
+        throw new InvalidConfigurationException(
+            String.format(
+                "Invalid finalizedStateAnchorCacheSizeMb: %d", finalizedStateAnchorCacheSizeMb));
+      }
+      this.finalizedStateAnchorCacheSizeMb = finalizedStateAnchorCacheSizeMb;
+      return this;
+    }
+
+    public Builder finalizedStateAnchorIntervalEpochs(
+        final int finalizedStateAnchorIntervalEpochs) {
+      if (finalizedStateAnchorIntervalEpochs < 1) {
+        throw new InvalidConfigurationException(
+            String.format(
+                "Invalid finalizedStateAnchorIntervalEpochs: %d",
+                finalizedStateAnchorIntervalEpochs));
+      }
+      this.finalizedStateAnchorIntervalEpochs = finalizedStateAnchorIntervalEpochs;
+      return this;
+    }
   }
 }
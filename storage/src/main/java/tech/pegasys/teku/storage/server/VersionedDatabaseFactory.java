@@ -379,7 +379,21 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
             e);
       }
     }
-    return this.createDatabaseVersion;
+    return getNewDatabaseVersion();
+  }
+
+  /**
+   * Archive nodes keep every finalized state, so new archive databases store them as deduplicated
+   * tree nodes unless a different version was requested. Existing databases always keep the
+   * version they were created with, as snapshot databases can't be converted in place.
+   */
+  private DatabaseVersion getNewDatabaseVersion() {
+    if (stateStorageMode == StateStorageMode.ARCHIVE
+        && createDatabaseVersion == DatabaseVersion.DEFAULT_VERSION
+        && DatabaseVersion.isLevelDbSupported()) {
+      return DatabaseVersion.LEVELDB_TREE;
+    }
+    return createDatabaseVersion;
   }
 
   private void saveDatabaseVersion(final DatabaseVersion version) {
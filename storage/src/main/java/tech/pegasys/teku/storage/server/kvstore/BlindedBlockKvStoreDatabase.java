@@ -191,6 +191,17 @@ public class BlindedBlockKvStoreDatabase
     return dao.getFinalizedBlockRootAtSlot(slot).flatMap(dao::getBlindedBlock);
   }
 
+  @Override
+  public Optional<Bytes> getFinalizedBlockAtSlotAsSsz(final UInt64 slot) {
+    // Blocks are stored blinded so must be deserialized and unblinded before they can be served
+    return Optional.empty();
+  }
+
+  @Override
+  public boolean isFinalizedBlockSszAvailable() {
+    return false;
+  }
+
   @Override
   public Optional<UInt64> getEarliestAvailableBlockSlot() {
     return dao.getEarliestBlindedBlockSlot();
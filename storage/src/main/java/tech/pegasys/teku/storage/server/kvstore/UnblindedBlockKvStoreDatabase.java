@@ -91,6 +91,16 @@ public class UnblindedBlockKvStoreDatabase
     return dao.getFinalizedBlockAtSlot(slot);
   }
 
+  @Override
+  public Optional<Bytes> getFinalizedBlockAtSlotAsSsz(final UInt64 slot) {
+    return dao.getFinalizedBlockAtSlotAsSsz(slot);
+  }
+
+  @Override
+  public boolean isFinalizedBlockSszAvailable() {
+    return true;
+  }
+
   @Override
   public Optional<UInt64> getEarliestAvailableBlockSlot() {
     return dao.getEarliestFinalizedBlockSlot();
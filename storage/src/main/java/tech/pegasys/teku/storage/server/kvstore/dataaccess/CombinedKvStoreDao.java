@@ -15,9 +15,11 @@ package tech.pegasys.teku.storage.server.kvstore.dataaccess;
 
 import static com.google.common.base.Preconditions.checkArgument;
 
+import com.google.common.collect.Sets;
 import com.google.errorprone.annotations.MustBeClosed;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -49,6 +51,8 @@ import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedStateStora
 import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
 import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreVariable;
 import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombined;
+import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombinedSnapshotState;
+import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombinedTreeState;
 
 public class CombinedKvStoreDao<S extends SchemaCombined>
     implements KvStoreCombinedDaoBlinded, KvStoreCombinedDaoUnblinded, V4MigratableSourceDao {
@@ -240,10 +244,24 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
     final Map<String, KvStoreColumn<?, ?>> newColumns = schema.getColumnMap();
     if (newColumns.size() > 0) {
       final Map<String, KvStoreColumn<?, ?>> oldColumns = dao.getColumnMap();
+      final Optional<KvStoreColumn<UInt64, BeaconState>> snapshotStatesColumn =
+          getSnapshotStatesColumnForTreeConversion(dao);
+      final Set<String> copiedColumns =
+          snapshotStatesColumn.isPresent()
+              ? Sets.difference(
+                  newColumns.keySet(),
+                  getColumnNames(newColumns, getTreeStateColumns((SchemaCombinedTreeState) schema)))
+              : newColumns.keySet();
+      final Set<String> expectedOldColumns =
+          snapshotStatesColumn.isPresent()
+              ? Sets.difference(
+                  oldColumns.keySet(),
+                  getColumnNames(oldColumns, Set.of(snapshotStatesColumn.get())))
+              : oldColumns.keySet();
       checkArgument(
-          oldColumns.keySet().equals(newColumns.keySet()),
+          expectedOldColumns.equals(copiedColumns),
           "Cannot migrate database as source and target formats do not use the same columns");
-      for (String key : newColumns.keySet()) {
+      for (String key : copiedColumns) {
         final Optional<UInt64> maybeCount = displayCopyColumnMessage(key, oldColumns, dao, logger);
         try (final Stream<ColumnEntry<Bytes, Bytes>> oldEntryStream =
                 dao.streamRawColumn(oldColumns.get(key));
@@ -251,14 +269,94 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
           oldEntryStream.forEach(entry -> batchWriter.add(newColumns.get(key), entry));
         }
       }
+      snapshotStatesColumn.ifPresent(
+          statesColumn -> convertSnapshotStates(dao, statesColumn, batchSize, logger));
     }
   }
 
+  /**
+   * Returns the finalized states column of {@code dao} if it stores snapshot states and this
+   * database stores them as a state tree, so they need to be converted rather than copied.
+   */
+  private Optional<KvStoreColumn<UInt64, BeaconState>> getSnapshotStatesColumnForTreeConversion(
+      final V4MigratableSourceDao dao) {
+    if (!(schema instanceof SchemaCombinedTreeState)) {
+      return Optional.empty();
+    }
+    return dao.getFinalizedStatesSnapshotColumn();
+  }
+
+  private static Set<KvStoreColumn<?, ?>> getTreeStateColumns(
+      final SchemaCombinedTreeState treeSchema) {
+    return Set.of(
+        treeSchema.getColumnFinalizedStateRootsBySlot(),
+        treeSchema.getColumnFinalizedStateMerkleTreeLeaves(),
+        treeSchema.getColumnFinalizedStateMerkleTreeBranches());
+  }
+
+  private static Set<String> getColumnNames(
+      final Map<String, KvStoreColumn<?, ?>> columnMap,
+      final Set<KvStoreColumn<?, ?>> columns) {
+    return columnMap.entrySet().stream()
+        .filter(entry -> columns.contains(entry.getValue()))
+        .map(Map.Entry::getKey)
+        .collect(Collectors.toSet());
+  }
+
+  /**
+   * Re-stores each finalized state from a snapshot database through the tree state storage logic,
+   * so nodes shared between states are only written once. States are committed in batches of
+   * roughly {@code batchSize} MB of source data so memory use stays bounded.
+   */
+  private void convertSnapshotStates(
+      final V4MigratableSourceDao dao,
+      final KvStoreColumn<UInt64, BeaconState> statesColumn,
+      final int batchSize,
+      final Consumer<String> logger) {
+    final Optional<UInt64> maybeCount = getEntityCountFromColumn(statesColumn, dao);
+    logger.accept(
+        String.format(
+            "Convert finalized states to state tree%s",
+            maybeCount.map(count -> " - " + count + " objects").orElse("")));
+    final long targetBatchBytes = batchSize * 1_000_000L;
+    long convertedStates = 0;
+    try (final Stream<ColumnEntry<Bytes, Bytes>> oldEntryStream =
+        dao.streamRawColumn(statesColumn)) {
+      final Iterator<ColumnEntry<Bytes, Bytes>> entries = oldEntryStream.iterator();
+      while (entries.hasNext()) {
+        final FinalizedStateUpdater<S> updater = stateStorageLogic.updater();
+        long batchBytes = 0;
+        try (final KvStoreTransaction transaction = db.startTransaction()) {
+          while (entries.hasNext() && batchBytes < targetBatchBytes) {
+            final Bytes stateBytes = entries.next().getValue();
+            final BeaconState state =
+                statesColumn.getValueSerializer().deserialize(stateBytes.toArrayUnsafe());
+            updater.addFinalizedState(db, transaction, schema, state);
+            batchBytes += stateBytes.size();
+            convertedStates++;
+          }
+          transaction.commit();
+        }
+        updater.commit();
+        logger.accept(String.format(" -- %,d...", convertedStates));
+      }
+    }
+    logger.accept(String.format(" => Converted %,d states...", convertedStates));
+  }
+
   @Override
   public Map<String, KvStoreColumn<?, ?>> getColumnMap() {
     return schema.getColumnMap();
   }
 
+  @Override
+  public Optional<KvStoreColumn<UInt64, BeaconState>> getFinalizedStatesSnapshotColumn() {
+    if (schema instanceof SchemaCombinedSnapshotState) {
+      return Optional.of(((SchemaCombinedSnapshotState) schema).getColumnFinalizedStatesBySlot());
+    }
+    return Optional.empty();
+  }
+
   @Override
   public Map<String, KvStoreVariable<?>> getVariableMap() {
     return schema.getVariableMap();
@@ -291,6 +389,11 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
     return db.get(schema.getColumnFinalizedBlocksBySlot(), slot);
   }
 
+  @Override
+  public Optional<Bytes> getFinalizedBlockAtSlotAsSsz(final UInt64 slot) {
+    return db.getRaw(schema.getColumnFinalizedBlocksBySlot(), slot);
+  }
+
   @Override
   public Optional<UInt64> getEarliestFinalizedBlockSlot() {
     return db.getFirstEntry(schema.getColumnFinalizedBlocksBySlot()).map(ColumnEntry::getKey);
@@ -183,6 +183,11 @@ public class KvStoreCombinedDaoAdapter
     return finalizedDao.getFinalizedBlockAtSlot(slot);
   }
 
+  @Override
+  public Optional<Bytes> getFinalizedBlockAtSlotAsSsz(final UInt64 slot) {
+    return finalizedDao.getFinalizedBlockAtSlotAsSsz(slot);
+  }
+
   @Override
   public Optional<UInt64> getEarliestFinalizedBlockSlot() {
     return finalizedDao.getEarliestFinalizedBlockSlot();
@@ -393,6 +398,11 @@ public class KvStoreCombinedDaoAdapter
     return allColumns;
   }
 
+  @Override
+  public Optional<KvStoreColumn<UInt64, BeaconState>> getFinalizedStatesSnapshotColumn() {
+    return Optional.of(finalizedDao.getColumnFinalizedStatesBySlot());
+  }
+
   @Override
   public Map<String, KvStoreVariable<?>> getVariableMap() {
     final Map<String, KvStoreVariable<?>> allVariables = new HashMap<>();
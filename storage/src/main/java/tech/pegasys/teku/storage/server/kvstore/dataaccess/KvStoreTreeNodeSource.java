@@ -13,28 +13,56 @@
 
 package tech.pegasys.teku.storage.server.kvstore.dataaccess;
 
+import java.util.Map;
+import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSource;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
 import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombinedTreeState;
 
+/**
+ * Loads finalized state tree nodes from the database on demand. States loaded through this source
+ * are backed by lazy branch nodes so only the subtrees that are actually accessed are read.
+ *
+ * <p>Branch nodes are keyed by their hash, so they can be shared between states and are cached in
+ * {@code branchNodeCache}. This avoids re-reading the upper levels of the tree, which are common to
+ * every lookup, when several historic states are queried.
+ */
 class KvStoreTreeNodeSource implements TreeNodeSource {
 
   private final KvStoreAccessor db;
   private final SchemaCombinedTreeState schema;
+  private final Optional<Map<Bytes32, CompressedBranchInfo>> branchNodeCache;
 
   public KvStoreTreeNodeSource(final KvStoreAccessor db, final SchemaCombinedTreeState schema) {
+    this(db, schema, Optional.empty());
+  }
+
+  public KvStoreTreeNodeSource(
+      final KvStoreAccessor db,
+      final SchemaCombinedTreeState schema,
+      final Optional<Map<Bytes32, CompressedBranchInfo>> branchNodeCache) {
     this.db = db;
     this.schema = schema;
+    this.branchNodeCache = branchNodeCache;
   }
 
   @Override
   public CompressedBranchInfo loadBranchNode(final Bytes32 rootHash, final long gIndex) {
-    return db.get(schema.getColumnFinalizedStateMerkleTreeBranches(), rootHash)
-        .orElseThrow(
-            () ->
-                new IllegalArgumentException("Unknown branch node: " + rootHash + " at " + gIndex));
+    final Optional<CompressedBranchInfo> cachedBranch =
+        branchNodeCache.map(cache -> cache.get(rootHash));
+    if (cachedBranch.isPresent()) {
+      return cachedBranch.get();
+    }
+    final CompressedBranchInfo branch =
+        db.get(schema.getColumnFinalizedStateMerkleTreeBranches(), rootHash)
+            .orElseThrow(
+                () ->
+                    new IllegalArgumentException(
+                        "Unknown branch node: " + rootHash + " at " + gIndex));
+    branchNodeCache.ifPresent(cache -> cache.put(rootHash, branch));
+    return branch;
   }
 
   @Override
@@ -63,6 +63,10 @@ public class V4FinalizedKvStoreDao {
     return db.get(schema.getColumnFinalizedBlocksBySlot(), slot);
   }
 
+  public Optional<Bytes> getFinalizedBlockAtSlotAsSsz(final UInt64 slot) {
+    return db.getRaw(schema.getColumnFinalizedBlocksBySlot(), slot);
+  }
+
   public Optional<UInt64> getEarliestFinalizedBlockSlot() {
     return db.getFirstEntry(schema.getColumnFinalizedBlocksBySlot()).map(ColumnEntry::getKey);
   }
@@ -195,6 +199,10 @@ public class V4FinalizedKvStoreDao {
     return schema.getVariableMap();
   }
 
+  public KvStoreColumn<UInt64, BeaconState> getColumnFinalizedStatesBySlot() {
+    return schema.getColumnFinalizedStatesBySlot();
+  }
+
   public Optional<Bytes32> getFinalizedBlockRootAtSlot(final UInt64 slot) {
     return db.get(schema.getColumnFinalizedBlockRootBySlot(), slot);
   }
@@ -14,6 +14,7 @@
 package tech.pegasys.teku.storage.server.kvstore.dataaccess;
 
 import com.google.errorprone.annotations.MustBeClosed;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -21,9 +22,11 @@ import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.infrastructure.collections.LimitedMap;
 import tech.pegasys.teku.infrastructure.collections.LimitedSet;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.ssz.tree.GIndexUtil;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSource.CompressedBranchInfo;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeStore;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
@@ -36,9 +39,13 @@ import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombinedTreeState;
 public class V4FinalizedStateTreeStorageLogic
     implements V4FinalizedStateStorageLogic<SchemaCombinedTreeState> {
   private static final int MAX_BRANCH_LEVELS_SKIPPED = 5;
+  // Each compressed branch holds at most 2^MAX_BRANCH_LEVELS_SKIPPED child hashes (~1KB)
+  private static final int MAX_LOADED_BRANCH_CACHE_SIZE = 10_000;
   private final LabelledMetric<Counter> branchNodeStoredCounter;
   private final Counter statesStoredCounter;
   private final Set<Bytes32> knownStoredBranchesCache;
+  private final Map<Bytes32, CompressedBranchInfo> loadedBranchCache =
+      LimitedMap.createSynchronized(MAX_LOADED_BRANCH_CACHE_SIZE);
   private final Spec spec;
   private final Counter leafNodeStoredCounter;
 
@@ -74,7 +81,7 @@ public class V4FinalizedStateTreeStorageLogic
                     .getSchemaDefinitions()
                     .getBeaconStateSchema()
                     .load(
-                        new KvStoreTreeNodeSource(db, dbSchema),
+                        new KvStoreTreeNodeSource(db, dbSchema, Optional.of(loadedBranchCache)),
                         entry.getValue(),
                         GIndexUtil.SELF_G_INDEX));
   }
@@ -18,6 +18,8 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.storage.server.kvstore.ColumnEntry;
 import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
 import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreVariable;
@@ -27,6 +29,9 @@ public interface V4MigratableSourceDao {
 
   Map<String, KvStoreVariable<?>> getVariableMap();
 
+  /** Returns the column of finalized states if they are stored as full state snapshots. */
+  Optional<KvStoreColumn<UInt64, BeaconState>> getFinalizedStatesSnapshotColumn();
+
   <T> Optional<Bytes> getRawVariable(final KvStoreVariable<T> var);
 
   @MustBeClosed
@@ -92,6 +92,16 @@ public class NoOpDatabase implements Database {
     return Optional.empty();
   }
 
+  @Override
+  public Optional<Bytes> getFinalizedBlockAtSlotAsSsz(final UInt64 slot) {
+    return Optional.empty();
+  }
+
+  @Override
+  public boolean isFinalizedBlockSszAvailable() {
+    return false;
+  }
+
   @Override
   public Optional<UInt64> getEarliestAvailableBlockSlot() {
     return Optional.empty();
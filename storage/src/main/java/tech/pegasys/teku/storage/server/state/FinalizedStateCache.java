@@ -13,15 +13,18 @@
 
 package tech.pegasys.teku.storage.server.state;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ONE;
 
 import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 import com.google.common.cache.RemovalCause;
-import com.google.common.cache.RemovalNotification;
+import com.google.common.cache.RemovalListener;
 import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.util.Comparator;
 import java.util.NavigableSet;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentSkipListSet;
@@ -33,6 +36,19 @@ import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.storage.server.Database;
 
+/**
+ * Caches regenerated finalized states in two tiers, each bounded either by the number of states it
+ * holds or by the estimated bytes it retains.
+ *
+ * <p>Recently requested states are kept in an LRU tier. While regenerating, the first state reached
+ * in each {@code anchorInterval} slot range is kept in a separate anchor tier so that a later
+ * request for any slot in that range only needs to replay blocks from the nearest anchor rather
+ * than from the last state stored on disk.
+ *
+ * <p>When bounded by size, states are weighed by their SSZ size. As states regenerated from one
+ * another share most of their backing tree, this over-estimates the memory actually retained and
+ * the configured limits act as an upper bound.
+ */
 public class FinalizedStateCache {
   /**
    * Note this is a best effort basis to track what states are cached. Slots are added here slightly
@@ -41,32 +57,58 @@ public class FinalizedStateCache {
    */
   private final NavigableSet<UInt64> availableSlots = new ConcurrentSkipListSet<>();
 
+  private final NavigableSet<UInt64> anchorSlots = new ConcurrentSkipListSet<>();
+
   private final LoadingCache<UInt64, BeaconState> stateCache;
+  private final Cache<UInt64, BeaconState> anchorCache;
   private final Spec spec;
   private final Database database;
+  private final UInt64 anchorInterval;
 
   public FinalizedStateCache(
       final Spec spec,
       final Database database,
-      final int maximumCacheSize,
+      final CacheLimit recentStatesLimit,
+      final int anchorInterval,
+      final CacheLimit anchorStatesLimit,
       final boolean useSoftReferences) {
     this.spec = spec;
     this.database = database;
+    this.anchorInterval = UInt64.valueOf(anchorInterval);
+    this.stateCache =
+        createCacheBuilder(recentStatesLimit, availableSlots, useSoftReferences)
+            .build(new StateCacheLoader());
+    this.anchorCache =
+        createCacheBuilder(anchorStatesLimit, anchorSlots, useSoftReferences).build();
+  }
+
+  private static CacheBuilder<UInt64, BeaconState> createCacheBuilder(
+      final CacheLimit limit,
+      final NavigableSet<UInt64> trackedSlots,
+      final boolean useSoftReferences) {
+    final RemovalListener<UInt64, BeaconState> removalListener =
+        notification -> {
+          if (notification.getCause() != RemovalCause.REPLACED) {
+            trackedSlots.remove(notification.getKey());
+          }
+        };
     final CacheBuilder<UInt64, BeaconState> cacheBuilder =
-        CacheBuilder.newBuilder()
-            .maximumSize(maximumCacheSize)
-            .removalListener(this::onRemovedFromCache);
+        CacheBuilder.newBuilder().removalListener(removalListener);
+    if (limit.isBoundedBySize()) {
+      // Guava divides the maximum weight evenly between segments and evicts per segment, so with
+      // the default of four segments a single state can use at most a quarter of the budget. As a
+      // state weighs hundreds of MB, use a single segment so the whole budget is shared.
+      cacheBuilder
+          .concurrencyLevel(1)
+          .maximumWeight(limit.getMaximum())
+          .weigher((UInt64 slot, BeaconState state) -> state.getSszSize());
+    } else {
+      cacheBuilder.maximumSize(limit.getMaximum());
+    }
     if (useSoftReferences) {
       cacheBuilder.softValues();
     }
-    this.stateCache = cacheBuilder.build(new StateCacheLoader());
-  }
-
-  private void onRemovedFromCache(
-      final RemovalNotification<UInt64, BeaconState> removalNotification) {
-    if (removalNotification.getCause() != RemovalCause.REPLACED) {
-      availableSlots.remove(removalNotification.getKey());
-    }
+    return cacheBuilder;
   }
 
   public Optional<BeaconState> getFinalizedState(final UInt64 slot) {
@@ -81,7 +123,18 @@ public class FinalizedStateCache {
   }
 
   private Optional<BeaconState> getLatestStateFromCache(final UInt64 slot) {
-    return Optional.ofNullable(availableSlots.floor(slot)).map(stateCache::getIfPresent);
+    final Optional<BeaconState> recentState =
+        Optional.ofNullable(availableSlots.floor(slot)).map(stateCache::getIfPresent);
+    final Optional<BeaconState> anchorState =
+        Optional.ofNullable(anchorSlots.floor(slot)).map(anchorCache::getIfPresent);
+    return Stream.of(recentState, anchorState)
+        .flatMap(Optional::stream)
+        .max(Comparator.comparing(BeaconState::getSlot));
+  }
+
+  private void addAnchorState(final BeaconState state) {
+    anchorSlots.add(state.getSlot());
+    anchorCache.put(state.getSlot(), state);
   }
 
   private class StateCacheLoader extends CacheLoader<UInt64, BeaconState> {
@@ -110,13 +163,60 @@ public class FinalizedStateCache {
       }
       try (final Stream<SignedBeaconBlock> blocks =
           database.streamFinalizedBlocks(preState.getSlot().plus(ONE), slot)) {
-        final BeaconState state = StreamingStateRegenerator.regenerate(spec, preState, blocks);
+        final AnchorCollector anchorCollector = new AnchorCollector(preState.getSlot());
+        final BeaconState state =
+            StreamingStateRegenerator.regenerate(spec, preState, blocks, anchorCollector::onState);
         availableSlots.add(state.getSlot());
         return state;
       }
     }
   }
 
+  /** Keeps the first state reached in each anchor interval passed through during a replay. */
+  private class AnchorCollector {
+    private UInt64 lastAnchorIndex;
+
+    private AnchorCollector(final UInt64 preStateSlot) {
+      this.lastAnchorIndex = preStateSlot.dividedBy(anchorInterval);
+    }
+
+    private void onState(final BeaconState state) {
+      final UInt64 anchorIndex = state.getSlot().dividedBy(anchorInterval);
+      if (anchorIndex.isGreaterThan(lastAnchorIndex)) {
+        lastAnchorIndex = anchorIndex;
+        addAnchorState(state);
+      }
+    }
+  }
+
+  /** Limits the states held by a cache tier either by count or by estimated size in bytes. */
+  public static class CacheLimit {
+    private final long maximum;
+    private final boolean boundedBySize;
+
+    private CacheLimit(final long maximum, final boolean boundedBySize) {
+      checkArgument(maximum >= 0, "Cache limit must not be negative");
+      this.maximum = maximum;
+      this.boundedBySize = boundedBySize;
+    }
+
+    public static CacheLimit maximumStates(final long maximumStates) {
+      return new CacheLimit(maximumStates, false);
+    }
+
+    public static CacheLimit maximumBytes(final long maximumBytes) {
+      return new CacheLimit(maximumBytes, true);
+    }
+
+    private long getMaximum() {
+      return maximum;
+    }
+
+    private boolean isBoundedBySize() {
+      return boundedBySize;
+    }
+  }
+
   /**
    * Cache doesn't allow returning null but we may not be able to regenerate a state so throw this
    * exception and catch it in {@link #getFinalizedState(UInt64)}
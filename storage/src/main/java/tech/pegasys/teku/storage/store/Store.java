@@ -201,7 +201,8 @@ class Store implements UpdatableStore {
                 initialCheckpoint,
                 currentEpoch,
                 justifiedCheckpoint,
-                finalizedAnchor));
+                finalizedAnchor),
+            config.getForkChoiceParallelDeltaThreshold());
 
     return new Store(
         metricsSystem,
@@ -16,7 +16,9 @@ package tech.pegasys.teku.storage.store;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import java.util.Objects;
+import java.util.Optional;
 import tech.pegasys.teku.infrastructure.exceptions.InvalidConfigurationException;
+import tech.pegasys.teku.storage.protoarray.ForkChoiceStrategy;
 
 public class StoreConfig {
   public static final int MAX_CACHE_SIZE = 10_000;
@@ -26,21 +28,33 @@ public class StoreConfig {
   public static final int DEFAULT_BLOCK_CACHE_SIZE = DEFAULT_STATE_CACHE_SIZE * 2;
   public static final int DEFAULT_CHECKPOINT_STATE_CACHE_SIZE = 20;
   public static final int DEFAULT_HOT_STATE_PERSISTENCE_FREQUENCY_IN_EPOCHS = 2;
+  public static final int DEFAULT_FORK_CHOICE_PARALLEL_DELTA_THRESHOLD =
+      ForkChoiceStrategy.DEFAULT_PARALLEL_DELTA_THRESHOLD;
+  public static final int DEFAULT_EPOCH_PRECOMPUTE_FORK_HEAD_COUNT = 0;
 
   private final int stateCacheSize;
   private final int blockCacheSize;
   private final int checkpointStateCacheSize;
   private final int hotStatePersistenceFrequencyInEpochs;
+  private final int forkChoiceParallelDeltaThreshold;
+  private final int epochPrecomputeForkHeadCount;
+  private final Optional<Integer> epochPrecomputeLeadTimeMillis;
 
   private StoreConfig(
       final int stateCacheSize,
       final int blockCacheSize,
       final int checkpointStateCacheSize,
-      final int hotStatePersistenceFrequencyInEpochs) {
+      final int hotStatePersistenceFrequencyInEpochs,
+      final int forkChoiceParallelDeltaThreshold,
+      final int epochPrecomputeForkHeadCount,
+      final Optional<Integer> epochPrecomputeLeadTimeMillis) {
     this.stateCacheSize = stateCacheSize;
     this.blockCacheSize = blockCacheSize;
     this.checkpointStateCacheSize = checkpointStateCacheSize;
     this.hotStatePersistenceFrequencyInEpochs = hotStatePersistenceFrequencyInEpochs;
+    this.forkChoiceParallelDeltaThreshold = forkChoiceParallelDeltaThreshold;
+    this.epochPrecomputeForkHeadCount = epochPrecomputeForkHeadCount;
+    this.epochPrecomputeLeadTimeMillis = epochPrecomputeLeadTimeMillis;
   }
 
   public static Builder builder() {
@@ -67,6 +81,18 @@ public class StoreConfig {
     return hotStatePersistenceFrequencyInEpochs;
   }
 
+  public int getForkChoiceParallelDeltaThreshold() {
+    return forkChoiceParallelDeltaThreshold;
+  }
+
+  public int getEpochPrecomputeForkHeadCount() {
+    return epochPrecomputeForkHeadCount;
+  }
+
+  public Optional<Integer> getEpochPrecomputeLeadTimeMillis() {
+    return epochPrecomputeLeadTimeMillis;
+  }
+
   @Override
   public boolean equals(final Object o) {
     if (this == o) {
@@ -79,7 +105,10 @@ public class StoreConfig {
     return stateCacheSize == that.stateCacheSize
         && blockCacheSize == that.blockCacheSize
         && checkpointStateCacheSize == that.checkpointStateCacheSize
-        && hotStatePersistenceFrequencyInEpochs == that.hotStatePersistenceFrequencyInEpochs;
+        && hotStatePersistenceFrequencyInEpochs == that.hotStatePersistenceFrequencyInEpochs
+        && forkChoiceParallelDeltaThreshold == that.forkChoiceParallelDeltaThreshold
+        && epochPrecomputeForkHeadCount == that.epochPrecomputeForkHeadCount
+        && Objects.equals(epochPrecomputeLeadTimeMillis, that.epochPrecomputeLeadTimeMillis);
   }
 
   @Override
@@ -88,7 +117,10 @@ public class StoreConfig {
         stateCacheSize,
         blockCacheSize,
         checkpointStateCacheSize,
-        hotStatePersistenceFrequencyInEpochs);
+        hotStatePersistenceFrequencyInEpochs,
+        forkChoiceParallelDeltaThreshold,
+        epochPrecomputeForkHeadCount,
+        epochPrecomputeLeadTimeMillis);
   }
 
   public static class Builder {
@@ -97,6 +129,9 @@ public class StoreConfig {
     private int checkpointStateCacheSize = DEFAULT_CHECKPOINT_STATE_CACHE_SIZE;
     private int hotStatePersistenceFrequencyInEpochs =
         DEFAULT_HOT_STATE_PERSISTENCE_FREQUENCY_IN_EPOCHS;
+    private int forkChoiceParallelDeltaThreshold = DEFAULT_FORK_CHOICE_PARALLEL_DELTA_THRESHOLD;
+    private int epochPrecomputeForkHeadCount = DEFAULT_EPOCH_PRECOMPUTE_FORK_HEAD_COUNT;
+    private Optional<Integer> epochPrecomputeLeadTimeMillis = Optional.empty();
 
     private Builder() {}
 
@@ -105,7 +140,10 @@ public class StoreConfig {
           stateCacheSize,
           blockCacheSize,
           checkpointStateCacheSize,
-          hotStatePersistenceFrequencyInEpochs);
+          hotStatePersistenceFrequencyInEpochs,
+          forkChoiceParallelDeltaThreshold,
+          epochPrecomputeForkHeadCount,
+          epochPrecomputeLeadTimeMillis);
     }
 
     public Builder stateCacheSize(final int stateCacheSize) {
@@ -138,6 +176,39 @@ public class StoreConfig {
       return this;
     }
 
+    public Builder forkChoiceParallelDeltaThreshold(final int forkChoiceParallelDeltaThreshold) {
+      if (forkChoiceParallelDeltaThreshold < 0) {
+        throw new InvalidConfigurationException(
+            String.format(
+                "Invalid forkChoiceParallelDeltaThreshold: %d", forkChoiceParallelDeltaThreshold));
+      }
+      this.forkChoiceParallelDeltaThreshold = forkChoiceParallelDeltaThreshold;
+      return this;
+    }
+
+    public Builder epochPrecomputeForkHeadCount(final int epochPrecomputeForkHeadCount) {
+      if (epochPrecomputeForkHeadCount < 0) {
+        throw new InvalidConfigurationException(
+            String.format(
+                "Invalid epochPrecomputeForkHeadCount: %d", epochPrecomputeForkHeadCount));
+      }
+      this.epochPrecomputeForkHeadCount = epochPrecomputeForkHeadCount;
+      return this;
+    }
+
+    public Builder epochPrecomputeLeadTimeMillis(
+        final Optional<Integer> epochPrecomputeLeadTimeMillis) {
+      epochPrecomputeLeadTimeMillis.ifPresent(
+          leadTime -> {
+            if (leadTime < 0) {
+              throw new InvalidConfigurationException(
+                  String.format("Invalid epochPrecomputeLeadTimeMillis: %d", leadTime));
+            }
+          });
+      this.epochPrecomputeLeadTimeMillis = epochPrecomputeLeadTimeMillis;
+      return this;
+    }
+
     private void validateCacheSize(final int cacheSize) {
       checkArgument(cacheSize >= 0, "Cache size cannot be negative");
       checkArgument(
@@ -0,0 +1,131 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.forkchoice.ReadOnlyForkChoiceStrategy;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class AttesterShufflingCacheTest {
+  private static final UInt64 EPOCH = UInt64.valueOf(3);
+
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final ReadOnlyForkChoiceStrategy forkChoiceStrategy =
+      mock(ReadOnlyForkChoiceStrategy.class);
+  private final Bytes32 blockRoot = dataStructureUtil.randomBytes32();
+
+  private final AttesterShufflingCache cache = new AttesterShufflingCache(spec);
+
+  @Test
+  void shouldProvideStateForCurrentEpoch() {
+    final BeaconState state = createStateInEpoch(dataStructureUtil, EPOCH);
+    cache.onStateAvailable(state);
+
+    withDecisionRoot(spec, EPOCH, spec.getPreviousDutyDependentRoot(state));
+
+    assertThat(cache.getStateForShuffling(forkChoiceStrategy, blockRoot, EPOCH)).contains(state);
+  }
+
+  @Test
+  void shouldProvideStateForNextEpoch() {
+    final BeaconState state = createStateInEpoch(dataStructureUtil, EPOCH);
+    cache.onStateAvailable(state);
+
+    final UInt64 nextEpoch = EPOCH.plus(1);
+    withDecisionRoot(spec, nextEpoch, spec.getCurrentDutyDependentRoot(state));
+
+    assertThat(cache.getStateForShuffling(forkChoiceStrategy, blockRoot, nextEpoch))
+        .contains(state);
+  }
+
+  @Test
+  void shouldNotProvideStateForDifferentDecisionRoot() {
+    final BeaconState state = createStateInEpoch(dataStructureUtil, EPOCH);
+    cache.onStateAvailable(state);
+
+    withDecisionRoot(spec, EPOCH, dataStructureUtil.randomBytes32());
+
+    assertThat(cache.getStateForShuffling(forkChoiceStrategy, blockRoot, EPOCH)).isEmpty();
+  }
+
+  @Test
+  void shouldNotProvideStateWhenDecisionBlockIsUnknown() {
+    cache.onStateAvailable(createStateInEpoch(dataStructureUtil, EPOCH));
+
+    assertThat(cache.getStateForShuffling(forkChoiceStrategy, blockRoot, EPOCH)).isEmpty();
+  }
+
+  @Test
+  void shouldNotProvideStateForEpochTwoAhead() {
+    final BeaconState state = createStateInEpoch(dataStructureUtil, EPOCH);
+    cache.onStateAvailable(state);
+
+    final UInt64 laterEpoch = EPOCH.plus(2);
+    withDecisionRoot(spec, laterEpoch, spec.getCurrentDutyDependentRoot(state));
+
+    assertThat(cache.getStateForShuffling(forkChoiceStrategy, blockRoot, laterEpoch)).isEmpty();
+  }
+
+  @Test
+  void shouldKeepFirstStateRegisteredForShuffling() {
+    final BeaconState state = createStateInEpoch(dataStructureUtil, EPOCH);
+    final BeaconState laterState = state.updated(s -> s.setSlot(s.getSlot().plus(1)));
+    cache.onStateAvailable(state);
+    cache.onStateAvailable(laterState);
+
+    withDecisionRoot(spec, EPOCH, spec.getPreviousDutyDependentRoot(state));
+
+    assertThat(cache.getStateForShuffling(forkChoiceStrategy, blockRoot, EPOCH)).contains(state);
+  }
+
+  @Test
+  void shouldNotRegisterNextEpochAcrossMilestoneBoundary() {
+    final UInt64 altairForkEpoch = EPOCH.plus(1);
+    final Spec forkingSpec = TestSpecFactory.createMinimalWithAltairForkEpoch(altairForkEpoch);
+    final DataStructureUtil forkingDataStructureUtil = new DataStructureUtil(forkingSpec);
+    final AttesterShufflingCache forkingCache = new AttesterShufflingCache(forkingSpec);
+    final BeaconState state = createStateInEpoch(forkingDataStructureUtil, EPOCH);
+    forkingCache.onStateAvailable(state);
+
+    withDecisionRoot(forkingSpec, EPOCH, forkingSpec.getPreviousDutyDependentRoot(state));
+    withDecisionRoot(forkingSpec, altairForkEpoch, forkingSpec.getCurrentDutyDependentRoot(state));
+
+    assertThat(forkingCache.getStateForShuffling(forkChoiceStrategy, blockRoot, EPOCH))
+        .contains(state);
+    assertThat(forkingCache.getStateForShuffling(forkChoiceStrategy, blockRoot, altairForkEpoch))
+        .isEmpty();
+  }
+
+  private BeaconState createStateInEpoch(final DataStructureUtil util, final UInt64 epoch) {
+    return util.randomBeaconState(util.getSpec().computeStartSlotAtEpoch(epoch).plus(3));
+  }
+
+  private void withDecisionRoot(
+      final Spec stateSpec, final UInt64 epoch, final Bytes32 decisionRoot) {
+    final UInt64 decisionSlot = stateSpec.computeStartSlotAtEpoch(epoch.minus(1)).minus(1);
+    when(forkChoiceStrategy.getAncestor(blockRoot, decisionSlot))
+        .thenReturn(Optional.of(decisionRoot));
+  }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.protoarray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ZERO;
+import static tech.pegasys.teku.storage.protoarray.ProtoArrayTestUtil.getHash;
+
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.forkchoice.StubVoteUpdater;
+import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
+
+class ColumnarVoteStoreTest {
+  private static final int NODE_COUNT = 16;
+  private static final int VALIDATOR_COUNT = 64;
+
+  private final Random random = new Random(1234);
+  private final Object2IntMap<Bytes32> indices = new Object2IntOpenHashMap<>();
+  private final StubVoteUpdater serialVotes = new StubVoteUpdater();
+  private final StubVoteUpdater columnarVotes = new StubVoteUpdater();
+  private final StubVoteUpdater parallelVotes = new StubVoteUpdater();
+  private final ColumnarVoteStore voteStore = new ColumnarVoteStore(Integer.MAX_VALUE);
+  private final ColumnarVoteStore parallelVoteStore = new ColumnarVoteStore(0, 7);
+  private List<UInt64> balances = new ArrayList<>();
+
+  @Test
+  void computeDeltas_shouldMatchScoreCalculatorWhenVotesChange() {
+    for (int i = 0; i < NODE_COUNT; i++) {
+      indices.put(getHash(i), i);
+    }
+    for (int round = 0; round < 20; round++) {
+      for (int i = 0; i < VALIDATOR_COUNT / 4; i++) {
+        putVote(random.nextInt(VALIDATOR_COUNT), getHash(random.nextInt(NODE_COUNT)), round);
+      }
+      assertDeltasMatch(createBalances(round % 3 == 0));
+    }
+  }
+
+  @Test
+  void computeDeltas_shouldMatchScoreCalculatorWhenOnlyBalancesChange() {
+    for (int i = 0; i < NODE_COUNT; i++) {
+      indices.put(getHash(i), i);
+    }
+    for (int i = 0; i < VALIDATOR_COUNT; i++) {
+      putVote(i, getHash(i % NODE_COUNT), 0);
+    }
+    assertDeltasMatch(createBalances(false));
+
+    for (int round = 1; round < 5; round++) {
+      assertDeltasMatch(createBalances(true));
+    }
+  }
+
+  @Test
+  void computeDeltas_shouldMatchScoreCalculatorForEquivocatingValidators() {
+    for (int i = 0; i < NODE_COUNT; i++) {
+      indices.put(getHash(i), i);
+    }
+    for (int i = 0; i < VALIDATOR_COUNT; i++) {
+      putVote(i, getHash(i % NODE_COUNT), 0);
+    }
+    assertDeltasMatch(createBalances(false));
+
+    for (int i = 0; i < VALIDATOR_COUNT; i += 3) {
+      final UInt64 validatorIndex = UInt64.valueOf(i);
+      serialVotes.putVote(
+          validatorIndex, serialVotes.getVote(validatorIndex).createNextEquivocating());
+      columnarVotes.putVote(
+          validatorIndex, columnarVotes.getVote(validatorIndex).createNextEquivocating());
+      parallelVotes.putVote(
+          validatorIndex, parallelVotes.getVote(validatorIndex).createNextEquivocating());
+      voteStore.markVoteUpdated(validatorIndex);
+      parallelVoteStore.markVoteUpdated(validatorIndex);
+    }
+    assertDeltasMatch(createBalances(true));
+    assertDeltasMatch(createBalances(true));
+  }
+
+  @Test
+  void computeDeltas_shouldMatchScoreCalculatorWhenRootsAreRemoved() {
+    for (int i = 0; i < NODE_COUNT; i++) {
+      indices.put(getHash(i), i);
+    }
+    for (int i = 0; i < VALIDATOR_COUNT; i++) {
+      putVote(i, getHash(i % NODE_COUNT), 0);
+    }
+    assertDeltasMatch(createBalances(false));
+
+    indices.removeInt(getHash(3));
+    indices.removeInt(getHash(7));
+    assertDeltasMatch(createBalances(true));
+  }
+
+  private void putVote(final int validatorIndex, final Bytes32 root, final int epoch) {
+    final UInt64 index = UInt64.valueOf(validatorIndex);
+    final VoteTracker serialVote = serialVotes.getVote(index);
+    serialVotes.putVote(
+        index, new VoteTracker(serialVote.getCurrentRoot(), root, UInt64.valueOf(epoch)));
+    final VoteTracker columnarVote = columnarVotes.getVote(index);
+    columnarVotes.putVote(
+        index, new VoteTracker(columnarVote.getCurrentRoot(), root, UInt64.valueOf(epoch)));
+    final VoteTracker parallelVote = parallelVotes.getVote(index);
+    parallelVotes.putVote(
+        index, new VoteTracker(parallelVote.getCurrentRoot(), root, UInt64.valueOf(epoch)));
+    voteStore.markVoteUpdated(index);
+    parallelVoteStore.markVoteUpdated(index);
+  }
+
+  private List<UInt64> createBalances(final boolean randomise) {
+    final List<UInt64> newBalances = new ArrayList<>();
+    for (int i = 0; i < VALIDATOR_COUNT; i++) {
+      newBalances.add(randomise ? UInt64.valueOf(random.nextInt(32)) : UInt64.valueOf(32));
+    }
+    return newBalances;
+  }
+
+  private void assertDeltasMatch(final List<UInt64> newBalances) {
+    final LongList expected =
+        ProtoArrayScoreCalculator.computeDeltas(
+            serialVotes,
+            NODE_COUNT,
+            this::getIndex,
+            balances,
+            newBalances,
+            Optional.empty(),
+            Optional.empty(),
+            ZERO,
+            ZERO);
+    final LongList actual =
+        voteStore.computeDeltas(
+            columnarVotes,
+            NODE_COUNT,
+            this::getIndex,
+            nodeIndex -> indices.containsKey(getHash(nodeIndex)),
+            newBalances,
+            Optional.empty(),
+            Optional.empty(),
+            ZERO,
+            ZERO);
+    final LongList actualParallel =
+        parallelVoteStore.computeDeltas(
+            parallelVotes,
+            NODE_COUNT,
+            this::getIndex,
+            nodeIndex -> indices.containsKey(getHash(nodeIndex)),
+            newBalances,
+            Optional.empty(),
+            Optional.empty(),
+            ZERO,
+            ZERO);
+    balances = newBalances;
+
+    assertThat(actual).isEqualTo(expected);
+    assertThat(actualParallel).isEqualTo(expected);
+    for (int i = 0; i < VALIDATOR_COUNT; i++) {
+      final UInt64 validatorIndex = UInt64.valueOf(i);
+      assertThat(columnarVotes.getVote(validatorIndex))
+          .isEqualTo(serialVotes.getVote(validatorIndex));
+      assertThat(parallelVotes.getVote(validatorIndex))
+          .isEqualTo(serialVotes.getVote(validatorIndex));
+    }
+  }
+
+  private Optional<Integer> getIndex(final Bytes32 root) {
+    return indices.containsKey(root) ? Optional.of(indices.getInt(root)) : Optional.empty();
+  }
+}
@@ -28,6 +28,7 @@ import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
@@ -149,6 +150,37 @@ public class ChainStorageTest {
     }
   }
 
+  @ParameterizedTest(name = "{0}")
+  @ArgumentsSource(StorageSystemArgumentsProvider.class)
+  public void getFinalizedBlockAtSlotAsSsz_shouldReturnSerializedBlock(
+      final String storageType,
+      final StorageSystemArgumentsProvider.StorageSystemSupplier storageSystemSupplier) {
+    setup(storageSystemSupplier);
+    chainBuilder.generateBlocksUpToSlot(4);
+    // Leave slot 5 empty
+    chainBuilder.generateBlockAtSlot(6);
+    chainBuilder.generateBlocksUpToSlot(spec.slotsPerEpoch(ZERO) * 2);
+    final Checkpoint anchorCheckpoint = chainBuilder.getCurrentCheckpointForEpoch(2);
+    final SignedBlockAndState anchorBlockAndState =
+        chainBuilder.getBlockAndState(anchorCheckpoint.getRoot()).orElseThrow();
+    final AnchorPoint anchorPoint =
+        AnchorPoint.create(
+            spec, anchorCheckpoint, anchorBlockAndState.getState(), Optional.empty());
+    storageSystem.recentChainData().initializeFromAnchorPoint(anchorPoint, ZERO);
+    final List<SignedBeaconBlock> historicalBlocks =
+        chainBuilder
+            .streamBlocksAndStates(0, anchorBlockAndState.getSlot().longValue())
+            .map(SignedBlockAndState::getBlock)
+            .collect(Collectors.toList());
+    chainStorage.onFinalizedBlocks(historicalBlocks).ifExceptionGetsHereRaiseABug();
+
+    final SignedBeaconBlock block = chainBuilder.getBlockAtSlot(6);
+    assertThatSafeFuture(chainStorage.getFinalizedBlockAtSlotAsSsz(block.getSlot()))
+        .isCompletedWithOptionalContaining(block.sszSerialize());
+    assertThatSafeFuture(chainStorage.getFinalizedBlockAtSlotAsSsz(UInt64.valueOf(5)))
+        .isCompletedWithEmptyOptional();
+  }
+
   @ParameterizedTest(name = "{0}")
   @ArgumentsSource(StorageSystemArgumentsProvider.class)
   public void onFinalizedBlocks_nonMatchingBlocks(
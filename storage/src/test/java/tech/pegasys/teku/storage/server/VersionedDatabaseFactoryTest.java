@@ -15,6 +15,8 @@ package tech.pegasys.teku.storage.server;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assumptions.assumeThat;
+import static tech.pegasys.teku.storage.server.StateStorageMode.ARCHIVE;
 import static tech.pegasys.teku.storage.server.StateStorageMode.PRUNE;
 
 import java.io.File;
@@ -87,6 +89,41 @@ public class VersionedDatabaseFactoryTest {
     assertThat(dbFactory.getDatabaseVersion()).isEqualTo(nonDefaultDatabaseVersion);
   }
 
+  @Test
+  public void getDatabaseVersion_shouldUseTreeStorageForNewArchiveDatabases() {
+    assumeThat(DatabaseVersion.isLevelDbSupported()).isTrue();
+    final VersionedDatabaseFactory dbFactory =
+        new VersionedDatabaseFactory(
+            new StubMetricsSystem(),
+            dataDir,
+            Optional.empty(),
+            StorageConfiguration.builder()
+                .specProvider(spec)
+                .eth1DepositContract(eth1Address)
+                .dataStorageMode(ARCHIVE)
+                .build());
+
+    assertThat(dbFactory.getDatabaseVersion()).isEqualTo(DatabaseVersion.LEVELDB_TREE);
+  }
+
+  @Test
+  public void getDatabaseVersion_shouldKeepVersionOfExistingArchiveDatabases() throws Exception {
+    createDbDirectory(dataDir);
+    createVersionFile(dataDir, DatabaseVersion.DEFAULT_VERSION);
+    final VersionedDatabaseFactory dbFactory =
+        new VersionedDatabaseFactory(
+            new StubMetricsSystem(),
+            dataDir,
+            Optional.empty(),
+            StorageConfiguration.builder()
+                .specProvider(spec)
+                .eth1DepositContract(eth1Address)
+                .dataStorageMode(ARCHIVE)
+                .build());
+
+    assertThat(dbFactory.getDatabaseVersion()).isEqualTo(DatabaseVersion.DEFAULT_VERSION);
+  }
+
   @Test
   public void createDatabase_invalidVersionFile() throws Exception {
     createDbDirectory(dataDir);
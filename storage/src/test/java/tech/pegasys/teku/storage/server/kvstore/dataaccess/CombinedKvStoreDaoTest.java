@@ -0,0 +1,76 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
+import tech.pegasys.teku.storage.server.kvstore.MockKvStoreInstance;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.KvStoreCombinedDaoUnblinded.CombinedUpdaterUnblinded;
+import tech.pegasys.teku.storage.server.kvstore.schema.V6SchemaCombinedSnapshot;
+import tech.pegasys.teku.storage.server.kvstore.schema.V6SchemaCombinedTreeState;
+
+class CombinedKvStoreDaoTest {
+
+  private final Spec spec = TestSpecFactory.createDefault();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+
+  private final V6SchemaCombinedSnapshot snapshotSchema =
+      V6SchemaCombinedSnapshot.createV6(spec, true);
+  private final KvStoreAccessor snapshotDb =
+      MockKvStoreInstance.createEmpty(
+          snapshotSchema.getAllColumns(), snapshotSchema.getAllVariables());
+  private final CombinedKvStoreDao<V6SchemaCombinedSnapshot> snapshotDao =
+      new CombinedKvStoreDao<>(
+          snapshotDb, snapshotSchema, new V4FinalizedStateSnapshotStorageLogic<>(1));
+
+  private final V6SchemaCombinedTreeState treeSchema = new V6SchemaCombinedTreeState(spec, true);
+  private final KvStoreAccessor treeDb =
+      MockKvStoreInstance.createEmpty(treeSchema.getAllColumns(), treeSchema.getAllVariables());
+  private final CombinedKvStoreDao<V6SchemaCombinedTreeState> treeDao =
+      new CombinedKvStoreDao<>(
+          treeDb,
+          treeSchema,
+          new V4FinalizedStateTreeStorageLogic(new NoOpMetricsSystem(), spec, 1000));
+
+  @Test
+  void ingest_shouldConvertSnapshotStatesToStateTree() {
+    final List<BeaconState> states =
+        List.of(
+            dataStructureUtil.randomBeaconState(UInt64.valueOf(3)),
+            dataStructureUtil.randomBeaconState(UInt64.valueOf(5)),
+            dataStructureUtil.randomBeaconState(UInt64.valueOf(10)));
+    final UInt64 genesisTime = dataStructureUtil.randomUInt64();
+    try (final CombinedUpdaterUnblinded updater = snapshotDao.combinedUpdaterUnblinded()) {
+      updater.setGenesisTime(genesisTime);
+      states.forEach(state -> updater.addFinalizedState(dataStructureUtil.randomBytes32(), state));
+      updater.commit();
+    }
+
+    treeDao.ingest(snapshotDao, 2, __ -> {});
+
+    assertThat(treeDao.getGenesisTime()).contains(genesisTime);
+    for (BeaconState state : states) {
+      assertThat(treeDao.getLatestAvailableFinalizedState(state.getSlot())).contains(state);
+    }
+  }
+}
@@ -16,9 +16,15 @@ package tech.pegasys.teku.storage.server.kvstore.dataaccess;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.collections.LimitedMap;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSource.CompressedBranchInfo;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
@@ -62,6 +68,63 @@ class KvStoreTreeNodeSourceTest {
         .isInstanceOf(IllegalArgumentException.class);
   }
 
+  @Test
+  void loadBranchNode_shouldReuseCachedBranchNodes() {
+    final Map<Bytes32, CompressedBranchInfo> cache = new HashMap<>();
+    final KvStoreTreeNodeSource cachingNodeSource =
+        new KvStoreTreeNodeSource(accessor, schema, Optional.of(cache));
+    final Bytes32 root = dataStructureUtil.randomBytes32();
+    final CompressedBranchInfo branchInfo =
+        storeBranch(root, 1, dataStructureUtil.randomBytes32(), dataStructureUtil.randomBytes32());
+    assertThat(cachingNodeSource.loadBranchNode(root, 4298)).isEqualTo(branchInfo);
+
+    deleteBranch(root);
+    assertThat(cachingNodeSource.loadBranchNode(root, 4298)).isEqualTo(branchInfo);
+    assertThatThrownBy(() -> nodeSource.loadBranchNode(root, 4298))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void loadBranchNode_shouldServeRepeatedLoadsFromLimitedCache() {
+    final KvStoreTreeNodeSource cachingNodeSource =
+        new KvStoreTreeNodeSource(accessor, schema, Optional.of(LimitedMap.createSynchronized(2)));
+    final Bytes32 root = dataStructureUtil.randomBytes32();
+    final CompressedBranchInfo branchInfo =
+        storeBranch(root, 1, dataStructureUtil.randomBytes32(), dataStructureUtil.randomBytes32());
+    assertThat(cachingNodeSource.loadBranchNode(root, 4298)).isEqualTo(branchInfo);
+
+    deleteBranch(root);
+    assertThat(cachingNodeSource.loadBranchNode(root, 4298)).isEqualTo(branchInfo);
+  }
+
+  @Test
+  void loadBranchNode_shouldEvictLeastRecentlyLoadedBranchWhenCacheIsFull() {
+    final KvStoreTreeNodeSource cachingNodeSource =
+        new KvStoreTreeNodeSource(accessor, schema, Optional.of(LimitedMap.createSynchronized(2)));
+    final List<Bytes32> roots =
+        List.of(
+            dataStructureUtil.randomBytes32(),
+            dataStructureUtil.randomBytes32(),
+            dataStructureUtil.randomBytes32());
+    final List<CompressedBranchInfo> branches =
+        roots.stream()
+            .map(
+                root ->
+                    storeBranch(
+                        root,
+                        1,
+                        dataStructureUtil.randomBytes32(),
+                        dataStructureUtil.randomBytes32()))
+            .collect(Collectors.toList());
+    roots.forEach(root -> cachingNodeSource.loadBranchNode(root, 4298));
+    roots.forEach(this::deleteBranch);
+
+    assertThatThrownBy(() -> cachingNodeSource.loadBranchNode(roots.get(0), 4298))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThat(cachingNodeSource.loadBranchNode(roots.get(1), 4298)).isEqualTo(branches.get(1));
+    assertThat(cachingNodeSource.loadBranchNode(roots.get(2), 4298)).isEqualTo(branches.get(2));
+  }
+
   @Test
   void loadLeafNode_shouldReturnHashWhenDataIsUnknown() {
     final Bytes32 rootHash = dataStructureUtil.randomBytes32();
@@ -92,6 +155,13 @@ class KvStoreTreeNodeSourceTest {
     }
   }
 
+  private void deleteBranch(final Bytes32 root) {
+    try (final KvStoreTransaction transaction = accessor.startTransaction()) {
+      transaction.delete(schema.getColumnFinalizedStateMerkleTreeBranches(), root);
+      transaction.commit();
+    }
+  }
+
   private CompressedBranchInfo storeBranch(
       final Bytes32 root, final int depth, final Bytes32... children) {
     try (final KvStoreTransaction transaction = accessor.startTransaction()) {
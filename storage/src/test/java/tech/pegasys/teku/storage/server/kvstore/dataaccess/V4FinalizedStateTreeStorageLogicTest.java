@@ -16,8 +16,12 @@ package tech.pegasys.teku.storage.server.kvstore.dataaccess;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.ssz.tree.GIndexUtil;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSource;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
@@ -78,6 +82,25 @@ class V4FinalizedStateTreeStorageLogicTest {
     assertStateReloads(state4);
   }
 
+  @Test
+  void shouldOnlyLoadAccessedNodes() {
+    final BeaconState state = dataStructureUtil.randomBeaconState(64);
+    storeState(state);
+
+    final CountingTreeNodeSource nodeSource =
+        new CountingTreeNodeSource(new KvStoreTreeNodeSource(db, schema));
+    final BeaconState loadedState =
+        state
+            .getBeaconStateSchema()
+            .load(nodeSource, state.hashTreeRoot(), GIndexUtil.SELF_G_INDEX);
+    assertThat(loadedState.getBalances().getElement(5))
+        .isEqualTo(state.getBalances().getElement(5));
+    final int partialLoadCount = nodeSource.loadCount;
+
+    assertThat(loadedState.sszSerialize()).isEqualTo(state.sszSerialize());
+    assertThat(partialLoadCount).isLessThan(nodeSource.loadCount / 4);
+  }
+
   private void assertStateReloads(final BeaconState state) {
     assertStateReloads(state, state.getSlot());
   }
@@ -94,4 +117,25 @@ class V4FinalizedStateTreeStorageLogicTest {
       transaction.commit();
     }
   }
+
+  private static class CountingTreeNodeSource implements TreeNodeSource {
+    private final TreeNodeSource delegate;
+    private int loadCount = 0;
+
+    private CountingTreeNodeSource(final TreeNodeSource delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public CompressedBranchInfo loadBranchNode(final Bytes32 rootHash, final long gIndex) {
+      loadCount++;
+      return delegate.loadBranchNode(rootHash, gIndex);
+    }
+
+    @Override
+    public Bytes loadLeafNode(final Bytes32 rootHash, final long gIndex) {
+      loadCount++;
+      return delegate.loadLeafNode(rootHash, gIndex);
+    }
+  }
 }
@@ -35,20 +35,21 @@ import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.generator.ChainBuilder;
 import tech.pegasys.teku.storage.server.Database;
+import tech.pegasys.teku.storage.server.state.FinalizedStateCache.CacheLimit;
 
 class FinalizedStateCacheTest {
   private static final int MAXIMUM_CACHE_SIZE = 3;
+  private static final int NO_ANCHORS_INTERVAL = 1000;
   protected static final List<BLSKeyPair> VALIDATOR_KEYS = BLSKeyGenerator.generateKeyPairs(3);
   private final Spec spec = TestSpecFactory.createMinimalPhase0();
   private final ChainBuilder chainBuilder = ChainBuilder.create(spec, VALIDATOR_KEYS);
   private final Database database = mock(Database.class);
-  // We don't use soft references in unit tests to avoid intermittency
-  private final FinalizedStateCache cache =
-      new FinalizedStateCache(spec, database, MAXIMUM_CACHE_SIZE, false);
+  private FinalizedStateCache cache;
 
   @BeforeEach
   public void setUp() {
     chainBuilder.generateGenesis();
+    cache = createCache(MAXIMUM_CACHE_SIZE, NO_ANCHORS_INTERVAL, 0);
   }
 
   @Test
@@ -105,6 +106,48 @@ class FinalizedStateCacheTest {
     verify(database, times(2)).streamFinalizedBlocks(ONE, ONE);
   }
 
+  @Test
+  void shouldLimitNumberOfCachedStatesWhenBoundedByCount() {
+    cache =
+        new FinalizedStateCache(
+            spec,
+            database,
+            CacheLimit.maximumStates(MAXIMUM_CACHE_SIZE),
+            NO_ANCHORS_INTERVAL,
+            CacheLimit.maximumStates(0),
+            false);
+    chainBuilder.generateBlocksUpToSlot(MAXIMUM_CACHE_SIZE + 1);
+    when(database.getLatestAvailableFinalizedState(any()))
+        .thenReturn(Optional.of(chainBuilder.getGenesis().getState()));
+    allowStreamingBlocks();
+
+    for (int i = 1; i <= MAXIMUM_CACHE_SIZE; i++) {
+      cache.getFinalizedState(UInt64.valueOf(i));
+    }
+    cache.getFinalizedState(UInt64.valueOf(MAXIMUM_CACHE_SIZE + 1));
+
+    cache.getFinalizedState(ONE);
+    verify(database, times(2)).streamFinalizedBlocks(ONE, ONE);
+  }
+
+  @Test
+  void shouldRegenerateFromNearestAnchorState() {
+    cache = createCache(1, 2, 10);
+    chainBuilder.generateBlocksUpToSlot(5);
+    when(database.getLatestAvailableFinalizedState(any()))
+        .thenReturn(Optional.of(chainBuilder.getGenesis().getState()));
+    allowStreamingBlocks();
+
+    assertThat(cache.getFinalizedState(UInt64.valueOf(5)))
+        .contains(chainBuilder.getStateAtSlot(5));
+    verify(database).streamFinalizedBlocks(ONE, UInt64.valueOf(5));
+
+    // Slot 2 was kept as an anchor while regenerating slot 5
+    assertThat(cache.getFinalizedState(UInt64.valueOf(3)))
+        .contains(chainBuilder.getStateAtSlot(3));
+    verify(database).streamFinalizedBlocks(UInt64.valueOf(3), UInt64.valueOf(3));
+  }
+
   @Test
   void shouldReturnEmptyWhenStateIsNotAvailable() {
     when(database.getLatestAvailableFinalizedState(any())).thenReturn(Optional.empty());
@@ -112,6 +155,21 @@ class FinalizedStateCacheTest {
     assertThat(cache.getFinalizedState(ONE)).isEmpty();
   }
 
+  private FinalizedStateCache createCache(
+      final int maximumStates, final int anchorInterval, final int maximumAnchorStates) {
+    // Allow a little headroom as states grow slightly with each block
+    final long stateBytes = chainBuilder.getGenesis().getState().getSszSize();
+    final long headroom = stateBytes / 2;
+    // We don't use soft references in unit tests to avoid intermittency
+    return new FinalizedStateCache(
+        spec,
+        database,
+        CacheLimit.maximumBytes(stateBytes * maximumStates + headroom),
+        anchorInterval,
+        CacheLimit.maximumBytes(stateBytes * maximumAnchorStates + headroom),
+        false);
+  }
+
   private void allowStreamingBlocks() {
     when(database.streamFinalizedBlocks(any(), any()))
         .thenAnswer(
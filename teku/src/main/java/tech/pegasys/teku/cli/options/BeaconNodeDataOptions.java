@@ -112,6 +112,37 @@ public class BeaconNodeDataOptions extends ValidatorClientDataOptions {
       hidden = true)
   private int maxKnownNodeCacheSize = StorageConfiguration.DEFAULT_MAX_KNOWN_NODE_CACHE_SIZE;
 
+  @CommandLine.Option(
+      names = {"--Xdata-storage-finalized-state-cache-size-mb"},
+      paramLabel = "<INTEGER>",
+      description =
+          "Maximum estimated size of regenerated finalized states to cache. "
+              + "0 caches three epochs of states regardless of their size",
+      arity = "1",
+      hidden = true)
+  private int finalizedStateCacheSizeMb =
+      StorageConfiguration.DEFAULT_FINALIZED_STATE_CACHE_SIZE_MB;
+
+  @CommandLine.Option(
+      names = {"--Xdata-storage-finalized-state-anchor-cache-size-mb"},
+      paramLabel = "<INTEGER>",
+      description =
+          "Maximum estimated size of finalized anchor states to keep for regeneration. "
+              + "0 keeps a fixed number of anchor states regardless of their size",
+      arity = "1",
+      hidden = true)
+  private int finalizedStateAnchorCacheSizeMb =
+      StorageConfiguration.DEFAULT_FINALIZED_STATE_ANCHOR_CACHE_SIZE_MB;
+
+  @CommandLine.Option(
+      names = {"--Xdata-storage-finalized-state-anchor-interval-epochs"},
+      paramLabel = "<INTEGER>",
+      description = "Number of epochs between finalized anchor states kept for regeneration",
+      arity = "1",
+      hidden = true)
+  private int finalizedStateAnchorIntervalEpochs =
+      StorageConfiguration.DEFAULT_FINALIZED_STATE_ANCHOR_INTERVAL_EPOCHS;
+
   @CommandLine.Option(
       names = {"--Xreconstruct-historic-states"},
       paramLabel = "<BOOLEAN>",
@@ -140,7 +171,10 @@ public class BeaconNodeDataOptions extends ValidatorClientDataOptions {
                 .storeBlockExecutionPayloadSeparately(storeBlockExecutionPayloadSeparately)
                 .blockMigrationBatchSize(blockMigrationBatchSize)
                 .blockMigrationBatchDelay(blockMigrationBatchDelayMillis)
-                .maxKnownNodeCacheSize(maxKnownNodeCacheSize));
+                .maxKnownNodeCacheSize(maxKnownNodeCacheSize)
+                .finalizedStateCacheSizeMb(finalizedStateCacheSizeMb)
+                .finalizedStateAnchorCacheSizeMb(finalizedStateAnchorCacheSizeMb)
+                .finalizedStateAnchorIntervalEpochs(finalizedStateAnchorIntervalEpochs));
     builder.sync(b -> b.isReconstructHistoricStatesEnabled(reconstructHistoricStates));
   }
 
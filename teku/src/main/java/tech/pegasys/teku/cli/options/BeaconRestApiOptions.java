@@ -18,6 +18,7 @@ import picocli.CommandLine;
 import picocli.CommandLine.Help.Visibility;
 import picocli.CommandLine.Option;
 import tech.pegasys.teku.beaconrestapi.BeaconRestApiConfig;
+import tech.pegasys.teku.beaconrestapi.handlers.v1.events.EventQueueOverflowPolicy;
 import tech.pegasys.teku.config.TekuConfiguration;
 
 public class BeaconRestApiOptions {
@@ -81,6 +82,28 @@ public class BeaconRestApiOptions {
       hidden = true)
   private int maxPendingEvents = BeaconRestApiConfig.DEFAULT_MAX_EVENT_QUEUE_SIZE;
 
+  @Option(
+      names = {"--Xrest-api-events-overflow-policy"},
+      paramLabel = "<POLICY>",
+      description =
+          "How to handle event stream clients that fall behind: disconnect them, drop their oldest"
+              + " pending events, or coalesce superseded head events."
+              + " (Valid values: ${COMPLETION-CANDIDATES})",
+      showDefaultValue = Visibility.ALWAYS,
+      hidden = true)
+  private EventQueueOverflowPolicy eventQueueOverflowPolicy =
+      BeaconRestApiConfig.DEFAULT_EVENT_QUEUE_OVERFLOW_POLICY;
+
+  @Option(
+      names = {"--Xrest-api-ssz-response-cache-size-mb"},
+      paramLabel = "<INTEGER>",
+      description =
+          "Maximum size in MiB of serialized SSZ state and block responses kept in memory."
+              + " Set to 0 to disable the cache.",
+      showDefaultValue = Visibility.ALWAYS,
+      hidden = true)
+  private int sszResponseCacheSizeMb = BeaconRestApiConfig.DEFAULT_SSZ_RESPONSE_CACHE_SIZE_MB;
+
   @Option(
       names = {"--Xrest-api-max-url-length"},
       description = "Set the maximum url length for rest api requests",
@@ -143,6 +166,8 @@ public class BeaconRestApiOptions {
                 .maxUrlLength(maxUrlLength)
                 .beaconLivenessTrackingEnabled(beaconLivenessTrackingEnabled)
                 .maxPendingEvents(maxPendingEvents)
+                .eventQueueOverflowPolicy(eventQueueOverflowPolicy)
+                .sszResponseCacheSizeMb(sszResponseCacheSizeMb)
                 .validatorThreads(validatorThreads)
                 .enableMigratedRestApi(enableMigratedRestApi));
   }
@@ -159,6 +159,28 @@ public class P2POptions {
       arity = "1")
   private boolean multiPeerSyncEnabled = SyncConfig.DEFAULT_MULTI_PEER_SYNC_ENABLED;
 
+  @Option(
+      names = {"--Xp2p-sync-batch-signature-verification-enabled"},
+      paramLabel = "<BOOLEAN>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "Verify the signatures of all blocks in a sync batch together before importing them",
+      fallbackValue = "true",
+      hidden = true,
+      arity = "1")
+  private boolean batchSignatureVerificationEnabled =
+      SyncConfig.DEFAULT_BATCH_SIGNATURE_VERIFICATION_ENABLED;
+
+  @Option(
+      names = {"--Xp2p-sync-max-pending-batches"},
+      paramLabel = "<INTEGER>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "Maximum number of sync batches to download ahead of the batch currently being imported",
+      hidden = true,
+      arity = "1")
+  private int maxPendingBatches = SyncConfig.DEFAULT_MAX_PENDING_BATCHES;
+
   @Option(
       names = {"--p2p-subscribe-all-subnets-enabled"},
       paramLabel = "<BOOLEAN>",
@@ -307,7 +329,11 @@ public class P2POptions {
                   .listenPort(p2pPort)
                   .advertisedIp(Optional.ofNullable(p2pAdvertisedIp));
             })
-        .sync(s -> s.isMultiPeerSyncEnabled(multiPeerSyncEnabled));
+        .sync(
+            s ->
+                s.isMultiPeerSyncEnabled(multiPeerSyncEnabled)
+                    .isBatchSignatureVerificationEnabled(batchSignatureVerificationEnabled)
+                    .maxPendingBatches(maxPendingBatches));
     natOptions.configure(builder);
   }
 }
@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.cli.options;
 
+import java.util.Optional;
 import picocli.CommandLine.Option;
 import tech.pegasys.teku.config.TekuConfiguration;
 import tech.pegasys.teku.storage.store.StoreConfig;
@@ -52,12 +53,43 @@ public class StoreOptions {
       arity = "1")
   private int checkpointStateCacheSize = StoreConfig.DEFAULT_CHECKPOINT_STATE_CACHE_SIZE;
 
+  @Option(
+      hidden = true,
+      names = {"--Xfork-choice-parallel-delta-threshold"},
+      paramLabel = "<INTEGER>",
+      description =
+          "Number of voting validators at or above which fork choice weight changes are computed on multiple threads",
+      arity = "1")
+  private int forkChoiceParallelDeltaThreshold =
+      StoreConfig.DEFAULT_FORK_CHOICE_PARALLEL_DELTA_THRESHOLD;
+
+  @Option(
+      hidden = true,
+      names = {"--Xepoch-precompute-fork-heads"},
+      paramLabel = "<INTEGER>",
+      description =
+          "Number of non-canonical chain heads to also precompute the next epoch's checkpoint state for",
+      arity = "1")
+  private int epochPrecomputeForkHeadCount = StoreConfig.DEFAULT_EPOCH_PRECOMPUTE_FORK_HEAD_COUNT;
+
+  @Option(
+      hidden = true,
+      names = {"--Xepoch-precompute-lead-time"},
+      paramLabel = "<INTEGER>",
+      description =
+          "Milliseconds before the epoch boundary to precompute the next epoch's checkpoint state. Defaults to a third of a slot.",
+      arity = "1")
+  private Integer epochPrecomputeLeadTimeMillis = null;
+
   public void configure(final TekuConfiguration.Builder builder) {
     builder.store(
         b ->
             b.hotStatePersistenceFrequencyInEpochs(hotStatePersistenceFrequencyInEpochs)
                 .blockCacheSize(blockCacheSize)
                 .stateCacheSize(stateCacheSize)
-                .checkpointStateCacheSize(checkpointStateCacheSize));
+                .checkpointStateCacheSize(checkpointStateCacheSize)
+                .forkChoiceParallelDeltaThreshold(forkChoiceParallelDeltaThreshold)
+                .epochPrecomputeForkHeadCount(epochPrecomputeForkHeadCount)
+                .epochPrecomputeLeadTimeMillis(Optional.ofNullable(epochPrecomputeLeadTimeMillis)));
   }
 }
@@ -104,6 +104,19 @@ public class ValidatorKeysOptions {
   private int validatorExternalSignerConcurrentRequestLimit =
       ValidatorConfig.DEFAULT_VALIDATOR_EXTERNAL_SIGNER_CONCURRENT_REQUEST_LIMIT;
 
+  @CommandLine.Option(
+      names = {"--Xvalidators-external-signer-pipelining-enabled"},
+      paramLabel = "<BOOLEAN>",
+      showDefaultValue = CommandLine.Help.Visibility.ALWAYS,
+      description =
+          "Multiplex requests to the external signer over HTTP/2 and send each slot's attestation"
+              + " signing requests as a single bulk request when the signer supports it",
+      fallbackValue = "true",
+      hidden = true,
+      arity = "0..1")
+  private boolean validatorExternalSignerPipeliningEnabled =
+      ValidatorConfig.DEFAULT_VALIDATOR_EXTERNAL_SIGNER_PIPELINING_ENABLED;
+
   public void configure(TekuConfiguration.Builder builder) {
     builder.validator(
         config ->
@@ -119,7 +132,9 @@ public class ValidatorKeysOptions {
                     convertToPath(validatorExternalSignerKeystorePasswordFile))
                 .validatorExternalSignerTruststore(convertToPath(validatorExternalSignerTruststore))
                 .validatorExternalSignerTruststorePasswordFile(
-                    convertToPath(validatorExternalSignerTruststorePasswordFile)));
+                    convertToPath(validatorExternalSignerTruststorePasswordFile))
+                .validatorExternalSignerPipeliningEnabled(
+                    validatorExternalSignerPipeliningEnabled));
   }
 
   private List<String> parseValidatorExternalKeys() {
@@ -100,6 +100,44 @@ public class ValidatorOptions {
       arity = "1")
   private int executorMaxQueueSize = ValidatorConfig.DEFAULT_EXECUTOR_MAX_QUEUE_SIZE;
 
+  @Option(
+      names = {"--Xvalidators-slashing-protection-journal-enabled"},
+      paramLabel = "<BOOLEAN>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "Record local slashing protection updates in a journal that is flushed to disk once for"
+              + " each group of concurrent signing requests",
+      fallbackValue = "true",
+      hidden = true,
+      arity = "0..1")
+  private boolean slashingProtectionJournalEnabled =
+      ValidatorConfig.DEFAULT_SLASHING_PROTECTION_JOURNAL_ENABLED;
+
+  @Option(
+      names = {"--Xvalidators-batched-local-signing-enabled"},
+      paramLabel = "<BOOLEAN>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "Sign for local validators on a dedicated thread pool, hashing each distinct signing root"
+              + " once for all validators signing it",
+      fallbackValue = "true",
+      hidden = true,
+      arity = "0..1")
+  private boolean batchedLocalSigningEnabled =
+      ValidatorConfig.DEFAULT_BATCHED_LOCAL_SIGNING_ENABLED;
+
+  @Option(
+      names = {"--Xvalidators-decrypted-key-cache-enabled"},
+      paramLabel = "<BOOLEAN>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "Cache decrypted validator keys in the validator data directory, encrypted with a local"
+              + " master key, so keystores only need to be decrypted again when they change",
+      fallbackValue = "true",
+      hidden = true,
+      arity = "0..1")
+  private boolean decryptedKeyCacheEnabled = ValidatorConfig.DEFAULT_DECRYPTED_KEY_CACHE_ENABLED;
+
   public void configure(TekuConfiguration.Builder builder) {
     builder.validator(
         config ->
@@ -112,7 +150,10 @@ public class ValidatorOptions {
                     new FileBackedGraffitiProvider(
                         Optional.ofNullable(graffiti), Optional.ofNullable(graffitiFile)))
                 .generateEarlyAttestations(generateEarlyAttestations)
-                .executorMaxQueueSize(executorMaxQueueSize));
+                .executorMaxQueueSize(executorMaxQueueSize)
+                .slashingProtectionJournalEnabled(slashingProtectionJournalEnabled)
+                .batchedLocalSigningEnabled(batchedLocalSigningEnabled)
+                .decryptedKeyCacheEnabled(decryptedKeyCacheEnabled));
     validatorProposerOptions.configure(builder);
     validatorKeysOptions.configure(builder);
   }
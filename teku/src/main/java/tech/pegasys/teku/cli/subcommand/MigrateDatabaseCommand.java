@@ -87,7 +87,7 @@ public class MigrateDatabaseCommand implements Runnable {
       paramLabel = "<format>",
       hidden = true,
       description =
-          "The file to export the slashing protection database to. (rocksdb: 4,5,6), leveldb1, leveldb2",
+          "The database format to migrate to. (rocksdb: 4,5,6), leveldb1, leveldb2, leveldb-tree",
       arity = "1")
   private String toDbVersion = DatabaseVersion.LEVELDB2.getValue();
 
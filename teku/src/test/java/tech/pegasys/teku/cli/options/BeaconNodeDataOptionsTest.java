@@ -95,6 +95,33 @@ public class BeaconNodeDataOptionsTest extends AbstractBeaconNodeCommandTest {
         .isEqualTo(tekuConfiguration);
   }
 
+  @Test
+  public void finalizedStateCacheOptions_shouldDefault() {
+    final StorageConfiguration config = getTekuConfigurationFromArguments().storageConfiguration();
+    assertThat(config.getFinalizedStateCacheSizeMb())
+        .isEqualTo(StorageConfiguration.DEFAULT_FINALIZED_STATE_CACHE_SIZE_MB);
+    assertThat(config.getFinalizedStateAnchorCacheSizeMb())
+        .isEqualTo(StorageConfiguration.DEFAULT_FINALIZED_STATE_ANCHOR_CACHE_SIZE_MB);
+    assertThat(config.getFinalizedStateAnchorIntervalEpochs())
+        .isEqualTo(StorageConfiguration.DEFAULT_FINALIZED_STATE_ANCHOR_INTERVAL_EPOCHS);
+  }
+
+  @Test
+  public void finalizedStateCacheOptions_shouldAcceptNonDefaultValues() {
+    final StorageConfiguration config =
+        getTekuConfigurationFromArguments(
+                "--Xdata-storage-finalized-state-cache-size-mb",
+                "4096",
+                "--Xdata-storage-finalized-state-anchor-cache-size-mb",
+                "2048",
+                "--Xdata-storage-finalized-state-anchor-interval-epochs",
+                "4")
+            .storageConfiguration();
+    assertThat(config.getFinalizedStateCacheSizeMb()).isEqualTo(4096);
+    assertThat(config.getFinalizedStateAnchorCacheSizeMb()).isEqualTo(2048);
+    assertThat(config.getFinalizedStateAnchorIntervalEpochs()).isEqualTo(4);
+  }
+
   @Test
   public void dataStorageCreateDbVersion_shouldDefault() {
     final StorageConfiguration config = getTekuConfigurationFromArguments().storageConfiguration();
@@ -263,4 +263,25 @@ public class P2POptionsTest extends AbstractBeaconNodeCommandTest {
         .usingRecursiveComparison()
         .isEqualTo(tekuConfiguration);
   }
+
+  @Test
+  public void batchSignatureVerification_shouldDefaultToDisabled() {
+    final TekuConfiguration tekuConfiguration = getTekuConfigurationFromArguments();
+    assertThat(tekuConfiguration.sync().isBatchSignatureVerificationEnabled()).isFalse();
+  }
+
+  @Test
+  public void batchSignatureVerification_shouldNotRequireAValue() {
+    final TekuConfiguration tekuConfiguration =
+        getTekuConfigurationFromArguments("--Xp2p-sync-batch-signature-verification-enabled");
+    assertThat(tekuConfiguration.sync().isBatchSignatureVerificationEnabled()).isTrue();
+  }
+
+  @Test
+  public void batchSignatureVerification_canBeDisabled() {
+    final TekuConfiguration tekuConfiguration =
+        getTekuConfigurationFromArguments(
+            "--Xp2p-sync-batch-signature-verification-enabled", "false");
+    assertThat(tekuConfiguration.sync().isBatchSignatureVerificationEnabled()).isFalse();
+  }
 }
@@ -15,6 +15,7 @@ package tech.pegasys.teku.cli.options;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.cli.AbstractBeaconNodeCommandTest;
 import tech.pegasys.teku.config.TekuConfiguration;
@@ -43,6 +44,57 @@ public class StoreOptionsTest extends AbstractBeaconNodeCommandTest {
     assertThat(globalConfiguration.getHotStatePersistenceFrequencyInEpochs()).isEqualTo(2);
   }
 
+  @Test
+  public void forkChoiceParallelDeltaThreshold_shouldRespectCLIArg() {
+    final String[] args = {
+      "--Xfork-choice-parallel-delta-threshold", "1000",
+    };
+    TekuConfiguration tekuConfiguration = getTekuConfigurationFromArguments(args);
+    final StoreConfig globalConfiguration = tekuConfiguration.beaconChain().storeConfig();
+    assertThat(globalConfiguration.getForkChoiceParallelDeltaThreshold()).isEqualTo(1000);
+
+    assertThat(createConfigBuilder().store(b -> b.forkChoiceParallelDeltaThreshold(1000)).build())
+        .usingRecursiveComparison()
+        .isEqualTo(tekuConfiguration);
+  }
+
+  @Test
+  public void forkChoiceParallelDeltaThreshold_shouldSetDefaultValue() {
+    final StoreConfig globalConfiguration =
+        getTekuConfigurationFromArguments().beaconChain().storeConfig();
+    assertThat(globalConfiguration.getForkChoiceParallelDeltaThreshold())
+        .isEqualTo(StoreConfig.DEFAULT_FORK_CHOICE_PARALLEL_DELTA_THRESHOLD);
+  }
+
+  @Test
+  public void epochPrecompute_shouldRespectCLIArgs() {
+    final String[] args = {
+      "--Xepoch-precompute-fork-heads", "2", "--Xepoch-precompute-lead-time", "3000",
+    };
+    TekuConfiguration tekuConfiguration = getTekuConfigurationFromArguments(args);
+    final StoreConfig globalConfiguration = tekuConfiguration.beaconChain().storeConfig();
+    assertThat(globalConfiguration.getEpochPrecomputeForkHeadCount()).isEqualTo(2);
+    assertThat(globalConfiguration.getEpochPrecomputeLeadTimeMillis()).contains(3000);
+
+    assertThat(
+            createConfigBuilder()
+                .store(
+                    b ->
+                        b.epochPrecomputeForkHeadCount(2)
+                            .epochPrecomputeLeadTimeMillis(Optional.of(3000)))
+                .build())
+        .usingRecursiveComparison()
+        .isEqualTo(tekuConfiguration);
+  }
+
+  @Test
+  public void epochPrecompute_shouldSetDefaultValues() {
+    final StoreConfig globalConfiguration =
+        getTekuConfigurationFromArguments().beaconChain().storeConfig();
+    assertThat(globalConfiguration.getEpochPrecomputeForkHeadCount()).isZero();
+    assertThat(globalConfiguration.getEpochPrecomputeLeadTimeMillis()).isEmpty();
+  }
+
   @Test
   public void hotStatePersistenceFrequency_invalidNumber() {
     final String[] args = {
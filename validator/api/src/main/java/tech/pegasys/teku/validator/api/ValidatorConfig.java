@@ -54,6 +54,11 @@ public class ValidatorConfig {
   public static final UInt64 DEFAULT_BUILDER_REGISTRATION_GAS_LIMIT = UInt64.valueOf(30_000_000);
   public static final Duration DEFAULT_BEACON_NODE_EVENT_STREAM_SYNCING_STATUS_QUERY_PERIOD =
       Duration.ofSeconds(12);
+  public static final Duration DEFAULT_ATTESTATION_PACKING_TIME_BUDGET = Duration.ofMillis(50);
+  public static final boolean DEFAULT_SLASHING_PROTECTION_JOURNAL_ENABLED = false;
+  public static final boolean DEFAULT_BATCHED_LOCAL_SIGNING_ENABLED = false;
+  public static final boolean DEFAULT_VALIDATOR_EXTERNAL_SIGNER_PIPELINING_ENABLED = false;
+  public static final boolean DEFAULT_DECRYPTED_KEY_CACHE_ENABLED = false;
 
   private final List<String> validatorKeys;
   private final List<String> validatorExternalSignerPublicKeySources;
@@ -84,6 +89,11 @@ public class ValidatorConfig {
   private final int executorMaxQueueSize;
   private final Duration beaconNodeEventStreamSyncingStatusQueryPeriod;
   private final Optional<String> sentryNodeConfigurationFile;
+  private final Duration attestationPackingTimeBudget;
+  private final boolean slashingProtectionJournalEnabled;
+  private final boolean batchedLocalSigningEnabled;
+  private final boolean validatorExternalSignerPipeliningEnabled;
+  private final boolean decryptedKeyCacheEnabled;
 
   private ValidatorConfig(
       final List<String> validatorKeys,
@@ -114,7 +124,12 @@ public class ValidatorConfig {
       final Optional<BLSPublicKey> builderRegistrationPublicKeyOverride,
       final int executorMaxQueueSize,
       final Duration beaconNodeEventStreamSyncingStatusQueryPeriod,
-      final Optional<String> sentryNodeConfigurationFile) {
+      final Optional<String> sentryNodeConfigurationFile,
+      final Duration attestationPackingTimeBudget,
+      final boolean slashingProtectionJournalEnabled,
+      final boolean batchedLocalSigningEnabled,
+      final boolean validatorExternalSignerPipeliningEnabled,
+      final boolean decryptedKeyCacheEnabled) {
     this.validatorKeys = validatorKeys;
     this.validatorExternalSignerPublicKeySources = validatorExternalSignerPublicKeySources;
     this.validatorExternalSignerUrl = validatorExternalSignerUrl;
@@ -148,6 +163,11 @@ public class ValidatorConfig {
     this.beaconNodeEventStreamSyncingStatusQueryPeriod =
         beaconNodeEventStreamSyncingStatusQueryPeriod;
     this.sentryNodeConfigurationFile = sentryNodeConfigurationFile;
+    this.attestationPackingTimeBudget = attestationPackingTimeBudget;
+    this.slashingProtectionJournalEnabled = slashingProtectionJournalEnabled;
+    this.batchedLocalSigningEnabled = batchedLocalSigningEnabled;
+    this.validatorExternalSignerPipeliningEnabled = validatorExternalSignerPipeliningEnabled;
+    this.decryptedKeyCacheEnabled = decryptedKeyCacheEnabled;
   }
 
   public static Builder builder() {
@@ -269,6 +289,26 @@ public class ValidatorConfig {
     return sentryNodeConfigurationFile;
   }
 
+  public Duration getAttestationPackingTimeBudget() {
+    return attestationPackingTimeBudget;
+  }
+
+  public boolean isSlashingProtectionJournalEnabled() {
+    return slashingProtectionJournalEnabled;
+  }
+
+  public boolean isBatchedLocalSigningEnabled() {
+    return batchedLocalSigningEnabled;
+  }
+
+  public boolean isValidatorExternalSignerPipeliningEnabled() {
+    return validatorExternalSignerPipeliningEnabled;
+  }
+
+  public boolean isDecryptedKeyCacheEnabled() {
+    return decryptedKeyCacheEnabled;
+  }
+
   private void validateProposerDefaultFeeRecipientOrProposerConfigSource() {
     if (proposerDefaultFeeRecipient.isEmpty()
         && proposerConfigSource.isEmpty()
@@ -316,6 +356,12 @@ public class ValidatorConfig {
     private int executorMaxQueueSize = DEFAULT_EXECUTOR_MAX_QUEUE_SIZE;
     private Duration beaconNodeEventStreamSyncingStatusQueryPeriod =
         DEFAULT_BEACON_NODE_EVENT_STREAM_SYNCING_STATUS_QUERY_PERIOD;
+    private Duration attestationPackingTimeBudget = DEFAULT_ATTESTATION_PACKING_TIME_BUDGET;
+    private boolean slashingProtectionJournalEnabled = DEFAULT_SLASHING_PROTECTION_JOURNAL_ENABLED;
+    private boolean batchedLocalSigningEnabled = DEFAULT_BATCHED_LOCAL_SIGNING_ENABLED;
+    private boolean validatorExternalSignerPipeliningEnabled =
+        DEFAULT_VALIDATOR_EXTERNAL_SIGNER_PIPELINING_ENABLED;
+    private boolean decryptedKeyCacheEnabled = DEFAULT_DECRYPTED_KEY_CACHE_ENABLED;
     private Optional<String> sentryNodeConfigurationFile = Optional.empty();
 
     private Builder() {}
@@ -504,6 +550,38 @@ public class ValidatorConfig {
       return this;
     }
 
+    public Builder attestationPackingTimeBudget(final Duration attestationPackingTimeBudget) {
+      if (attestationPackingTimeBudget.isNegative() || attestationPackingTimeBudget.isZero()) {
+        throw new InvalidConfigurationException(
+            String.format(
+                "Invalid attestationPackingTimeBudget: %s", attestationPackingTimeBudget));
+      }
+      this.attestationPackingTimeBudget = attestationPackingTimeBudget;
+      return this;
+    }
+
+    public Builder slashingProtectionJournalEnabled(
+        final boolean slashingProtectionJournalEnabled) {
+      this.slashingProtectionJournalEnabled = slashingProtectionJournalEnabled;
+      return this;
+    }
+
+    public Builder batchedLocalSigningEnabled(final boolean batchedLocalSigningEnabled) {
+      this.batchedLocalSigningEnabled = batchedLocalSigningEnabled;
+      return this;
+    }
+
+    public Builder validatorExternalSignerPipeliningEnabled(
+        final boolean validatorExternalSignerPipeliningEnabled) {
+      this.validatorExternalSignerPipeliningEnabled = validatorExternalSignerPipeliningEnabled;
+      return this;
+    }
+
+    public Builder decryptedKeyCacheEnabled(final boolean decryptedKeyCacheEnabled) {
+      this.decryptedKeyCacheEnabled = decryptedKeyCacheEnabled;
+      return this;
+    }
+
     public ValidatorConfig build() {
       validateExternalSignerUrlAndPublicKeys();
       validateExternalSignerKeystoreAndPasswordFileConfig();
@@ -539,7 +617,12 @@ public class ValidatorConfig {
           builderRegistrationPublicKeyOverride,
           executorMaxQueueSize,
           beaconNodeEventStreamSyncingStatusQueryPeriod,
-          sentryNodeConfigurationFile);
+          sentryNodeConfigurationFile,
+          attestationPackingTimeBudget,
+          slashingProtectionJournalEnabled,
+          batchedLocalSigningEnabled,
+          validatorExternalSignerPipeliningEnabled,
+          decryptedKeyCacheEnabled);
     }
 
     private void validateExternalSignerUrlAndPublicKeys() {
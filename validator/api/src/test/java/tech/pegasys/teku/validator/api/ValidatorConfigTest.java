@@ -16,6 +16,7 @@ package tech.pegasys.teku.validator.api;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -165,6 +166,16 @@ class ValidatorConfigTest {
     verifyProposerConfigOrProposerDefaultFeeRecipientNotThrow(config);
   }
 
+  @Test
+  public void shouldThrowIfAttestationPackingTimeBudgetIsNotPositive() {
+    Assertions.assertThatExceptionOfType(InvalidConfigurationException.class)
+        .isThrownBy(() -> configBuilder.attestationPackingTimeBudget(Duration.ZERO))
+        .withMessageContaining("Invalid attestationPackingTimeBudget");
+    Assertions.assertThatExceptionOfType(InvalidConfigurationException.class)
+        .isThrownBy(() -> configBuilder.attestationPackingTimeBudget(Duration.ofMillis(-1)))
+        .withMessageContaining("Invalid attestationPackingTimeBudget");
+  }
+
   void verifyProposerConfigOrProposerDefaultFeeRecipientNotThrow(final ValidatorConfig config) {
     Assertions.assertThatCode(config::getProposerDefaultFeeRecipient).doesNotThrowAnyException();
     Assertions.assertThatCode(config::getProposerConfigSource).doesNotThrowAnyException();
@@ -0,0 +1,257 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client.signer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+import static tech.pegasys.teku.validator.client.signer.ExternalSigner.slashableAttestationMessage;
+import static tech.pegasys.teku.validator.client.signer.ExternalSignerTestUtil.validateMetrics;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.junit.jupiter.MockServerExtension;
+import org.mockserver.verify.VerificationTimes;
+import tech.pegasys.teku.bls.BLS;
+import tech.pegasys.teku.bls.BLSKeyPair;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.bls.BLSTestUtil;
+import tech.pegasys.teku.infrastructure.async.DelayedExecutorAsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.ThrottlingTaskQueue;
+import tech.pegasys.teku.infrastructure.async.Waiter;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
+import tech.pegasys.teku.spec.datastructures.state.ForkInfo;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.validator.api.ValidatorConfig;
+import tech.pegasys.teku.validator.client.loader.HttpClientExternalSignerFactory;
+
+@ExtendWith(MockServerExtension.class)
+public class ExternalSignerBulkSigningIntegrationTest {
+  private static final Duration TIMEOUT = Duration.ofMillis(500);
+  private static final int MAX_CONCURRENT_REQUESTS = 8;
+  private static final String QUEUE_METRIC = "externalSignerTest";
+  private static final BLSKeyPair KEYPAIR_1 = BLSTestUtil.randomKeyPair(1);
+  private static final BLSKeyPair KEYPAIR_2 = BLSTestUtil.randomKeyPair(2);
+  private static final BLSSignature SIGNATURE_1 = BLS.sign(KEYPAIR_1.getSecretKey(), Bytes.of(1));
+  private static final BLSSignature SIGNATURE_2 = BLS.sign(KEYPAIR_2.getSecretKey(), Bytes.of(2));
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final ForkInfo fork = dataStructureUtil.randomForkInfo();
+  private final AttestationData attestationData = dataStructureUtil.randomAttestationData();
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final ExternalSignerMetrics externalSignerMetrics =
+      new ExternalSignerMetrics(metricsSystem);
+  private final ThrottlingTaskQueue queue =
+      new ThrottlingTaskQueue(
+          MAX_CONCURRENT_REQUESTS, metricsSystem, TekuMetricCategory.VALIDATOR, QUEUE_METRIC);
+
+  private ClientAndServer client;
+  private ExternalSignerAttestationBatcher batcher;
+  private ExternalSigner externalSigner1;
+  private ExternalSigner externalSigner2;
+
+  @BeforeEach
+  void setup(final ClientAndServer client) throws MalformedURLException {
+    this.client = client;
+    final ValidatorConfig config =
+        ValidatorConfig.builder()
+            .validatorExternalSignerPublicKeySources(
+                List.of(KEYPAIR_1.getPublicKey().toString(), KEYPAIR_2.getPublicKey().toString()))
+            .validatorExternalSignerUrl(new URL("http://127.0.0.1:" + client.getLocalPort()))
+            .validatorExternalSignerTimeout(TIMEOUT)
+            .build();
+    final HttpClientExternalSignerFactory httpClientExternalSignerFactory =
+        new HttpClientExternalSignerFactory(config);
+
+    batcher =
+        new ExternalSignerAttestationBatcher(
+            httpClientExternalSignerFactory.get(),
+            config.getValidatorExternalSignerUrl(),
+            TIMEOUT,
+            DelayedExecutorAsyncRunner.create(),
+            queue);
+    externalSigner1 = createSigner(config, httpClientExternalSignerFactory, KEYPAIR_1);
+    externalSigner2 = createSigner(config, httpClientExternalSignerFactory, KEYPAIR_2);
+  }
+
+  private ExternalSigner createSigner(
+      final ValidatorConfig config,
+      final HttpClientExternalSignerFactory httpClientExternalSignerFactory,
+      final BLSKeyPair keyPair) {
+    return new ExternalSigner(
+        spec,
+        httpClientExternalSignerFactory.get(),
+        config.getValidatorExternalSignerUrl(),
+        keyPair.getPublicKey(),
+        TIMEOUT,
+        queue,
+        externalSignerMetrics,
+        Optional.of(batcher));
+  }
+
+  @AfterEach
+  void tearDown() {
+    client.reset();
+  }
+
+  @Test
+  void shouldCombineAttestationSigningRequestsIntoBulkRequest() {
+    givenBulkSigningSupported(true);
+    final String bulkResponse =
+        String.format(
+            "[{\"signature\": \"%s\"}, {\"signature\": \"%s\"}]", SIGNATURE_1, SIGNATURE_2);
+    client
+        .when(request().withPath(ExternalSignerAttestationBatcher.BULK_SIGN_ENDPOINT))
+        .respond(response().withBody(bulkResponse));
+
+    final SafeFuture<BLSSignature> result1 =
+        externalSigner1.signAttestationData(attestationData, fork);
+    final SafeFuture<BLSSignature> result2 =
+        externalSigner2.signAttestationData(attestationData, fork);
+
+    assertThat(result1.join()).isEqualTo(SIGNATURE_1);
+    assertThat(result2.join()).isEqualTo(SIGNATURE_2);
+    client.verify(
+        request().withPath(ExternalSignerAttestationBatcher.BULK_SIGN_ENDPOINT),
+        VerificationTimes.once());
+    verifyNoIndividualRequest(KEYPAIR_1);
+    verifyNoIndividualRequest(KEYPAIR_2);
+    validateMetrics(metricsSystem, 2, 0, 0);
+  }
+
+  @Test
+  void shouldFailOnlyRefusedRequestsInBulkResponse() {
+    givenBulkSigningSupported(true);
+    client
+        .when(request().withPath(ExternalSignerAttestationBatcher.BULK_SIGN_ENDPOINT))
+        .respond(
+            response().withBody("[{\"status\": 412}, {\"signature\": \"" + SIGNATURE_2 + "\"}]"));
+
+    final SafeFuture<BLSSignature> result1 =
+        externalSigner1.signAttestationData(attestationData, fork);
+    final SafeFuture<BLSSignature> result2 =
+        externalSigner2.signAttestationData(attestationData, fork);
+
+    assertThatThrownBy(result1::join)
+        .hasCauseInstanceOf(ExternalSignerException.class)
+        .hasMessageEndingWith(slashableAttestationMessage(attestationData).get());
+    assertThat(result2.join()).isEqualTo(SIGNATURE_2);
+    validateMetrics(metricsSystem, 1, 1, 0);
+  }
+
+  @Test
+  void shouldSendIndividualRequestsWhenSignerDoesNotSupportBulkSigning() {
+    givenBulkSigningSupported(false);
+    client
+        .when(request().withPath(individualSignPath(KEYPAIR_1)))
+        .respond(response().withBody(SIGNATURE_1.toString()));
+
+    assertThat(externalSigner1.signAttestationData(attestationData, fork).join())
+        .isEqualTo(SIGNATURE_1);
+
+    client.verify(request().withPath(individualSignPath(KEYPAIR_1)), VerificationTimes.once());
+    client.verify(
+        request().withPath(ExternalSignerAttestationBatcher.BULK_SIGN_ENDPOINT),
+        VerificationTimes.never());
+    validateMetrics(metricsSystem, 1, 0, 0);
+  }
+
+  @Test
+  void shouldSendIndividualRequestsWhenBulkEndpointIsNotFound() {
+    givenBulkSigningSupported(true);
+    client
+        .when(request().withPath(individualSignPath(KEYPAIR_1)))
+        .respond(response().withBody(SIGNATURE_1.toString()));
+
+    assertThat(externalSigner1.signAttestationData(attestationData, fork).join())
+        .isEqualTo(SIGNATURE_1);
+    assertThat(batcher.isBulkSigningSupported()).isCompletedWithValue(false);
+  }
+
+  @Test
+  void shouldQueueBulkRequestsBehindThrottledRequests() {
+    givenBulkSigningSupported(true);
+    client
+        .when(request().withPath(ExternalSignerAttestationBatcher.BULK_SIGN_ENDPOINT))
+        .respond(response().withBody("[{\"signature\": \"" + SIGNATURE_1 + "\"}]"));
+    final SafeFuture<Void> blockingTask = new SafeFuture<>();
+    for (int i = 0; i < MAX_CONCURRENT_REQUESTS; i++) {
+      queue.queueTask(() -> blockingTask).ifExceptionGetsHereRaiseABug();
+    }
+
+    final SafeFuture<BLSSignature> result =
+        externalSigner1.signAttestationData(attestationData, fork);
+
+    Waiter.waitFor(() -> assertThat(getQueuedTaskCount()).isEqualTo(1.0));
+    assertThat(result).isNotDone();
+    client.verify(
+        request().withPath(ExternalSignerAttestationBatcher.BULK_SIGN_ENDPOINT),
+        VerificationTimes.never());
+
+    blockingTask.complete(null);
+    assertThat(result.join()).isEqualTo(SIGNATURE_1);
+  }
+
+  @Test
+  void shouldScaleBulkRequestTimeoutWithBatchSize() {
+    final int signaturesPerTimeout = ExternalSignerAttestationBatcher.SIGNATURES_PER_TIMEOUT;
+    final int maxBatchSize = ExternalSignerAttestationBatcher.MAX_BATCH_SIZE;
+    assertThat(getBulkRequestTimeout(1)).isEqualTo(TIMEOUT);
+    assertThat(getBulkRequestTimeout(signaturesPerTimeout)).isEqualTo(TIMEOUT);
+    assertThat(getBulkRequestTimeout(signaturesPerTimeout + 1)).isEqualTo(TIMEOUT.multipliedBy(2));
+    assertThat(getBulkRequestTimeout(maxBatchSize))
+        .isEqualTo(TIMEOUT.multipliedBy(maxBatchSize / signaturesPerTimeout));
+  }
+
+  private Duration getBulkRequestTimeout(final int batchSize) {
+    return ExternalSignerAttestationBatcher.getBulkRequestTimeout(TIMEOUT, batchSize);
+  }
+
+  private double getQueuedTaskCount() {
+    return metricsSystem.getGauge(TekuMetricCategory.VALIDATOR, QUEUE_METRIC).getValue();
+  }
+
+  private void givenBulkSigningSupported(final boolean supported) {
+    if (supported) {
+      client
+          .when(request().withPath(ExternalSignerAttestationBatcher.CAPABILITIES_ENDPOINT))
+          .respond(response().withBody("{\"bulk_sign\": true}"));
+    }
+    // query capabilities up front so requests join the batch in the order they are made
+    assertThat(batcher.isBulkSigningSupported().join()).isEqualTo(supported);
+  }
+
+  private void verifyNoIndividualRequest(final BLSKeyPair keyPair) {
+    client.verify(request().withPath(individualSignPath(keyPair)), VerificationTimes.never());
+  }
+
+  private String individualSignPath(final BLSKeyPair keyPair) {
+    return ExternalSigner.EXTERNAL_SIGNER_ENDPOINT + "/" + keyPair.getPublicKey();
+  }
+}
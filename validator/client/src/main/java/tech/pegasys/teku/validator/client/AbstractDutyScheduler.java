@@ -97,6 +97,8 @@ public abstract class AbstractDutyScheduler implements ValidatorTimingChannel {
   @Override
   public void onPossibleMissedEvents() {
     // We may have missed a re-org or head notification so we need to recalculate all duties.
+    // The beacon node may also have restarted so don't rely on previously sent subscriptions.
+    epochDutiesScheduler.discardPreviousDuties();
     invalidateEpochs(dutiesByEpoch);
   }
 
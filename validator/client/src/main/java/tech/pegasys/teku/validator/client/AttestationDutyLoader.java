@@ -14,11 +14,16 @@
 package tech.pegasys.teku.validator.client;
 
 import it.unimi.dsi.fastutil.ints.IntCollection;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.function.Function;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
@@ -34,10 +39,23 @@ import tech.pegasys.teku.validator.client.duties.attestations.AggregationDuty;
 import tech.pegasys.teku.validator.client.duties.attestations.AttestationProductionDuty;
 import tech.pegasys.teku.validator.client.loader.OwnedValidators;
 
+/**
+ * Loads attester duties and schedules attestation production and aggregation for them.
+ *
+ * <p>Duties for an epoch are reloaded whenever their dependent root changes, which can happen
+ * repeatedly when the chain reorgs. Only duties which differ from the last time the epoch was
+ * scheduled require a new aggregation slot signature and beacon committee subscription. Unchanged
+ * duties reuse the previous signature and are not subscribed again once the beacon node has
+ * accepted their subscription, so with a large number of validators a reorg costs one duties
+ * request rather than a signature and subscription for every validator.
+ */
 public class AttestationDutyLoader
     extends AbstractDutyLoader<AttesterDuties, SlotBasedScheduledDuties<?, ?>> {
 
   private static final Logger LOG = LogManager.getLogger();
+  // Aggregation slot signatures and subscriptions for the duties last scheduled in each epoch
+  private final NavigableMap<UInt64, Map<AttesterDuty, ScheduledAttesterDuty>>
+      scheduledDutiesByEpoch = new ConcurrentSkipListMap<>();
   private final ValidatorApiChannel validatorApiChannel;
   private final ForkProvider forkProvider;
   private final Function<
@@ -72,22 +90,55 @@ public class AttestationDutyLoader
     return validatorApiChannel.getAttestationDuties(epoch, validatorIndices);
   }
 
+  @Override
+  public void discardPreviousDuties() {
+    scheduledDutiesByEpoch.clear();
+  }
+
   @Override
   protected SafeFuture<SlotBasedScheduledDuties<?, ?>> scheduleAllDuties(
       final UInt64 epoch, final AttesterDuties duties) {
     final SlotBasedScheduledDuties<AttestationProductionDuty, AggregationDuty> scheduledDuties =
         scheduledDutiesFactory.apply(duties.getDependentRoot());
+    final Map<AttesterDuty, ScheduledAttesterDuty> previousDuties =
+        scheduledDutiesByEpoch.getOrDefault(epoch, Map.of());
+    final Map<AttesterDuty, ScheduledAttesterDuty> currentDuties = new ConcurrentHashMap<>();
+    scheduledDutiesByEpoch.put(epoch, currentDuties);
+    // Epochs before the previous one can no longer be rescheduled
+    scheduledDutiesByEpoch.headMap(epoch.minusMinZero(1), false).clear();
+
+    LOG.debug(
+        "Scheduling {} attester duties for epoch {}, {} unchanged since last scheduled",
+        duties.getDuties().size(),
+        epoch,
+        duties.getDuties().stream()
+            .filter(duty -> isUnchanged(previousDuties.get(duty)))
+            .count());
     return SafeFuture.allOf(
             duties.getDuties().stream()
-                .map(duty -> scheduleDuties(scheduledDuties, duty))
+                .map(duty -> scheduleDuties(scheduledDuties, duty, previousDuties, currentDuties))
                 .toArray(SafeFuture[]::new))
         .<SlotBasedScheduledDuties<?, ?>>thenApply(__ -> scheduledDuties)
         .alwaysRun(beaconCommitteeSubscriptions::sendRequests);
   }
 
+  private static boolean isUnchanged(final ScheduledAttesterDuty previousDuty) {
+    return hasSlotSignature(previousDuty) && isSubscribed(previousDuty);
+  }
+
+  private static boolean hasSlotSignature(final ScheduledAttesterDuty previousDuty) {
+    return previousDuty != null && previousDuty.slotSignature.isCompletedNormally();
+  }
+
+  private static boolean isSubscribed(final ScheduledAttesterDuty previousDuty) {
+    return previousDuty != null && previousDuty.subscription.isCompletedNormally();
+  }
+
   private SafeFuture<Void> scheduleDuties(
       final SlotBasedScheduledDuties<AttestationProductionDuty, AggregationDuty> scheduledDuties,
-      final AttesterDuty duty) {
+      final AttesterDuty duty,
+      final Map<AttesterDuty, ScheduledAttesterDuty> previousDuties,
+      final Map<AttesterDuty, ScheduledAttesterDuty> currentDuties) {
     final Optional<Validator> maybeValidator = validators.getValidator(duty.getPublicKey());
     if (maybeValidator.isEmpty()) {
       return SafeFuture.COMPLETE;
@@ -108,6 +159,22 @@ public class AttestationDutyLoader
             validator,
             duty.getSlot());
 
+    // An unchanged duty reuses its slot signature and is only subscribed again if the beacon node
+    // didn't accept the previous subscription
+    final ScheduledAttesterDuty previousDuty = previousDuties.get(duty);
+    final SafeFuture<BLSSignature> slotSignature =
+        hasSlotSignature(previousDuty)
+            ? previousDuty.slotSignature
+            : forkProvider
+                .getForkInfo(duty.getSlot())
+                .thenCompose(
+                    forkInfo ->
+                        validator.getSigner().signAggregationSlot(duty.getSlot(), forkInfo));
+    final boolean subscriptionRequired = !isSubscribed(previousDuty);
+    final SafeFuture<Void> subscription =
+        subscriptionRequired ? new SafeFuture<>() : previousDuty.subscription;
+    currentDuties.put(duty, new ScheduledAttesterDuty(slotSignature, subscription));
+
     return scheduleAggregation(
         scheduledDuties,
         duty.getCommitteeIndex(),
@@ -116,6 +183,9 @@ public class AttestationDutyLoader
         validator,
         duty.getSlot(),
         aggregatorModulo,
+        slotSignature,
+        subscriptionRequired,
+        subscription,
         unsignedAttestationFuture);
   }
 
@@ -147,22 +217,27 @@ public class AttestationDutyLoader
       final Validator validator,
       final UInt64 slot,
       final int aggregatorModulo,
+      final SafeFuture<BLSSignature> slotSignatureFuture,
+      final boolean subscriptionRequired,
+      final SafeFuture<Void> subscription,
       final SafeFuture<Optional<AttestationData>> unsignedAttestationFuture) {
-    return forkProvider
-        .getForkInfo(slot)
-        .thenCompose(forkInfo -> validator.getSigner().signAggregationSlot(slot, forkInfo))
+    return slotSignatureFuture
         .thenAccept(
             slotSignature -> {
               final SpecVersion specVersion = spec.atSlot(slot);
               final boolean isAggregator =
                   specVersion.getValidatorsUtil().isAggregator(slotSignature, aggregatorModulo);
-              beaconCommitteeSubscriptions.subscribeToBeaconCommittee(
-                  new CommitteeSubscriptionRequest(
-                      validatorIndex,
-                      attestationCommitteeIndex,
-                      UInt64.valueOf(committeesAtSlot),
-                      slot,
-                      isAggregator));
+              if (subscriptionRequired) {
+                beaconCommitteeSubscriptions
+                    .subscribeToBeaconCommittee(
+                        new CommitteeSubscriptionRequest(
+                            validatorIndex,
+                            attestationCommitteeIndex,
+                            UInt64.valueOf(committeesAtSlot),
+                            slot,
+                            isAggregator))
+                    .propagateTo(subscription);
+              }
               if (isAggregator) {
                 scheduledDuties.scheduleAggregation(
                     slot,
@@ -179,7 +254,19 @@ public class AttestationDutyLoader
         .exceptionally(
             error -> {
               LOG.error("Failed to schedule aggregation duties", error);
+              subscription.completeExceptionally(error);
               return null;
             });
   }
+
+  private static class ScheduledAttesterDuty {
+    private final SafeFuture<BLSSignature> slotSignature;
+    private final SafeFuture<Void> subscription;
+
+    private ScheduledAttesterDuty(
+        final SafeFuture<BLSSignature> slotSignature, final SafeFuture<Void> subscription) {
+      this.slotSignature = slotSignature;
+      this.subscription = subscription;
+    }
+  }
 }
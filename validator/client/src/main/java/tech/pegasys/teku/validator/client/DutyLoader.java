@@ -20,4 +20,10 @@ import tech.pegasys.teku.validator.client.duties.ScheduledDuties;
 
 public interface DutyLoader<T extends ScheduledDuties> {
   SafeFuture<Optional<T>> loadDutiesForEpoch(final UInt64 epoch);
+
+  /**
+   * Discards any state kept from previously loaded duties so that the next load recalculates every
+   * duty from scratch.
+   */
+  default void discardPreviousDuties() {}
 }
@@ -42,6 +42,11 @@ public class RetryingDutyLoader<S extends ScheduledDuties> implements DutyLoader
     return duties;
   }
 
+  @Override
+  public void discardPreviousDuties() {
+    delegate.discardPreviousDuties();
+  }
+
   private SafeFuture<Optional<S>> requestDuties(
       final UInt64 epoch, final SafeFuture<Optional<S>> cancellable) {
     LOG.trace("Request duties for epoch {}", epoch);
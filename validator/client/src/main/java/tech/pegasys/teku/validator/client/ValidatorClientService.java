@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.validator.client;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
@@ -25,6 +26,7 @@ import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.events.EventChannels;
+import tech.pegasys.teku.infrastructure.exceptions.InvalidConfigurationException;
 import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
 import tech.pegasys.teku.infrastructure.io.SystemSignalListener;
 import tech.pegasys.teku.infrastructure.logging.ValidatorLogger;
@@ -37,6 +39,7 @@ import tech.pegasys.teku.service.serviceutils.layout.DataDirLayout;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecMilestone;
 import tech.pegasys.teku.spec.signatures.LocalSlashingProtector;
+import tech.pegasys.teku.spec.signatures.SlashingProtectionJournal;
 import tech.pegasys.teku.spec.signatures.SlashingProtector;
 import tech.pegasys.teku.validator.api.ValidatorApiChannel;
 import tech.pegasys.teku.validator.api.ValidatorConfig;
@@ -75,6 +78,7 @@ public class ValidatorClientService extends Service {
   private final Optional<ProposerConfigProvider> proposerConfigProvider;
   private final Optional<BeaconProposerPreparer> beaconProposerPreparer;
   private final Optional<ValidatorRegistrator> validatorRegistrator;
+  private final Optional<SlashingProtectionJournal> slashingProtectionJournal;
 
   private final SafeFuture<Void> initializationComplete = new SafeFuture<>();
 
@@ -89,6 +93,7 @@ public class ValidatorClientService extends Service {
       final Optional<ProposerConfigProvider> proposerConfigProvider,
       final Optional<BeaconProposerPreparer> beaconProposerPreparer,
       final Optional<ValidatorRegistrator> validatorRegistrator,
+      final Optional<SlashingProtectionJournal> slashingProtectionJournal,
       final Spec spec,
       final MetricsSystem metricsSystem) {
     this.eventChannels = eventChannels;
@@ -99,6 +104,7 @@ public class ValidatorClientService extends Service {
     this.proposerConfigProvider = proposerConfigProvider;
     this.beaconProposerPreparer = beaconProposerPreparer;
     this.validatorRegistrator = validatorRegistrator;
+    this.slashingProtectionJournal = slashingProtectionJournal;
     this.spec = spec;
     this.metricsSystem = metricsSystem;
   }
@@ -142,7 +148,23 @@ public class ValidatorClientService extends Service {
         new GenesisDataProvider(asyncRunner, validatorApiChannel);
     final ForkProvider forkProvider = new ForkProvider(config.getSpec(), genesisDataProvider);
 
-    final ValidatorLoader validatorLoader = createValidatorLoader(config, asyncRunner, services);
+    final Path slashingProtectionPath = getSlashingProtectionPath(services.getDataDirLayout());
+    final SyncDataAccessor slashingProtectionDataAccessor =
+        SyncDataAccessor.create(slashingProtectionPath);
+    final Optional<SlashingProtectionJournal> slashingProtectionJournal =
+        validatorConfig.isSlashingProtectionJournalEnabled()
+            ? Optional.of(
+                openSlashingProtectionJournal(
+                    slashingProtectionDataAccessor, slashingProtectionPath))
+            : Optional.empty();
+    final ValidatorLoader validatorLoader =
+        createValidatorLoader(
+            config,
+            asyncRunner,
+            services,
+            slashingProtectionDataAccessor,
+            slashingProtectionPath,
+            slashingProtectionJournal);
     final ValidatorRestApiConfig validatorApiConfig = config.getValidatorRestApiConfig();
     Optional<RestApi> validatorRestApi = Optional.empty();
     Optional<ProposerConfigProvider> proposerConfigProvider = Optional.empty();
@@ -207,6 +229,7 @@ public class ValidatorClientService extends Service {
             proposerConfigProvider,
             beaconProposerPreparer,
             validatorRegistrator,
+            slashingProtectionJournal,
             config.getSpec(),
             services.getMetricsSystem());
 
@@ -222,11 +245,13 @@ public class ValidatorClientService extends Service {
   private static ValidatorLoader createValidatorLoader(
       final ValidatorClientConfiguration config,
       final AsyncRunner asyncRunner,
-      final ServiceConfig services) {
-    final Path slashingProtectionPath = getSlashingProtectionPath(services.getDataDirLayout());
+      final ServiceConfig services,
+      final SyncDataAccessor slashingProtectionDataAccessor,
+      final Path slashingProtectionPath,
+      final Optional<SlashingProtectionJournal> slashingProtectionJournal) {
     final SlashingProtector slashingProtector =
         new LocalSlashingProtector(
-            SyncDataAccessor.create(slashingProtectionPath), slashingProtectionPath);
+            slashingProtectionDataAccessor, slashingProtectionPath, slashingProtectionJournal);
     final SlashingProtectionLogger slashingProtectionLogger =
         new SlashingProtectionLogger(
             slashingProtector, config.getSpec(), asyncRunner, ValidatorLogger.VALIDATOR_LOGGER);
@@ -244,6 +269,16 @@ public class ValidatorClientService extends Service {
             : Optional.empty());
   }
 
+  private static SlashingProtectionJournal openSlashingProtectionJournal(
+      final SyncDataAccessor dataAccessor, final Path slashingProtectionPath) {
+    try {
+      return SlashingProtectionJournal.open(dataAccessor, slashingProtectionPath);
+    } catch (final IOException e) {
+      throw new InvalidConfigurationException(
+          "Unable to open slashing protection journal in " + slashingProtectionPath, e);
+    }
+  }
+
   private void initializeValidators(
       ValidatorClientConfiguration config,
       ValidatorApiChannel validatorApiChannel,
@@ -326,6 +361,10 @@ public class ValidatorClientService extends Service {
     return dataDirLayout.getValidatorDataDirectory().resolve("slashprotection");
   }
 
+  public static Path getDecryptedKeyCachePath(final DataDirLayout dataDirLayout) {
+    return dataDirLayout.getValidatorDataDirectory().resolve("key-cache");
+  }
+
   public static Path getManagedLocalKeystorePath(final DataDirLayout dataDirLayout) {
     return getKeyManagerPath(dataDirLayout).resolve("local");
   }
@@ -380,10 +419,22 @@ public class ValidatorClientService extends Service {
   @Override
   protected SafeFuture<?> doStop() {
     return SafeFuture.allOf(
-        SafeFuture.fromRunnable(
-            () ->
-                validatorRestApi.ifPresent(
-                    restApi -> restApi.stop().ifExceptionGetsHereRaiseABug())),
-        beaconNodeApi.unsubscribeFromEvents());
+            SafeFuture.fromRunnable(
+                () ->
+                    validatorRestApi.ifPresent(
+                        restApi -> restApi.stop().ifExceptionGetsHereRaiseABug())),
+            beaconNodeApi.unsubscribeFromEvents())
+        .alwaysRun(this::closeSlashingProtectionJournal);
+  }
+
+  private void closeSlashingProtectionJournal() {
+    slashingProtectionJournal.ifPresent(
+        journal -> {
+          try {
+            journal.close();
+          } catch (final IOException e) {
+            LOG.error("Failed to close slashing protection journal", e);
+          }
+        });
   }
 }
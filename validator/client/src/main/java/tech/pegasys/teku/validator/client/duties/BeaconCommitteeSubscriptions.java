@@ -19,6 +19,7 @@ import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.validator.api.CommitteeSubscriptionRequest;
 import tech.pegasys.teku.validator.api.ValidatorApiChannel;
 
@@ -27,30 +28,55 @@ public class BeaconCommitteeSubscriptions {
 
   private static final Logger LOG = LogManager.getLogger();
 
-  private final Queue<CommitteeSubscriptionRequest> pendingRequests = new ConcurrentLinkedQueue<>();
+  private final Queue<PendingSubscription> pendingRequests = new ConcurrentLinkedQueue<>();
   private final ValidatorApiChannel validatorApiChannel;
 
   public BeaconCommitteeSubscriptions(final ValidatorApiChannel validatorApiChannel) {
     this.validatorApiChannel = validatorApiChannel;
   }
 
-  public void subscribeToBeaconCommittee(final CommitteeSubscriptionRequest request) {
-    pendingRequests.add(request);
+  /**
+   * Queues a subscription to be sent with the next batch of requests.
+   *
+   * @param request the subscription request
+   * @return a future which completes when the batch containing the request has been accepted by the
+   *     beacon node, or fails if sending it failed
+   */
+  public SafeFuture<Void> subscribeToBeaconCommittee(final CommitteeSubscriptionRequest request) {
+    final PendingSubscription subscription = new PendingSubscription(request);
+    pendingRequests.add(subscription);
+    return subscription.result;
   }
 
   public void sendRequests() {
-    final List<CommitteeSubscriptionRequest> requestsToSend = new ArrayList<>();
-    for (CommitteeSubscriptionRequest request = pendingRequests.poll();
-        request != null;
-        request = pendingRequests.poll()) {
-      requestsToSend.add(request);
+    final List<PendingSubscription> subscriptionsToSend = new ArrayList<>();
+    for (PendingSubscription subscription = pendingRequests.poll();
+        subscription != null;
+        subscription = pendingRequests.poll()) {
+      subscriptionsToSend.add(subscription);
     }
-    if (requestsToSend.isEmpty()) {
+    if (subscriptionsToSend.isEmpty()) {
       return;
     }
+    final List<CommitteeSubscriptionRequest> requestsToSend = new ArrayList<>();
+    subscriptionsToSend.forEach(subscription -> requestsToSend.add(subscription.request));
     validatorApiChannel
         .subscribeToBeaconCommittee(requestsToSend)
         .finish(
-            error -> LOG.error("Failed to subscribe to beacon committee for aggregation.", error));
+            () -> subscriptionsToSend.forEach(subscription -> subscription.result.complete(null)),
+            error -> {
+              LOG.error("Failed to subscribe to beacon committee for aggregation.", error);
+              subscriptionsToSend.forEach(
+                  subscription -> subscription.result.completeExceptionally(error));
+            });
+  }
+
+  private static class PendingSubscription {
+    private final CommitteeSubscriptionRequest request;
+    private final SafeFuture<Void> result = new SafeFuture<>();
+
+    private PendingSubscription(final CommitteeSubscriptionRequest request) {
+      this.request = request;
+    }
   }
 }
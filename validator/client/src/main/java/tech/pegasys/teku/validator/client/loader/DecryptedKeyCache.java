@@ -0,0 +1,228 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client.loader;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.infrastructure.crypto.Hash;
+import tech.pegasys.teku.infrastructure.crypto.SecureRandomProvider;
+
+/**
+ * Caches decrypted validator keys so a restart doesn't have to run the keystore KDF for every key.
+ *
+ * <p>Each key is stored in its own file, encrypted with AES-GCM under a random master key kept in
+ * {@link #MASTER_KEY_FILE} in the same directory. An entry records the SHA-256 hash of the keystore
+ * it was decrypted from and is authenticated against the hash of the keystore password, so it is
+ * ignored once either changes. Anyone who can read the cache directory can recover the keys without
+ * their passwords, so files are created readable only by their owner where the file system
+ * supports it and a warning is logged where it does not.
+ */
+public class DecryptedKeyCache {
+  private static final Logger LOG = LogManager.getLogger();
+  static final String MASTER_KEY_FILE = "master.key";
+  private static final String ENTRY_SUFFIX = ".cache";
+  private static final byte VERSION = 2;
+  private static final int KEY_LENGTH = 32;
+  private static final int NONCE_LENGTH = 12;
+  private static final int TAG_LENGTH = 16;
+  private static final int ENTRY_LENGTH = 1 + Bytes32.SIZE + NONCE_LENGTH + KEY_LENGTH + TAG_LENGTH;
+  private static final String CIPHER = "AES/GCM/NoPadding";
+  private static final Set<PosixFilePermission> OWNER_READ_WRITE =
+      PosixFilePermissions.fromString("rw-------");
+
+  private final Path directory;
+  private final SecretKey masterKey;
+  private final SecureRandom secureRandom = SecureRandomProvider.createSecureRandom();
+
+  private DecryptedKeyCache(final Path directory, final SecretKey masterKey) {
+    this.directory = directory;
+    this.masterKey = masterKey;
+  }
+
+  public static DecryptedKeyCache create(final Path directory) throws IOException {
+    Files.createDirectories(directory);
+    if (!isPosix(directory)) {
+      LOG.warn(
+          "Unable to restrict access to the decrypted key cache at {} to its owner. "
+              + "Anyone able to read it can recover the cached validator keys.",
+          directory);
+    }
+    final Path masterKeyFile = directory.resolve(MASTER_KEY_FILE);
+    if (!masterKeyFile.toFile().exists()) {
+      final byte[] masterKey = new byte[KEY_LENGTH];
+      SecureRandomProvider.createSecureRandom().nextBytes(masterKey);
+      writeOwnerOnly(masterKeyFile, masterKey);
+    }
+    final byte[] masterKey = Files.readAllBytes(masterKeyFile);
+    if (masterKey.length != KEY_LENGTH) {
+      throw new IOException("Invalid decrypted key cache master key " + masterKeyFile);
+    }
+    return new DecryptedKeyCache(directory, new SecretKeySpec(masterKey, "AES"));
+  }
+
+  /**
+   * Returns the cached secret key for a keystore, decrypting it and updating the cache if there is
+   * no entry for the current contents of the keystore.
+   *
+   * @param keystoreFile the keystore the key is decrypted from
+   * @param password the password the keystore is decrypted with
+   * @param publicKey the public key declared by the keystore
+   * @param decrypt decrypts the keystore
+   * @return the secret key
+   */
+  public Bytes32 getOrDecrypt(
+      final Path keystoreFile,
+      final String password,
+      final BLSPublicKey publicKey,
+      final Supplier<Bytes32> decrypt) {
+    final Bytes32 passwordHash = Hash.sha256(Bytes.wrap(password.getBytes(UTF_8)));
+    final Bytes32 keystoreHash;
+    try {
+      keystoreHash = Hash.sha256(Files.readAllBytes(keystoreFile));
+    } catch (final IOException e) {
+      LOG.debug("Unable to read keystore {}, not using the decrypted key cache", keystoreFile, e);
+      return decrypt.get();
+    }
+
+    final Optional<Bytes32> cachedKey = read(publicKey, keystoreHash, passwordHash);
+    if (cachedKey.isPresent()) {
+      return cachedKey.get();
+    }
+    final Bytes32 secretKey = decrypt.get();
+    write(publicKey, keystoreHash, passwordHash, secretKey);
+    return secretKey;
+  }
+
+  public void remove(final BLSPublicKey publicKey) {
+    try {
+      Files.deleteIfExists(getEntryPath(publicKey));
+    } catch (final IOException e) {
+      LOG.warn("Failed to remove cached key for {}", publicKey, e);
+    }
+  }
+
+  private Optional<Bytes32> read(
+      final BLSPublicKey publicKey, final Bytes32 keystoreHash, final Bytes32 passwordHash) {
+    final Path entryPath = getEntryPath(publicKey);
+    final byte[] entry;
+    try {
+      entry = Files.readAllBytes(entryPath);
+    } catch (final NoSuchFileException e) {
+      return Optional.empty();
+    } catch (final IOException e) {
+      LOG.warn("Failed to read cached key {}", entryPath, e);
+      return Optional.empty();
+    }
+
+    if (entry.length != ENTRY_LENGTH
+        || entry[0] != VERSION
+        || !keystoreHash.equals(Bytes32.wrap(entry, 1))) {
+      // Keystore has changed since the key was cached
+      return Optional.empty();
+    }
+    final int nonceOffset = 1 + Bytes32.SIZE;
+    final int ciphertextOffset = nonceOffset + NONCE_LENGTH;
+    try {
+      final Cipher cipher = Cipher.getInstance(CIPHER);
+      cipher.init(
+          Cipher.DECRYPT_MODE,
+          masterKey,
+          new GCMParameterSpec(TAG_LENGTH * Byte.SIZE, entry, nonceOffset, NONCE_LENGTH));
+      cipher.updateAAD(associatedData(publicKey, keystoreHash, passwordHash));
+      final byte[] secretKey =
+          cipher.doFinal(entry, ciphertextOffset, entry.length - ciphertextOffset);
+      try {
+        return Optional.of(Bytes32.wrap(secretKey).copy());
+      } finally {
+        Arrays.fill(secretKey, (byte) 0);
+      }
+    } catch (final GeneralSecurityException e) {
+      // The password has changed since the key was cached, or the entry is corrupt
+      LOG.debug("Ignoring cached key {} which could not be decrypted", entryPath, e);
+      return Optional.empty();
+    }
+  }
+
+  private void write(
+      final BLSPublicKey publicKey,
+      final Bytes32 keystoreHash,
+      final Bytes32 passwordHash,
+      final Bytes32 secretKey) {
+    final byte[] nonce = new byte[NONCE_LENGTH];
+    secureRandom.nextBytes(nonce);
+    try {
+      final Cipher cipher = Cipher.getInstance(CIPHER);
+      cipher.init(
+          Cipher.ENCRYPT_MODE, masterKey, new GCMParameterSpec(TAG_LENGTH * Byte.SIZE, nonce));
+      cipher.updateAAD(associatedData(publicKey, keystoreHash, passwordHash));
+      final byte[] ciphertext = cipher.doFinal(secretKey.toArrayUnsafe());
+      writeOwnerOnly(
+          getEntryPath(publicKey),
+          Bytes.concatenate(
+                  Bytes.of(VERSION), keystoreHash, Bytes.wrap(nonce), Bytes.wrap(ciphertext))
+              .toArrayUnsafe());
+    } catch (final GeneralSecurityException | IOException e) {
+      LOG.warn("Failed to cache decrypted key for {}", publicKey, e);
+    }
+  }
+
+  private Path getEntryPath(final BLSPublicKey publicKey) {
+    return directory.resolve(publicKey.toBytesCompressed().toUnprefixedHexString() + ENTRY_SUFFIX);
+  }
+
+  // The password hash is only authenticated, never stored, so the cache can't be used to check
+  // password guesses without the master key
+  private static byte[] associatedData(
+      final BLSPublicKey publicKey, final Bytes32 keystoreHash, final Bytes32 passwordHash) {
+    return Bytes.concatenate(publicKey.toBytesCompressed(), keystoreHash, passwordHash)
+        .toArrayUnsafe();
+  }
+
+  private static boolean isPosix(final Path path) {
+    return path.getFileSystem().supportedFileAttributeViews().contains("posix");
+  }
+
+  private static void writeOwnerOnly(final Path path, final byte[] content) throws IOException {
+    final Path tempFile = path.resolveSibling(path.getFileName() + ".tmp");
+    Files.deleteIfExists(tempFile);
+    if (isPosix(path)) {
+      Files.createFile(tempFile, PosixFilePermissions.asFileAttribute(OWNER_READ_WRITE));
+    }
+    Files.write(tempFile, content);
+    Files.move(tempFile, path, REPLACE_EXISTING, ATOMIC_MOVE);
+  }
+}
@@ -17,13 +17,15 @@ import com.google.common.annotations.VisibleForTesting;
 import java.net.URL;
 import java.net.http.HttpClient;
 import java.time.Duration;
+import java.util.Optional;
 import java.util.function.Supplier;
-import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.infrastructure.async.ThrottlingTaskQueue;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.signatures.Signer;
 import tech.pegasys.teku.validator.client.signer.ExternalSigner;
+import tech.pegasys.teku.validator.client.signer.ExternalSignerAttestationBatcher;
+import tech.pegasys.teku.validator.client.signer.ExternalSignerMetrics;
 
 class ExternalValidatorProvider implements ValidatorSource.ValidatorProvider {
 
@@ -33,7 +35,8 @@ class ExternalValidatorProvider implements ValidatorSource.ValidatorProvider {
   private final BLSPublicKey publicKey;
   private final Duration externalSignerTimeout;
   private final ThrottlingTaskQueue externalSignerTaskQueue;
-  private final MetricsSystem metricsSystem;
+  private final ExternalSignerMetrics externalSignerMetrics;
+  private final Optional<ExternalSignerAttestationBatcher> attestationBatcher;
   private final boolean readOnly;
 
   ExternalValidatorProvider(
@@ -43,7 +46,8 @@ class ExternalValidatorProvider implements ValidatorSource.ValidatorProvider {
       final BLSPublicKey publicKey,
       final Duration externalSignerTimeout,
       final ThrottlingTaskQueue externalSignerTaskQueue,
-      final MetricsSystem metricsSystem,
+      final ExternalSignerMetrics externalSignerMetrics,
+      final Optional<ExternalSignerAttestationBatcher> attestationBatcher,
       final boolean readOnly) {
     this.spec = spec;
     this.externalSignerHttpClientFactory = externalSignerHttpClientFactory;
@@ -51,7 +55,8 @@ class ExternalValidatorProvider implements ValidatorSource.ValidatorProvider {
     this.publicKey = publicKey;
     this.externalSignerTimeout = externalSignerTimeout;
     this.externalSignerTaskQueue = externalSignerTaskQueue;
-    this.metricsSystem = metricsSystem;
+    this.externalSignerMetrics = externalSignerMetrics;
+    this.attestationBatcher = attestationBatcher;
     this.readOnly = readOnly;
   }
 
@@ -74,7 +79,8 @@ class ExternalValidatorProvider implements ValidatorSource.ValidatorProvider {
         publicKey,
         externalSignerTimeout,
         externalSignerTaskQueue,
-        metricsSystem);
+        externalSignerMetrics,
+        attestationBatcher);
   }
 
   @VisibleForTesting
@@ -31,7 +31,6 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
-import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.signers.bls.keystore.model.KeyStoreData;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
@@ -45,6 +44,8 @@ import tech.pegasys.teku.validator.client.restapi.ValidatorTypes;
 import tech.pegasys.teku.validator.client.restapi.apis.schema.DeleteKeyResult;
 import tech.pegasys.teku.validator.client.restapi.apis.schema.ExternalValidator;
 import tech.pegasys.teku.validator.client.restapi.apis.schema.PostKeyResult;
+import tech.pegasys.teku.validator.client.signer.ExternalSignerAttestationBatcher;
+import tech.pegasys.teku.validator.client.signer.ExternalSignerMetrics;
 import tech.pegasys.teku.validator.client.signer.ExternalSignerStatusLogger;
 import tech.pegasys.teku.validator.client.signer.ExternalSignerUpcheck;
 
@@ -55,8 +56,11 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
   private final Supplier<HttpClient> externalSignerHttpClientFactory;
   private final PublicKeyLoader publicKeyLoader;
   private final ThrottlingTaskQueue externalSignerTaskQueue;
-  private final MetricsSystem metricsSystem;
+  private final ExternalSignerMetrics externalSignerMetrics;
+  private final AsyncRunner asyncRunner;
   private final Map<BLSPublicKey, URL> externalValidatorSourceMap = new ConcurrentHashMap<>();
+  private final Map<String, ExternalSignerAttestationBatcher> attestationBatchers =
+      new ConcurrentHashMap<>();
 
   private ExternalValidatorSource(
       final Spec spec,
@@ -64,7 +68,8 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
       final Supplier<HttpClient> externalSignerHttpClientFactory,
       final PublicKeyLoader publicKeyLoader,
       final ThrottlingTaskQueue externalSignerTaskQueue,
-      final MetricsSystem metricsSystem,
+      final ExternalSignerMetrics externalSignerMetrics,
+      final AsyncRunner asyncRunner,
       final boolean readOnly,
       final Optional<DataDirLayout> maybeDataDirLayout) {
     super(readOnly, maybeDataDirLayout);
@@ -73,12 +78,13 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
     this.externalSignerHttpClientFactory = externalSignerHttpClientFactory;
     this.publicKeyLoader = publicKeyLoader;
     this.externalSignerTaskQueue = externalSignerTaskQueue;
-    this.metricsSystem = metricsSystem;
+    this.externalSignerMetrics = externalSignerMetrics;
+    this.asyncRunner = asyncRunner;
   }
 
   public static ExternalValidatorSource create(
       final Spec spec,
-      final MetricsSystem metricsSystem,
+      final ExternalSignerMetrics externalSignerMetrics,
       final ValidatorConfig config,
       final Supplier<HttpClient> externalSignerHttpClientFactory,
       final PublicKeyLoader publicKeyLoader,
@@ -93,7 +99,8 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
         externalSignerHttpClientFactory,
         publicKeyLoader,
         externalSignerTaskQueue,
-        metricsSystem,
+        externalSignerMetrics,
+        asyncRunner,
         readOnly,
         maybeDataDirLayout);
   }
@@ -122,11 +129,28 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
                     key,
                     config.getValidatorExternalSignerTimeout(),
                     externalSignerTaskQueue,
-                    metricsSystem,
+                    externalSignerMetrics,
+                    getAttestationBatcher(config.getValidatorExternalSignerUrl()),
                     readOnly))
         .collect(toList());
   }
 
+  private Optional<ExternalSignerAttestationBatcher> getAttestationBatcher(final URL signerUrl) {
+    if (!config.isValidatorExternalSignerPipeliningEnabled()) {
+      return Optional.empty();
+    }
+    return Optional.of(
+        attestationBatchers.computeIfAbsent(
+            signerUrl.toString(),
+            __ ->
+                new ExternalSignerAttestationBatcher(
+                    externalSignerHttpClientFactory.get(),
+                    signerUrl,
+                    config.getValidatorExternalSignerTimeout(),
+                    asyncRunner,
+                    externalSignerTaskQueue)));
+  }
+
   private List<File> getValidatorFiles() {
     if (maybeDataDirLayout.isEmpty()) {
       return List.of();
@@ -155,7 +179,8 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
           externalValidator.getPublicKey(),
           config.getValidatorExternalSignerTimeout(),
           externalSignerTaskQueue,
-          metricsSystem,
+          externalSignerMetrics,
+          getAttestationBatcher(externalSignerUrl),
           readOnly);
 
     } catch (IOException e) {
@@ -235,7 +260,8 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
               publicKey,
               config.getValidatorExternalSignerTimeout(),
               externalSignerTaskQueue,
-              metricsSystem,
+              externalSignerMetrics,
+              getAttestationBatcher(url),
               readOnly);
 
       externalValidatorSourceMap.put(publicKey, url);
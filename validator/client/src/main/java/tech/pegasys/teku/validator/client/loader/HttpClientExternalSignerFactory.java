@@ -43,7 +43,13 @@ public class HttpClientExternalSignerFactory implements Supplier<HttpClient> {
 
   @Override
   public HttpClient get() {
-    final HttpClient.Builder builder = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1);
+    // HTTP/2 lets concurrent signing requests share a single connection; the client falls back
+    // to HTTP/1.1 when the signer does not negotiate it
+    final HttpClient.Version version =
+        validatorConfig.isValidatorExternalSignerPipeliningEnabled()
+            ? HttpClient.Version.HTTP_2
+            : HttpClient.Version.HTTP_1_1;
+    final HttpClient.Builder builder = HttpClient.newBuilder().version(version);
     if (isTLSEnabled()) {
       builder.sslContext(
           getSSLContext(
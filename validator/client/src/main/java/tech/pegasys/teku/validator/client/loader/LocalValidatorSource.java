@@ -39,11 +39,11 @@ import tech.pegasys.signers.bls.keystore.model.KeyStoreData;
 import tech.pegasys.teku.bls.BLSKeyPair;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSecretKey;
-import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.exceptions.InvalidConfigurationException;
 import tech.pegasys.teku.service.serviceutils.layout.DataDirLayout;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.signatures.LocalSigner;
+import tech.pegasys.teku.spec.signatures.LocalSigningEngine;
 import tech.pegasys.teku.spec.signatures.Signer;
 import tech.pegasys.teku.validator.api.KeyStoreFilesLocator;
 import tech.pegasys.teku.validator.client.ValidatorClientService;
@@ -56,7 +56,8 @@ public class LocalValidatorSource extends AbstractValidatorSource implements Val
   private final Spec spec;
   private final boolean validatorKeystoreLockingEnabled;
   private final KeystoreLocker keystoreLocker;
-  private final AsyncRunner asyncRunner;
+  private final LocalSigningEngine localSigningEngine;
+  private final Optional<DecryptedKeyCache> decryptedKeyCache;
   private final KeyStoreFilesLocator keyStoreFilesLocator;
   private final Map<BLSPublicKey, ActiveLocalValidatorSource> localValidatorSourceMap =
       new ConcurrentHashMap<>();
@@ -66,14 +67,16 @@ public class LocalValidatorSource extends AbstractValidatorSource implements Val
       final boolean validatorKeystoreLockingEnabled,
       final KeystoreLocker keystoreLocker,
       final KeyStoreFilesLocator keyStoreFilesLocator,
-      final AsyncRunner asyncRunner,
+      final LocalSigningEngine localSigningEngine,
+      final Optional<DecryptedKeyCache> decryptedKeyCache,
       final boolean readOnly,
       final Optional<DataDirLayout> maybeDataDirLayout) {
     super(readOnly, maybeDataDirLayout);
     this.spec = spec;
     this.validatorKeystoreLockingEnabled = validatorKeystoreLockingEnabled;
     this.keystoreLocker = keystoreLocker;
-    this.asyncRunner = asyncRunner;
+    this.localSigningEngine = localSigningEngine;
+    this.decryptedKeyCache = decryptedKeyCache;
     this.keyStoreFilesLocator = keyStoreFilesLocator;
   }
 
@@ -97,6 +100,7 @@ public class LocalValidatorSource extends AbstractValidatorSource implements Val
     final DeleteKeyResult result = source.delete();
     if (result.getStatus() == DeletionStatus.DELETED) {
       keystoreLocker.unlockKeystore(getKeystorePath(publicKey));
+      decryptedKeyCache.ifPresent(cache -> cache.remove(publicKey));
     }
     return result;
   }
@@ -240,7 +244,7 @@ public class LocalValidatorSource extends AbstractValidatorSource implements Val
                 "Keystore declares incorrect public key. Was %s but expected %s",
                 getPublicKey(), keyPair.getPublicKey()));
       }
-      return new LocalSigner(spec, keyPair, asyncRunner);
+      return new LocalSigner(spec, keyPair, localSigningEngine);
     }
 
     private Bytes32 loadBLSPrivateKey() {
@@ -248,7 +252,9 @@ public class LocalValidatorSource extends AbstractValidatorSource implements Val
         if (validatorKeystoreLockingEnabled) {
           keystoreLocker.lockKeystore(keystoreFile);
         }
-        return Bytes32.wrap(KeyStore.decrypt(password, keyStoreData));
+        return decryptedKeyCache
+            .map(cache -> cache.getOrDecrypt(keystoreFile, password, publicKey, this::decrypt))
+            .orElseGet(this::decrypt);
       } catch (final KeyStoreValidationException e) {
         keystoreLocker.unlockKeystore(keystoreFile);
         throw new InvalidConfigurationException(
@@ -256,6 +262,10 @@ public class LocalValidatorSource extends AbstractValidatorSource implements Val
       }
     }
 
+    private Bytes32 decrypt() {
+      return Bytes32.wrap(KeyStore.decrypt(password, keyStoreData));
+    }
+
     @Override
     public String toString() {
       return MoreObjects.toStringHelper(this)
@@ -24,10 +24,10 @@ import org.apache.logging.log4j.Logger;
 import tech.pegasys.signers.bls.keystore.model.KeyStoreData;
 import tech.pegasys.teku.bls.BLSKeyPair;
 import tech.pegasys.teku.bls.BLSPublicKey;
-import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.interop.MockStartValidatorKeyPairFactory;
 import tech.pegasys.teku.spec.signatures.LocalSigner;
+import tech.pegasys.teku.spec.signatures.LocalSigningEngine;
 import tech.pegasys.teku.spec.signatures.Signer;
 import tech.pegasys.teku.validator.api.InteropConfig;
 import tech.pegasys.teku.validator.client.restapi.apis.schema.DeleteKeyResult;
@@ -36,13 +36,13 @@ public class MockStartValidatorSource implements ValidatorSource {
   private static final Logger LOG = LogManager.getLogger();
   private final Spec spec;
   private final InteropConfig config;
-  private final AsyncRunner asyncRunner;
+  private final LocalSigningEngine localSigningEngine;
 
   public MockStartValidatorSource(
-      final Spec spec, final InteropConfig config, final AsyncRunner asyncRunner) {
+      final Spec spec, final InteropConfig config, final LocalSigningEngine localSigningEngine) {
     this.spec = spec;
     this.config = config;
-    this.asyncRunner = asyncRunner;
+    this.localSigningEngine = localSigningEngine;
   }
 
   @Override
@@ -96,7 +96,7 @@ public class MockStartValidatorSource implements ValidatorSource {
 
     @Override
     public Signer createSigner() {
-      return new LocalSigner(spec, keyPair, asyncRunner);
+      return new LocalSigner(spec, keyPair, localSigningEngine);
     }
   }
 }
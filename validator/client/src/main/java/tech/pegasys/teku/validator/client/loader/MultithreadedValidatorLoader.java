@@ -37,7 +37,8 @@ import tech.pegasys.teku.validator.client.loader.ValidatorSource.ValidatorProvid
  * available memory would be exhausted resulting in a crash with `OutOfMemoryError`.
  *
  * <p>Progress is reported to the logs to keep the user informed as loading a large number of keys
- * can be slow.
+ * can be slow. Enabling the {@link DecryptedKeyCache} avoids most of this cost on restart as only
+ * keystores which have changed since they were cached need to be decrypted.
  */
 public class MultithreadedValidatorLoader {
 
@@ -14,6 +14,7 @@
 package tech.pegasys.teku.validator.client.loader;
 
 import java.io.File;
+import java.io.IOException;
 import java.net.http.HttpClient;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -25,14 +26,18 @@ import org.apache.logging.log4j.Logger;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.ThrottlingTaskQueue;
+import tech.pegasys.teku.infrastructure.exceptions.InvalidConfigurationException;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.service.serviceutils.layout.DataDirLayout;
 import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.signatures.LocalSigningEngine;
 import tech.pegasys.teku.spec.signatures.SlashingProtector;
 import tech.pegasys.teku.validator.api.InteropConfig;
 import tech.pegasys.teku.validator.api.KeyStoreFilesLocator;
 import tech.pegasys.teku.validator.api.ValidatorConfig;
 import tech.pegasys.teku.validator.client.ValidatorClientService;
+import tech.pegasys.teku.validator.client.signer.BatchingLocalSigningEngine;
+import tech.pegasys.teku.validator.client.signer.ExternalSignerMetrics;
 
 /**
  * ValidatorSourceFactory creates the validator sources that control loading, and sometimes removal,
@@ -69,11 +74,14 @@ public class ValidatorSourceFactory {
   private final SlashingProtector slashingProtector;
   private final PublicKeyLoader publicKeyLoader;
   private final AsyncRunner asyncRunner;
+  private final LocalSigningEngine localSigningEngine;
+  private final Optional<DecryptedKeyCache> decryptedKeyCache;
   private final MetricsSystem metricsSystem;
   private final Optional<DataDirLayout> maybeDataDir;
   private Optional<ValidatorSource> mutableLocalValidatorSource = Optional.empty();
   private Optional<ValidatorSource> mutableExternalValidatorSource = Optional.empty();
   private ThrottlingTaskQueue externalSignerTaskQueue;
+  private ExternalSignerMetrics externalSignerMetrics;
 
   public ValidatorSourceFactory(
       final Spec spec,
@@ -92,15 +100,34 @@ public class ValidatorSourceFactory {
     this.slashingProtector = slashingProtector;
     this.publicKeyLoader = publicKeyLoader;
     this.asyncRunner = asyncRunner;
+    this.localSigningEngine =
+        config.isBatchedLocalSigningEnabled()
+            ? BatchingLocalSigningEngine.create(metricsSystem)
+            : LocalSigningEngine.create(asyncRunner);
+    this.decryptedKeyCache =
+        config.isDecryptedKeyCacheEnabled()
+            ? maybeDataDir.map(ValidatorSourceFactory::openDecryptedKeyCache)
+            : Optional.empty();
     this.metricsSystem = metricsSystem;
     this.maybeDataDir = maybeDataDir;
   }
 
+  private static DecryptedKeyCache openDecryptedKeyCache(final DataDirLayout dataDirLayout) {
+    final Path cachePath = ValidatorClientService.getDecryptedKeyCachePath(dataDirLayout);
+    try {
+      return DecryptedKeyCache.create(cachePath);
+    } catch (final IOException e) {
+      throw new InvalidConfigurationException(
+          "Unable to open decrypted key cache at " + cachePath + ": " + e.getMessage(), e);
+    }
+  }
+
   public List<ValidatorSource> createValidatorSources() {
     final List<ValidatorSource> validatorSources = new ArrayList<>();
     if (interopConfig.isInteropEnabled()) {
       validatorSources.add(
-          slashingProtected(new MockStartValidatorSource(spec, interopConfig, asyncRunner)));
+          slashingProtected(
+              new MockStartValidatorSource(spec, interopConfig, localSigningEngine)));
     } else {
       addExternalValidatorSource().ifPresent(validatorSources::add);
       addLocalValidatorSource().ifPresent(validatorSources::add);
@@ -142,7 +169,8 @@ public class ValidatorSourceFactory {
             config.isValidatorKeystoreLockingEnabled(),
             new KeystoreLocker(),
             keyStoreFilesLocator,
-            asyncRunner,
+            localSigningEngine,
+            decryptedKeyCache,
             false,
             maybeDataDir);
     mutableLocalValidatorSource = Optional.of(slashingProtected(localValidatorSource));
@@ -157,7 +185,7 @@ public class ValidatorSourceFactory {
     final ExternalValidatorSource externalValidatorSource =
         ExternalValidatorSource.create(
             spec,
-            metricsSystem,
+            initializeExternalSignerMetrics(),
             config,
             externalSignerHttpClientFactory,
             publicKeyLoader,
@@ -186,7 +214,8 @@ public class ValidatorSourceFactory {
                 config.isValidatorKeystoreLockingEnabled(),
                 new KeystoreLocker(),
                 keyStoreFilesLocator,
-                asyncRunner,
+                localSigningEngine,
+                decryptedKeyCache,
                 true,
                 maybeDataDir)));
   }
@@ -199,7 +228,7 @@ public class ValidatorSourceFactory {
     final ValidatorSource externalValidatorSource =
         ExternalValidatorSource.create(
             spec,
-            metricsSystem,
+            initializeExternalSignerMetrics(),
             config,
             externalSignerHttpClientFactory,
             publicKeyLoader,
@@ -229,4 +258,12 @@ public class ValidatorSourceFactory {
 
     return externalSignerTaskQueue;
   }
+
+  private ExternalSignerMetrics initializeExternalSignerMetrics() {
+    if (externalSignerMetrics == null) {
+      externalSignerMetrics = new ExternalSignerMetrics(metricsSystem);
+    }
+
+    return externalSignerMetrics;
+  }
 }
@@ -0,0 +1,198 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client.signer;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import tech.pegasys.teku.bls.BLS;
+import tech.pegasys.teku.bls.BLSSecretKey;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.bls.HashedMessage;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.spec.signatures.LocalSigningEngine;
+
+/**
+ * Signs requests from all local validators on a dedicated pool, batching requests which arrive
+ * together.
+ *
+ * <p>Duties for a slot request their signatures at almost the same time and most of them share a
+ * signing root: every member of a committee signs the same attestation data and every sync
+ * committee member signs the same block root. Requests are queued and drained in batches grouped
+ * by signing root, so each distinct root is hashed to the curve once and then signed with every
+ * requesting key. The batch is spread across the pool's threads, splitting large groups and
+ * packing small ones together.
+ */
+public class BatchingLocalSigningEngine implements LocalSigningEngine {
+  static final int MIN_SIGNATURES_PER_TASK = 16;
+
+  private final Executor executor;
+  private final int parallelism;
+  private final Queue<SigningRequest> pendingRequests = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+
+  private final MetricsHistogram signingLatency;
+  private final Counter signingRootsCounter;
+  private final Counter signaturesCounter;
+
+  @VisibleForTesting
+  BatchingLocalSigningEngine(
+      final Executor executor, final int parallelism, final MetricsSystem metricsSystem) {
+    this.executor = executor;
+    this.parallelism = parallelism;
+    this.signingLatency =
+        MetricsHistogram.create(
+            TekuMetricCategory.VALIDATOR,
+            metricsSystem,
+            "local_signing_latency_milliseconds",
+            "Time from requesting a local signature until it is produced, by duty type",
+            1,
+            List.of("duty_type"));
+    this.signingRootsCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.VALIDATOR,
+            "local_signing_roots_hashed_total",
+            "Number of distinct signing roots hashed to the curve for local signing");
+    this.signaturesCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.VALIDATOR,
+            "local_signatures_total",
+            "Number of signatures produced for local validators");
+  }
+
+  public static BatchingLocalSigningEngine create(final MetricsSystem metricsSystem) {
+    final int parallelism = Runtime.getRuntime().availableProcessors();
+    return new BatchingLocalSigningEngine(
+        Executors.newFixedThreadPool(
+            parallelism,
+            new ThreadFactoryBuilder()
+                .setNameFormat("local-signer-%d")
+                .setDaemon(true)
+                .setPriority(Thread.MAX_PRIORITY)
+                .build()),
+        parallelism,
+        metricsSystem);
+  }
+
+  @Override
+  public SafeFuture<BLSSignature> sign(
+      final BLSSecretKey secretKey, final Bytes signingRoot, final DutyType dutyType) {
+    final SigningRequest request = new SigningRequest(secretKey, signingRoot, dutyType);
+    pendingRequests.add(request);
+    if (drainScheduled.compareAndSet(false, true)) {
+      executor.execute(this::drainPendingRequests);
+    }
+    return request.result;
+  }
+
+  private void drainPendingRequests() {
+    // Clear the flag before draining so a request added while draining schedules another pass
+    drainScheduled.set(false);
+    final Map<Bytes, List<SigningRequest>> requestsBySigningRoot = new LinkedHashMap<>();
+    SigningRequest request;
+    while ((request = pendingRequests.poll()) != null) {
+      requestsBySigningRoot
+          .computeIfAbsent(request.signingRoot, __ -> new ArrayList<>())
+          .add(request);
+    }
+
+    // Lay the groups out one after another, sharing a single lazily hashed message per root, so
+    // chunks can split a large group or cover several small ones
+    final List<SigningTask> tasks = new ArrayList<>();
+    requestsBySigningRoot.forEach(
+        (signingRoot, requests) -> {
+          final Supplier<HashedMessage> hashedMessage =
+              Suppliers.memoize(() -> hashMessage(signingRoot));
+          requests.forEach(groupRequest -> tasks.add(new SigningTask(groupRequest, hashedMessage)));
+        });
+    if (tasks.isEmpty()) {
+      return;
+    }
+
+    final int chunkSize =
+        Math.max(MIN_SIGNATURES_PER_TASK, (tasks.size() + parallelism - 1) / parallelism);
+    // Hand all but the last chunk to other threads and sign the last one on this thread
+    int start = 0;
+    while (start + chunkSize < tasks.size()) {
+      final List<SigningTask> chunk = tasks.subList(start, start + chunkSize);
+      executor.execute(() -> signAll(chunk));
+      start += chunkSize;
+    }
+    signAll(tasks.subList(start, tasks.size()));
+  }
+
+  private HashedMessage hashMessage(final Bytes signingRoot) {
+    final HashedMessage hashedMessage = BLS.hashMessage(signingRoot);
+    signingRootsCounter.inc();
+    return hashedMessage;
+  }
+
+  private void signAll(final List<SigningTask> tasks) {
+    for (SigningTask task : tasks) {
+      final SigningRequest request = task.request;
+      try {
+        final BLSSignature signature = BLS.sign(request.secretKey, task.hashedMessage.get());
+        signaturesCounter.inc();
+        signingLatency.recordValue(
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - request.createdNanos),
+            request.dutyType.name().toLowerCase(Locale.ROOT));
+        request.result.complete(signature);
+      } catch (final RuntimeException e) {
+        request.result.completeExceptionally(e);
+      }
+    }
+  }
+
+  private static class SigningTask {
+    private final SigningRequest request;
+    private final Supplier<HashedMessage> hashedMessage;
+
+    private SigningTask(final SigningRequest request, final Supplier<HashedMessage> hashedMessage) {
+      this.request = request;
+      this.hashedMessage = hashedMessage;
+    }
+  }
+
+  private static class SigningRequest {
+    private final BLSSecretKey secretKey;
+    private final Bytes signingRoot;
+    private final DutyType dutyType;
+    private final long createdNanos = System.nanoTime();
+    private final SafeFuture<BLSSignature> result = new SafeFuture<>();
+
+    private SigningRequest(
+        final BLSSecretKey secretKey, final Bytes signingRoot, final DutyType dutyType) {
+      this.secretKey = secretKey;
+      this.signingRoot = signingRoot;
+      this.dutyType = dutyType;
+    }
+  }
+}
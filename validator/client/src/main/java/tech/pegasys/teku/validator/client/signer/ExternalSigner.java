@@ -17,8 +17,8 @@ import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_PRECONDITION_FAILED;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.util.RawValue;
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.base.Throwables;
 import java.net.URI;
 import java.net.URL;
 import java.net.http.HttpClient;
@@ -26,23 +26,20 @@ import java.net.http.HttpRequest;
 import java.net.http.HttpRequest.BodyPublishers;
 import java.net.http.HttpResponse;
 import java.net.http.HttpResponse.BodyHandlers;
-import java.net.http.HttpTimeoutException;
 import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
-import org.hyperledger.besu.plugin.services.metrics.Counter;
-import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import tech.pegasys.teku.api.schema.Fork;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.async.ThrottlingTaskQueue;
-import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.provider.JsonProvider;
 import tech.pegasys.teku.spec.Spec;
@@ -61,6 +58,7 @@ import tech.pegasys.teku.spec.signatures.SigningRootUtil;
 public class ExternalSigner implements Signer {
   public static final String EXTERNAL_SIGNER_ENDPOINT = "/api/v1/eth2/sign";
   private static final String FORK_INFO = "fork_info";
+  private static final int MAX_CACHED_FORK_INFOS = 16;
   private final JsonProvider jsonProvider = new JsonProvider();
   private final URL signingServiceUrl;
   private final BLSPublicKey blsPublicKey;
@@ -69,10 +67,10 @@ public class ExternalSigner implements Signer {
   private final HttpClient httpClient;
   private final ThrottlingTaskQueue taskQueue;
   private final SigningRootUtil signingRootUtil;
-
-  private final Counter successCounter;
-  private final Counter failedCounter;
-  private final Counter timeoutCounter;
+  private final ExternalSignerMetrics metrics;
+  private final Optional<ExternalSignerAttestationBatcher> attestationBatcher;
+  // The serialized fork_info only changes at a fork so is reused across signing requests
+  private final Map<ForkInfo, RawValue> forkInfoJson = new ConcurrentHashMap<>();
 
   public ExternalSigner(
       final Spec spec,
@@ -82,6 +80,26 @@ public class ExternalSigner implements Signer {
       final Duration timeout,
       final ThrottlingTaskQueue taskQueue,
       final MetricsSystem metricsSystem) {
+    this(
+        spec,
+        httpClient,
+        signingServiceUrl,
+        blsPublicKey,
+        timeout,
+        taskQueue,
+        new ExternalSignerMetrics(metricsSystem),
+        Optional.empty());
+  }
+
+  public ExternalSigner(
+      final Spec spec,
+      final HttpClient httpClient,
+      final URL signingServiceUrl,
+      final BLSPublicKey blsPublicKey,
+      final Duration timeout,
+      final ThrottlingTaskQueue taskQueue,
+      final ExternalSignerMetrics metrics,
+      final Optional<ExternalSignerAttestationBatcher> attestationBatcher) {
     this.spec = spec;
     this.httpClient = httpClient;
     this.signingServiceUrl = signingServiceUrl;
@@ -89,16 +107,8 @@ public class ExternalSigner implements Signer {
     this.timeout = timeout;
     this.taskQueue = taskQueue;
     this.signingRootUtil = new SigningRootUtil(spec);
-
-    final LabelledMetric<Counter> labelledCounter =
-        metricsSystem.createLabelledCounter(
-            TekuMetricCategory.VALIDATOR,
-            "external_signer_requests",
-            "Completed external signer counts",
-            "result");
-    successCounter = labelledCounter.labels("success");
-    failedCounter = labelledCounter.labels("failed");
-    timeoutCounter = labelledCounter.labels("timeout");
+    this.metrics = metrics;
+    this.attestationBatcher = attestationBatcher;
   }
 
   @Override
@@ -128,27 +138,45 @@ public class ExternalSigner implements Signer {
   @Override
   public SafeFuture<BLSSignature> signAttestationData(
       final AttestationData attestationData, final ForkInfo forkInfo) {
-    return sign(
-        signingRootUtil.signingRootForSignAttestationData(attestationData, forkInfo),
-        SignType.ATTESTATION,
+    final Bytes signingRoot =
+        signingRootUtil.signingRootForSignAttestationData(attestationData, forkInfo);
+    final Map<String, Object> metadata =
         Map.of(
             "attestation",
             new tech.pegasys.teku.api.schema.AttestationData(attestationData),
             FORK_INFO,
-            forkInfo(forkInfo)),
-        slashableAttestationMessage(attestationData));
+            forkInfo(forkInfo));
+    final Supplier<String> slashableMessage = slashableAttestationMessage(attestationData);
+    return attestationBatcher
+        .map(
+            batcher ->
+                signAttestationInBatch(
+                    batcher, attestationData.getSlot(), signingRoot, metadata, slashableMessage))
+        .orElseGet(() -> sign(signingRoot, SignType.ATTESTATION, metadata, slashableMessage));
   }
 
-  private void recordMetrics(final BLSSignature result, final Throwable error) {
-    if (error != null) {
-      if (Throwables.getRootCause(error) instanceof HttpTimeoutException) {
-        timeoutCounter.inc();
-      } else {
-        failedCounter.inc();
-      }
-    } else {
-      successCounter.inc();
-    }
+  private SafeFuture<BLSSignature> signAttestationInBatch(
+      final ExternalSignerAttestationBatcher batcher,
+      final UInt64 slot,
+      final Bytes signingRoot,
+      final Map<String, Object> metadata,
+      final Supplier<String> slashableMessage) {
+    return metrics.record(
+        SignType.ATTESTATION,
+        () ->
+            SafeFuture.of(
+                () ->
+                    batcher.sign(
+                        slot,
+                        getPublicKeyHex(),
+                        createSigningRequestBody(signingRoot, SignType.ATTESTATION, metadata),
+                        slashableMessage,
+                        () ->
+                            sendSigningRequest(
+                                signingRoot,
+                                SignType.ATTESTATION,
+                                metadata,
+                                slashableMessage))));
   }
 
   @Override
@@ -284,12 +312,33 @@ public class ExternalSigner implements Signer {
     return SafeFuture.of(() -> createSigningRoot.apply(spec.getSyncCommitteeUtilRequired(slot)));
   }
 
-  private Map<String, Object> forkInfo(final ForkInfo forkInfo) {
-    return Map.of(
-        "fork",
-        new Fork(forkInfo.getFork()),
-        "genesis_validators_root",
-        forkInfo.getGenesisValidatorsRoot());
+  private Object forkInfo(final ForkInfo forkInfo) {
+    final RawValue cached = forkInfoJson.get(forkInfo);
+    if (cached != null) {
+      return cached;
+    }
+    if (forkInfoJson.size() >= MAX_CACHED_FORK_INFOS) {
+      forkInfoJson.clear();
+    }
+    return forkInfoJson.computeIfAbsent(forkInfo, this::serializeForkInfo);
+  }
+
+  private RawValue serializeForkInfo(final ForkInfo forkInfo) {
+    try {
+      return new RawValue(
+          jsonProvider.objectToJSON(
+              Map.of(
+                  "fork",
+                  new Fork(forkInfo.getFork()),
+                  "genesis_validators_root",
+                  forkInfo.getGenesisValidatorsRoot())));
+    } catch (final JsonProcessingException e) {
+      throw new ExternalSignerException("Unable to create external signing request", e);
+    }
+  }
+
+  private String getPublicKeyHex() {
+    return blsPublicKey.toBytesCompressed().toString();
   }
 
   private SafeFuture<BLSSignature> sign(
@@ -297,7 +346,16 @@ public class ExternalSigner implements Signer {
       final SignType type,
       final Map<String, Object> metadata,
       final Supplier<String> slashableMessage) {
-    final String publicKey = blsPublicKey.toBytesCompressed().toString();
+    return metrics.record(
+        type, () -> sendSigningRequest(signingRoot, type, metadata, slashableMessage));
+  }
+
+  private SafeFuture<BLSSignature> sendSigningRequest(
+      final Bytes signingRoot,
+      final SignType type,
+      final Map<String, Object> metadata,
+      final Supplier<String> slashableMessage) {
+    final String publicKey = getPublicKeyHex();
     return SafeFuture.of(
             () -> {
               final String requestBody = createSigningRequestBody(signingRoot, type, metadata);
@@ -314,8 +372,7 @@ public class ExternalSigner implements Signer {
                   .sendAsync(request, BodyHandlers.ofString())
                   .handleAsync(
                       (response, error) -> this.getBlsSignature(response, error, slashableMessage));
-            })
-        .whenComplete(this::recordMetrics);
+            });
   }
 
   private String createSigningRequestBody(
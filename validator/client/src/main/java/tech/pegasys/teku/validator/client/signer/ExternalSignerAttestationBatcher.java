@@ -0,0 +1,354 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client.signer;
+
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_FOUND;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_PRECONDITION_FAILED;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.google.common.annotations.VisibleForTesting;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.ThrottlingTaskQueue;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.provider.JsonProvider;
+
+/**
+ * Coalesces the attestation signing requests sent to an external signer for a slot into bulk
+ * requests.
+ *
+ * <p>Every validator attests at the same point in the slot, so their signing requests arrive
+ * together. Signers that support bulk signing report {@code "bulk_sign": true} from {@link
+ * #CAPABILITIES_ENDPOINT}. Requests for the same slot that arrive within {@link #BATCH_WINDOW} are
+ * then posted to {@link #BULK_SIGN_ENDPOINT} as a JSON array of {@code {"identifier": <public
+ * key>, "request": <signing request>}} objects and the signer replies with an array of the same
+ * length, in the same order, of {@code {"signature": <signature>}} or {@code {"status": <http
+ * status>}} objects. Without bulk support, or if the signer rejects the bulk endpoint, each
+ * request is sent to the signer individually.
+ *
+ * <p>Bulk requests share the signer's {@link ThrottlingTaskQueue} with other requests and their
+ * timeout grows by the configured request timeout for every {@link #SIGNATURES_PER_TIMEOUT}
+ * signatures they carry.
+ */
+public class ExternalSignerAttestationBatcher {
+  public static final String CAPABILITIES_ENDPOINT = "/api/v1/eth2/capabilities";
+  public static final String BULK_SIGN_ENDPOINT = "/api/v1/eth2/sign/bulk";
+  static final Duration BATCH_WINDOW = Duration.ofMillis(5);
+  static final int MAX_BATCH_SIZE = 1024;
+  static final int SIGNATURES_PER_TIMEOUT = 128;
+
+  private static final Logger LOG = LogManager.getLogger();
+  private static final int SC_METHOD_NOT_ALLOWED = 405;
+  private static final int SC_NOT_IMPLEMENTED = 501;
+
+  private final JsonProvider jsonProvider = new JsonProvider();
+  private final HttpClient httpClient;
+  private final URL signingServiceUrl;
+  private final Duration timeout;
+  private final AsyncRunner asyncRunner;
+  private final ThrottlingTaskQueue taskQueue;
+
+  private final AtomicReference<SafeFuture<Boolean>> bulkSigningSupported =
+      new AtomicReference<>();
+
+  // guarded by this
+  private final Map<UInt64, List<PendingRequest>> pendingRequestsBySlot = new HashMap<>();
+
+  public ExternalSignerAttestationBatcher(
+      final HttpClient httpClient,
+      final URL signingServiceUrl,
+      final Duration timeout,
+      final AsyncRunner asyncRunner,
+      final ThrottlingTaskQueue taskQueue) {
+    this.httpClient = httpClient;
+    this.signingServiceUrl = signingServiceUrl;
+    this.timeout = timeout;
+    this.asyncRunner = asyncRunner;
+    this.taskQueue = taskQueue;
+  }
+
+  /**
+   * Requests an attestation signature, as part of a bulk request if the signer supports them.
+   *
+   * @param slot the slot of the attestation being signed
+   * @param publicKey the public key of the validator, as sent to the signer
+   * @param requestBody the JSON signing request that would be sent for this attestation alone
+   * @param slashableMessage the error message to use if the signer refuses to sign
+   * @param individualRequest sends the signing request on its own
+   * @return the signature
+   */
+  public SafeFuture<BLSSignature> sign(
+      final UInt64 slot,
+      final String publicKey,
+      final String requestBody,
+      final Supplier<String> slashableMessage,
+      final Supplier<SafeFuture<BLSSignature>> individualRequest) {
+    return isBulkSigningSupported()
+        .thenCompose(
+            supported -> {
+              if (!supported) {
+                return individualRequest.get();
+              }
+              final PendingRequest request =
+                  new PendingRequest(publicKey, requestBody, slashableMessage, individualRequest);
+              enqueue(slot, request);
+              return request.result;
+            });
+  }
+
+  private void enqueue(final UInt64 slot, final PendingRequest request) {
+    final boolean scheduleFlush;
+    List<PendingRequest> fullBatch = null;
+    synchronized (this) {
+      final List<PendingRequest> batch =
+          pendingRequestsBySlot.computeIfAbsent(slot, __ -> new ArrayList<>());
+      batch.add(request);
+      scheduleFlush = batch.size() == 1;
+      if (batch.size() >= MAX_BATCH_SIZE) {
+        fullBatch = pendingRequestsBySlot.remove(slot);
+      }
+    }
+    if (fullBatch != null) {
+      sendBatch(fullBatch);
+    } else if (scheduleFlush) {
+      asyncRunner
+          .runAfterDelay(() -> flush(slot), BATCH_WINDOW)
+          .finish(error -> LOG.error("Failed to send bulk signing request", error));
+    }
+  }
+
+  private void flush(final UInt64 slot) {
+    final List<PendingRequest> batch;
+    synchronized (this) {
+      batch = pendingRequestsBySlot.remove(slot);
+    }
+    if (batch != null) {
+      sendBatch(batch);
+    }
+  }
+
+  @VisibleForTesting
+  SafeFuture<Boolean> isBulkSigningSupported() {
+    final SafeFuture<Boolean> current = bulkSigningSupported.get();
+    if (current != null) {
+      return current;
+    }
+    final SafeFuture<Boolean> query = new SafeFuture<>();
+    if (!bulkSigningSupported.compareAndSet(null, query)) {
+      return bulkSigningSupported.get();
+    }
+    queryCapabilities()
+        .exceptionally(
+            error -> {
+              // Signer unavailable, check again on the next request
+              LOG.debug("Unable to query external signer capabilities", error);
+              bulkSigningSupported.compareAndSet(query, null);
+              return false;
+            })
+        .propagateTo(query);
+    return query;
+  }
+
+  private SafeFuture<Boolean> queryCapabilities() {
+    return SafeFuture.of(
+            () ->
+                httpClient.sendAsync(
+                    HttpRequest.newBuilder()
+                        .uri(resolve(CAPABILITIES_ENDPOINT))
+                        .timeout(timeout)
+                        .GET()
+                        .build(),
+                    BodyHandlers.ofString()))
+        .thenApplyChecked(
+            response -> {
+              if (response.statusCode() != SC_OK) {
+                return false;
+              }
+              final boolean supported =
+                  jsonProvider
+                      .getObjectMapper()
+                      .readTree(response.body())
+                      .path("bulk_sign")
+                      .asBoolean(false);
+              if (supported) {
+                LOG.info("External signer {} supports bulk signing requests", signingServiceUrl);
+              }
+              return supported;
+            });
+  }
+
+  private void sendBatch(final List<PendingRequest> batch) {
+    taskQueue
+        .queueTask(
+            () ->
+                SafeFuture.of(
+                    () ->
+                        httpClient.sendAsync(
+                            HttpRequest.newBuilder()
+                                .uri(resolve(BULK_SIGN_ENDPOINT))
+                                .timeout(getBulkRequestTimeout(timeout, batch.size()))
+                                .header("Content-Type", "application/json")
+                                .POST(BodyPublishers.ofString(createBulkRequestBody(batch)))
+                                .build(),
+                            BodyHandlers.ofString())))
+        .finish(
+            response -> handleBulkResponse(batch, response),
+            error -> {
+              final ExternalSignerException exception =
+                  new ExternalSignerException(
+                      "External signer ("
+                          + signingServiceUrl
+                          + ") failed to sign due to "
+                          + error.getMessage(),
+                      error);
+              batch.forEach(request -> request.result.completeExceptionally(exception));
+            });
+  }
+
+  @VisibleForTesting
+  static Duration getBulkRequestTimeout(final Duration timeout, final int batchSize) {
+    final int timeoutMultiple =
+        Math.max(1, (batchSize + SIGNATURES_PER_TIMEOUT - 1) / SIGNATURES_PER_TIMEOUT);
+    return timeout.multipliedBy(timeoutMultiple);
+  }
+
+  private String createBulkRequestBody(final List<PendingRequest> batch)
+      throws JsonProcessingException {
+    final List<Map<String, Object>> requests = new ArrayList<>(batch.size());
+    for (PendingRequest request : batch) {
+      requests.add(
+          Map.of("identifier", request.publicKey, "request", new RawValue(request.requestBody)));
+    }
+    return jsonProvider.objectToJSON(requests);
+  }
+
+  private void handleBulkResponse(
+      final List<PendingRequest> batch, final HttpResponse<String> response) {
+    final int statusCode = response.statusCode();
+    if (statusCode == SC_NOT_FOUND
+        || statusCode == SC_METHOD_NOT_ALLOWED
+        || statusCode == SC_NOT_IMPLEMENTED) {
+      LOG.warn(
+          "External signer {} rejected bulk signing request with status {}. "
+              + "Sending signing requests individually.",
+          signingServiceUrl,
+          statusCode);
+      bulkSigningSupported.set(SafeFuture.completedFuture(false));
+      batch.forEach(request -> request.individualRequest.get().propagateTo(request.result));
+      return;
+    }
+
+    if (statusCode != SC_OK) {
+      final ExternalSignerException exception =
+          new ExternalSignerException(
+              "External signer failed to sign and returned invalid response status code: "
+                  + statusCode);
+      batch.forEach(request -> request.result.completeExceptionally(exception));
+      return;
+    }
+
+    final JsonNode results;
+    try {
+      results = jsonProvider.getObjectMapper().readTree(response.body());
+    } catch (final JsonProcessingException e) {
+      failAll(batch, "External signer returned an invalid bulk response: " + e.getMessage());
+      return;
+    }
+    if (!results.isArray() || results.size() != batch.size()) {
+      failAll(
+          batch,
+          "External signer returned "
+              + results.size()
+              + " results for a bulk request of "
+              + batch.size());
+      return;
+    }
+    for (int i = 0; i < batch.size(); i++) {
+      completeRequest(batch.get(i), results.get(i));
+    }
+  }
+
+  private void completeRequest(final PendingRequest request, final JsonNode result) {
+    final int status = result.path("status").asInt(SC_OK);
+    if (status == SC_PRECONDITION_FAILED) {
+      request.result.completeExceptionally(
+          new ExternalSignerException(request.slashableMessage.get()));
+    } else if (status != SC_OK) {
+      request.result.completeExceptionally(
+          new ExternalSignerException(
+              "External signer failed to sign and returned invalid response status code: "
+                  + status));
+    } else {
+      try {
+        request.result.complete(
+            BLSSignature.fromBytesCompressed(
+                Bytes.fromHexString(result.path("signature").asText())));
+      } catch (final IllegalArgumentException e) {
+        request.result.completeExceptionally(
+            new ExternalSignerException(
+                "External signer returned an invalid signature: " + e.getMessage(), e));
+      }
+    }
+  }
+
+  private void failAll(final List<PendingRequest> batch, final String message) {
+    final ExternalSignerException exception = new ExternalSignerException(message);
+    batch.forEach(request -> request.result.completeExceptionally(exception));
+  }
+
+  private URI resolve(final String endpoint) throws URISyntaxException {
+    return signingServiceUrl.toURI().resolve(endpoint);
+  }
+
+  private static class PendingRequest {
+    private final String publicKey;
+    private final String requestBody;
+    private final Supplier<String> slashableMessage;
+    private final Supplier<SafeFuture<BLSSignature>> individualRequest;
+    private final SafeFuture<BLSSignature> result = new SafeFuture<>();
+
+    private PendingRequest(
+        final String publicKey,
+        final String requestBody,
+        final Supplier<String> slashableMessage,
+        final Supplier<SafeFuture<BLSSignature>> individualRequest) {
+      this.publicKey = publicKey;
+      this.requestBody = requestBody;
+      this.slashableMessage = slashableMessage;
+      this.individualRequest = individualRequest;
+    }
+  }
+}
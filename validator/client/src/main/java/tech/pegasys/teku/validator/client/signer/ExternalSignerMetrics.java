@@ -0,0 +1,81 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client.signer;
+
+import com.google.common.base.Throwables;
+import java.net.http.HttpTimeoutException;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+
+/**
+ * Metrics for requests made to an external signer. A single instance should be shared by all
+ * external signers as the latency histogram can only be registered once.
+ */
+public class ExternalSignerMetrics {
+  private final Counter successCounter;
+  private final Counter failedCounter;
+  private final Counter timeoutCounter;
+  private final MetricsHistogram requestLatency;
+
+  public ExternalSignerMetrics(final MetricsSystem metricsSystem) {
+    final LabelledMetric<Counter> labelledCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.VALIDATOR,
+            "external_signer_requests",
+            "Completed external signer counts",
+            "result");
+    successCounter = labelledCounter.labels("success");
+    failedCounter = labelledCounter.labels("failed");
+    timeoutCounter = labelledCounter.labels("timeout");
+    requestLatency =
+        MetricsHistogram.create(
+            TekuMetricCategory.VALIDATOR,
+            metricsSystem,
+            "external_signer_request_latency_milliseconds",
+            "Time from requesting a signature from the external signer until it is returned",
+            1,
+            List.of("type"));
+  }
+
+  SafeFuture<BLSSignature> record(
+      final SignType type, final Supplier<SafeFuture<BLSSignature>> request) {
+    final long startNanos = System.nanoTime();
+    return request
+        .get()
+        .whenComplete(
+            (result, error) -> {
+              requestLatency.recordValue(
+                  TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos),
+                  type.name().toLowerCase(Locale.ROOT));
+              if (error != null) {
+                if (Throwables.getRootCause(error) instanceof HttpTimeoutException) {
+                  timeoutCounter.inc();
+                } else {
+                  failedCounter.inc();
+                }
+              } else {
+                successCounter.inc();
+              }
+            });
+  }
+}
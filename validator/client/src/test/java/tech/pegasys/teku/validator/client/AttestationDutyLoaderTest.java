@@ -17,6 +17,7 @@ import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -83,6 +84,8 @@ class AttestationDutyLoaderTest {
     when(validatorIndexProvider.getValidatorIndices())
         .thenReturn(SafeFuture.completedFuture(VALIDATOR_INDICES));
     when(forkProvider.getForkInfo(any())).thenReturn(SafeFuture.completedFuture(forkInfo));
+    when(beaconCommitteeSubscriptions.subscribeToBeaconCommittee(any()))
+        .thenReturn(SafeFuture.COMPLETE);
   }
 
   @Test
@@ -172,4 +175,96 @@ class AttestationDutyLoaderTest {
     assertThat(result).isCompleted();
     verify(beaconCommitteeSubscriptions).sendRequests();
   }
+
+  @Test
+  void shouldReuseSlotSignatureAndSubscriptionForUnchangedDutiesWhenReloading() {
+    final UInt64 slot = UInt64.ONE;
+    final AttesterDuty duty = createDuty(slot, 3);
+    when(validatorApiChannel.getAttestationDuties(UInt64.ONE, VALIDATOR_INDICES))
+        .thenReturn(dutiesResponse(duty))
+        .thenReturn(dutiesResponse(duty));
+    when(scheduledDuties.scheduleProduction(any(), any(), any())).thenReturn(new SafeFuture<>());
+    when(signer.signAggregationSlot(slot, forkInfo))
+        .thenReturn(SafeFuture.completedFuture(dataStructureUtil.randomSignature()));
+
+    assertThat(dutyLoader.loadDutiesForEpoch(UInt64.ONE)).isCompleted();
+    assertThat(dutyLoader.loadDutiesForEpoch(UInt64.ONE)).isCompleted();
+
+    verify(signer).signAggregationSlot(slot, forkInfo);
+    verify(beaconCommitteeSubscriptions).subscribeToBeaconCommittee(any());
+    verify(beaconCommitteeSubscriptions, times(2)).sendRequests();
+  }
+
+  @Test
+  void shouldSubscribeAgainWhenPreviousSubscriptionFailed() {
+    final UInt64 slot = UInt64.ONE;
+    final AttesterDuty duty = createDuty(slot, 3);
+    when(validatorApiChannel.getAttestationDuties(UInt64.ONE, VALIDATOR_INDICES))
+        .thenReturn(dutiesResponse(duty))
+        .thenReturn(dutiesResponse(duty))
+        .thenReturn(dutiesResponse(duty));
+    when(scheduledDuties.scheduleProduction(any(), any(), any())).thenReturn(new SafeFuture<>());
+    when(signer.signAggregationSlot(slot, forkInfo))
+        .thenReturn(SafeFuture.completedFuture(dataStructureUtil.randomSignature()));
+    when(beaconCommitteeSubscriptions.subscribeToBeaconCommittee(any()))
+        .thenReturn(SafeFuture.failedFuture(new RuntimeException("Subscription failed")))
+        .thenReturn(SafeFuture.COMPLETE);
+
+    assertThat(dutyLoader.loadDutiesForEpoch(UInt64.ONE)).isCompleted();
+    assertThat(dutyLoader.loadDutiesForEpoch(UInt64.ONE)).isCompleted();
+    verify(beaconCommitteeSubscriptions, times(2)).subscribeToBeaconCommittee(any());
+
+    // Subscribed successfully so the next reload doesn't need to subscribe again
+    assertThat(dutyLoader.loadDutiesForEpoch(UInt64.ONE)).isCompleted();
+    verify(beaconCommitteeSubscriptions, times(2)).subscribeToBeaconCommittee(any());
+    verify(signer).signAggregationSlot(slot, forkInfo);
+  }
+
+  @Test
+  void shouldSignAndSubscribeForChangedDutiesWhenReloading() {
+    final UInt64 slot = UInt64.ONE;
+    final AttesterDuty originalDuty = createDuty(slot, 3);
+    final AttesterDuty changedDuty = createDuty(slot, 2);
+    when(validatorApiChannel.getAttestationDuties(UInt64.ONE, VALIDATOR_INDICES))
+        .thenReturn(dutiesResponse(originalDuty))
+        .thenReturn(dutiesResponse(changedDuty));
+    when(scheduledDuties.scheduleProduction(any(), any(), any())).thenReturn(new SafeFuture<>());
+    when(signer.signAggregationSlot(slot, forkInfo))
+        .thenReturn(SafeFuture.completedFuture(dataStructureUtil.randomSignature()));
+
+    assertThat(dutyLoader.loadDutiesForEpoch(UInt64.ONE)).isCompleted();
+    assertThat(dutyLoader.loadDutiesForEpoch(UInt64.ONE)).isCompleted();
+
+    verify(signer, times(2)).signAggregationSlot(slot, forkInfo);
+    verify(beaconCommitteeSubscriptions, times(2)).subscribeToBeaconCommittee(any());
+  }
+
+  @Test
+  void shouldSignAndSubscribeAgainAfterPreviousDutiesAreDiscarded() {
+    final UInt64 slot = UInt64.ONE;
+    final AttesterDuty duty = createDuty(slot, 3);
+    when(validatorApiChannel.getAttestationDuties(UInt64.ONE, VALIDATOR_INDICES))
+        .thenReturn(dutiesResponse(duty))
+        .thenReturn(dutiesResponse(duty));
+    when(scheduledDuties.scheduleProduction(any(), any(), any())).thenReturn(new SafeFuture<>());
+    when(signer.signAggregationSlot(slot, forkInfo))
+        .thenReturn(SafeFuture.completedFuture(dataStructureUtil.randomSignature()));
+
+    assertThat(dutyLoader.loadDutiesForEpoch(UInt64.ONE)).isCompleted();
+    dutyLoader.discardPreviousDuties();
+    assertThat(dutyLoader.loadDutiesForEpoch(UInt64.ONE)).isCompleted();
+
+    verify(signer, times(2)).signAggregationSlot(slot, forkInfo);
+    verify(beaconCommitteeSubscriptions, times(2)).subscribeToBeaconCommittee(any());
+  }
+
+  private AttesterDuty createDuty(final UInt64 slot, final int committeeIndex) {
+    return new AttesterDuty(
+        validatorKey, VALIDATOR_INDICES.getInt(0), 1, committeeIndex, 4, 0, slot);
+  }
+
+  private SafeFuture<Optional<AttesterDuties>> dutiesResponse(final AttesterDuty duty) {
+    return SafeFuture.completedFuture(
+        Optional.of(new AttesterDuties(false, dataStructureUtil.randomBytes32(), List.of(duty))));
+  }
 }
@@ -77,6 +77,8 @@ public class AttestationDutySchedulerTest extends AbstractDutySchedulerTest {
         .thenReturn(SafeFuture.completedFuture(DutyResult.NO_OP));
     when(scheduledDuties.performAggregationDuty(any()))
         .thenReturn(SafeFuture.completedFuture(DutyResult.NO_OP));
+    when(beaconCommitteeSubscriptions.subscribeToBeaconCommittee(any()))
+        .thenReturn(SafeFuture.COMPLETE);
   }
 
   @Test
@@ -13,10 +13,13 @@
 
 package tech.pegasys.teku.validator.client.duties;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
+import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
 
 import java.util.List;
 import org.junit.jupiter.api.Test;
@@ -52,4 +55,33 @@ class BeaconCommitteeSubscriptionsTest {
     verify(validatorApiChannel).subscribeToBeaconCommittee(requests);
     verifyNoMoreInteractions(validatorApiChannel);
   }
+
+  @Test
+  void shouldCompleteSubscriptionsWhenRequestIsAccepted() {
+    final SafeFuture<Void> requestResult = new SafeFuture<>();
+    when(validatorApiChannel.subscribeToBeaconCommittee(any())).thenReturn(requestResult);
+    final SafeFuture<Void> result =
+        subscriptions.subscribeToBeaconCommittee(
+            new CommitteeSubscriptionRequest(1, 2, UInt64.valueOf(3), UInt64.valueOf(5), true));
+
+    subscriptions.sendRequests();
+    assertThat(result).isNotDone();
+
+    requestResult.complete(null);
+    assertThat(result).isCompleted();
+  }
+
+  @Test
+  void shouldFailSubscriptionsWhenRequestFails() {
+    final RuntimeException error = new RuntimeException("Nope");
+    when(validatorApiChannel.subscribeToBeaconCommittee(any()))
+        .thenReturn(SafeFuture.failedFuture(error));
+    final SafeFuture<Void> result =
+        subscriptions.subscribeToBeaconCommittee(
+            new CommitteeSubscriptionRequest(1, 2, UInt64.valueOf(3), UInt64.valueOf(5), true));
+
+    subscriptions.sendRequests();
+
+    assertThatSafeFuture(result).isCompletedExceptionallyWith(error);
+  }
 }
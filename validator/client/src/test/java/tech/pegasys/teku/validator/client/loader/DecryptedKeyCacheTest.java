@@ -0,0 +1,152 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client.loader;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.infrastructure.crypto.Hash;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class DecryptedKeyCacheTest {
+  private static final String PASSWORD = "password";
+  private final DataStructureUtil dataStructureUtil =
+      new DataStructureUtil(TestSpecFactory.createDefault());
+  private final BLSPublicKey publicKey = dataStructureUtil.randomPublicKey();
+  private final Bytes32 secretKey = dataStructureUtil.randomBytes32();
+  private final AtomicInteger decryptCount = new AtomicInteger();
+  private final Supplier<Bytes32> decrypt =
+      () -> {
+        decryptCount.incrementAndGet();
+        return secretKey;
+      };
+
+  @TempDir Path tempDir;
+  private Path cacheDir;
+  private Path keystoreFile;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    cacheDir = tempDir.resolve("key-cache");
+    keystoreFile = tempDir.resolve("keystore.json");
+    Files.writeString(keystoreFile, "{\"version\": 4}", UTF_8);
+  }
+
+  @Test
+  void shouldOnlyDecryptKeystoreOnce() throws IOException {
+    final DecryptedKeyCache cache = DecryptedKeyCache.create(cacheDir);
+    assertThat(cache.getOrDecrypt(keystoreFile, PASSWORD, publicKey, decrypt)).isEqualTo(secretKey);
+    assertThat(cache.getOrDecrypt(keystoreFile, PASSWORD, publicKey, decrypt)).isEqualTo(secretKey);
+
+    assertThat(decryptCount).hasValue(1);
+  }
+
+  @Test
+  void shouldLoadCachedKeysAfterRestart() throws IOException {
+    DecryptedKeyCache.create(cacheDir).getOrDecrypt(keystoreFile, PASSWORD, publicKey, decrypt);
+
+    final DecryptedKeyCache reopenedCache = DecryptedKeyCache.create(cacheDir);
+    assertThat(reopenedCache.getOrDecrypt(keystoreFile, PASSWORD, publicKey, decrypt))
+        .isEqualTo(secretKey);
+    assertThat(decryptCount).hasValue(1);
+  }
+
+  @Test
+  void shouldNotStoreSecretKeyInPlaintext() throws IOException {
+    DecryptedKeyCache.create(cacheDir).getOrDecrypt(keystoreFile, PASSWORD, publicKey, decrypt);
+
+    final List<Path> files;
+    try (Stream<Path> cacheFiles = Files.list(cacheDir)) {
+      files = cacheFiles.collect(Collectors.toList());
+    }
+    assertThat(files).hasSize(2);
+    for (Path file : files) {
+      assertThat(Bytes.wrap(Files.readAllBytes(file)).toHexString())
+          .doesNotContain(secretKey.toUnprefixedHexString());
+    }
+  }
+
+  @Test
+  void shouldDecryptAgainWhenKeystoreChanges() throws IOException {
+    final DecryptedKeyCache cache = DecryptedKeyCache.create(cacheDir);
+    cache.getOrDecrypt(keystoreFile, PASSWORD, publicKey, decrypt);
+
+    Files.writeString(keystoreFile, "{\"version\": 4, \"description\": \"changed\"}", UTF_8);
+    assertThat(cache.getOrDecrypt(keystoreFile, PASSWORD, publicKey, decrypt)).isEqualTo(secretKey);
+    assertThat(decryptCount).hasValue(2);
+
+    assertThat(cache.getOrDecrypt(keystoreFile, PASSWORD, publicKey, decrypt)).isEqualTo(secretKey);
+    assertThat(decryptCount).hasValue(2);
+  }
+
+  @Test
+  void shouldDecryptAgainWhenPasswordChanges() throws IOException {
+    final DecryptedKeyCache cache = DecryptedKeyCache.create(cacheDir);
+    cache.getOrDecrypt(keystoreFile, PASSWORD, publicKey, decrypt);
+
+    assertThat(cache.getOrDecrypt(keystoreFile, "changed", publicKey, decrypt))
+        .isEqualTo(secretKey);
+    assertThat(decryptCount).hasValue(2);
+
+    assertThat(cache.getOrDecrypt(keystoreFile, "changed", publicKey, decrypt))
+        .isEqualTo(secretKey);
+    assertThat(decryptCount).hasValue(2);
+  }
+
+  @Test
+  void shouldNotStorePasswordHash() throws IOException {
+    DecryptedKeyCache.create(cacheDir).getOrDecrypt(keystoreFile, PASSWORD, publicKey, decrypt);
+
+    final Bytes32 passwordHash = Hash.sha256(Bytes.wrap(PASSWORD.getBytes(UTF_8)));
+    final Path entryFile =
+        cacheDir.resolve(publicKey.toBytesCompressed().toUnprefixedHexString() + ".cache");
+    assertThat(Bytes.wrap(Files.readAllBytes(entryFile)).toHexString())
+        .doesNotContain(passwordHash.toUnprefixedHexString());
+  }
+
+  @Test
+  void shouldDecryptAgainWhenMasterKeyChanges() throws IOException {
+    DecryptedKeyCache.create(cacheDir).getOrDecrypt(keystoreFile, PASSWORD, publicKey, decrypt);
+
+    Files.delete(cacheDir.resolve(DecryptedKeyCache.MASTER_KEY_FILE));
+    final DecryptedKeyCache cache = DecryptedKeyCache.create(cacheDir);
+    assertThat(cache.getOrDecrypt(keystoreFile, PASSWORD, publicKey, decrypt)).isEqualTo(secretKey);
+    assertThat(decryptCount).hasValue(2);
+  }
+
+  @Test
+  void shouldDecryptAgainAfterKeyIsRemoved() throws IOException {
+    final DecryptedKeyCache cache = DecryptedKeyCache.create(cacheDir);
+    cache.getOrDecrypt(keystoreFile, PASSWORD, publicKey, decrypt);
+
+    cache.remove(publicKey);
+    cache.getOrDecrypt(keystoreFile, PASSWORD, publicKey, decrypt);
+    assertThat(decryptCount).hasValue(2);
+  }
+}
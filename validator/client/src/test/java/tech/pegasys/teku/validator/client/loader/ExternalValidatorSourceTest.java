@@ -55,6 +55,7 @@ import tech.pegasys.teku.validator.client.ValidatorClientService;
 import tech.pegasys.teku.validator.client.restapi.apis.schema.DeleteKeyResult;
 import tech.pegasys.teku.validator.client.restapi.apis.schema.DeletionStatus;
 import tech.pegasys.teku.validator.client.restapi.apis.schema.ImportStatus;
+import tech.pegasys.teku.validator.client.signer.ExternalSignerMetrics;
 
 public class ExternalValidatorSourceTest {
   private final DataStructureUtil dataStructureUtil =
@@ -262,7 +263,7 @@ public class ExternalValidatorSourceTest {
       final Path tempDir, final boolean readOnly) {
     return ExternalValidatorSource.create(
         spec,
-        metricsSystem,
+        new ExternalSignerMetrics(metricsSystem),
         config,
         httpClientFactory,
         publicKeyLoader,
@@ -48,6 +48,7 @@ import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.datastructures.state.Fork;
 import tech.pegasys.teku.spec.datastructures.state.ForkInfo;
+import tech.pegasys.teku.spec.signatures.LocalSigningEngine;
 import tech.pegasys.teku.spec.signatures.Signer;
 import tech.pegasys.teku.spec.signatures.SigningRootUtil;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
@@ -78,7 +79,14 @@ class LocalValidatorSourceTest {
 
   private final LocalValidatorSource validatorSource =
       new LocalValidatorSource(
-          spec, true, keystoreLocker, keyStoreFilesLocator, asyncRunner, true, Optional.empty());
+          spec,
+          true,
+          keystoreLocker,
+          keyStoreFilesLocator,
+          LocalSigningEngine.create(asyncRunner),
+          Optional.empty(),
+          true,
+          Optional.empty());
 
   @Test
   void shouldLoadKeysFromKeyStores(@TempDir final Path tempDir) throws Exception {
@@ -267,7 +275,8 @@ class LocalValidatorSourceTest {
             true,
             keystoreLocker,
             keyStoreFilesLocator,
-            asyncRunner,
+            LocalSigningEngine.create(asyncRunner),
+            Optional.empty(),
             false,
             Optional.of(new SimpleDataDirLayout(tempDir)));
     final KeyStoreData keyStoreData =
@@ -0,0 +1,207 @@
+/*
+ * Copyright ConsenSys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client.signer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.bls.BLS;
+import tech.pegasys.teku.bls.BLSKeyPair;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.bls.BLSTestUtil;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.spec.signatures.LocalSigningEngine.DutyType;
+
+class BatchingLocalSigningEngineTest {
+  private static final int PARALLELISM = 4;
+
+  private final List<Runnable> queuedTasks = new ArrayList<>();
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final BatchingLocalSigningEngine engine =
+      new BatchingLocalSigningEngine(queuedTasks::add, PARALLELISM, metricsSystem);
+
+  private final Bytes signingRoot1 = Bytes32.fromHexStringLenient("0x01");
+  private final Bytes signingRoot2 = Bytes32.fromHexStringLenient("0x02");
+
+  @Test
+  void shouldScheduleSingleDrainForRequestsArrivingTogether() {
+    engine.sign(keyPair(1).getSecretKey(), signingRoot1, DutyType.ATTESTATION);
+    engine.sign(keyPair(2).getSecretKey(), signingRoot1, DutyType.ATTESTATION);
+
+    assertThat(queuedTasks).hasSize(1);
+  }
+
+  @Test
+  void shouldHashEachDistinctSigningRootOnce() {
+    final List<BLSKeyPair> keyPairs = List.of(keyPair(1), keyPair(2), keyPair(3));
+    final List<SafeFuture<BLSSignature>> root1Results = new ArrayList<>();
+    for (BLSKeyPair keyPair : keyPairs) {
+      root1Results.add(engine.sign(keyPair.getSecretKey(), signingRoot1, DutyType.ATTESTATION));
+    }
+    final SafeFuture<BLSSignature> root2Result =
+        engine.sign(keyPairs.get(0).getSecretKey(), signingRoot2, DutyType.AGGREGATION_SLOT);
+
+    runQueuedTasks();
+
+    for (int i = 0; i < keyPairs.size(); i++) {
+      assertThat(root1Results.get(i))
+          .isCompletedWithValue(BLS.sign(keyPairs.get(i).getSecretKey(), signingRoot1));
+    }
+    assertThat(root2Result)
+        .isCompletedWithValue(BLS.sign(keyPairs.get(0).getSecretKey(), signingRoot2));
+    assertThat(getCounterValue("local_signing_roots_hashed_total")).isEqualTo(2);
+    assertThat(getCounterValue("local_signatures_total")).isEqualTo(4);
+  }
+
+  @Test
+  void shouldSplitLargeGroupsAcrossThreads() {
+    final BLSKeyPair keyPair = keyPair(1);
+    final int requestCount = BatchingLocalSigningEngine.MIN_SIGNATURES_PER_TASK * PARALLELISM;
+    final List<SafeFuture<BLSSignature>> results = new ArrayList<>();
+    for (int i = 0; i < requestCount; i++) {
+      results.add(engine.sign(keyPair.getSecretKey(), signingRoot1, DutyType.ATTESTATION));
+    }
+
+    // Run the drain, which signs one chunk itself and hands the others to the pool
+    queuedTasks.remove(0).run();
+    assertThat(queuedTasks).hasSize(PARALLELISM - 1);
+
+    runQueuedTasks();
+    final BLSSignature expectedSignature = BLS.sign(keyPair.getSecretKey(), signingRoot1);
+    assertThat(results)
+        .allSatisfy(result -> assertThat(result).isCompletedWithValue(expectedSignature));
+    assertThat(getCounterValue("local_signing_roots_hashed_total")).isEqualTo(1);
+  }
+
+  @Test
+  void shouldSpreadSmallGroupsAcrossThreads() {
+    final BLSKeyPair keyPair = keyPair(1);
+    final int requestCount = BatchingLocalSigningEngine.MIN_SIGNATURES_PER_TASK * PARALLELISM;
+    final List<Bytes> signingRoots = new ArrayList<>();
+    final List<SafeFuture<BLSSignature>> results = new ArrayList<>();
+    for (int i = 0; i < requestCount; i++) {
+      final Bytes signingRoot = Bytes32.fromHexStringLenient(Integer.toHexString(i + 1));
+      signingRoots.add(signingRoot);
+      results.add(engine.sign(keyPair.getSecretKey(), signingRoot, DutyType.ATTESTATION));
+    }
+
+    queuedTasks.remove(0).run();
+    assertThat(queuedTasks).hasSize(PARALLELISM - 1);
+
+    runQueuedTasks();
+    for (int i = 0; i < requestCount; i++) {
+      assertThat(results.get(i))
+          .isCompletedWithValue(BLS.sign(keyPair.getSecretKey(), signingRoots.get(i)));
+    }
+    assertThat(getCounterValue("local_signing_roots_hashed_total")).isEqualTo(requestCount);
+  }
+
+  @Test
+  void shouldSignSeparateGroupsConcurrently() throws Exception {
+    final ExecutorService pool = Executors.newFixedThreadPool(PARALLELISM);
+    try {
+      final CountDownLatch requestsSubmitted = new CountDownLatch(1);
+      final CountDownLatch chunksStarted = new CountDownLatch(PARALLELISM - 1);
+      final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+      // Hold the drain until every request is queued, then make each chunk handed to the pool wait
+      // until all of them have started so the signatures only complete if the chunks overlap
+      final Executor executor =
+          task -> {
+            if (drainScheduled.compareAndSet(false, true)) {
+              pool.execute(() -> awaitThenRun(requestsSubmitted, task));
+            } else {
+              pool.execute(
+                  () -> {
+                    chunksStarted.countDown();
+                    awaitThenRun(chunksStarted, task);
+                  });
+            }
+          };
+      final BatchingLocalSigningEngine concurrentEngine =
+          new BatchingLocalSigningEngine(executor, PARALLELISM, metricsSystem);
+
+      // One group per thread, each exactly the minimum chunk size
+      final List<Bytes> signingRoots = new ArrayList<>();
+      final List<SafeFuture<BLSSignature>> results = new ArrayList<>();
+      final BLSKeyPair keyPair = keyPair(1);
+      for (int group = 0; group < PARALLELISM; group++) {
+        final Bytes signingRoot = Bytes32.fromHexStringLenient(Integer.toHexString(group + 1));
+        for (int i = 0; i < BatchingLocalSigningEngine.MIN_SIGNATURES_PER_TASK; i++) {
+          signingRoots.add(signingRoot);
+          results.add(
+              concurrentEngine.sign(keyPair.getSecretKey(), signingRoot, DutyType.ATTESTATION));
+        }
+      }
+      requestsSubmitted.countDown();
+
+      SafeFuture.allOf(results.toArray(new SafeFuture<?>[0])).get(30, TimeUnit.SECONDS);
+      assertThat(chunksStarted.getCount()).isZero();
+      for (int i = 0; i < results.size(); i++) {
+        assertThat(results.get(i))
+            .isCompletedWithValue(BLS.sign(keyPair.getSecretKey(), signingRoots.get(i)));
+      }
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  @Test
+  void shouldScheduleNewDrainForRequestsAfterPreviousDrain() {
+    engine.sign(keyPair(1).getSecretKey(), signingRoot1, DutyType.ATTESTATION);
+    runQueuedTasks();
+
+    final SafeFuture<BLSSignature> result =
+        engine.sign(keyPair(1).getSecretKey(), signingRoot2, DutyType.SYNC_COMMITTEE_MESSAGE);
+    assertThat(queuedTasks).hasSize(1);
+    runQueuedTasks();
+
+    assertThat(result).isCompletedWithValue(BLS.sign(keyPair(1).getSecretKey(), signingRoot2));
+  }
+
+  private static void awaitThenRun(final CountDownLatch latch, final Runnable task) {
+    try {
+      if (latch.await(10, TimeUnit.SECONDS)) {
+        task.run();
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void runQueuedTasks() {
+    while (!queuedTasks.isEmpty()) {
+      queuedTasks.remove(0).run();
+    }
+  }
+
+  private long getCounterValue(final String name) {
+    return metricsSystem.getCounter(TekuMetricCategory.VALIDATOR, name).getValue();
+  }
+
+  private static BLSKeyPair keyPair(final int seed) {
+    return BLSTestUtil.randomKeyPair(seed);
+  }
+}